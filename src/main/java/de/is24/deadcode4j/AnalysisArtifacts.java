@@ -0,0 +1,127 @@
+package de.is24.deadcode4j;
+
+import com.google.common.io.Files;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+
+import static com.google.common.collect.Maps.newHashMap;
+
+/**
+ * The <code>AnalysisArtifacts</code> provide the intermediate results shipped along with the libraries a module
+ * depends on. Such an analysis artifact is an {@link AnalysisSnapshot} of the library's module, attached to the build
+ * with the {@link #CLASSIFIER classifier} <tt>deadcode4j</tt> & the {@link #EXTENSION extension} <tt>dc4j</tt> - and
+ * thus located next to the library's jar in the repository.
+ * <p/>
+ * The intermediate results of an artifact are made available to the analysis just like those of a required module,
+ * so the library's classes don't need to be examined again.
+ *
+ * @since 2.2.0
+ */
+public final class AnalysisArtifacts {
+    /**
+     * The classifier of an analysis artifact.
+     *
+     * @since 2.2.0
+     */
+    public static final String CLASSIFIER = "deadcode4j";
+    /**
+     * The file extension (and artifact type) of an analysis artifact.
+     *
+     * @since 2.2.0
+     */
+    public static final String EXTENSION = "dc4j";
+    @Nonnull
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    @Nonnull
+    private final Map<File, CachedArtifact> cachedArtifacts = newHashMap();
+
+    /**
+     * Returns the file of the analysis artifact belonging to the given jar, i.e. <tt>foo-1.0-deadcode4j.dc4j</tt> for
+     * <tt>foo-1.0.jar</tt>. The returned file does not necessarily exist.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static File getArtifactFileFor(@Nonnull File jar) {
+        String name = jar.getName();
+        int lastDot = name.lastIndexOf('.');
+        String baseName = lastDot < 0 ? name : name.substring(0, lastDot);
+        return new File(jar.getParentFile(), baseName + "-" + CLASSIFIER + "." + EXTENSION);
+    }
+
+    /**
+     * Adds the intermediate results of the analysis artifacts found for the class path of the given module to the
+     * specified results, treating those of the artifacts like the results of a required module.
+     *
+     * @since 2.2.0
+     */
+    public void addIntermediateResultsOfClassPath(@Nonnull Module module,
+                                                  @Nonnull Map<Object, IntermediateResult> intermediateResults) {
+        Map<Object, IntermediateResult> resultsOfArtifacts = newHashMap();
+        for (Resource dependency : module.getDependencies()) {
+            if (dependency.getReferencedModule().isPresent() || !dependency.getClassPathEntry().isPresent()) {
+                continue;
+            }
+            AnalysisSnapshot artifact = readArtifactOf(dependency.getClassPathEntry().get());
+            if (artifact == null) {
+                continue;
+            }
+            for (AnalysisSnapshot.ModuleResults moduleResults : artifact.getResultsOfModules()) {
+                for (Map.Entry<Object, IntermediateResult> result : moduleResults.getIntermediateResults().entrySet()) {
+                    IntermediateResult existingResult = resultsOfArtifacts.get(result.getKey());
+                    resultsOfArtifacts.put(result.getKey(), existingResult == null
+                            ? result.getValue()
+                            : existingResult.mergeSibling(result.getValue()));
+                }
+            }
+        }
+        for (Map.Entry<Object, IntermediateResult> resultOfArtifacts : resultsOfArtifacts.entrySet()) {
+            IntermediateResult existingResult = intermediateResults.get(resultOfArtifacts.getKey());
+            intermediateResults.put(resultOfArtifacts.getKey(), existingResult == null
+                    ? resultOfArtifacts.getValue()
+                    : existingResult.mergeParent(resultOfArtifacts.getValue()));
+        }
+    }
+
+    /**
+     * Reads the artifact belonging to the given class path entry. The artifact's data is cached, but decoded again
+     * for each call, as merging intermediate results may modify them.
+     */
+    @Nullable
+    private synchronized AnalysisSnapshot readArtifactOf(@Nonnull File classPathEntry) {
+        File artifactFile = getArtifactFileFor(classPathEntry);
+        if (!classPathEntry.isFile() || !artifactFile.isFile()) {
+            return null;
+        }
+        CachedArtifact cachedArtifact = cachedArtifacts.get(artifactFile);
+        try {
+            if (cachedArtifact == null || cachedArtifact.lastModified != artifactFile.lastModified()) {
+                cachedArtifact = new CachedArtifact(artifactFile.lastModified(), Files.toByteArray(artifactFile));
+                cachedArtifacts.put(artifactFile, cachedArtifact);
+                logger.debug("Using analysis artifact [{}].", artifactFile);
+            }
+            return AnalysisSnapshot.read(cachedArtifact.data, artifactFile);
+        } catch (IOException e) {
+            logger.warn("Failed to read analysis artifact [{}]; ignoring it!", artifactFile, e);
+            return null;
+        }
+    }
+
+    private static final class CachedArtifact {
+        private final long lastModified;
+        @Nonnull
+        private final byte[] data;
+
+        public CachedArtifact(long lastModified, @Nonnull byte[] data) {
+            this.lastModified = lastModified;
+            this.data = data;
+        }
+    }
+
+}
@@ -1,28 +1,47 @@
 package de.is24.deadcode4j;
 
+import com.google.common.collect.Maps;
 import de.is24.guava.NonNullFunction;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.Collections;
 import java.util.Map;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.collect.Maps.newHashMap;
+import static de.is24.deadcode4j.CacheKey.Scope.MODULE;
+import static de.is24.deadcode4j.CacheKey.Scope.PROJECT;
 
 /**
  * The <code>AnalysisContext</code> extends {@link de.is24.deadcode4j.AnalysisSink} by providing access to the
  * {@link #getModule() analyzed module} and {@link #getIntermediateResult(Object) the intermediate results} of the
- * modules it depends on. Additionally, it provides a {@link #getCache() <em>cache</em>} to use for caching calculated
- * data relevant for one context.
+ * modules it depends on; the intermediate results of the analyzed module itself are
+ * {@link #publishIntermediateResult(Object, IntermediateResult) published} to the context.
+ * <p/>
+ * Additionally, it provides caches for calculated data, addressed by {@link CacheKey typed keys}. Each key defines the
+ * {@link CacheKey.Scope scope} of its entry - a file, a repository, the module or the whole project - and the entry
+ * is evicted as soon as that scope ends, so that memory tracks the working set of the analysis. Entries of the
+ * project scope are kept in the {@link #getSharedCache() <em>shared cache</em>}, which may remain valid beyond one
+ * analysis, e.g. for several analyses run by an {@link AnalysisEngine}.
  *
  * @since 1.1.0
  */
 public class AnalysisContext extends AnalysisSink {
+    @Nonnull
+    private final Map<Object, Object> fileCache = newHashMap();
+    @Nonnull
+    private final Map<Object, Object> repositoryCache = newHashMap();
     @Nonnull
     private final Map<Object, Object> cache = newHashMap();
     @Nonnull
+    private final Map<Object, Object> sharedCache;
+    @Nonnull
     private final Module module;
     @Nonnull
     private final Map<Object, IntermediateResult> intermediateResults;
+    @Nonnull
+    private final Map<Object, IntermediateResult> publishedIntermediateResults = newHashMap();
 
     /**
      * Creates a new instance of <code>AnalysisContext</code> for the specified module.
@@ -30,8 +49,21 @@ public class AnalysisContext extends AnalysisSink {
      * @since 2.0.0
      */
     public AnalysisContext(@Nonnull Module module, @Nonnull Map<Object, IntermediateResult> intermediateResults) {
+        this(module, intermediateResults, Maps.<Object, Object>newHashMap());
+    }
+
+    /**
+     * Creates a new instance of <code>AnalysisContext</code> for the specified module, using the given
+     * {@link #getSharedCache() shared cache}.
+     *
+     * @since 2.2.0
+     */
+    public AnalysisContext(@Nonnull Module module,
+                           @Nonnull Map<Object, IntermediateResult> intermediateResults,
+                           @Nonnull Map<Object, Object> sharedCache) {
         this.module = module;
         this.intermediateResults = newHashMap(intermediateResults);
+        this.sharedCache = sharedCache;
     }
 
     @Override
@@ -50,15 +82,24 @@ public class AnalysisContext extends AnalysisSink {
     }
 
     /**
-     * Returns a <code>Map</code> that can be used to cache things or pass along between analyzers.
+     * Returns a <code>Map</code> that can be used to cache things or pass along between analyzers. Its entries are
+     * kept until the analysis of the module is finished.
      *
      * @return a simple {@link java.util.Map}
+     * @see #getOrCreateCacheEntry(CacheKey, NonNullFunction)
      */
     @Nonnull
     public Map<Object, Object> getCache() {
-        return cache;
+        return getCache(MODULE);
     }
 
+    /**
+     * Retrieves the entry of the {@link #getCache() module's cache} for the given key, creating it if necessary.
+     *
+     * @deprecated use {@link #getOrCreateCacheEntry(CacheKey, NonNullFunction)}, which defines the type & scope of the
+     * entry
+     */
+    @Deprecated
     @Nonnull
     public <T> T getOrCreateCacheEntry(Object key, NonNullFunction<AnalysisContext, T> supplier) {
         @SuppressWarnings("unchecked")
@@ -70,6 +111,118 @@ public class AnalysisContext extends AnalysisSink {
         return entry;
     }
 
+    /**
+     * Returns a <code>Map</code> that is shared with other contexts & outlives this context, e.g. to keep expensive
+     * data like parsed libraries between the runs of an {@link AnalysisEngine}. Entries must not depend on the state of
+     * this context; if they depend on files, they must verify that these are unchanged before being reused.
+     *
+     * @see CacheKey.Scope#PROJECT
+     * @since 2.2.0
+     */
+    @Nonnull
+    public Map<Object, Object> getSharedCache() {
+        return getCache(PROJECT);
+    }
+
+    /**
+     * Returns the cache entry for the given key or <code>null</code> if there is none.
+     *
+     * @since 2.2.0
+     */
+    @Nullable
+    public <T> T getCacheEntry(@Nonnull CacheKey<T> key) {
+        @SuppressWarnings("unchecked")
+        T entry = (T) getCache(key.getScope()).get(key);
+        return entry;
+    }
+
+    /**
+     * Retrieves the cache entry for the given key, creating it if necessary. The entry is evicted as soon as the
+     * {@link CacheKey#getScope() scope} of the key ends.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public <T> T getOrCreateCacheEntry(@Nonnull CacheKey<T> key, @Nonnull NonNullFunction<AnalysisContext, T> supplier) {
+        T entry = getCacheEntry(key);
+        if (entry == null) {
+            entry = supplier.apply(this);
+            putCacheEntry(key, entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Stores the given cache entry, replacing the entry that may exist for the given key.
+     *
+     * @since 2.2.0
+     */
+    public <T> void putCacheEntry(@Nonnull CacheKey<T> key, @Nonnull T entry) {
+        getCache(key.getScope()).put(key, entry);
+    }
+
+    /**
+     * Removes & returns the cache entry for the given key or returns <code>null</code> if there is none.
+     *
+     * @since 2.2.0
+     */
+    @Nullable
+    public <T> T removeCacheEntry(@Nonnull CacheKey<T> key) {
+        @SuppressWarnings("unchecked")
+        T entry = (T) getCache(key.getScope()).remove(key);
+        return entry;
+    }
+
+    /**
+     * Returns the <code>Map</code> holding the cache entries of the given scope.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public Map<Object, Object> getCache(@Nonnull CacheKey.Scope scope) {
+        switch (scope) {
+            case FILE:
+                return this.fileCache;
+            case REPOSITORY:
+                return this.repositoryCache;
+            case MODULE:
+                return this.cache;
+            default:
+                return this.sharedCache;
+        }
+    }
+
+    /**
+     * Evicts all cache entries of the given scope, as the scope has ended. The end of the project scope is up to the
+     * owner of the shared cache.
+     *
+     * @since 2.2.0
+     */
+    void endScope(@Nonnull CacheKey.Scope scope) {
+        checkArgument(scope != PROJECT, "The project scope cannot be ended by an AnalysisContext!");
+        getCache(scope).clear();
+    }
+
+    /**
+     * Publishes an intermediate result of the analyzed module; the result will be made available to the analysis
+     * context of those modules depending on the analyzed module.
+     *
+     * @since 2.2.0
+     */
+    public void publishIntermediateResult(@Nonnull Object key, @Nonnull IntermediateResult intermediateResult) {
+        this.publishedIntermediateResults.put(key, intermediateResult);
+    }
+
+    /**
+     * Returns the intermediate results {@link #publishIntermediateResult(Object, IntermediateResult) published} so far.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public Map<Object, IntermediateResult> getPublishedIntermediateResults() {
+        return Collections.unmodifiableMap(this.publishedIntermediateResults);
+    }
+
     @Nullable
     public IntermediateResult getIntermediateResult(@Nonnull Object key) {
         return this.intermediateResults.get(key);
@@ -0,0 +1,123 @@
+package de.is24.deadcode4j;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Maps.newHashMap;
+import static de.is24.deadcode4j.Module.sort;
+import static java.util.Collections.singleton;
+
+/**
+ * The <code>AnalysisEngine</code> is meant to be created once & then used to run any number of analyses - of the
+ * same modules at different revisions or of different sets of modules. In contrast to a {@link DeadCodeFinder}, it
+ * keeps expensive state between the runs:
+ * <ul>
+ * <li>the analysis results of each module, which are reused as long as the {@link Fingerprint fingerprint} of the
+ * module and those of the modules it depends on are unchanged</li>
+ * <li>the {@link AnalysisContext#getSharedCache() shared cache} of the analyzers, holding e.g. the class pools of the
+ * libraries</li>
+ * </ul>
+ * Runs are serialized, so an engine can be shared by several threads.
+ *
+ * @since 2.2.0
+ */
+public class AnalysisEngine {
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    @Nonnull
+    private final DeadCodeFinder deadCodeFinder;
+    @Nonnull
+    private final Map<String, ModuleResults> resultsOfModules = newHashMap();
+    @Nonnull
+    private final Map<Object, Object> sharedCache = newHashMap();
+
+    public AnalysisEngine(@Nonnull DeadCodeFinder deadCodeFinder) {
+        this.deadCodeFinder = deadCodeFinder;
+    }
+
+    /**
+     * Finds the dead code of the given modules, analyzing only those modules that changed since they were analyzed
+     * the last time - or that depend on such a module.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public synchronized DeadCode findDeadCode(@Nonnull Iterable<Module> modules) {
+        IntermediateResults intermediateResults = new IntermediateResults();
+        Map<Module, HashCode> fingerprints = newHashMap();
+        List<AnalyzedCode> analyzedCode = newArrayList();
+        int reusedModules = 0;
+        for (Module module : sort(modules)) {
+            HashCode fingerprint = calculateFingerprint(module, fingerprints);
+            ModuleResults moduleResults = resultsOfModules.get(module.getModuleId());
+            if (moduleResults != null && moduleResults.fingerprint.equals(fingerprint)) {
+                logger.debug("{} is unchanged; reusing previous results.", module);
+                intermediateResults.add(module, moduleResults.intermediateResults);
+                reusedModules++;
+            } else {
+                logger.debug("Analyzing {}...", module);
+                AnalyzedCode analyzedCodeOfModule = deadCodeFinder.analyzeModule(module, intermediateResults,
+                        sharedCache);
+                moduleResults = new ModuleResults(fingerprint, analyzedCodeOfModule,
+                        intermediateResults.getIntermediateResultsOf(module));
+                resultsOfModules.put(module.getModuleId(), moduleResults);
+            }
+            analyzedCode.add(moduleResults.analyzedCode);
+        }
+        logger.debug("Reused the results of {} of {} modules.", reusedModules, analyzedCode.size());
+        return deadCodeFinder.computeDeadCode(deadCodeFinder.finishAnalysis(analyzedCode));
+    }
+
+    /**
+     * Drops all results & cached data, so that the next run starts from scratch.
+     *
+     * @since 2.2.0
+     */
+    public synchronized void clearCaches() {
+        resultsOfModules.clear();
+        sharedCache.clear();
+    }
+
+    /**
+     * The fingerprint of a module covers its own files and the fingerprints of the modules it depends on, as their
+     * intermediate results influence the analysis of the module.
+     */
+    @Nonnull
+    private HashCode calculateFingerprint(@Nonnull Module module, @Nonnull Map<Module, HashCode> fingerprints) {
+        List<HashCode> hashCodes = newArrayList(Fingerprint.of(singleton(module)));
+        for (Module requiredModule : module.getRequiredModules()) {
+            HashCode fingerprintOfRequiredModule = fingerprints.get(requiredModule);
+            if (fingerprintOfRequiredModule != null) {
+                hashCodes.add(fingerprintOfRequiredModule);
+            }
+        }
+        HashCode fingerprint = Hashing.combineOrdered(hashCodes);
+        fingerprints.put(module, fingerprint);
+        return fingerprint;
+    }
+
+    private static final class ModuleResults {
+        @Nonnull
+        private final HashCode fingerprint;
+        @Nonnull
+        private final AnalyzedCode analyzedCode;
+        @Nonnull
+        private final Map<Object, IntermediateResult> intermediateResults;
+
+        ModuleResults(@Nonnull HashCode fingerprint,
+                      @Nonnull AnalyzedCode analyzedCode,
+                      @Nonnull Map<Object, IntermediateResult> intermediateResults) {
+            this.fingerprint = fingerprint;
+            this.analyzedCode = analyzedCode;
+            this.intermediateResults = intermediateResults;
+        }
+    }
+
+}
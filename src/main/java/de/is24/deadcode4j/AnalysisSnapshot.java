@@ -0,0 +1,258 @@
+package de.is24.deadcode4j;
+
+import com.google.common.io.Files;
+import de.is24.deadcode4j.binary.BinaryInput;
+import de.is24.deadcode4j.binary.BinaryOutput;
+import de.is24.deadcode4j.binary.StringTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.*;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.collect.Maps.newLinkedHashMap;
+import static de.is24.deadcode4j.binary.AnalysisFormat.*;
+
+/**
+ * An <code>AnalysisSnapshot</code> stores the results of an analysis - the analyzed code and intermediate results of
+ * each module as well as the unused classes found - so that a later analysis can reuse the results of unchanged
+ * modules.
+ * Snapshots are stored in the {@link de.is24.deadcode4j.binary.AnalysisFormat binary format}; the results of each
+ * module are written as a separate section. Modules providing an intermediate result which is not
+ * {@link de.is24.deadcode4j.binary.AnalysisFormat#isSupported(Map) supported} by the format are not part of the
+ * snapshot.
+ *
+ * @see IncrementalDeadCodeFinder
+ * @since 2.2.0
+ */
+public final class AnalysisSnapshot {
+    @Nonnull
+    private final LinkedHashMap<String, ModuleResults> resultsOfModules;
+    @Nonnull
+    private final ArrayList<String> deadClasses;
+
+    AnalysisSnapshot(@Nonnull Map<String, ModuleResults> resultsOfModules, @Nonnull Collection<String> deadClasses) {
+        this.resultsOfModules = newLinkedHashMap(resultsOfModules);
+        this.deadClasses = newArrayList(deadClasses);
+    }
+
+    /**
+     * Reads a snapshot from the given file.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static AnalysisSnapshot read(@Nonnull File file) throws IOException {
+        return read(Files.toByteArray(file), file);
+    }
+
+    /**
+     * Reads a snapshot from the given data.
+     *
+     * @param source describes where the data was read from
+     */
+    @Nonnull
+    static AnalysisSnapshot read(@Nonnull byte[] data, @Nonnull Object source) throws IOException {
+        BinaryInput input;
+        try {
+            input = new BinaryInput(ByteBuffer.wrap(data));
+            checkContentType(input, ANALYSIS_SNAPSHOT);
+        } catch (IOException e) {
+            throw new IOException("[" + source + "] is no valid snapshot: " + e.getMessage());
+        }
+        try {
+            int numberOfModules = input.readVarInt();
+            Map<String, ModuleResults> resultsOfModules = newLinkedHashMap();
+            for (int i = 0; i < numberOfModules; i++) {
+                String moduleId = input.readString();
+                input.readVarInt(); // the section's length
+                AnalyzedCode analyzedCode = readAnalyzedCode(input);
+                resultsOfModules.put(moduleId, new ModuleResults(analyzedCode, readIntermediateResults(input)));
+            }
+            return new AnalysisSnapshot(resultsOfModules, input.readStrings());
+        } catch (RuntimeException e) {
+            throw new IOException("[" + source + "] is a corrupt snapshot: " + e);
+        }
+    }
+
+    /**
+     * Combines the module results of the given snapshots, e.g. those written by several shards. If more than one
+     * snapshot contains results for the same module, those of the first snapshot are kept. The combined snapshot lists
+     * no unused classes.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static AnalysisSnapshot merge(@Nonnull Iterable<AnalysisSnapshot> snapshots) {
+        Map<String, ModuleResults> resultsOfModules = newLinkedHashMap();
+        for (AnalysisSnapshot snapshot : snapshots) {
+            for (Map.Entry<String, ModuleResults> moduleResults : snapshot.resultsOfModules.entrySet()) {
+                if (!resultsOfModules.containsKey(moduleResults.getKey())) {
+                    resultsOfModules.put(moduleResults.getKey(), moduleResults.getValue());
+                }
+            }
+        }
+        return new AnalysisSnapshot(resultsOfModules, Collections.<String>emptyList());
+    }
+
+    /**
+     * Returns a snapshot containing only the results of the specified module, e.g. to ship them along with the
+     * module's artifact. The returned snapshot lists no unused classes.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public AnalysisSnapshot restrictTo(@Nonnull Module module) {
+        return restrictTo(Collections.singleton(module));
+    }
+
+    /**
+     * Returns a snapshot containing only the results of the specified modules, e.g. those a shard depends on. The
+     * returned snapshot lists no unused classes.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public AnalysisSnapshot restrictTo(@Nonnull Iterable<Module> modules) {
+        Map<String, ModuleResults> restrictedResults = newLinkedHashMap();
+        for (Module module : modules) {
+            ModuleResults moduleResults = resultsOfModules.get(module.getModuleId());
+            if (moduleResults != null) {
+                restrictedResults.put(module.getModuleId(), moduleResults);
+            }
+        }
+        return new AnalysisSnapshot(restrictedResults, Collections.<String>emptyList());
+    }
+
+    /**
+     * Writes this snapshot to the given file.
+     *
+     * @since 2.2.0
+     */
+    public void write(@Nonnull File file) throws IOException {
+        StringTable.Builder strings = new StringTable.Builder();
+        strings.addAll(deadClasses);
+        for (Map.Entry<String, ModuleResults> moduleResults : resultsOfModules.entrySet()) {
+            strings.add(moduleResults.getKey());
+            addStrings(strings, moduleResults.getValue().getAnalyzedCode());
+            addStrings(strings, moduleResults.getValue().getIntermediateResults());
+        }
+        BinaryOutput output = new BinaryOutput(strings.build(), ANALYSIS_SNAPSHOT);
+        output.writeVarInt(resultsOfModules.size());
+        for (Map.Entry<String, ModuleResults> moduleResults : resultsOfModules.entrySet()) {
+            output.writeString(moduleResults.getKey());
+            BinaryOutput section = output.newSection();
+            writeAnalyzedCode(section, moduleResults.getValue().getAnalyzedCode());
+            writeIntermediateResults(section, moduleResults.getValue().getIntermediateResults());
+            output.writeSection(section);
+        }
+        output.writeStrings(deadClasses);
+        OutputStream out = new BufferedOutputStream(new FileOutputStream(file));
+        try {
+            output.writeTo(out);
+        } finally {
+            out.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AnalysisSnapshot of " + resultsOfModules.keySet();
+    }
+
+    /**
+     * Returns the unused classes found by the analysis the snapshot was taken of.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public Collection<String> getDeadClasses() {
+        return Collections.unmodifiableList(deadClasses);
+    }
+
+    /**
+     * Returns the analyzed code of each module contained in the snapshot.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public Collection<AnalyzedCode> getAnalyzedCodeOfModules() {
+        List<AnalyzedCode> analyzedCode = newArrayList();
+        for (ModuleResults moduleResults : resultsOfModules.values()) {
+            analyzedCode.add(moduleResults.getAnalyzedCode());
+        }
+        return analyzedCode;
+    }
+
+    /**
+     * Returns the results of all modules contained in the snapshot.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    Collection<ModuleResults> getResultsOfModules() {
+        return Collections.unmodifiableCollection(resultsOfModules.values());
+    }
+
+    /**
+     * Returns the results of the specified module or <code>null</code> if the snapshot contains none.
+     *
+     * @since 2.2.0
+     */
+    @Nullable
+    ModuleResults getResultsOf(@Nonnull Module module) {
+        return resultsOfModules.get(module.getModuleId());
+    }
+
+    /**
+     * The results of analyzing one module.
+     *
+     * @since 2.2.0
+     */
+    static final class ModuleResults {
+        @Nonnull
+        private final AnalyzedCode analyzedCode;
+        @Nonnull
+        private final Map<Object, IntermediateResult> intermediateResults;
+
+        private ModuleResults(@Nonnull AnalyzedCode analyzedCode,
+                              @Nonnull Map<Object, IntermediateResult> intermediateResults) {
+            this.analyzedCode = analyzedCode;
+            this.intermediateResults = intermediateResults;
+        }
+
+        /**
+         * Returns the results of a module or <code>null</code> if one of the intermediate results is not supported by
+         * the binary format.
+         */
+        @Nullable
+        static ModuleResults of(@Nonnull Module module,
+                                @Nonnull AnalyzedCode analyzedCode,
+                                @Nonnull Map<Object, IntermediateResult> intermediateResults) {
+            if (!isSupported(intermediateResults)) {
+                Logger logger = LoggerFactory.getLogger(AnalysisSnapshot.class);
+                logger.debug("Intermediate results {} of {} cannot be stored; omitting module from snapshot.",
+                        intermediateResults.keySet(), module);
+                return null;
+            }
+            return new ModuleResults(analyzedCode, newHashMap(intermediateResults));
+        }
+
+        @Nonnull
+        public AnalyzedCode getAnalyzedCode() {
+            return analyzedCode;
+        }
+
+        @Nonnull
+        public Map<Object, IntermediateResult> getIntermediateResults() {
+            return intermediateResults;
+        }
+
+    }
+
+}
@@ -5,6 +5,11 @@ import java.io.File;
 
 /**
  * An <code>Analyzer</code> analyzes code of all flavours: java classes, spring XML files, <tt>web.xml</tt> etc.
+ * <p/>
+ * One instance serves all modules, which are analyzed one after another - the modules a module depends on first.
+ * Thus, any state gathered while analyzing a module must be kept in the module's {@link AnalysisContext} (e.g. by
+ * using {@link AnalysisContext#getOrCreateCacheEntry(CacheKey, de.is24.guava.NonNullFunction)}) instead of in the
+ * <code>Analyzer</code> itself, so it does not leak into the analysis of the next module.
  *
  * @since 1.1.0
  */
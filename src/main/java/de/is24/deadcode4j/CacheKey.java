@@ -0,0 +1,102 @@
+package de.is24.deadcode4j;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A <code>CacheKey</code> identifies an entry of an {@link AnalysisContext analysis context's} cache and determines
+ * both the type of the entry and its {@link Scope scope}, i.e. how long the entry is kept. Keys are compared by
+ * identity, so a key should be held in a constant or - if it depends on the configuration of an analyzer - in a field
+ * of the analyzer.
+ *
+ * @param <T> the type of the cached entry
+ * @see AnalysisContext#getOrCreateCacheEntry(CacheKey, de.is24.guava.NonNullFunction)
+ * @since 2.2.0
+ */
+public final class CacheKey<T> {
+
+    /**
+     * The scope of a cache entry. As soon as a scope ends, all entries of that scope are evicted.
+     *
+     * @since 2.2.0
+     */
+    public enum Scope {
+        /** The entry is evicted after all analyzers have analyzed the current file. */
+        FILE,
+        /** The entry is evicted after the current repository of the module has been analyzed. */
+        REPOSITORY,
+        /** The entry is evicted after the analysis of the module has been finished. */
+        MODULE,
+        /**
+         * The entry is shared by all modules of the project, as it is kept in the
+         * {@link AnalysisContext#getSharedCache() shared cache}. It is evicted at the end of the analysis - unless
+         * the analysis is run by an {@link AnalysisEngine}, which keeps the shared cache between the runs.
+         */
+        PROJECT
+    }
+
+    @Nonnull
+    private final String name;
+    @Nonnull
+    private final Scope scope;
+
+    private CacheKey(@Nonnull String name, @Nonnull Scope scope) {
+        this.name = name;
+        this.scope = scope;
+    }
+
+    /**
+     * Creates a key for an entry being evicted after the current file has been analyzed.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static <T> CacheKey<T> forFile(@Nonnull String name) {
+        return new CacheKey<T>(name, Scope.FILE);
+    }
+
+    /**
+     * Creates a key for an entry being evicted after the current repository has been analyzed.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static <T> CacheKey<T> forRepository(@Nonnull String name) {
+        return new CacheKey<T>(name, Scope.REPOSITORY);
+    }
+
+    /**
+     * Creates a key for an entry being evicted after the module has been analyzed.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static <T> CacheKey<T> forModule(@Nonnull String name) {
+        return new CacheKey<T>(name, Scope.MODULE);
+    }
+
+    /**
+     * Creates a key for an entry being shared by all modules of the project.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static <T> CacheKey<T> forProject(@Nonnull String name) {
+        return new CacheKey<T>(name, Scope.PROJECT);
+    }
+
+    @Override
+    public String toString() {
+        return this.name + " (" + this.scope + ")";
+    }
+
+    /**
+     * Returns the scope of the entries identified by this key.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public Scope getScope() {
+        return this.scope;
+    }
+
+}
@@ -0,0 +1,98 @@
+package de.is24.deadcode4j;
+
+import javax.annotation.Nonnull;
+import java.util.*;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.collect.Sets.newHashSetWithExpectedSize;
+
+/**
+ * <code>ClassUsage</code> condenses the {@link AnalyzedCode} of several modules into the only facts needed to compute
+ * dead code: which classes were analyzed and which classes are used at all. Each class name is interned once; being
+ * analyzed or used is kept as a bit, so the code dependencies can be dropped as soon as they are added.
+ *
+ * @see DeadCodeFinder#DeadCodeFinder(DeadCodeComputer, java.util.Set, boolean)
+ * @since 2.2.0
+ */
+final class ClassUsage {
+
+    /**
+     * The depender used to report all used classes with the {@link #toAnalyzedCode() condensed} analysis.
+     *
+     * @since 2.2.0
+     */
+    static final String USED_CLASSES = "_UsedClasses_";
+    @Nonnull
+    private final Map<String, Integer> idsOfClasses = newHashMap();
+    @Nonnull
+    private final List<String> classes = newArrayList();
+    @Nonnull
+    private final BitSet analyzedClasses = new BitSet();
+    @Nonnull
+    private final BitSet usedClasses = new BitSet();
+    @Nonnull
+    private final EnumSet<AnalysisStage> stagesWithExceptions = EnumSet.noneOf(AnalysisStage.class);
+
+    /**
+     * Adds the given analysis; the instance is not referenced afterwards.
+     *
+     * @since 2.2.0
+     */
+    public void add(@Nonnull AnalyzedCode analyzedCode) {
+        stagesWithExceptions.addAll(analyzedCode.getStagesWithExceptions());
+        for (String analyzedClass : analyzedCode.getAnalyzedClasses()) {
+            analyzedClasses.set(idOf(analyzedClass));
+        }
+        for (Set<String> dependees : analyzedCode.getCodeDependencies().values()) {
+            for (String dependee : dependees) {
+                usedClasses.set(idOf(dependee));
+            }
+        }
+    }
+
+    /**
+     * Indicates if the given class is used by any of the added analyses.
+     *
+     * @since 2.2.0
+     */
+    public boolean isUsed(@Nonnull String clazz) {
+        Integer id = idsOfClasses.get(clazz);
+        return id != null && usedClasses.get(id);
+    }
+
+    /**
+     * Returns an <code>AnalyzedCode</code> listing all analyzed classes; the used classes are reported as the
+     * dependencies of the single depender {@value #USED_CLASSES}.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public AnalyzedCode toAnalyzedCode() {
+        Map<String, Set<String>> codeDependencies = newHashMap();
+        if (!usedClasses.isEmpty()) {
+            codeDependencies.put(USED_CLASSES, toSet(usedClasses));
+        }
+        return new AnalyzedCode(EnumSet.copyOf(stagesWithExceptions), toSet(analyzedClasses), codeDependencies);
+    }
+
+    private int idOf(@Nonnull String clazz) {
+        Integer id = idsOfClasses.get(clazz);
+        if (id == null) {
+            id = classes.size();
+            idsOfClasses.put(clazz, id);
+            classes.add(clazz);
+        }
+        return id;
+    }
+
+    @Nonnull
+    private Set<String> toSet(@Nonnull BitSet ids) {
+        Set<String> set = newHashSetWithExpectedSize(ids.cardinality());
+        for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+            set.add(classes.get(id));
+        }
+        return set;
+    }
+
+}
@@ -0,0 +1,90 @@
+package de.is24.deadcode4j;
+
+import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.List;
+
+import static com.google.common.collect.Lists.newArrayList;
+
+/**
+ * A <code>DeadClassesDiff</code> lists the changes between the dead classes of two analyses, e.g. the current one and
+ * a baseline recorded earlier.
+ *
+ * @since 2.2.0
+ */
+public final class DeadClassesDiff {
+
+    @Nonnull
+    private final List<String> newDeadClasses;
+    @Nonnull
+    private final List<String> revivedClasses;
+
+    private DeadClassesDiff(@Nonnull List<String> newDeadClasses, @Nonnull List<String> revivedClasses) {
+        this.newDeadClasses = Collections.unmodifiableList(newDeadClasses);
+        this.revivedClasses = Collections.unmodifiableList(revivedClasses);
+    }
+
+    /**
+     * Computes the changes between the given dead classes. Both lists must be sorted in natural order and must not
+     * contain duplicates; they are merged in a single linear pass.
+     *
+     * @param previousDeadClasses the dead classes of the former analysis
+     * @param deadClasses         the dead classes of the current analysis
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static DeadClassesDiff of(@Nonnull List<String> previousDeadClasses, @Nonnull List<String> deadClasses) {
+        List<String> newDeadClasses = newArrayList();
+        List<String> revivedClasses = newArrayList();
+        int previousIndex = 0;
+        int index = 0;
+        while (previousIndex < previousDeadClasses.size() && index < deadClasses.size()) {
+            String previousDeadClass = previousDeadClasses.get(previousIndex);
+            String deadClass = deadClasses.get(index);
+            int comparison = previousDeadClass.compareTo(deadClass);
+            if (comparison < 0) {
+                revivedClasses.add(previousDeadClass);
+                previousIndex++;
+            } else if (comparison > 0) {
+                newDeadClasses.add(deadClass);
+                index++;
+            } else {
+                previousIndex++;
+                index++;
+            }
+        }
+        revivedClasses.addAll(previousDeadClasses.subList(previousIndex, previousDeadClasses.size()));
+        newDeadClasses.addAll(deadClasses.subList(index, deadClasses.size()));
+        return new DeadClassesDiff(newDeadClasses, revivedClasses);
+    }
+
+    /**
+     * Returns the classes which are dead now, but weren't before - sorted in natural order.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public List<String> getNewDeadClasses() {
+        return newDeadClasses;
+    }
+
+    /**
+     * Returns the classes which were dead before, but aren't anymore - sorted in natural order.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public List<String> getRevivedClasses() {
+        return revivedClasses;
+    }
+
+    /**
+     * Indicates if the dead classes are unchanged.
+     *
+     * @since 2.2.0
+     */
+    public boolean isEmpty() {
+        return newDeadClasses.isEmpty() && revivedClasses.isEmpty();
+    }
+
+}
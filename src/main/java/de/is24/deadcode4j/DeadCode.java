@@ -2,7 +2,9 @@ package de.is24.deadcode4j;
 
 import javax.annotation.Nonnull;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.List;
 
 /**
  * <code>DeadCode</code> provides the results of the {@link DeadCodeFinder}.
@@ -16,13 +18,29 @@ public class DeadCode {
     private final Collection<String> analyzedClasses;
     @Nonnull
     private final Collection<String> deadClasses;
+    @Nonnull
+    private final List<Collection<String>> deadClusters;
 
     public DeadCode(@Nonnull EnumSet<AnalysisStage> stagesWithExceptions,
                     @Nonnull Collection<String> analyzedClasses,
                     @Nonnull Collection<String> deadClasses) {
+        this(stagesWithExceptions, analyzedClasses, deadClasses, Collections.<Collection<String>>emptyList());
+    }
+
+    /**
+     * Creates a <code>DeadCode</code> instance also reporting dead clusters.
+     *
+     * @see #getDeadClusters()
+     * @since 2.2.0
+     */
+    public DeadCode(@Nonnull EnumSet<AnalysisStage> stagesWithExceptions,
+                    @Nonnull Collection<String> analyzedClasses,
+                    @Nonnull Collection<String> deadClasses,
+                    @Nonnull List<Collection<String>> deadClusters) {
         this.stagesWithExceptions = stagesWithExceptions;
         this.analyzedClasses = analyzedClasses;
         this.deadClasses = deadClasses;
+        this.deadClusters = deadClusters;
     }
 
     @Nonnull
@@ -35,6 +53,19 @@ public class DeadCode {
         return this.deadClasses;
     }
 
+    /**
+     * Returns the dead clusters, i.e. groups of classes which are referenced only by each other or by dead code. The
+     * members of a cluster are not part of the {@link #getDeadClasses() dead classes}, as each of them is in use;
+     * single classes referenced only by dead code are, though.
+     * Clusters are only reported if the {@link DeadCodeComputer} was configured to do so; the list is empty otherwise.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public List<Collection<String>> getDeadClusters() {
+        return this.deadClusters;
+    }
+
     /**
      * Returns the stages for which an exception occurred.
      *
@@ -1,7 +1,13 @@
 package de.is24.deadcode4j;
 
+import com.google.common.collect.Ordering;
+import de.is24.deadcode4j.graph.ClassGraph;
+import de.is24.deadcode4j.graph.StronglyConnectedComponents;
+
 import javax.annotation.Nonnull;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 
@@ -15,10 +21,41 @@ import static com.google.common.collect.Sets.newHashSet;
  */
 public class DeadCodeComputer {
 
+    private final boolean reportDeadClusters;
+
+    public DeadCodeComputer() {
+        this(false);
+    }
+
+    /**
+     * Creates a <code>DeadCodeComputer</code>.
+     *
+     * @param reportDeadClusters indicates if {@link DeadCode#getDeadClusters() dead clusters} should be computed
+     * @since 2.2.0
+     */
+    public DeadCodeComputer(boolean reportDeadClusters) {
+        this.reportDeadClusters = reportDeadClusters;
+    }
+
+    /**
+     * Indicates if the computation requires the full code dependencies, as opposed to knowing which classes are used.
+     *
+     * @since 2.2.0
+     */
+    public boolean requiresCodeDependencies() {
+        return reportDeadClusters;
+    }
+
     @Nonnull
     public DeadCode computeDeadCode(@Nonnull AnalyzedCode analyzedCode) {
         Collection<String> deadClasses = determineDeadClasses(analyzedCode);
-        return new DeadCode(analyzedCode.getStagesWithExceptions(), analyzedCode.getAnalyzedClasses(), deadClasses);
+        if (!reportDeadClusters) {
+            return new DeadCode(analyzedCode.getStagesWithExceptions(), analyzedCode.getAnalyzedClasses(), deadClasses);
+        }
+        List<String> allDeadClasses = newArrayList(deadClasses);
+        List<Collection<String>> deadClusters = determineDeadClusters(analyzedCode, allDeadClasses);
+        return new DeadCode(analyzedCode.getStagesWithExceptions(), analyzedCode.getAnalyzedClasses(), allDeadClasses,
+                deadClusters);
     }
 
     @Nonnull
@@ -35,4 +72,74 @@ public class DeadCodeComputer {
         return deadClasses;
     }
 
+    /**
+     * A dead cluster is a strongly connected component of at least two analyzed classes which is referenced only by
+     * dead classes or other dead clusters - be it a pair of classes referencing each other or a whole subsystem nobody
+     * uses. A single class is considered dead by the same rule, so a class referenced only by dead code passes its
+     * deadness on to the classes it references; such a class is added to the given dead classes. As the components
+     * are numbered in reverse topological order, iterating them backwards guarantees that all components referencing
+     * a component have been examined before.
+     */
+    @Nonnull
+    private List<Collection<String>> determineDeadClusters(@Nonnull AnalyzedCode analyzedCode,
+                                                           @Nonnull List<String> deadClasses) {
+        ClassGraph graph = ClassGraph.of(analyzedCode);
+        StronglyConnectedComponents components = StronglyConnectedComponents.of(graph);
+        int numberOfComponents = components.getNumberOfComponents();
+        int[] offsets = new int[numberOfComponents + 1];
+        int[] members = components.getMembers(offsets);
+        boolean[] deadComponents = new boolean[numberOfComponents];
+        Set<String> knownDeadClasses = newHashSet(deadClasses);
+        List<Collection<String>> deadClusters = newArrayList();
+
+        for (int component = numberOfComponents - 1; component >= 0; component--) {
+            if (!isDeadComponent(graph, components, component, members, offsets, deadComponents)) {
+                continue;
+            }
+            deadComponents[component] = true;
+            if (offsets[component + 1] - offsets[component] == 1) {
+                String deadClass = graph.getName(members[offsets[component]]);
+                if (!knownDeadClasses.contains(deadClass)) {
+                    deadClasses.add(deadClass);
+                }
+            } else {
+                List<String> deadCluster = newArrayList();
+                for (int i = offsets[component]; i < offsets[component + 1]; i++) {
+                    deadCluster.add(graph.getName(members[i]));
+                }
+                Collections.sort(deadCluster);
+                deadClusters.add(deadCluster);
+            }
+        }
+        Collections.sort(deadClusters, new Comparator<Collection<String>>() {
+            @Override
+            public int compare(Collection<String> a, Collection<String> b) {
+                int bySize = b.size() - a.size();
+                return bySize != 0 ? bySize : Ordering.natural().compare(a.iterator().next(), b.iterator().next());
+            }
+        });
+        return deadClusters;
+    }
+
+    private boolean isDeadComponent(@Nonnull ClassGraph graph,
+                                  @Nonnull StronglyConnectedComponents components,
+                                  int component,
+                                  @Nonnull int[] members,
+                                  @Nonnull int[] offsets,
+                                  @Nonnull boolean[] deadComponents) {
+        for (int i = offsets[component]; i < offsets[component + 1]; i++) {
+            int member = members[i];
+            if (!graph.isAnalyzed(member)) {
+                return false;
+            }
+            for (int j = graph.getFirstDependerIndex(member); j < graph.getEndDependerIndex(member); j++) {
+                int dependerComponent = components.getComponentOf(graph.getDepender(j));
+                if (dependerComponent != component && !deadComponents[dependerComponent]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
 }
@@ -1,14 +1,19 @@
 package de.is24.deadcode4j;
 
+import com.google.common.cache.Cache;
 import org.apache.commons.io.DirectoryWalker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
 
+import static com.google.common.base.Predicates.instanceOf;
+import static com.google.common.collect.Iterables.any;
+import static com.google.common.collect.Iterables.filter;
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Maps.newHashMap;
 import static com.google.common.collect.Sets.newHashSet;
@@ -28,35 +33,160 @@ public class DeadCodeFinder {
     private final DeadCodeComputer deadCodeComputer;
     @Nonnull
     private final Iterable<? extends Analyzer> analyzers;
+    @Nonnull
+    private final AnalysisArtifacts analysisArtifacts = new AnalysisArtifacts();
+    private final boolean lowMemory;
 
     public DeadCodeFinder(@Nonnull DeadCodeComputer deadCodeComputer, @Nonnull Set<? extends Analyzer> analyzers) {
+        this(deadCodeComputer, analyzers, false);
+    }
+
+    /**
+     * Creates a <code>DeadCodeFinder</code> optionally running in low-memory mode: instead of keeping the code
+     * dependencies of all modules until the project-wide analysis, they are condensed into the set of used classes as
+     * soon as a module is analyzed. This mode is not applied if any analyzer
+     * {@link RequiresCodeDependencies requires the code dependencies}.
+     *
+     * @since 2.2.0
+     */
+    public DeadCodeFinder(@Nonnull DeadCodeComputer deadCodeComputer,
+                          @Nonnull Set<? extends Analyzer> analyzers,
+                          boolean lowMemory) {
         this.deadCodeComputer = deadCodeComputer;
         this.analyzers = newArrayList(analyzers);
+        this.lowMemory = lowMemory;
     }
 
     @Nonnull
     public DeadCode findDeadCode(@Nonnull Iterable<Module> modules) {
-        AnalyzedCode analyzedCode = analyzeCode(modules);
+        AnalyzedCode analyzedCode = analyzeCode(modules, null, isCondensed());
+        return computeDeadCode(analyzedCode);
+    }
+
+    /**
+     * Finds the dead code of the given modules, publishing the dead code of each module to the given listener as soon
+     * as it is settled. As this requires keeping track of the used classes anyway, the code dependencies are condensed
+     * like in low-memory mode if no analyzer {@link RequiresCodeDependencies requires them}.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public DeadCode findDeadCode(@Nonnull Iterable<Module> modules, @Nonnull DeadCodeListener deadCodeListener) {
+        AnalyzedCode analyzedCode = analyzeCode(modules, deadCodeListener, canBeCondensed());
         return computeDeadCode(analyzedCode);
     }
 
+    /**
+     * Analyzes the given modules and returns the combined analysis, i.e. the complete dependency graph of the project
+     * - regardless of the low-memory mode. The dead code can be determined by calling
+     * {@link #computeDeadCode(AnalyzedCode)} afterwards.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public AnalyzedCode analyzeCode(@Nonnull Iterable<Module> modules) {
+        return analyzeCode(modules, null, false);
+    }
+
+    /**
+     * Analyzes the given modules like {@link #analyzeCode(Iterable)}, publishing the dead code of each module to the
+     * given listener as soon as it is settled.
+     *
+     * @since 2.2.0
+     */
     @Nonnull
-    private AnalyzedCode analyzeCode(@Nonnull Iterable<Module> modules) {
+    public AnalyzedCode analyzeCode(@Nonnull Iterable<Module> modules, @Nonnull DeadCodeListener deadCodeListener) {
+        return analyzeCode(modules, deadCodeListener, false);
+    }
+
+    private boolean isCondensed() {
+        return lowMemory && canBeCondensed();
+    }
+
+    private boolean canBeCondensed() {
+        return !this.deadCodeComputer.requiresCodeDependencies()
+                && !any(this.analyzers, instanceOf(RequiresCodeDependencies.class));
+    }
+
+    @Nonnull
+    private AnalyzedCode analyzeCode(@Nonnull Iterable<Module> modules,
+                                     @Nullable DeadCodeListener deadCodeListener,
+                                     boolean condensed) {
+        List<Module> sortedModules = newArrayList(sort(modules));
+        ClassUsage classUsage = condensed || deadCodeListener != null ? new ClassUsage() : null;
+        ModuleSettler moduleSettler = deadCodeListener == null ? null
+                : new ModuleSettler(sortedModules, classUsage, this.deadCodeComputer, deadCodeListener,
+                filter(this.analyzers, RevivesClasses.class));
         List<AnalyzedCode> analyzedCode = newArrayList();
         IntermediateResults intermediateResults = new IntermediateResults();
-        for (Module module : sort(modules)) {
-            AnalysisContext analysisContext = new AnalysisContext(module, intermediateResults.calculateIntermediateResultsFor(module));
-            for (Repository repository : module.getAllRepositories()) {
-                analyzeRepository(analysisContext, repository);
+        Map<Object, Object> projectCache = newHashMap();
+        for (Module module : sortedModules) {
+            AnalyzedCode analyzedCodeOfModule = analyzeModule(module, intermediateResults, projectCache);
+            if (classUsage != null) {
+                classUsage.add(analyzedCodeOfModule);
             }
-            logger.debug("Finishing analysis of [{}]...", analysisContext);
-            for (Analyzer analyzer : this.analyzers) {
-                analyzer.finishAnalysis(analysisContext);
+            if (!condensed) {
+                analyzedCode.add(analyzedCodeOfModule);
+            }
+            if (moduleSettler != null) {
+                moduleSettler.moduleAnalyzed(module, analyzedCodeOfModule);
+            }
+        }
+        return condensed ? finishAnalysis(classUsage) : finishAnalysis(analyzedCode);
+    }
+
+    @Nonnull
+    private AnalyzedCode finishAnalysis(@Nonnull ClassUsage classUsage) {
+        logger.debug("Finishing analysis of whole project...");
+        AnalyzedCode combinedAnalysis = classUsage.toAnalyzedCode();
+        for (Analyzer analyzer : this.analyzers) {
+            AnalysisSink analysisSink = new AnalysisSink();
+            analyzer.finishAnalysis(analysisSink, combinedAnalysis);
+            if (!isEmpty(analysisSink.getAnalyzedCode())) {
+                classUsage.add(analysisSink.getAnalyzedCode());
+                combinedAnalysis = classUsage.toAnalyzedCode();
             }
-            logger.debug("Finished analysis of [{}].", analysisContext);
-            intermediateResults.add(analysisContext);
-            analyzedCode.add(analysisContext.getAnalyzedCode());
         }
+        logger.debug("Finished analysis of project.");
+        return combinedAnalysis;
+    }
+
+    /**
+     * Analyzes the given module, making the intermediate results of the modules it depends on - and those of the
+     * {@link AnalysisArtifacts analysis artifacts} of its libraries - available and storing its own intermediate
+     * results afterwards. The given {@link AnalysisContext#getSharedCache() shared cache} holds the entries of the
+     * {@link CacheKey.Scope#PROJECT project scope}.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    AnalyzedCode analyzeModule(@Nonnull Module module,
+                               @Nonnull IntermediateResults intermediateResults,
+                               @Nonnull Map<Object, Object> sharedCache) {
+        Map<Object, IntermediateResult> availableResults = intermediateResults.calculateIntermediateResultsFor(module);
+        analysisArtifacts.addIntermediateResultsOfClassPath(module, availableResults);
+        AnalysisContext analysisContext = new AnalysisContext(module, availableResults, sharedCache);
+        for (Repository repository : module.getAllRepositories()) {
+            analyzeRepository(analysisContext, repository);
+        }
+        logger.debug("Finishing analysis of [{}]...", analysisContext);
+        for (Analyzer analyzer : this.analyzers) {
+            analyzer.finishAnalysis(analysisContext);
+        }
+        logger.debug("Finished analysis of [{}].", analysisContext);
+        logCacheStatistics(analysisContext);
+        intermediateResults.add(analysisContext);
+        analysisContext.endScope(CacheKey.Scope.MODULE);
+        return analysisContext.getAnalyzedCode();
+    }
+
+    /**
+     * Combines the analyzed code of all modules and performs the project-wide analysis.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    AnalyzedCode finishAnalysis(@Nonnull List<AnalyzedCode> analyzedCode) {
         logger.debug("Finishing analysis of whole project...");
         AnalyzedCode combinedAnalysis = merge(analyzedCode);
         for (Analyzer analyzer : this.analyzers) {
@@ -68,11 +198,27 @@ public class DeadCodeFinder {
         return combinedAnalysis;
     }
 
+    /**
+     * Computes the dead code of the given analysis.
+     *
+     * @since 2.2.0
+     */
     @Nonnull
-    private DeadCode computeDeadCode(@Nonnull AnalyzedCode analyzedCode) {
+    public DeadCode computeDeadCode(@Nonnull AnalyzedCode analyzedCode) {
         return this.deadCodeComputer.computeDeadCode(analyzedCode);
     }
 
+    private void logCacheStatistics(@Nonnull AnalysisContext analysisContext) {
+        if (!logger.isDebugEnabled()) {
+            return;
+        }
+        for (Map.Entry<Object, Object> cacheEntry : analysisContext.getCache().entrySet()) {
+            if (cacheEntry.getValue() instanceof Cache) {
+                logger.debug("Statistics of cache [{}]: {}", cacheEntry.getKey(), Cache.class.cast(cacheEntry.getValue()).stats());
+            }
+        }
+    }
+
     private void analyzeRepository(@Nonnull AnalysisContext analysisContext, @Nonnull Repository repository) {
         RepositoryAnalyzer repositoryAnalyzer = new RepositoryAnalyzer(analysisContext, repository, this.analyzers);
         try {
@@ -101,14 +247,18 @@ public class DeadCodeFinder {
     @Nonnull
     private AnalyzedCode merge(@Nonnull AnalyzedCode analyzedCode, @Nonnull AnalysisSink analysisSink) {
         AnalyzedCode analysisToAdd = analysisSink.getAnalyzedCode();
-        if (analysisToAdd.getStagesWithExceptions().isEmpty()
-                && analysisToAdd.getAnalyzedClasses().isEmpty()
-                && analysisToAdd.getCodeDependencies().isEmpty()) {
+        if (isEmpty(analysisToAdd)) {
             return analyzedCode;
         }
         return merge(asList(analyzedCode, analysisToAdd));
     }
 
+    private boolean isEmpty(@Nonnull AnalyzedCode analyzedCode) {
+        return analyzedCode.getStagesWithExceptions().isEmpty()
+                && analyzedCode.getAnalyzedClasses().isEmpty()
+                && analyzedCode.getCodeDependencies().isEmpty();
+    }
+
     private static class RepositoryAnalyzer extends DirectoryWalker<Void> {
 
         private final Logger logger = LoggerFactory.getLogger(getClass());
@@ -139,10 +289,12 @@ public class DeadCodeFinder {
                     analysisContext.addException(AnalysisStage.FILE_ANALYSIS);
                 }
             }
+            this.analysisContext.endScope(CacheKey.Scope.FILE);
         }
 
         @Override
         protected void handleEnd(Collection<Void> results) {
+            this.analysisContext.endScope(CacheKey.Scope.REPOSITORY);
             logger.debug("Analysis of [{}] is done.", this.repository);
         }
 
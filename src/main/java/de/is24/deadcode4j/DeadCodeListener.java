@@ -0,0 +1,25 @@
+package de.is24.deadcode4j;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A <code>DeadCodeListener</code> is notified by the {@link DeadCodeFinder} as soon as the dead code of a module is
+ * settled, i.e. the module itself and all modules depending on it have been analyzed. As a class can only be
+ * referenced by its own module or the modules depending on it and the classes being {@link RevivesClasses revived} by
+ * the project-wide analysis - e.g. ignored classes or those used by imported analyses - are excluded upfront, the
+ * reported dead classes won't change anymore.
+ *
+ * @see DeadCodeFinder#findDeadCode(Iterable, DeadCodeListener)
+ * @since 2.2.0
+ */
+public interface DeadCodeListener {
+
+    /**
+     * Indicates that the dead code of the given module is settled.
+     *
+     * @param deadCode the analyzed & dead classes of the module
+     * @since 2.2.0
+     */
+    void moduleSettled(@Nonnull Module module, @Nonnull DeadCode deadCode);
+
+}
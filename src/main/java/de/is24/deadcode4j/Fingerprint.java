@@ -0,0 +1,97 @@
+package de.is24.deadcode4j;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.apache.commons.io.DirectoryWalker;
+
+import javax.annotation.Nonnull;
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.util.Collection;
+
+import static com.google.common.base.Charsets.UTF_8;
+import static org.apache.commons.io.filefilter.TrueFileFilter.TRUE;
+
+/**
+ * Calculates a fingerprint of the files relevant for analyzing a set of modules. The fingerprint is based on the path,
+ * size & modification time of each file - so no file content is read.
+ * <p/>
+ * Fingerprints are used to detect if analysis results are still up to date, e.g. by the {@link AnalysisEngine}.
+ *
+ * @since 2.2.0
+ */
+public final class Fingerprint {
+
+    private Fingerprint() {
+    }
+
+    /**
+     * Returns the fingerprint of the given modules' layout, repositories and class path entries.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static HashCode of(@Nonnull Iterable<Module> modules) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        for (Module module : modules) {
+            hasher.putString(module.getModuleId(), UTF_8);
+            for (Repository repository : module.getAllRepositories()) {
+                new FileStatCollector(hasher, repository.getFileFilter()).collect(repository.getDirectory());
+            }
+            for (File classPathEntry : module.getClassPath()) {
+                if (classPathEntry.isDirectory()) {
+                    new FileStatCollector(hasher, TRUE).collect(classPathEntry);
+                } else {
+                    putFileStats(hasher, classPathEntry);
+                }
+            }
+        }
+        return hasher.hash();
+    }
+
+    /**
+     * Returns the fingerprint of the given files; directories are not examined.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static HashCode ofFiles(@Nonnull Iterable<File> files) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        for (File file : files) {
+            putFileStats(hasher, file);
+        }
+        return hasher.hash();
+    }
+
+    private static void putFileStats(@Nonnull Hasher hasher, @Nonnull File file) {
+        hasher.putString(file.getAbsolutePath(), UTF_8).putLong(file.length()).putLong(file.lastModified());
+    }
+
+    private static final class FileStatCollector extends DirectoryWalker<Void> {
+        @Nonnull
+        private final Hasher hasher;
+
+        public FileStatCollector(@Nonnull Hasher hasher, @Nonnull FileFilter fileFilter) {
+            super(fileFilter, -1);
+            this.hasher = hasher;
+        }
+
+        public void collect(@Nonnull File directory) {
+            hasher.putString(directory.getAbsolutePath(), UTF_8);
+            try {
+                super.walk(directory, null);
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to walk through " + directory + "!", e);
+            }
+        }
+
+        @Override
+        protected void handleFile(File file, int depth, Collection<Void> results) {
+            putFileStats(hasher, file);
+        }
+
+    }
+
+}
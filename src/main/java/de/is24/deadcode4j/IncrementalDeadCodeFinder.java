@@ -0,0 +1,162 @@
+package de.is24.deadcode4j;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkState;
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Lists.reverse;
+import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.collect.Maps.newLinkedHashMap;
+import static com.google.common.collect.Sets.newHashSet;
+import static de.is24.deadcode4j.Module.sort;
+
+/**
+ * The <code>IncrementalDeadCodeFinder</code> keeps the analysis results of each module of a fixed set of modules, so
+ * that after some modules changed, only those and the modules depending on them need to be analyzed again.
+ * The results of a re-analyzed module replace its former results, i.e. the dependencies found before are retracted.
+ *
+ * @since 2.2.0
+ */
+public class IncrementalDeadCodeFinder {
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    @Nonnull
+    private final DeadCodeFinder deadCodeFinder;
+    @Nonnull
+    private final List<Module> modules;
+    @Nonnull
+    private final IntermediateResults intermediateResults = new IntermediateResults();
+    @Nonnull
+    private final Map<Module, AnalyzedCode> analyzedCodeOfModules = newHashMap();
+    /** Holds the cache entries of the project scope, which are kept as long as this finder is in use. */
+    @Nonnull
+    private final Map<Object, Object> sharedCache = newHashMap();
+    @Nullable
+    private DeadCode deadCode;
+
+    public IncrementalDeadCodeFinder(@Nonnull DeadCodeFinder deadCodeFinder, @Nonnull Iterable<Module> modules) {
+        this.deadCodeFinder = deadCodeFinder;
+        this.modules = newArrayList(sort(modules));
+    }
+
+    /**
+     * Analyzes all modules.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public DeadCode findDeadCode() {
+        return findDeadCode(modules);
+    }
+
+    /**
+     * Analyzes the given modules and all modules depending on them (directly or transitively) again, reusing the
+     * results of all other modules.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public DeadCode findDeadCode(@Nonnull Collection<Module> changedModules) {
+        Set<Module> affectedModules = newHashSet(changedModules);
+        for (Module module : modules) {
+            if (!analyzedCodeOfModules.containsKey(module) || requiresAnyOf(module, affectedModules)) {
+                affectedModules.add(module);
+            }
+        }
+        List<AnalyzedCode> analyzedCode = newArrayList();
+        for (Module module : modules) {
+            if (affectedModules.contains(module)) {
+                logger.debug("Analyzing {}...", module);
+                analyzedCodeOfModules.put(module, deadCodeFinder.analyzeModule(module, intermediateResults, sharedCache));
+            }
+            analyzedCode.add(analyzedCodeOfModules.get(module));
+        }
+        deadCode = deadCodeFinder.computeDeadCode(deadCodeFinder.finishAnalysis(analyzedCode));
+        return deadCode;
+    }
+
+    /**
+     * Analyzes the given modules - and those of their required modules that were neither analyzed nor restored yet -
+     * without performing the project-wide analysis. The results can be retrieved by
+     * {@link #createSnapshot() taking a snapshot}.
+     *
+     * @since 2.2.0
+     */
+    public void analyzeModules(@Nonnull Collection<Module> modulesToAnalyze) {
+        Set<Module> requiredModules = newHashSet(modulesToAnalyze);
+        for (Module module : reverse(modules)) {
+            if (requiredModules.contains(module)) {
+                requiredModules.addAll(module.getRequiredModules());
+            }
+        }
+        for (Module module : modules) {
+            if (modulesToAnalyze.contains(module)
+                    || requiredModules.contains(module) && !analyzedCodeOfModules.containsKey(module)) {
+                logger.debug("Analyzing {}...", module);
+                analyzedCodeOfModules.put(module, deadCodeFinder.analyzeModule(module, intermediateResults, sharedCache));
+            }
+        }
+    }
+
+    /**
+     * Takes over the results of all modules contained in the given snapshot, so that they are not analyzed again by the
+     * next call to {@link #findDeadCode(java.util.Collection)} - unless they are affected by a changed module.
+     * Must be called before analyzing any module.
+     *
+     * @since 2.2.0
+     */
+    public void restore(@Nonnull AnalysisSnapshot snapshot) {
+        checkState(analyzedCodeOfModules.isEmpty(), "Modules were analyzed already!");
+        for (Module module : modules) {
+            AnalysisSnapshot.ModuleResults moduleResults = snapshot.getResultsOf(module);
+            if (moduleResults == null) {
+                logger.debug("Snapshot contains no results for {}.", module);
+                continue;
+            }
+            analyzedCodeOfModules.put(module, moduleResults.getAnalyzedCode());
+            intermediateResults.add(module, moduleResults.getIntermediateResults());
+        }
+    }
+
+    /**
+     * Takes a snapshot of the results of all analyzed or restored modules. The snapshot lists the unused classes found
+     * by the last {@link #findDeadCode(java.util.Collection) complete analysis}, if any.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public AnalysisSnapshot createSnapshot() {
+        Map<String, AnalysisSnapshot.ModuleResults> resultsOfModules = newLinkedHashMap();
+        for (Module module : modules) {
+            if (!analyzedCodeOfModules.containsKey(module)) {
+                continue;
+            }
+            AnalysisSnapshot.ModuleResults moduleResults = AnalysisSnapshot.ModuleResults.of(module,
+                    analyzedCodeOfModules.get(module), intermediateResults.getIntermediateResultsOf(module));
+            if (moduleResults != null) {
+                resultsOfModules.put(module.getModuleId(), moduleResults);
+            }
+        }
+        return new AnalysisSnapshot(resultsOfModules,
+                deadCode == null ? Collections.<String>emptyList() : deadCode.getDeadClasses());
+    }
+
+    private static boolean requiresAnyOf(@Nonnull Module module, @Nonnull Set<Module> modules) {
+        for (Module requiredModule : module.getRequiredModules()) {
+            if (modules.contains(requiredModule)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -3,8 +3,11 @@ package de.is24.deadcode4j;
 import javax.annotation.Nonnull;
 
 /**
- * If an <code>IntermediateResult</code> is put into an {@link AnalysisContext#getCache() analysis context's cache},
- * it will be made available to the analysis context of those modules depending on the module the result belongs to.
+ * If an <code>IntermediateResult</code> is
+ * {@link AnalysisContext#publishIntermediateResult(Object, IntermediateResult) published to an analysis context}, it
+ * will be made available to the analysis context of those modules depending on the module the result belongs to.
+ * Results put into an {@link AnalysisContext#getCache() analysis context's cache} are still made available, but this is
+ * deprecated and logged as a warning.
  *
  * @since 2.0.0
  */
@@ -5,6 +5,7 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.io.Serializable;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
@@ -82,6 +83,29 @@ public final class IntermediateResults {
         intermediateResults.put(analysisContext.getModule(), getIntermediateResultsOf(analysisContext));
     }
 
+    /**
+     * Adds the given intermediate results of the specified module, e.g. those restored from an
+     * {@link AnalysisSnapshot}.
+     *
+     * @since 2.2.0
+     */
+    public void add(@Nonnull Module module, @Nonnull Map<Object, IntermediateResult> intermediateResultsOfModule) {
+        intermediateResults.put(module, newHashMap(intermediateResultsOfModule));
+    }
+
+    /**
+     * Returns the intermediate results the specified module provided itself.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public Map<Object, IntermediateResult> getIntermediateResultsOf(@Nonnull Module module) {
+        Map<Object, IntermediateResult> intermediateResultsOfModule = intermediateResults.get(module);
+        return intermediateResultsOfModule == null
+                ? Collections.<Object, IntermediateResult>emptyMap()
+                : Collections.unmodifiableMap(intermediateResultsOfModule);
+    }
+
     /**
      * Calculates the intermediate results being available for the specified module.
      *
@@ -93,16 +117,37 @@ public final class IntermediateResults {
     }
 
     @Nonnull
+    @SuppressWarnings("deprecation")
     private Map<Object, IntermediateResult> getIntermediateResultsOf(@Nonnull AnalysisContext analysisContext) {
-        Map<Object, IntermediateResult> intermediateResults = newHashMap();
+        Map<Object, IntermediateResult> intermediateResults =
+                newHashMap(analysisContext.getPublishedIntermediateResults());
+        for (IntermediateResult intermediateResult : intermediateResults.values()) {
+            logger.debug("{} stored [{}].", analysisContext.getModule(), intermediateResult);
+        }
+        addIntermediateResultsOfCache(analysisContext, intermediateResults);
+        return intermediateResults;
+    }
+
+    /**
+     * Collects the intermediate results put into the module's cache, as analyzers did before intermediate results
+     * were {@link AnalysisContext#publishIntermediateResult(Object, IntermediateResult) published} explicitly.
+     *
+     * @deprecated only kept for analyzers not publishing their intermediate results yet
+     */
+    @Deprecated
+    private void addIntermediateResultsOfCache(@Nonnull AnalysisContext analysisContext,
+                                               @Nonnull Map<Object, IntermediateResult> intermediateResults) {
         for (Map.Entry<Object, Object> cachedEntry : analysisContext.getCache().entrySet()) {
             Object cachedValue = cachedEntry.getValue();
-            if (IntermediateResult.class.isInstance(cachedValue)) {
-                logger.debug("{} stored [{}].", analysisContext.getModule(), cachedValue);
-                intermediateResults.put(cachedEntry.getKey(), IntermediateResult.class.cast(cachedValue));
+            if (CacheKey.class.isInstance(cachedEntry.getKey()) || !IntermediateResult.class.isInstance(cachedValue)
+                    || intermediateResults.containsKey(cachedEntry.getKey())) {
+                continue;
             }
+            logger.warn("{} stored [{}] in the cache; an analyzer should publish it via " +
+                            "AnalysisContext.publishIntermediateResult instead, as this is going to be unsupported.",
+                    analysisContext.getModule(), cachedValue);
+            intermediateResults.put(cachedEntry.getKey(), IntermediateResult.class.cast(cachedValue));
         }
-        return intermediateResults;
     }
 
     @Nonnull
@@ -152,7 +197,8 @@ public final class IntermediateResults {
      *
      * @since 2.0.0
      */
-    public static class IntermediateResultSet<E> implements IntermediateResult {
+    public static class IntermediateResultSet<E> implements IntermediateResult, Serializable {
+        private static final long serialVersionUID = 1L;
 
         @Nonnull
         private final Set<E> results;
@@ -223,9 +269,10 @@ public final class IntermediateResults {
      *
      * @since 2.0.0
      */
-    public static class IntermediateResultMap<K, V> implements IntermediateResult {
+    public static class IntermediateResultMap<K, V> implements IntermediateResult, Serializable {
+        private static final long serialVersionUID = 1L;
         @Nonnull
-        private final Logger logger = LoggerFactory.getLogger(getClass());
+        private static final Logger logger = LoggerFactory.getLogger(IntermediateResultMap.class);
         @Nonnull
         private final Map<K, V> results;
 
@@ -155,6 +155,16 @@ public class Module {
         return classPath;
     }
 
+    /**
+     * Returns the resources this module depends on, listed in order of their position in the class path.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public Collection<Resource> getDependencies() {
+        return dependencies;
+    }
+
     /**
      * Returns all modules required by this module, listed in order of their position in the class path.
      *
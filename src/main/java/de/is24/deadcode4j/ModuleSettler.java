@@ -0,0 +1,128 @@
+package de.is24.deadcode4j;
+
+import com.google.common.base.Predicate;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Multimap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.collect.Sets.filter;
+import static java.util.Collections.singletonMap;
+
+/**
+ * The <code>ModuleSettler</code> tracks which modules are settled, i.e. the module itself and all modules depending on
+ * it (transitively) have been analyzed, and publishes their dead code to a {@link DeadCodeListener}. Classes being
+ * {@link RevivesClasses revived} by the project-wide analysis are not reported as dead. The analyzed classes of a
+ * module are only retained until it is settled.
+ *
+ * @since 2.2.0
+ */
+final class ModuleSettler {
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    @Nonnull
+    private final ClassUsage classUsage;
+    @Nonnull
+    private final DeadCodeComputer deadCodeComputer;
+    @Nonnull
+    private final DeadCodeListener deadCodeListener;
+    @Nonnull
+    private final Iterable<? extends RevivesClasses> revivingAnalyzers;
+    @Nonnull
+    private final ListMultimap<Module, Module> modulesSettledBy = ArrayListMultimap.create();
+    @Nonnull
+    private final Map<Module, AnalyzedCode> pendingModules = newHashMap();
+
+    /**
+     * Creates a <code>ModuleSettler</code> for the given modules.
+     *
+     * @param sortedModules the modules in the order they are analyzed, i.e. each module comes after those it depends on
+     * @param classUsage    the usage the analyzed code of each module is added to before it is reported to this
+     *                      settler
+     * @param revivingAnalyzers the analyzers marking classes as being in use during the project-wide analysis; those
+     *                          classes are not reported as dead
+     * @since 2.2.0
+     */
+    public ModuleSettler(@Nonnull List<Module> sortedModules,
+                         @Nonnull ClassUsage classUsage,
+                         @Nonnull DeadCodeComputer deadCodeComputer,
+                         @Nonnull DeadCodeListener deadCodeListener,
+                         @Nonnull Iterable<? extends RevivesClasses> revivingAnalyzers) {
+        this.classUsage = classUsage;
+        this.deadCodeComputer = deadCodeComputer;
+        this.deadCodeListener = deadCodeListener;
+        this.revivingAnalyzers = revivingAnalyzers;
+        calculateSettlingModules(sortedModules);
+    }
+
+    /**
+     * Indicates that the given module has been analyzed; publishes the dead code of all modules being settled now.
+     *
+     * @since 2.2.0
+     */
+    public void moduleAnalyzed(@Nonnull Module module, @Nonnull AnalyzedCode analyzedCode) {
+        pendingModules.put(module, new AnalyzedCode(analyzedCode.getStagesWithExceptions(),
+                analyzedCode.getAnalyzedClasses(), Collections.<String, Set<String>>emptyMap()));
+        for (Module settledModule : modulesSettledBy.removeAll(module)) {
+            AnalyzedCode analyzedCodeOfModule = pendingModules.remove(settledModule);
+            logger.debug("[{}] is settled.", settledModule);
+            deadCodeListener.moduleSettled(settledModule, computeDeadCode(analyzedCodeOfModule));
+        }
+    }
+
+    private void calculateSettlingModules(@Nonnull List<Module> sortedModules) {
+        Multimap<Module, Module> dependentModules = ArrayListMultimap.create();
+        for (Module module : sortedModules) {
+            for (Module requiredModule : module.getRequiredModules()) {
+                dependentModules.put(requiredModule, module);
+            }
+        }
+        Map<Module, Integer> settlingIndexes = newHashMap();
+        for (int i = sortedModules.size() - 1; i >= 0; i--) {
+            Module module = sortedModules.get(i);
+            int settlingIndex = i;
+            for (Module dependentModule : dependentModules.get(module)) {
+                Integer settlingIndexOfDependent = settlingIndexes.get(dependentModule);
+                if (settlingIndexOfDependent != null) {
+                    settlingIndex = Math.max(settlingIndex, settlingIndexOfDependent);
+                }
+            }
+            settlingIndexes.put(module, settlingIndex);
+        }
+        for (Module module : sortedModules) {
+            modulesSettledBy.put(sortedModules.get(settlingIndexes.get(module)), module);
+        }
+    }
+
+    @Nonnull
+    private DeadCode computeDeadCode(@Nonnull AnalyzedCode analyzedCode) {
+        Set<String> analyzedClasses = analyzedCode.getAnalyzedClasses();
+        Set<String> usedClasses = filter(analyzedClasses, new Predicate<String>() {
+            @Override
+            public boolean apply(@Nullable String clazz) {
+                return clazz != null && (classUsage.isUsed(clazz) || isRevived(clazz));
+            }
+        });
+        return deadCodeComputer.computeDeadCode(new AnalyzedCode(analyzedCode.getStagesWithExceptions(),
+                analyzedClasses, singletonMap(ClassUsage.USED_CLASSES, usedClasses)));
+    }
+
+    private boolean isRevived(@Nonnull String clazz) {
+        for (RevivesClasses revivingAnalyzer : this.revivingAnalyzers) {
+            if (revivingAnalyzer.revives(clazz)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
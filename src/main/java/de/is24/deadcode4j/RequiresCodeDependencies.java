@@ -0,0 +1,16 @@
+package de.is24.deadcode4j;
+
+/**
+ * Marks an {@link Analyzer} whose {@link Analyzer#finishAnalysis(AnalysisSink, AnalyzedCode)} examines the code
+ * dependencies of individual classes.
+ * <p/>
+ * In low-memory mode, the <code>DeadCodeFinder</code> drops the code dependencies of each module as soon as it is
+ * analyzed and only keeps track of which classes are used at all; the project-wide analysis is then handed all used
+ * classes as the dependencies of the single depender <tt>_UsedClasses_</tt>. If at least one analyzer implements this
+ * interface, the code dependencies are retained instead.
+ *
+ * @see DeadCodeFinder#DeadCodeFinder(DeadCodeComputer, java.util.Set, boolean)
+ * @since 2.2.0
+ */
+public interface RequiresCodeDependencies {
+}
@@ -0,0 +1,25 @@
+package de.is24.deadcode4j;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Marks an {@link Analyzer} whose {@link Analyzer#finishAnalysis(AnalysisSink, AnalyzedCode)} marks classes as being
+ * in use regardless of the code referencing them, e.g. because they are configured to be ignored.
+ * <p/>
+ * The <code>DeadCodeFinder</code> publishes the dead code of each module to a {@link DeadCodeListener} before the
+ * project-wide analysis is performed; the classes revived by such an analyzer are excluded from the dead code reported
+ * upfront.
+ *
+ * @see DeadCodeFinder#findDeadCode(Iterable, DeadCodeListener)
+ * @since 2.2.0
+ */
+public interface RevivesClasses {
+
+    /**
+     * Indicates if the project-wide analysis will mark the given class as being in use - provided it is analyzed.
+     *
+     * @since 2.2.0
+     */
+    boolean revives(@Nonnull String clazz);
+
+}
@@ -0,0 +1,190 @@
+package de.is24.deadcode4j.analyzer;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseException;
+import com.github.javaparser.TokenMgrError;
+import com.github.javaparser.ast.CompilationUnit;
+import com.google.common.base.Optional;
+import de.is24.deadcode4j.AnalysisContext;
+import de.is24.deadcode4j.CacheKey;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import javassist.CtClass;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import static com.google.common.base.Optional.absent;
+import static com.google.common.base.Optional.of;
+import static de.is24.deadcode4j.analyzer.javassist.ClassPoolAccessor.classPoolAccessorFor;
+import static org.apache.commons.io.IOUtils.closeQuietly;
+
+/**
+ * An <code>AnalyzedFile</code> is the unit of work shared by all analyzers examining the same file: it provides the
+ * raw content of the file, the <code>CtClass</code> of a class file and the <code>CompilationUnit</code> of a java
+ * file. The file is read only once and each representation is computed lazily & at most once - no matter how many
+ * analyzers request it.<br/>
+ * XML files are not parsed into a shared representation, as each {@link XmlAnalyzer} parses the raw content on its
+ * own and usually stops parsing early, e.g. if the root element does not match.<br/>
+ * The bundle is kept in the {@link CacheKey.Scope#FILE file scope} of the analysis context and thus released as soon
+ * as all analyzers are done with the file.
+ *
+ * @since 2.2.0
+ */
+public final class AnalyzedFile {
+
+    private static final CacheKey<AnalyzedFile> KEY = CacheKey.forFile(AnalyzedFile.class.getName());
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    @Nonnull
+    private final AnalysisContext analysisContext;
+    @Nonnull
+    private final File file;
+    @Nullable
+    private byte[] content;
+    @Nullable
+    private CtClass ctClass;
+    @Nullable
+    private Optional<CompilationUnit> compilationUnit;
+
+    private AnalyzedFile(@Nonnull AnalysisContext analysisContext, @Nonnull File file) {
+        this.analysisContext = analysisContext;
+        this.file = file;
+    }
+
+    /**
+     * Returns the <code>AnalyzedFile</code> for the given file, creating it if the analysis context holds none for this
+     * file yet.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static AnalyzedFile analyzedFileFor(@Nonnull AnalysisContext analysisContext, @Nonnull File file) {
+        AnalyzedFile analyzedFile = analysisContext.getCacheEntry(KEY);
+        if (analyzedFile == null || !analyzedFile.file.equals(file)) {
+            analyzedFile = new AnalyzedFile(analysisContext, file);
+            analysisContext.putCacheEntry(KEY, analyzedFile);
+        }
+        return analyzedFile;
+    }
+
+    @Override
+    public String toString() {
+        return "AnalyzedFile [" + this.file + "]";
+    }
+
+    /**
+     * Returns the analyzed file.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public File getFile() {
+        return this.file;
+    }
+
+    /**
+     * Returns the raw content of the file. The file is read once via a <code>FileChannel</code>; subsequent calls
+     * return the very same array, so callers must not modify it.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "The content is shared on purpose")
+    public synchronized byte[] getContent() {
+        if (this.content == null) {
+            this.content = readContent();
+        }
+        return this.content;
+    }
+
+    /**
+     * Returns the <code>CtClass</code> defined by the class file.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public synchronized CtClass getCtClass() {
+        if (this.ctClass == null) {
+            try {
+                this.ctClass = classPoolAccessorFor(this.analysisContext).getClassPool().makeClass(
+                        new ByteArrayInputStream(getContent()));
+            } catch (IOException e) {
+                throw new RuntimeException("Could not load class from [" + this.file + "]!", e);
+            }
+        }
+        return this.ctClass;
+    }
+
+    /**
+     * Returns the <code>CompilationUnit</code> of the java file or <i>absent</i> if the file cannot be parsed.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    @SuppressWarnings("PMD.AvoidCatchingThrowable") // unfortunately, JavaParser throws an Error when parsing fails
+    public synchronized Optional<CompilationUnit> getCompilationUnit() {
+        if (this.compilationUnit == null) {
+            Reader reader = null;
+            try {
+                reader = newReader();
+                this.compilationUnit = of(JavaParser.parse(reader, false));
+            } catch (Throwable t) {
+                this.compilationUnit = handleThrowable(t);
+            } finally {
+                closeQuietly(reader);
+            }
+        }
+        return this.compilationUnit;
+    }
+
+    @Nonnull
+    private byte[] readContent() {
+        FileInputStream in = null;
+        try {
+            in = new FileInputStream(this.file);
+            FileChannel channel = in.getChannel();
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File is too large!");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keep on reading
+            }
+            if (buffer.hasRemaining()) {
+                throw new IOException("File was truncated while reading it!");
+            }
+            return buffer.array();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read [" + this.file + "]!", e);
+        } finally {
+            closeQuietly(in);
+        }
+    }
+
+    @Nonnull
+    @SuppressFBWarnings(value = "DM_DEFAULT_ENCODING", justification = "The MavenProject does not provide the proper encoding")
+    private Reader newReader() throws UnsupportedEncodingException {
+        InputStream in = new ByteArrayInputStream(getContent());
+        String encoding = this.analysisContext.getModule().getEncoding();
+        return encoding != null ? new InputStreamReader(in, encoding) : new InputStreamReader(in);
+    }
+
+    @Nonnull
+    private Optional<CompilationUnit> handleThrowable(@Nonnull Throwable t) {
+        String message = "Failed to parse [" + this.file + "]!";
+        if (TokenMgrError.class.isInstance(t) || ParseException.class.isInstance(t)) {
+            logger.debug(message, t);
+            return absent();
+        }
+        if (Error.class.isInstance(t)) {
+            throw Error.class.cast(t);
+        }
+        throw new RuntimeException(message, t);
+    }
+
+}
@@ -0,0 +1,283 @@
+package de.is24.deadcode4j.analyzer;
+
+import com.google.common.collect.Ordering;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import de.is24.deadcode4j.AnalysisEngine;
+import de.is24.deadcode4j.Analyzer;
+import de.is24.deadcode4j.DeadCode;
+import de.is24.deadcode4j.DeadCodeComputer;
+import de.is24.deadcode4j.DeadCodeFinder;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import static com.google.common.base.Charsets.UTF_8;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Sets.newHashSet;
+import static de.is24.deadcode4j.analyzer.Analyzers.createDefaultAnalyzers;
+
+/**
+ * The <code>AnalyzerConfiguration</code> describes which analyzers to set up in addition to the
+ * {@link Analyzers#createDefaultAnalyzers() default analyzers}. Being serializable, it can be handed over to other
+ * processes, which then set up the very same analyzers.
+ *
+ * @since 2.2.0
+ */
+public final class AnalyzerConfiguration implements Serializable {
+    private static final long serialVersionUID = 1L;
+    @Nonnull
+    private final HashSet<String> annotationsMarkingLiveCode = newHashSet();
+    @Nonnull
+    private final HashSet<String> classesToIgnore = newHashSet();
+    @Nonnull
+    private final ArrayList<CustomXmlDefinition> customXmls = newArrayList();
+    private boolean ignoreMainClasses = false;
+    @Nonnull
+    private final ArrayList<File> importedAnalyses = newArrayList();
+    @Nonnull
+    private final HashSet<String> interfacesMarkingLiveCode = newHashSet();
+    private boolean lowMemory = false;
+    private boolean recordTypeHierarchy = false;
+    private boolean reportDeadClusters = false;
+    @Nonnull
+    private final HashSet<String> superClassesMarkingLiveCode = newHashSet();
+
+    /**
+     * Treats classes annotated with any of the given annotations as live code.
+     *
+     * @since 2.2.0
+     */
+    public void addAnnotationsMarkingLiveCode(@Nonnull Collection<String> annotations) {
+        this.annotationsMarkingLiveCode.addAll(annotations);
+    }
+
+    /**
+     * Ignores the given classes if they are found to be dead.
+     *
+     * @since 2.2.0
+     */
+    public void addClassesToIgnore(@Nonnull Collection<String> classes) {
+        this.classesToIgnore.addAll(classes);
+    }
+
+    /**
+     * Treats classes found at the given XPaths in matching XML files as live code.
+     *
+     * @see CustomXmlAnalyzer
+     * @since 2.2.0
+     */
+    public void addCustomXml(@Nonnull String endOfFileName,
+                             @Nullable String rootElement,
+                             @Nonnull Collection<String> xPaths) {
+        checkArgument(!xPaths.isEmpty(), "At least one entry for [xPaths] must be set!");
+        this.customXmls.add(new CustomXmlDefinition(endOfFileName, rootElement, xPaths));
+    }
+
+    /**
+     * Treats classes with a main method as live code.
+     *
+     * @since 2.2.0
+     */
+    public void setIgnoreMainClasses(boolean ignoreMainClasses) {
+        this.ignoreMainClasses = ignoreMainClasses;
+    }
+
+    /**
+     * Treats classes used by the code of the given {@link de.is24.deadcode4j.AnalysisSnapshot snapshots} of other
+     * analyses as live code.
+     *
+     * @see ImportedAnalysisAnalyzer
+     * @since 2.2.0
+     */
+    public void addImportedAnalyses(@Nonnull Collection<File> snapshots) {
+        this.importedAnalyses.addAll(snapshots);
+    }
+
+    /**
+     * Treats classes implementing any of the given interfaces as live code.
+     *
+     * @since 2.2.0
+     */
+    public void addInterfacesMarkingLiveCode(@Nonnull Collection<String> interfaces) {
+        this.interfacesMarkingLiveCode.addAll(interfaces);
+    }
+
+    /**
+     * Lets the created <code>DeadCodeFinder</code> run in low-memory mode.
+     *
+     * @see DeadCodeFinder#DeadCodeFinder(DeadCodeComputer, Set, boolean)
+     * @since 2.2.0
+     */
+    public void setLowMemory(boolean lowMemory) {
+        this.lowMemory = lowMemory;
+    }
+
+    /**
+     * Lets the created <code>DeadCodeFinder</code> report dead clusters; this requires the full code dependencies, so
+     * it takes precedence over the {@link #setLowMemory(boolean) low-memory mode}.
+     *
+     * @see DeadCode#getDeadClusters()
+     * @since 2.2.0
+     */
+    public void setReportDeadClusters(boolean reportDeadClusters) {
+        this.reportDeadClusters = reportDeadClusters;
+    }
+
+    /**
+     * Records the type hierarchy of the analyzed classes as intermediate results, so it can be shipped in an
+     * analysis artifact.
+     *
+     * @see TypeHierarchyAnalyzer
+     * @since 2.2.0
+     */
+    public void setRecordTypeHierarchy(boolean recordTypeHierarchy) {
+        this.recordTypeHierarchy = recordTypeHierarchy;
+    }
+
+    /**
+     * Treats direct subclasses of any of the given classes as live code.
+     *
+     * @since 2.2.0
+     */
+    public void addSuperClassesMarkingLiveCode(@Nonnull Collection<String> superClasses) {
+        this.superClassesMarkingLiveCode.addAll(superClasses);
+    }
+
+    /**
+     * Returns a fingerprint of this configuration; two configurations having the same fingerprint set up the very same
+     * analyzers.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public String getFingerprint() {
+        Hasher hasher = Hashing.sha256().newHasher();
+        putStrings(hasher, annotationsMarkingLiveCode);
+        putStrings(hasher, classesToIgnore);
+        hasher.putInt(customXmls.size());
+        for (CustomXmlDefinition customXml : customXmls) {
+            customXml.putInto(hasher);
+        }
+        hasher.putBoolean(ignoreMainClasses);
+        hasher.putInt(importedAnalyses.size());
+        for (File importedAnalysis : importedAnalyses) {
+            hasher.putString(importedAnalysis.getAbsolutePath(), UTF_8);
+        }
+        putStrings(hasher, interfacesMarkingLiveCode);
+        hasher.putBoolean(lowMemory);
+        hasher.putBoolean(recordTypeHierarchy);
+        hasher.putBoolean(reportDeadClusters);
+        putStrings(hasher, superClassesMarkingLiveCode);
+        return hasher.hash().toString();
+    }
+
+    private static void putStrings(@Nonnull Hasher hasher, @Nonnull Collection<String> strings) {
+        hasher.putInt(strings.size());
+        for (String string : Ordering.natural().sortedCopy(strings)) {
+            hasher.putString(string, UTF_8).putByte((byte) 0);
+        }
+    }
+
+    /**
+     * Creates the configured analyzers.
+     *
+     * @param deadCodeComputer the <code>DeadCodeComputer</code> to use, which is required to ignore classes
+     * @since 2.2.0
+     */
+    @Nonnull
+    public Set<Analyzer> createAnalyzers(@Nonnull DeadCodeComputer deadCodeComputer) {
+        Set<Analyzer> analyzers = createDefaultAnalyzers();
+        if (!annotationsMarkingLiveCode.isEmpty()) {
+            analyzers.add(new CustomAnnotationsAnalyzer(annotationsMarkingLiveCode));
+        }
+        if (!interfacesMarkingLiveCode.isEmpty()) {
+            analyzers.add(new CustomInterfacesAnalyzer(interfacesMarkingLiveCode));
+        }
+        if (!superClassesMarkingLiveCode.isEmpty()) {
+            analyzers.add(new CustomSuperClassAnalyzer(superClassesMarkingLiveCode));
+        }
+        for (CustomXmlDefinition customXml : customXmls) {
+            analyzers.add(customXml.createAnalyzer());
+        }
+        if (!classesToIgnore.isEmpty()) {
+            analyzers.add(new IgnoreClassesAnalyzer(deadCodeComputer, classesToIgnore));
+        }
+        if (ignoreMainClasses) {
+            analyzers.add(new MainClassAnalyzer());
+        }
+        if (!importedAnalyses.isEmpty()) {
+            analyzers.add(new ImportedAnalysisAnalyzer(importedAnalyses));
+        }
+        if (recordTypeHierarchy) {
+            analyzers.add(new TypeHierarchyAnalyzer());
+        }
+        return analyzers;
+    }
+
+    /**
+     * Creates a <code>DeadCodeFinder</code> set up with the configured analyzers.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public DeadCodeFinder createDeadCodeFinder() {
+        DeadCodeComputer deadCodeComputer = new DeadCodeComputer(reportDeadClusters);
+        return new DeadCodeFinder(deadCodeComputer, createAnalyzers(deadCodeComputer), lowMemory);
+    }
+
+    /**
+     * Creates an <code>AnalysisEngine</code> set up with the configured analyzers, to be used for several analyses.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public AnalysisEngine createAnalysisEngine() {
+        return new AnalysisEngine(createDeadCodeFinder());
+    }
+
+    private static final class CustomXmlDefinition implements Serializable {
+        private static final long serialVersionUID = 1L;
+        @Nonnull
+        private final String endOfFileName;
+        @Nullable
+        private final String rootElement;
+        @Nonnull
+        private final ArrayList<String> xPaths;
+
+        public CustomXmlDefinition(@Nonnull String endOfFileName,
+                                   @Nullable String rootElement,
+                                   @Nonnull Collection<String> xPaths) {
+            this.endOfFileName = endOfFileName;
+            this.rootElement = rootElement;
+            this.xPaths = newArrayList(xPaths);
+        }
+
+        public void putInto(@Nonnull Hasher hasher) {
+            hasher.putString(endOfFileName, UTF_8).putByte((byte) 0);
+            hasher.putString(String.valueOf(rootElement), UTF_8).putByte((byte) 0);
+            hasher.putInt(xPaths.size());
+            for (String xPath : xPaths) {
+                hasher.putString(xPath, UTF_8).putByte((byte) 0);
+            }
+        }
+
+        @Nonnull
+        public CustomXmlAnalyzer createAnalyzer() {
+            CustomXmlAnalyzer customXmlAnalyzer = new CustomXmlAnalyzer(endOfFileName, rootElement);
+            for (String xPath : xPaths) {
+                customXmlAnalyzer.registerXPath(xPath);
+            }
+            return customXmlAnalyzer;
+        }
+
+    }
+
+}
@@ -0,0 +1,51 @@
+package de.is24.deadcode4j.analyzer;
+
+import com.google.common.collect.Sets;
+import de.is24.deadcode4j.Analyzer;
+
+import javax.annotation.Nonnull;
+import java.util.Set;
+
+/**
+ * Provides the set of analyzers deadcode4j uses out of the box.
+ *
+ * @since 2.2.0
+ */
+public final class Analyzers {
+
+    private Analyzers() {}
+
+    /**
+     * Returns a new, modifiable set containing an instance of each analyzer that requires no configuration.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static Set<Analyzer> createDefaultAnalyzers() {
+        return Sets.<Analyzer>newHashSet(
+                new AopXmlAnalyzer(),
+                new ApacheTilesAnalyzer(),
+                new CastorClassesAnalyzer(),
+                new ClassDependencyAnalyzer(),
+                new FacesConfigXmlAnalyzer(),
+                new HibernateAnnotationsAnalyzer(),
+                new JeeAnnotationsAnalyzer(),
+                new JerseyWebXmlAnalyzer(),
+                new JettyXmlAnalyzer(),
+                new LogbackXmlAnalyzer(),
+                new ReferenceToConstantsAnalyzer(),
+                new ServletContainerInitializerAnalyzer(),
+                new SpringAnnotationsAnalyzer(),
+                new SpringDataCustomRepositoriesAnalyzer(),
+                new SpringNamespaceHandlerAnalyzer(),
+                new SpringWebApplicationInitializerAnalyzer(),
+                new SpringWebFlowAnalyzer(),
+                new SpringWebXmlAnalyzer(),
+                new SpringXmlAnalyzer(),
+                new TldAnalyzer(),
+                new TypeErasureAnalyzer(),
+                new WebXmlAnalyzer(),
+                new WsddAnalyzer());
+    }
+
+}
@@ -1,6 +1,7 @@
 package de.is24.deadcode4j.analyzer;
 
 import de.is24.deadcode4j.AnalysisContext;
+import de.is24.deadcode4j.CacheKey;
 import de.is24.deadcode4j.analyzer.javassist.ClassPathFilter;
 import de.is24.guava.NonNullFunction;
 import javassist.ClassPool;
@@ -34,6 +35,10 @@ public abstract class AnnotationsAnalyzer extends ByteCodeAnalyzer {
             "java.lang.annotation.Retention",
             "java.lang.annotation.Target");
     private final String dependerId;
+    private final CacheKey<Set<String>> knownAnnotationsKey =
+            CacheKey.forModule(getClass().getName() + "|knownAnnotations");
+    private final CacheKey<List<String>> inheritableAnnotationsKey =
+            CacheKey.forModule(getClass().getName() + "|inheritableAnnotations");
     private final NonNullFunction<AnalysisContext, Set<String>> supplyAnnotationsFoundInClassPath;
     private final NonNullFunction<AnalysisContext, List<String>> supplyAnnotationsMarkedAsInherited = new NonNullFunction<AnalysisContext, List<String>>() {
         @Nonnull
@@ -144,12 +149,12 @@ public abstract class AnnotationsAnalyzer extends ByteCodeAnalyzer {
 
     @Nonnull
     protected final Set<String> getAnnotationsFoundInClassPath(@Nonnull AnalysisContext analysisContext) {
-        return analysisContext.getOrCreateCacheEntry(getClass().getName() + "|knownAnnotations", supplyAnnotationsFoundInClassPath);
+        return analysisContext.getOrCreateCacheEntry(knownAnnotationsKey, supplyAnnotationsFoundInClassPath);
     }
 
     @Nonnull
     private List<String> getAnnotationsMarkedAsInherited(@Nonnull AnalysisContext analysisContext) {
-        return analysisContext.getOrCreateCacheEntry(getClass().getName() + "|inheritableAnnotations", supplyAnnotationsMarkedAsInherited);
+        return analysisContext.getOrCreateCacheEntry(inheritableAnnotationsKey, supplyAnnotationsMarkedAsInherited);
     }
 
 }
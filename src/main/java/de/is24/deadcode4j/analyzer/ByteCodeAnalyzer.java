@@ -1,30 +1,21 @@
 package de.is24.deadcode4j.analyzer;
 
-import com.google.common.base.Optional;
-import com.google.common.cache.LoadingCache;
 import de.is24.deadcode4j.AnalysisContext;
-import de.is24.guava.NonNullFunction;
-import de.is24.guava.SequentialLoadingCache;
 import javassist.CtClass;
 import javassist.CtField;
 import javassist.CtMethod;
 import javassist.bytecode.AnnotationsAttribute;
 import javassist.bytecode.AttributeInfo;
 import javassist.bytecode.annotation.Annotation;
-import org.apache.commons.io.IOUtils;
 
 import javax.annotation.Nonnull;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
 import java.lang.annotation.ElementType;
 import java.util.Collections;
 import java.util.List;
 
-import static com.google.common.base.Optional.of;
 import static com.google.common.collect.Lists.newArrayList;
-import static de.is24.deadcode4j.analyzer.javassist.ClassPoolAccessor.classPoolAccessorFor;
-import static de.is24.guava.NonNullFunctions.toFunction;
+import static de.is24.deadcode4j.analyzer.AnalyzedFile.analyzedFileFor;
 import static java.lang.annotation.ElementType.FIELD;
 import static java.lang.annotation.ElementType.METHOD;
 import static java.util.Arrays.asList;
@@ -37,29 +28,6 @@ import static java.util.Arrays.asList;
  */
 public abstract class ByteCodeAnalyzer extends AnalyzerAdapter {
 
-    private static final NonNullFunction<AnalysisContext, LoadingCache<File, Optional<CtClass>>> SUPPLIER =
-            new NonNullFunction<AnalysisContext, LoadingCache<File, Optional<CtClass>>>() {
-                @Nonnull
-                @Override
-                public LoadingCache<File, Optional<CtClass>> apply(@Nonnull final AnalysisContext analysisContext) {
-                    return SequentialLoadingCache.createSingleValueCache(toFunction(new NonNullFunction<File, Optional<CtClass>>() {
-                        @Nonnull
-                        @Override
-                        public Optional<CtClass> apply(@Nonnull File file) {
-                            FileInputStream in = null;
-                            try {
-                                in = new FileInputStream(file);
-                                return of(classPoolAccessorFor(analysisContext).getClassPool().makeClass(in));
-                            } catch (IOException e) {
-                                throw new RuntimeException("Could not load class from [" + file + "]!", e);
-                            } finally {
-                                IOUtils.closeQuietly(in);
-                            }
-                        }
-                    }));
-                }
-            };
-
     /**
      * Retrieves all annotations of a package/class and its members (if requested).
      *
@@ -98,14 +66,10 @@ public abstract class ByteCodeAnalyzer extends AnalyzerAdapter {
         return annotations;
     }
 
-    private static LoadingCache<File, Optional<CtClass>> getClassLoader(AnalysisContext analysisContext) {
-        return analysisContext.getOrCreateCacheEntry(ByteCodeAnalyzer.class, SUPPLIER);
-    }
-
     @Override
     public final void doAnalysis(@Nonnull AnalysisContext analysisContext, @Nonnull File file) {
         if (file.getName().endsWith(".class")) {
-            CtClass ctClass = getClassLoader(analysisContext).getUnchecked(file).get();
+            CtClass ctClass = analyzedFileFor(analysisContext, file).getCtClass();
             logger.debug("Analyzing class [{}]...", ctClass.getName());
             analyzeClass(analysisContext, ctClass);
         }
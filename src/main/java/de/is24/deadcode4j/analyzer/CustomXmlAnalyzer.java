@@ -23,6 +23,7 @@ public final class CustomXmlAnalyzer extends SimpleXmlAnalyzer {
     //                                                              element       [@attribute='value']    /   @attribute|text()
     private static final Pattern XPATH_PATTERN = Pattern.compile("^([^/\\[]+)(?:\\[@([^=]+)='([^']+)'\\])?/(?:@(.*)|text\\(\\))$");
     private static volatile int instanceNumber = 0; // we assign this to make sure the self check works
+    /** Spans all modules, as the configuration entry is obsolete only if no module reports a dependency. */
     private boolean dependencyWasFound = false;
 
     /**
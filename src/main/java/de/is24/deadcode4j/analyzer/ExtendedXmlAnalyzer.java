@@ -1,7 +1,6 @@
 package de.is24.deadcode4j.analyzer;
 
 import com.google.common.base.Optional;
-import com.google.common.collect.Iterables;
 import de.is24.deadcode4j.AnalysisContext;
 import org.xml.sax.Attributes;
 import org.xml.sax.helpers.DefaultHandler;
@@ -33,6 +32,8 @@ public abstract class ExtendedXmlAnalyzer extends XmlAnalyzer {
     private final String rootElement;
     @Nonnull
     private final Collection<XPath> pathsToMatch = new ArrayList<XPath>();
+    @Nonnull
+    private final State initialState = new State();
 
     /**
      * Creates a new <code>ExtendedXmlAnalyzer</code>.
@@ -170,7 +171,8 @@ public abstract class ExtendedXmlAnalyzer extends XmlAnalyzer {
 
     /**
      * Represents an XPath equivalent to match against an {@link XmlElement} tree.
-     * This class handles the matching, extracting a class to report is delegated to the provided {@link DependeeExtractor}.
+     * The matching is handled by the {@link State automaton} the path is compiled into, extracting a class to report is
+     * delegated to the provided {@link DependeeExtractor}.
      *
      * @since 2.1.0
      */
@@ -195,15 +197,12 @@ public abstract class ExtendedXmlAnalyzer extends XmlAnalyzer {
             return path.toString() + dependeeExtractor.toString();
         }
 
-        @Nonnull
-        Optional<String> matchAndExtract(@Nonnull Deque<XmlElement> xmlElements, @Nonnull Optional<String> containedText) {
-            for (int i = xmlElements.size(); i-- > 0; ) {
-                Iterable<XmlElement> partialPath = Iterables.skip(xmlElements, i);
-                if (path.matches(partialPath)) {
-                    return dependeeExtractor.extractDependee(partialPath, containedText);
-                }
+        void compileInto(@Nonnull State initialState) {
+            State state = initialState;
+            for (Element pathElement : path.pathElements) {
+                state = state.addTransition(pathElement);
             }
-            return Optional.absent();
+            state.dependeeExtractors.add(dependeeExtractor);
         }
 
     }
@@ -251,28 +250,156 @@ public abstract class ExtendedXmlAnalyzer extends XmlAnalyzer {
             return buffy.toString();
         }
 
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!Element.class.isInstance(obj)) {
+                return false;
+            }
+            Element other = Element.class.cast(obj);
+            return this.name.equals(other.name) && this.attributeRestrictions.equals(other.attributeRestrictions);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * name.hashCode() + attributeRestrictions.hashCode();
+        }
+
         @Nonnull
         Element restrictAttribute(@Nonnull String attribute, @Nonnull String value) {
             return new Element(this, attribute, value);
         }
 
-        boolean matches(@Nonnull XmlElement xmlElement) {
-            if (name.isPresent() && !name.get().equals(xmlElement.name)) {
-                return false;
-            }
-            return matchesAttributes(xmlElement);
-        }
-
-        private boolean matchesAttributes(@Nonnull XmlElement xmlElement) {
+        /**
+         * Matches the attribute restrictions against the attributes reported by SAX;
+         * the element name is already taken care of by the {@link State}'s transition table.
+         */
+        boolean matchesAttributes(@Nonnull Attributes attributes) {
             for (Map.Entry<String, String> attributeRestriction : attributeRestrictions.entrySet()) {
-                Optional<String> value = xmlElement.getAttribute(attributeRestriction.getKey());
-                if (!(value.isPresent() && attributeRestriction.getValue().equals(value.get()))) {
+                if (!attributeRestriction.getValue().equals(getAttribute(attributes, attributeRestriction.getKey()))) {
                     return false;
                 }
             }
             return true;
         }
 
+        @Nullable
+        private static String getAttribute(@Nonnull Attributes attributes, @Nonnull String localName) {
+            for (int i = attributes.getLength(); i-- > 0; ) {
+                if (localName.equals(attributes.getLocalName(i))) {
+                    return attributes.getValue(i);
+                }
+            }
+            return null;
+        }
+
+    }
+
+    /**
+     * A <code>State</code> of the automaton the registered {@link XPath}s are compiled into.
+     * The initial state represents "anywhere in the document"; every other state represents a path prefix that has
+     * been matched by the element currently being parsed. Paths sharing a prefix share the according states, so the
+     * work done per SAX event is proportional to the number of live states instead of the number of registered paths.
+     *
+     * @since 2.2.0
+     */
+    private static class State {
+        /** The number of XML elements matched to reach this state. */
+        final int depth;
+        @Nullable
+        private final Element element;
+        @Nonnull
+        final List<DependeeExtractor> dependeeExtractors = new ArrayList<DependeeExtractor>();
+        @Nonnull
+        private final Map<String, List<State>> namedTransitions = new HashMap<String, List<State>>();
+        @Nonnull
+        private final List<State> wildcardTransitions = new ArrayList<State>();
+
+        State() {
+            this.depth = 0;
+            this.element = null;
+        }
+
+        private State(@Nonnull State predecessor, @Nonnull Element element) {
+            this.depth = predecessor.depth + 1;
+            this.element = element;
+        }
+
+        @Nonnull
+        State addTransition(@Nonnull Element pathElement) {
+            List<State> transitions = transitionsFor(pathElement);
+            for (State state : transitions) {
+                if (pathElement.equals(state.element)) {
+                    return state;
+                }
+            }
+            State state = new State(this, pathElement);
+            transitions.add(state);
+            return state;
+        }
+
+        /**
+         * Adds the states reached from this state for the given element to <code>liveStates</code>.
+         */
+        void collectSuccessors(@Nonnull String localName, @Nonnull Attributes attributes, @Nonnull List<State> liveStates) {
+            List<State> namedSuccessors = namedTransitions.get(localName);
+            if (namedSuccessors != null) {
+                collectMatching(namedSuccessors, attributes, liveStates);
+            }
+            collectMatching(wildcardTransitions, attributes, liveStates);
+        }
+
+        private static void collectMatching(@Nonnull List<State> candidates,
+                                            @Nonnull Attributes attributes,
+                                            @Nonnull List<State> liveStates) {
+            for (int i = 0, size = candidates.size(); i < size; i++) {
+                State candidate = candidates.get(i);
+                if (checkNotNull(candidate.element).matchesAttributes(attributes)) {
+                    liveStates.add(candidate);
+                }
+            }
+        }
+
+        @Nonnull
+        private List<State> transitionsFor(@Nonnull Element pathElement) {
+            if (!pathElement.name.isPresent()) {
+                return wildcardTransitions;
+            }
+            String name = pathElement.name.get();
+            List<State> transitions = namedTransitions.get(name);
+            if (transitions == null) {
+                transitions = new ArrayList<State>(1);
+                namedTransitions.put(name, transitions);
+            }
+            return transitions;
+        }
+
+    }
+
+    /**
+     * Keeps track of an XML element being parsed. Instances are reused for all elements on the same nesting level.
+     *
+     * @since 2.2.0
+     */
+    private static class Frame {
+        @Nonnull
+        final List<State> liveStates = new ArrayList<State>();
+        @Nonnull
+        final StringBuilder text = new StringBuilder(128);
+        /** Only set if any state is alive, as only then an extractor may need the element. */
+        @Nullable
+        XmlElement xmlElement;
+        boolean accepting;
+
+        void reset() {
+            liveStates.clear();
+            text.setLength(0);
+            xmlElement = null;
+            accepting = false;
+        }
+
     }
 
     /**
@@ -282,9 +409,8 @@ public abstract class ExtendedXmlAnalyzer extends XmlAnalyzer {
         @Nonnull
         private final AnalysisContext analysisContext;
         @Nonnull
-        private final Deque<XmlElement> xmlElements = new ArrayDeque<XmlElement>();
-        @Nonnull
-        private final Deque<StringBuilder> textBuffers = new ArrayDeque<StringBuilder>();
+        private final List<Frame> frames = new ArrayList<Frame>();
+        private int depth = 0;
         private boolean firstElement = true;
 
         public XmlHandler(@Nonnull AnalysisContext analysisContext) {
@@ -299,26 +425,81 @@ public abstract class ExtendedXmlAnalyzer extends XmlAnalyzer {
                 }
                 firstElement = false;
             }
-            xmlElements.addLast(new XmlElement(localName, attributes));
-            textBuffers.addLast(new StringBuilder(128));
+            Frame frame = pushFrame();
+            initialState.collectSuccessors(localName, attributes, frame.liveStates);
+            if (depth > 1) {
+                List<State> parentStates = frames.get(depth - 2).liveStates;
+                for (int i = 0, size = parentStates.size(); i < size; i++) {
+                    parentStates.get(i).collectSuccessors(localName, attributes, frame.liveStates);
+                }
+            }
+            if (frame.liveStates.isEmpty()) {
+                return;
+            }
+            frame.xmlElement = new XmlElement(localName, attributes);
+            for (int i = 0, size = frame.liveStates.size(); i < size; i++) {
+                if (!frame.liveStates.get(i).dependeeExtractors.isEmpty()) {
+                    frame.accepting = true;
+                    break;
+                }
+            }
         }
 
         @Override
         public void characters(char[] ch, int start, int length) {
-            this.textBuffers.getLast().append(new String(ch, start, length).trim());
+            if (depth == 0) {
+                return;
+            }
+            Frame frame = frames.get(depth - 1);
+            if (!frame.accepting) {
+                return;
+            }
+            appendTrimmed(frame.text, ch, start, length);
         }
 
         @Override
         public void endElement(String uri, String localName, String qName) {
-            StringBuilder buffer = textBuffers.removeLast();
-            Optional<String> text = fromNullable(buffer.length() > 0 ? buffer.toString() : null);
-            for (XPath xPath : pathsToMatch) {
-                Optional<String> dependee = xPath.matchAndExtract(xmlElements, text);
-                if (dependee.isPresent()) {
-                    analysisContext.addDependencies(dependerId, dependee.get().trim());
+            Frame frame = frames.get(depth - 1);
+            if (frame.accepting) {
+                Optional<String> text = fromNullable(frame.text.length() > 0 ? frame.text.toString() : null);
+                for (State state : frame.liveStates) {
+                    if (state.dependeeExtractors.isEmpty()) {
+                        continue;
+                    }
+                    Iterable<XmlElement> matchedElements = getMatchedElements(state.depth);
+                    for (DependeeExtractor dependeeExtractor : state.dependeeExtractors) {
+                        Optional<String> dependee = dependeeExtractor.extractDependee(matchedElements, text);
+                        if (dependee.isPresent()) {
+                            analysisContext.addDependencies(dependerId, dependee.get().trim());
+                        }
+                    }
                 }
             }
-            xmlElements.removeLast();
+            depth--;
+        }
+
+        @Nonnull
+        private Frame pushFrame() {
+            Frame frame;
+            if (depth < frames.size()) {
+                frame = frames.get(depth);
+                frame.reset();
+            } else {
+                frame = new Frame();
+                frames.add(frame);
+            }
+            depth++;
+            return frame;
+        }
+
+        @Nonnull
+        private Iterable<XmlElement> getMatchedElements(int numberOfElements) {
+            List<XmlElement> matchedElements = new ArrayList<XmlElement>(numberOfElements);
+            for (int i = depth - numberOfElements; i < depth; i++) {
+                // every element of a matched path has a live state, thus an XmlElement
+                matchedElements.add(checkNotNull(frames.get(i).xmlElement));
+            }
+            return matchedElements;
         }
 
     }
@@ -386,7 +567,9 @@ public abstract class ExtendedXmlAnalyzer extends XmlAnalyzer {
          * @since 2.1.0
          */
         public void registerDependeeExtractor(DependeeExtractor dependeeExtractor) {
-            pathsToMatch.add(new XPath(this, dependeeExtractor));
+            XPath xPath = new XPath(this, dependeeExtractor);
+            pathsToMatch.add(xPath);
+            xPath.compileInto(initialState);
         }
 
         /**
@@ -428,20 +611,6 @@ public abstract class ExtendedXmlAnalyzer extends XmlAnalyzer {
                 }
             });
         }
-
-        boolean matches(@Nonnull Iterable<XmlElement> xmlElements) {
-            if (pathElements.size() != Iterables.size(xmlElements)) {
-                return false;
-            }
-
-            Iterator<XmlElement> xmlElementIterator = xmlElements.iterator();
-            for (Element pathElement : pathElements) {
-                if (!pathElement.matches(xmlElementIterator.next())) {
-                    return false;
-                }
-            }
-            return true;
-        }
     }
 
 }
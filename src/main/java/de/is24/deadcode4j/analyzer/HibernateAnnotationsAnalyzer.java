@@ -4,6 +4,8 @@ import com.google.common.base.Function;
 import com.google.common.base.Optional;
 import com.google.common.base.Predicate;
 import de.is24.deadcode4j.AnalysisContext;
+import de.is24.deadcode4j.CacheKey;
+import de.is24.guava.NonNullFunction;
 import javassist.CtClass;
 import javassist.bytecode.annotation.*;
 
@@ -57,10 +59,17 @@ import static java.util.Collections.emptyList;
  */
 public final class HibernateAnnotationsAnalyzer extends ByteCodeAnalyzer {
 
-    private final Map<String, String> typeDefinitions = newHashMap();
-    private final Map<String, Set<String>> typeUsages = newHashMap();
-    private final Map<String, String> generatorDefinitions = newHashMap();
-    private final Map<String, Set<String>> generatorUsages = newHashMap();
+    private static final CacheKey<ModuleState> MODULE_STATE_KEY =
+            CacheKey.forModule(HibernateAnnotationsAnalyzer.class.getName() + "|moduleState");
+    @Nonnull
+    private static final NonNullFunction<AnalysisContext, ModuleState> SUPPLY_MODULE_STATE =
+            new NonNullFunction<AnalysisContext, ModuleState>() {
+                @Nonnull
+                @Override
+                public ModuleState apply(@Nonnull AnalysisContext input) {
+                    return new ModuleState();
+                }
+            };
 
     @Nonnull
     private static Iterable<Annotation> getAnnotations(@Nonnull CtClass clazz, @Nonnull final String typeName, ElementType... elementTypes) {
@@ -114,60 +123,73 @@ public final class HibernateAnnotationsAnalyzer extends ByteCodeAnalyzer {
     @Override
     protected void analyzeClass(@Nonnull AnalysisContext analysisContext, @Nonnull CtClass clazz) {
         analysisContext.addAnalyzedClass(clazz.getName());
-        processTypeDefAnnotation(clazz);
-        processTypeDefsAnnotation(clazz);
-        processTypeAnnotations(clazz);
-        processGenericGenerator(analysisContext, clazz);
-        processGenericGenerators(analysisContext, clazz);
-        processGeneratedValueAnnotations(clazz);
+        ModuleState moduleState = getModuleState(analysisContext);
+        processTypeDefAnnotation(moduleState, clazz);
+        processTypeDefsAnnotation(moduleState, clazz);
+        processTypeAnnotations(moduleState, clazz);
+        processGenericGenerator(analysisContext, moduleState, clazz);
+        processGenericGenerators(analysisContext, moduleState, clazz);
+        processGeneratedValueAnnotations(moduleState, clazz);
     }
 
     @Override
     public void finishAnalysis(@Nonnull AnalysisContext analysisContext) {
-        reportDependencies(analysisContext);
-        storeIntermediateResults(analysisContext);
+        ModuleState moduleState = getModuleState(analysisContext);
+        analysisContext.removeCacheEntry(MODULE_STATE_KEY);
+        reportDependencies(analysisContext, moduleState);
+        storeIntermediateResults(analysisContext, moduleState);
     }
 
-    private void processTypeDefAnnotation(@Nonnull CtClass clazz) {
+    @Nonnull
+    private ModuleState getModuleState(@Nonnull AnalysisContext analysisContext) {
+        return analysisContext.getOrCreateCacheEntry(MODULE_STATE_KEY, SUPPLY_MODULE_STATE);
+    }
+
+    private void processTypeDefAnnotation(@Nonnull ModuleState moduleState, @Nonnull CtClass clazz) {
         for (Annotation annotation : getAnnotations(clazz, "org.hibernate.annotations.TypeDef", PACKAGE, TYPE)) {
-            processTypeDefinition(clazz, annotation);
+            processTypeDefinition(moduleState, clazz, annotation);
         }
     }
 
-    private void processTypeDefinition(@Nonnull CtClass clazz, @Nonnull Annotation annotation) {
+    private void processTypeDefinition(@Nonnull ModuleState moduleState,
+                                       @Nonnull CtClass clazz,
+                                       @Nonnull Annotation annotation) {
         String typeName = getStringFrom(annotation, "name");
         if (typeName == null) {
             return;
         }
         String className = clazz.getName();
-        String previousEntry = this.typeDefinitions.put(typeName, className);
+        String previousEntry = moduleState.typeDefinitions.put(typeName, className);
         if (previousEntry != null) {
             logger.warn("The @TypeDef named [{}] is defined both by {} and {}.", typeName, previousEntry, className);
         }
     }
 
-    private void processTypeDefsAnnotation(@Nonnull CtClass clazz) {
+    private void processTypeDefsAnnotation(@Nonnull ModuleState moduleState, @Nonnull CtClass clazz) {
         for (Annotation annotation : getAnnotations(clazz, "org.hibernate.annotations.TypeDefs", PACKAGE, TYPE)) {
             for (Annotation childAnnotation : getAnnotationsFrom(annotation, "value")) {
-                processTypeDefinition(clazz, childAnnotation);
+                processTypeDefinition(moduleState, clazz, childAnnotation);
             }
         }
     }
 
-    private void processTypeAnnotations(@Nonnull CtClass clazz) {
+    private void processTypeAnnotations(@Nonnull ModuleState moduleState, @Nonnull CtClass clazz) {
         for (Annotation annotation : getAnnotations(clazz, "org.hibernate.annotations.Type", METHOD, FIELD)) {
             String typeName = getMandatoryStringFrom(annotation, "type");
-            getOrAddMappedSet(this.typeUsages, typeName).add(clazz.getName());
+            getOrAddMappedSet(moduleState.typeUsages, typeName).add(clazz.getName());
         }
     }
 
-    private void processGenericGenerator(AnalysisContext analysisContext, CtClass clazz) {
+    private void processGenericGenerator(AnalysisContext analysisContext, ModuleState moduleState, CtClass clazz) {
         for (Annotation annotation : getAnnotations(clazz, "org.hibernate.annotations.GenericGenerator", PACKAGE, TYPE, METHOD, FIELD)) {
-            processGenericGenerator(analysisContext, clazz, annotation);
+            processGenericGenerator(analysisContext, moduleState, clazz, annotation);
         }
     }
 
-    private void processGenericGenerator(AnalysisContext analysisContext, CtClass clazz, Annotation annotation) {
+    private void processGenericGenerator(AnalysisContext analysisContext,
+                                         ModuleState moduleState,
+                                         CtClass clazz,
+                                         Annotation annotation) {
         String className = clazz.getName();
         Optional<String> resolvedStrategyClass = classPoolAccessorFor(analysisContext).resolveClass(
                 getMandatoryStringFrom(annotation, "strategy"));
@@ -175,43 +197,43 @@ public final class HibernateAnnotationsAnalyzer extends ByteCodeAnalyzer {
             analysisContext.addDependencies(className, resolvedStrategyClass.get());
         }
         String generatorName = getMandatoryStringFrom(annotation, "name");
-        String previousEntry = this.generatorDefinitions.put(generatorName, className);
+        String previousEntry = moduleState.generatorDefinitions.put(generatorName, className);
         if (previousEntry != null) {
             logger.warn("The @GenericGenerator named [{}] is defined both by {} and {}.",
                     generatorName, previousEntry, className);
         }
     }
 
-    private void processGenericGenerators(AnalysisContext analysisContext, CtClass clazz) {
+    private void processGenericGenerators(AnalysisContext analysisContext, ModuleState moduleState, CtClass clazz) {
         for (Annotation annotation : getAnnotations(clazz, "org.hibernate.annotations.GenericGenerators", PACKAGE, TYPE)) {
             for (Annotation childAnnotation : getAnnotationsFrom(annotation, "value")) {
-                processGenericGenerator(analysisContext, clazz, childAnnotation);
+                processGenericGenerator(analysisContext, moduleState, clazz, childAnnotation);
             }
         }
     }
 
-    private void processGeneratedValueAnnotations(CtClass clazz) {
+    private void processGeneratedValueAnnotations(ModuleState moduleState, CtClass clazz) {
         for (Annotation annotation : getAnnotations(clazz, "javax.persistence.GeneratedValue", METHOD, FIELD)) {
             String generatorName = getStringFrom(annotation, "generator");
             if (generatorName != null) {
-                getOrAddMappedSet(this.generatorUsages, generatorName).add(clazz.getName());
+                getOrAddMappedSet(moduleState.generatorUsages, generatorName).add(clazz.getName());
             }
         }
     }
 
-    private void reportDependencies(@Nonnull AnalysisContext analysisContext) {
-        reportNewGeneratorUsages(analysisContext);
-        reportExistingGeneratorUsagesForNewDefinitions(analysisContext);
-        reportNewTypeUsages(analysisContext);
-        reportExistingTypeUsagesForNewDefinitions(analysisContext);
+    private void reportDependencies(@Nonnull AnalysisContext analysisContext, @Nonnull ModuleState moduleState) {
+        reportNewGeneratorUsages(analysisContext, moduleState);
+        reportExistingGeneratorUsagesForNewDefinitions(analysisContext, moduleState);
+        reportNewTypeUsages(analysisContext, moduleState);
+        reportExistingTypeUsagesForNewDefinitions(analysisContext, moduleState);
     }
 
-    private void reportNewGeneratorUsages(AnalysisContext analysisContext) {
-        if (this.generatorUsages.isEmpty()) {
+    private void reportNewGeneratorUsages(AnalysisContext analysisContext, ModuleState moduleState) {
+        if (moduleState.generatorUsages.isEmpty()) {
             return;
         }
-        Map<String, String> allGeneratorDefinitions = getAllGeneratorDefinitions(analysisContext);
-        for (Map.Entry<String, Set<String>> generatorUsage : this.generatorUsages.entrySet()) {
+        Map<String, String> allGeneratorDefinitions = getAllGeneratorDefinitions(analysisContext, moduleState);
+        for (Map.Entry<String, Set<String>> generatorUsage : moduleState.generatorUsages.entrySet()) {
             String generatorName = generatorUsage.getKey();
             String classDefiningGenerator = allGeneratorDefinitions.get(generatorName);
             if (classDefiningGenerator != null) {
@@ -222,13 +244,14 @@ public final class HibernateAnnotationsAnalyzer extends ByteCodeAnalyzer {
         }
     }
 
-    private void reportExistingGeneratorUsagesForNewDefinitions(AnalysisContext analysisContext) {
-        if (this.generatorDefinitions.isEmpty()) {
+    private void reportExistingGeneratorUsagesForNewDefinitions(AnalysisContext analysisContext,
+                                                                ModuleState moduleState) {
+        if (moduleState.generatorDefinitions.isEmpty()) {
             return;
         }
         for (Map.Entry<String, Set<String>> usage : getExistingGeneratorUsages(analysisContext).entrySet()) {
             String usageName = usage.getKey();
-            String classDefiningType = this.generatorDefinitions.get(usageName);
+            String classDefiningType = moduleState.generatorDefinitions.get(usageName);
             if (classDefiningType == null) {
                 continue;
             }
@@ -239,12 +262,12 @@ public final class HibernateAnnotationsAnalyzer extends ByteCodeAnalyzer {
         }
     }
 
-    private void reportNewTypeUsages(AnalysisContext analysisContext) {
-        if (this.typeUsages.isEmpty()) {
+    private void reportNewTypeUsages(AnalysisContext analysisContext, ModuleState moduleState) {
+        if (moduleState.typeUsages.isEmpty()) {
             return;
         }
-        Map<String, String> allTypeDefinitions = getAllTypeDefinitions(analysisContext);
-        for (Map.Entry<String, Set<String>> typeUsage : this.typeUsages.entrySet()) {
+        Map<String, String> allTypeDefinitions = getAllTypeDefinitions(analysisContext, moduleState);
+        for (Map.Entry<String, Set<String>> typeUsage : moduleState.typeUsages.entrySet()) {
             String typeName = typeUsage.getKey();
             String classDefiningType = allTypeDefinitions.get(typeName);
 
@@ -266,13 +289,14 @@ public final class HibernateAnnotationsAnalyzer extends ByteCodeAnalyzer {
         }
     }
 
-    private void reportExistingTypeUsagesForNewDefinitions(AnalysisContext analysisContext) {
-        if (this.typeDefinitions.isEmpty()) {
+    private void reportExistingTypeUsagesForNewDefinitions(AnalysisContext analysisContext,
+                                                           ModuleState moduleState) {
+        if (moduleState.typeDefinitions.isEmpty()) {
             return;
         }
         for (Map.Entry<String, Set<String>> typeUsage : getExistingTypeUsages(analysisContext).entrySet()) {
             String typeName = typeUsage.getKey();
-            String classDefiningType = this.typeDefinitions.get(typeName);
+            String classDefiningType = moduleState.typeDefinitions.get(typeName);
             if (classDefiningType == null) {
                 continue;
             }
@@ -284,15 +308,16 @@ public final class HibernateAnnotationsAnalyzer extends ByteCodeAnalyzer {
     }
 
     @Nonnull
-    private Map<String, String> getAllGeneratorDefinitions(@Nonnull AnalysisContext analysisContext) {
+    private Map<String, String> getAllGeneratorDefinitions(@Nonnull AnalysisContext analysisContext,
+                                                           @Nonnull ModuleState moduleState) {
         IntermediateResultMap<String, String> resultMap =
                 resultMapFrom(analysisContext, getClass().getName() + "|generatorDefinitions");
         if (resultMap == null) {
-            return this.generatorDefinitions;
+            return moduleState.generatorDefinitions;
         }
         Map<String, String> inheritedDefinitions = resultMap.getResults();
 
-        Map<String, String> allDefinitions = newHashMap(this.generatorDefinitions);
+        Map<String, String> allDefinitions = newHashMap(moduleState.generatorDefinitions);
         for (Map.Entry<String, String> inheritedDefinition : inheritedDefinitions.entrySet()) {
             String definitionName = inheritedDefinition.getKey();
             if (allDefinitions.containsKey(definitionName)) {
@@ -306,15 +331,16 @@ public final class HibernateAnnotationsAnalyzer extends ByteCodeAnalyzer {
     }
 
     @Nonnull
-    private Map<String, String> getAllTypeDefinitions(@Nonnull AnalysisContext analysisContext) {
+    private Map<String, String> getAllTypeDefinitions(@Nonnull AnalysisContext analysisContext,
+                                                      @Nonnull ModuleState moduleState) {
         IntermediateResultMap<String, String> resultMap =
                 resultMapFrom(analysisContext, getClass().getName() + "|typeDefinitions");
         if (resultMap == null) {
-            return this.typeDefinitions;
+            return moduleState.typeDefinitions;
         }
         Map<String, String> inheritedTypeDefinitions = resultMap.getResults();
 
-        Map<String, String> allTypeDefinitions = newHashMap(this.typeDefinitions);
+        Map<String, String> allTypeDefinitions = newHashMap(moduleState.typeDefinitions);
         for (Map.Entry<String, String> inheritedDefinition : inheritedTypeDefinitions.entrySet()) {
             String typeName = inheritedDefinition.getKey();
             if (allTypeDefinitions.containsKey(typeName)) {
@@ -341,23 +367,29 @@ public final class HibernateAnnotationsAnalyzer extends ByteCodeAnalyzer {
         return resultMap != null ? resultMap.getResults() : Collections.<String, Set<String>>emptyMap();
     }
 
-    private void storeIntermediateResults(@Nonnull AnalysisContext analysisContext) {
-        if (!this.generatorDefinitions.isEmpty()) {
-            analysisContext.getCache().put(getClass().getName() + "|generatorDefinitions", resultMapFor(this.generatorDefinitions));
-            this.generatorDefinitions.clear();
+    private void storeIntermediateResults(@Nonnull AnalysisContext analysisContext, @Nonnull ModuleState moduleState) {
+        if (!moduleState.generatorDefinitions.isEmpty()) {
+            analysisContext.publishIntermediateResult(getClass().getName() + "|generatorDefinitions", resultMapFor(moduleState.generatorDefinitions));
         }
-        if (!this.generatorUsages.isEmpty()) {
-            analysisContext.getCache().put(getClass().getName() + "|generatorUsages", resultMapFor(this.generatorUsages));
-            this.generatorUsages.clear();
+        if (!moduleState.generatorUsages.isEmpty()) {
+            analysisContext.publishIntermediateResult(getClass().getName() + "|generatorUsages", resultMapFor(moduleState.generatorUsages));
         }
-        if (!this.typeDefinitions.isEmpty()) {
-            analysisContext.getCache().put(getClass().getName() + "|typeDefinitions", resultMapFor(this.typeDefinitions));
-            this.typeDefinitions.clear();
+        if (!moduleState.typeDefinitions.isEmpty()) {
+            analysisContext.publishIntermediateResult(getClass().getName() + "|typeDefinitions", resultMapFor(moduleState.typeDefinitions));
         }
-        if (!this.typeUsages.isEmpty()) {
-            analysisContext.getCache().put(getClass().getName() + "|typeUsages", resultMapFor(this.typeUsages));
-            this.typeUsages.clear();
+        if (!moduleState.typeUsages.isEmpty()) {
+            analysisContext.publishIntermediateResult(getClass().getName() + "|typeUsages", resultMapFor(moduleState.typeUsages));
         }
     }
 
+    /**
+     * The definitions & usages found while analyzing a module.
+     */
+    private static final class ModuleState {
+        private final Map<String, String> typeDefinitions = newHashMap();
+        private final Map<String, Set<String>> typeUsages = newHashMap();
+        private final Map<String, String> generatorDefinitions = newHashMap();
+        private final Map<String, Set<String>> generatorUsages = newHashMap();
+    }
+
 }
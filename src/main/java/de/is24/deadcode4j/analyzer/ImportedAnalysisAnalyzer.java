@@ -0,0 +1,107 @@
+package de.is24.deadcode4j.analyzer;
+
+import de.is24.deadcode4j.AnalysisContext;
+import de.is24.deadcode4j.AnalysisSink;
+import de.is24.deadcode4j.AnalysisSnapshot;
+import de.is24.deadcode4j.AnalysisStage;
+import de.is24.deadcode4j.AnalyzedCode;
+import de.is24.deadcode4j.RevivesClasses;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Sets.intersection;
+import static com.google.common.collect.Sets.newHashSet;
+
+/**
+ * Marks classes as being in use if they are referenced by code analyzed previously, e.g. by other code bases depending
+ * on the analyzed one. The usages are read from the {@link AnalysisSnapshot}s written by the analyses of those code
+ * bases; their code is neither analyzed again nor reported as dead.
+ *
+ * @since 2.2.0
+ */
+public class ImportedAnalysisAnalyzer extends AnalyzerAdapter implements RevivesClasses {
+
+    @Nonnull
+    private final List<File> importedAnalyses;
+    @Nullable
+    private Set<String> importedUsages;
+
+    public ImportedAnalysisAnalyzer(@Nonnull Collection<File> importedAnalyses) {
+        this.importedAnalyses = newArrayList(importedAnalyses);
+    }
+
+    @Override
+    public void doAnalysis(@Nonnull AnalysisContext analysisContext, @Nonnull File file) {
+    }
+
+    @Override
+    public synchronized boolean revives(@Nonnull String clazz) {
+        if (this.importedUsages == null) {
+            this.importedUsages = readImportedUsages();
+        }
+        return this.importedUsages.contains(clazz);
+    }
+
+    @Override
+    public void finishAnalysis(@Nonnull AnalysisSink analysisSink, @Nonnull AnalyzedCode analyzedCode) {
+        for (File importedAnalysis : this.importedAnalyses) {
+            AnalysisSnapshot snapshot;
+            try {
+                snapshot = AnalysisSnapshot.read(importedAnalysis);
+            } catch (IOException e) {
+                logger.error("Failed to import analysis [{}]!", importedAnalysis, e);
+                analysisSink.addException(AnalysisStage.DEADCODE_ANALYSIS);
+                continue;
+            }
+            importUsages(analysisSink, analyzedCode.getAnalyzedClasses(), importedAnalysis, snapshot);
+        }
+    }
+
+    @Nonnull
+    private Set<String> readImportedUsages() {
+        Set<String> usedClasses = newHashSet();
+        for (File importedAnalysis : this.importedAnalyses) {
+            AnalysisSnapshot snapshot;
+            try {
+                snapshot = AnalysisSnapshot.read(importedAnalysis);
+            } catch (IOException e) {
+                logger.debug("Failed to read analysis [{}]; it will be reported at the end of the analysis.",
+                        importedAnalysis, e);
+                continue;
+            }
+            for (AnalyzedCode importedCode : snapshot.getAnalyzedCodeOfModules()) {
+                for (Set<String> dependees : importedCode.getCodeDependencies().values()) {
+                    usedClasses.addAll(dependees);
+                }
+            }
+        }
+        return usedClasses;
+    }
+
+    private void importUsages(@Nonnull AnalysisSink analysisSink,
+                              @Nonnull Set<String> analyzedClasses,
+                              @Nonnull File importedAnalysis,
+                              @Nonnull AnalysisSnapshot snapshot) {
+        int numberOfUsages = 0;
+        for (AnalyzedCode importedCode : snapshot.getAnalyzedCodeOfModules()) {
+            for (Map.Entry<String, Set<String>> dependencies : importedCode.getCodeDependencies().entrySet()) {
+                Set<String> usedClasses = intersection(dependencies.getValue(), analyzedClasses);
+                if (usedClasses.isEmpty()) {
+                    continue;
+                }
+                analysisSink.addDependencies("_Imported_" + dependencies.getKey(), usedClasses);
+                numberOfUsages += usedClasses.size();
+            }
+        }
+        logger.info("Imported {} usage(s) of analyzed classes from [{}].", numberOfUsages, importedAnalysis);
+    }
+
+}
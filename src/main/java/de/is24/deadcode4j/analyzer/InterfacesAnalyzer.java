@@ -1,6 +1,7 @@
 package de.is24.deadcode4j.analyzer;
 
 import de.is24.deadcode4j.AnalysisContext;
+import de.is24.deadcode4j.CacheKey;
 import de.is24.deadcode4j.analyzer.javassist.ClassPathFilter;
 import de.is24.guava.NonNullFunction;
 import javassist.CtClass;
@@ -10,7 +11,7 @@ import java.util.Set;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.collect.Sets.newHashSet;
-import static de.is24.javassist.CtClasses.getAllImplementedInterfaces;
+import static de.is24.deadcode4j.analyzer.javassist.ClassPoolAccessor.classPoolAccessorFor;
 import static java.util.Collections.disjoint;
 
 /**
@@ -24,6 +25,8 @@ public abstract class InterfacesAnalyzer extends ByteCodeAnalyzer {
     @Nonnull
     private final String dependerId;
     private final NonNullFunction<AnalysisContext, Set<String>> supplyInterfacesFoundInClassPath;
+    private final CacheKey<Set<String>> interfacesFoundInClassPathKey =
+            CacheKey.forModule(getClass().getName() + "|interfacesFoundInClassPath");
 
     private InterfacesAnalyzer(@Nonnull String dependerId, @Nonnull Set<String> interfaceNames) {
         checkArgument(!interfaceNames.isEmpty(), "interfaceNames cannot by empty!");
@@ -66,14 +69,14 @@ public abstract class InterfacesAnalyzer extends ByteCodeAnalyzer {
 
         String clazzName = clazz.getName();
         analysisContext.addAnalyzedClass(clazzName);
-        if (!disjoint(knownInterfaces, getAllImplementedInterfaces(clazz))) {
+        if (!disjoint(knownInterfaces, classPoolAccessorFor(analysisContext).getAllImplementedInterfaces(clazz))) {
             analysisContext.addDependencies(this.dependerId, clazzName);
         }
     }
 
     @Nonnull
     protected final Set<String> getInterfacesFoundInClassPath(@Nonnull AnalysisContext analysisContext) {
-        return analysisContext.getOrCreateCacheEntry(getClass(), supplyInterfacesFoundInClassPath);
+        return analysisContext.getOrCreateCacheEntry(interfacesFoundInClassPathKey, supplyInterfacesFoundInClassPath);
     }
 
 }
@@ -1,8 +1,5 @@
 package de.is24.deadcode4j.analyzer;
 
-import com.github.javaparser.JavaParser;
-import com.github.javaparser.ParseException;
-import com.github.javaparser.TokenMgrError;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.ImportDeclaration;
 import com.github.javaparser.ast.Node;
@@ -10,23 +7,25 @@ import com.github.javaparser.ast.PackageDeclaration;
 import com.github.javaparser.ast.body.BodyDeclaration;
 import com.github.javaparser.ast.body.TypeDeclaration;
 import com.google.common.base.Optional;
-import com.google.common.cache.LoadingCache;
 import de.is24.deadcode4j.AnalysisContext;
+import de.is24.deadcode4j.CacheKey;
 import de.is24.deadcode4j.analyzer.javassist.ClassPoolAccessor;
+import de.is24.deadcode4j.javac.JavacDependencies;
 import de.is24.guava.NonNullFunction;
-import de.is24.guava.SequentialLoadingCache;
 import de.is24.javaparser.Nodes;
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import javassist.CtClass;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.io.*;
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static com.google.common.base.Optional.absent;
 import static com.google.common.base.Optional.of;
@@ -35,8 +34,8 @@ import static com.google.common.base.Predicates.not;
 import static com.google.common.collect.Iterables.getOnlyElement;
 import static com.google.common.collect.Lists.newArrayList;
 import static de.is24.deadcode4j.Utils.emptyIfNull;
+import static de.is24.deadcode4j.analyzer.AnalyzedFile.analyzedFileFor;
 import static de.is24.guava.NonNullFunctions.or;
-import static de.is24.guava.NonNullFunctions.toFunction;
 import static de.is24.javaparser.ImportDeclarations.isAsterisk;
 import static de.is24.javaparser.ImportDeclarations.refersTo;
 import static de.is24.javaparser.Nodes.getTypeName;
@@ -44,7 +43,6 @@ import static de.is24.javaparser.Nodes.prepend;
 import static de.is24.javassist.CtClasses.*;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
-import static org.apache.commons.io.IOUtils.closeQuietly;
 
 /**
  * Serves as a base class with which to analyze java files.
@@ -53,11 +51,8 @@ import static org.apache.commons.io.IOUtils.closeQuietly;
  */
 public abstract class JavaFileAnalyzer extends AnalyzerAdapter {
 
-    private static final String JAVA_PARSER_KEY = JavaFileAnalyzer.class.getName() + ":JavaParser";
-    private static final NonNullFunction<AnalysisContext, LoadingCache<File, Optional<CompilationUnit>>>
-            JAVA_PARSER_SUPPLIER = new JavaParserSupplier(true);
-
-    private static final String TYPE_RESOLVER_KEY = JavaFileAnalyzer.class.getName() + ":TypeResolver";
+    private static final CacheKey<NonNullFunction<Qualifier<?>, Optional<String>>> TYPE_RESOLVER_KEY =
+            CacheKey.forModule(JavaFileAnalyzer.class.getName() + ":TypeResolver");
     private static final NonNullFunction<AnalysisContext, NonNullFunction<Qualifier<?>, Optional<String>>>
             TYPE_RESOLVER_SUPPLIER =
             new NonNullFunction<AnalysisContext, NonNullFunction<Qualifier<?>, Optional<String>>>() {
@@ -84,9 +79,29 @@ public abstract class JavaFileAnalyzer extends AnalyzerAdapter {
                 }
             };
 
-    private static LoadingCache<File, Optional<CompilationUnit>> getJavaFileParser(AnalysisContext analysisContext) {
-        return analysisContext.getOrCreateCacheEntry(JAVA_PARSER_KEY, JAVA_PARSER_SUPPLIER);
-    }
+    private static final CacheKey<Optional<JavacDependencies>> JAVAC_DEPENDENCIES_KEY =
+            CacheKey.forModule(JavaFileAnalyzer.class.getName() + ":JavacDependencies");
+    private static final NonNullFunction<AnalysisContext, Optional<JavacDependencies>> JAVAC_DEPENDENCIES_SUPPLIER =
+            new NonNullFunction<AnalysisContext, Optional<JavacDependencies>>() {
+                private final Logger logger = LoggerFactory.getLogger(getClass());
+
+                @Nonnull
+                @Override
+                public Optional<JavacDependencies> apply(@Nonnull AnalysisContext analysisContext) {
+                    File file = JavacDependencies.getFileFor(analysisContext.getModule());
+                    if (file == null || !file.isFile()) {
+                        return absent();
+                    }
+                    try {
+                        JavacDependencies javacDependencies = JavacDependencies.read(file);
+                        logger.debug("Read dependencies recorded by javac from [{}].", file);
+                        return of(javacDependencies);
+                    } catch (IOException e) {
+                        logger.warn("Failed to read dependencies recorded by javac from [{}]; parsing java files instead.", file, e);
+                        return absent();
+                    }
+                }
+            };
 
     private static NonNullFunction<Qualifier<?>, Optional<String>> getTypeResolver(AnalysisContext analysisContext) {
         return analysisContext.getOrCreateCacheEntry(TYPE_RESOLVER_KEY, TYPE_RESOLVER_SUPPLIER);
@@ -116,7 +131,10 @@ public abstract class JavaFileAnalyzer extends AnalyzerAdapter {
     @Override
     public final void doAnalysis(@Nonnull AnalysisContext analysisContext, @Nonnull File file) {
         if (file.getName().endsWith(".java")) {
-            Optional<CompilationUnit> compilationUnit = getJavaFileParser(analysisContext).getUnchecked(file);
+            if (reportRecordedDependencies(analysisContext, file)) {
+                return;
+            }
+            Optional<CompilationUnit> compilationUnit = analyzedFileFor(analysisContext, file).getCompilationUnit();
             if (compilationUnit.isPresent()) {
                 logger.debug("Analyzing Java file [{}]...", file);
                 analyzeCompilationUnit(analysisContext, compilationUnit.get());
@@ -124,6 +142,42 @@ public abstract class JavaFileAnalyzer extends AnalyzerAdapter {
         }
     }
 
+    /**
+     * Returns the kind of dependencies recorded by the <code>de.is24.deadcode4j.javac.DependencyRecordingPlugin</code>
+     * matching the analysis of this analyzer. If the dependencies of a java file were recorded, they are reported
+     * instead of parsing and analyzing the file.<br/>
+     * Returns <code>null</code> by default, i.e. java files are always parsed.
+     *
+     * @since 2.2.0
+     */
+    @Nullable
+    protected JavacDependencies.Kind getRecordedDependencyKind() {
+        return null;
+    }
+
+    private boolean reportRecordedDependencies(@Nonnull AnalysisContext analysisContext, @Nonnull File file) {
+        JavacDependencies.Kind kind = getRecordedDependencyKind();
+        if (kind == null) {
+            return false;
+        }
+        Optional<JavacDependencies> javacDependencies =
+                analysisContext.getOrCreateCacheEntry(JAVAC_DEPENDENCIES_KEY, JAVAC_DEPENDENCIES_SUPPLIER);
+        if (!javacDependencies.isPresent() || !javacDependencies.get().covers(file)) {
+            return false;
+        }
+        File recordingFile = JavacDependencies.getFileFor(analysisContext.getModule());
+        if (recordingFile == null || file.lastModified() > recordingFile.lastModified()) {
+            logger.debug("Java file [{}] was modified after compilation; parsing it.", file);
+            return false;
+        }
+        for (Map.Entry<String, Set<String>> dependencies :
+                javacDependencies.get().getDependencies(file, kind).entrySet()) {
+            analysisContext.addDependencies(dependencies.getKey(), dependencies.getValue());
+        }
+        logger.debug("Reported dependencies recorded by javac for [{}].", file);
+        return true;
+    }
+
     /**
      * Perform an analysis for the specified java file.
      * Results must be reported via the capabilities of the {@link AnalysisContext}.
@@ -546,50 +600,4 @@ public abstract class JavaFileAnalyzer extends AnalyzerAdapter {
 
     }
 
-    private static class JavaParserSupplier implements NonNullFunction<AnalysisContext, LoadingCache<File, Optional<CompilationUnit>>> {
-
-        private final Logger logger = LoggerFactory.getLogger(getClass());
-        private final boolean ignoreParsingErrors;
-
-        JavaParserSupplier(boolean ignoreParsingErrors) {
-            this.ignoreParsingErrors = ignoreParsingErrors;
-        }
-
-        @Nonnull
-        @Override
-        @SuppressWarnings("PMD.AvoidCatchingThrowable") // unfortunately, JavaParser throws an Error when parsing fails
-        public LoadingCache<File, Optional<CompilationUnit>> apply(@Nonnull final AnalysisContext analysisContext) {
-            return SequentialLoadingCache.createSingleValueCache(toFunction(new NonNullFunction<File, Optional<CompilationUnit>>() {
-                @Nonnull
-                @Override
-                @SuppressFBWarnings(value = "DM_DEFAULT_ENCODING", justification = "The MavenProject does not provide the proper encoding")
-                public Optional<CompilationUnit> apply(@Nonnull File file) {
-                    Reader reader = null;
-                    try {
-                        reader = analysisContext.getModule().getEncoding() != null
-                                ? new InputStreamReader(new FileInputStream(file),
-                                analysisContext.getModule().getEncoding())
-                                : new FileReader(file);
-                        return of(JavaParser.parse(reader, false));
-                    } catch (Throwable t) {
-                        return handleThrowable(file, t);
-                    } finally {
-                        closeQuietly(reader);
-                    }
-                }
-            }));
-        }
-        private Optional<CompilationUnit> handleThrowable(File file, Throwable t) {
-            String message = "Failed to parse [" + file + "]!";
-            if ((TokenMgrError.class.isInstance(t) || ParseException.class.isInstance(t))
-                    && ignoreParsingErrors) {
-                logger.debug(message, t);
-                return absent();
-            }
-            if (Error.class.isInstance(t) && !TokenMgrError.class.isInstance(t)) {
-                throw Error.class.cast(t);
-            }
-            throw new RuntimeException(message, t);
-        }
-    }
 }
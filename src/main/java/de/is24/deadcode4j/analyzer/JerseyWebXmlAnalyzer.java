@@ -4,10 +4,11 @@ package de.is24.deadcode4j.analyzer;
 import de.is24.deadcode4j.AnalysisContext;
 import de.is24.deadcode4j.analyzer.webxml.BaseWebXmlAnalyzer;
 import de.is24.deadcode4j.analyzer.webxml.Param;
-import de.is24.deadcode4j.analyzer.webxml.WebXmlHandler;
+import de.is24.deadcode4j.analyzer.webxml.WebXmlDescriptor;
 
 import javax.annotation.Nonnull;
-import java.util.List;
+
+import static com.google.common.collect.Iterables.concat;
 
 /**
  * Analyzes web.xml files: looks for servlet parameters that define the JAX-RS applications.
@@ -21,29 +22,15 @@ import java.util.List;
  * @since 2.1.0
  */
 public class JerseyWebXmlAnalyzer extends BaseWebXmlAnalyzer {
-    @Nonnull
-    @Override
-    protected WebXmlHandler createWebXmlHandlerFor(@Nonnull final AnalysisContext analysisContext) {
-        return new WebXmlHandler() {
-            @Override
-            public void filter(String className, List<Param> initParams) {
-                //We don't check the filter class because there are several classes of this kind.
-                scanParams(initParams);
-            }
-
-            @Override
-            public void servlet(String className, List<Param> initParams) {
-                //We don't check the servlet class because there are several classes of this kind.
-                scanParams(initParams);
-            }
 
-            private void scanParams(List<Param> initParams) {
-                for (Param initParam: initParams) {
-                    if (initParam.getName().equals("javax.ws.rs.Application")) {
-                        analysisContext.addDependencies("_Jersey_", initParam.getValue());
-                    }
-                }
-            }
-        };
+    @Override
+    protected void analyzeWebXml(@Nonnull AnalysisContext analysisContext, @Nonnull WebXmlDescriptor webXml) {
+        //We don't check the servlet or filter class because there are several classes of this kind.
+        for (Param initParam : concat(
+                webXml.getFilterInitParamsNamed("javax.ws.rs.Application"),
+                webXml.getServletInitParamsNamed("javax.ws.rs.Application"))) {
+            analysisContext.addDependencies("_Jersey_", initParam.getValue());
+        }
     }
+
 }
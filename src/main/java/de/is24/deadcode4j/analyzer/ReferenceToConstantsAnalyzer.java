@@ -12,6 +12,7 @@ import com.google.common.base.Optional;
 import com.google.common.base.Predicate;
 import com.google.common.collect.Sets;
 import de.is24.deadcode4j.AnalysisContext;
+import de.is24.deadcode4j.javac.JavacDependencies;
 import de.is24.deadcode4j.analyzer.javassist.ClassPoolAccessor;
 import javassist.CtClass;
 import javassist.CtField;
@@ -125,6 +126,12 @@ public class ReferenceToConstantsAnalyzer extends JavaFileAnalyzer {
         return Modifier.isStatic(ctField.getModifiers()) && Modifier.isFinal(ctField.getModifiers());
     }
 
+    @Nullable
+    @Override
+    protected JavacDependencies.Kind getRecordedDependencyKind() {
+        return JavacDependencies.Kind.CONSTANT;
+    }
+
     @Override
     protected void analyzeCompilationUnit(@Nonnull final AnalysisContext analysisContext,
                                           @Nonnull final CompilationUnit compilationUnit) {
@@ -3,10 +3,11 @@ package de.is24.deadcode4j.analyzer;
 import com.google.common.collect.Maps;
 import de.is24.deadcode4j.AnalysisContext;
 import de.is24.deadcode4j.Analyzer;
+import de.is24.deadcode4j.CacheKey;
 import de.is24.deadcode4j.IntermediateResult;
-import de.is24.deadcode4j.Module;
-import org.xml.sax.Attributes;
-import org.xml.sax.helpers.DefaultHandler;
+import de.is24.deadcode4j.analyzer.webxml.BaseWebXmlAnalyzer;
+import de.is24.deadcode4j.analyzer.webxml.WebXmlDescriptor;
+import de.is24.guava.NonNullFunction;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -24,25 +25,27 @@ import static com.google.common.collect.Iterables.isEmpty;
  * @since 1.5
  */
 public class ServletContainerInitializerAnalyzer extends AnalyzerAdapter {
-    private final String depender;
-    private final Analyzer classFinder;
-    private final Analyzer webXmlAnalyzer = new XmlAnalyzer("web.xml") {
-        @Nonnull
-        @Override
-        protected DefaultHandler createHandlerFor(@Nonnull final AnalysisContext analysisContext) {
-            return new DefaultHandler() {
+    @Nonnull
+    private static final NonNullFunction<AnalysisContext, ServletContainerInitializerAnalysisContext> SUPPLY_CONTEXT =
+            new NonNullFunction<AnalysisContext, ServletContainerInitializerAnalysisContext>() {
+                @Nonnull
                 @Override
-                public void startElement(String uri, String localName, String qName, Attributes attributes)
-                        throws StopParsing {
-                    if ("web-app".equals(localName) && "true".equals(attributes.getValue("metadata-complete"))) {
-                        ((ServletContainerInitializerAnalysisContext) analysisContext).setMetadataComplete();
-                    }
-                    throw new StopParsing();
+                public ServletContainerInitializerAnalysisContext apply(@Nonnull AnalysisContext input) {
+                    return new ServletContainerInitializerAnalysisContext(input);
                 }
             };
+    private final String depender;
+    @Nonnull
+    private final CacheKey<ServletContainerInitializerAnalysisContext> contextKey;
+    private final Analyzer classFinder;
+    private final Analyzer webXmlAnalyzer = new BaseWebXmlAnalyzer() {
+        @Override
+        protected void analyzeWebXml(@Nonnull AnalysisContext analysisContext, @Nonnull WebXmlDescriptor webXml) {
+            if (webXml.isMetadataComplete()) {
+                ((ServletContainerInitializerAnalysisContext) analysisContext).setMetadataComplete();
+            }
         }
     };
-    private ServletContainerInitializerAnalysisContext context;
 
     /**
      * Creates a new instance of <code>ServletContainerInitializerAnalyzer</code>.
@@ -54,6 +57,7 @@ public class ServletContainerInitializerAnalyzer extends AnalyzerAdapter {
      */
     protected ServletContainerInitializerAnalyzer(String dependerId, String fqcnOfInitializerInterface) {
         this.depender = dependerId;
+        this.contextKey = CacheKey.forModule(getClass().getName() + "|" + dependerId);
         this.classFinder = new InterfacesAnalyzer("ServletContainerInitializer-implementation", fqcnOfInitializerInterface) {
         };
     }
@@ -64,18 +68,15 @@ public class ServletContainerInitializerAnalyzer extends AnalyzerAdapter {
 
     @Override
     public void doAnalysis(@Nonnull AnalysisContext analysisContext, @Nonnull File fileName) {
-        if (this.context == null) {
-            this.context = new ServletContainerInitializerAnalysisContext(analysisContext.getModule());
-            this.context.setOriginalContext(analysisContext);
-        }
-        this.webXmlAnalyzer.doAnalysis(this.context, fileName);
-        this.classFinder.doAnalysis(this.context, fileName);
+        ServletContainerInitializerAnalysisContext context =
+                analysisContext.getOrCreateCacheEntry(this.contextKey, SUPPLY_CONTEXT);
+        this.webXmlAnalyzer.doAnalysis(context, fileName);
+        this.classFinder.doAnalysis(context, fileName);
     }
 
     @Override
     public void finishAnalysis(@Nonnull AnalysisContext analysisContext) {
-        ServletContainerInitializerAnalysisContext localContext = this.context;
-        this.context = null;
+        ServletContainerInitializerAnalysisContext localContext = analysisContext.removeCacheEntry(this.contextKey);
         if (localContext == null) {
             return;
         }
@@ -92,17 +93,18 @@ public class ServletContainerInitializerAnalyzer extends AnalyzerAdapter {
 
     private static class ServletContainerInitializerAnalysisContext extends AnalysisContext {
 
-        private AnalysisContext originalContext;
+        private final AnalysisContext originalContext;
         private boolean metadataComplete = false;
 
-        ServletContainerInitializerAnalysisContext(Module module) {
-            super(module, Maps.<Object, IntermediateResult>newHashMap());
+        ServletContainerInitializerAnalysisContext(AnalysisContext originalContext) {
+            super(originalContext.getModule(), Maps.<Object, IntermediateResult>newHashMap());
+            this.originalContext = originalContext;
         }
 
         @Nonnull
         @Override
-        public Map<Object, Object> getCache() {
-            return this.originalContext.getCache();
+        public Map<Object, Object> getCache(@Nonnull CacheKey.Scope scope) {
+            return this.originalContext.getCache(scope);
         }
 
         @Nullable
@@ -124,10 +126,6 @@ public class ServletContainerInitializerAnalyzer extends AnalyzerAdapter {
             return metadataComplete;
         }
 
-        public void setOriginalContext(AnalysisContext analysisContext) {
-            this.originalContext = analysisContext;
-        }
-
     }
 
 }
@@ -1,21 +1,19 @@
 package de.is24.deadcode4j.analyzer;
 
-import com.google.common.base.Optional;
 import de.is24.deadcode4j.AnalysisContext;
 import org.xml.sax.Attributes;
 import org.xml.sax.helpers.DefaultHandler;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
+import static com.google.common.collect.Lists.newArrayListWithCapacity;
 import static com.google.common.collect.Maps.newHashMap;
-import static com.google.common.collect.Sets.newHashSet;
 import static de.is24.deadcode4j.Utils.isNotBlank;
 
 /**
@@ -27,7 +25,7 @@ import static de.is24.deadcode4j.Utils.isNotBlank;
 public abstract class SimpleXmlAnalyzer extends XmlAnalyzer {
     protected final String dependerId;
     private final String rootElement;
-    private final Set<Element> registeredElements = newHashSet();
+    private final Map<String, List<Element>> registeredElements = newHashMap();
 
     /**
      * The constructor for a <code>SimpleXmlAnalyzer</code>.
@@ -73,7 +71,7 @@ public abstract class SimpleXmlAnalyzer extends XmlAnalyzer {
     protected Element registerClassElement(@Nonnull String elementName) {
         Element element = new Element(elementName);
         element.reportTextAsClass();
-        this.registeredElements.add(element);
+        register(element);
         return element;
     }
 
@@ -88,10 +86,19 @@ public abstract class SimpleXmlAnalyzer extends XmlAnalyzer {
     protected Element registerClassAttribute(@Nonnull String elementName, @Nonnull String attributeName) {
         Element element = new Element(elementName);
         element.setAttributeToReportAsClass(attributeName);
-        this.registeredElements.add(element);
+        register(element);
         return element;
     }
 
+    private void register(@Nonnull Element element) {
+        List<Element> elements = this.registeredElements.get(element.name);
+        if (elements == null) {
+            elements = newArrayListWithCapacity(1);
+            this.registeredElements.put(element.name, elements);
+        }
+        elements.add(element);
+    }
+
     /**
      * Represents an XML element that is to be examined.
      *
@@ -140,10 +147,7 @@ public abstract class SimpleXmlAnalyzer extends XmlAnalyzer {
             this.attributeToReportAsClass = attributeName;
         }
 
-        boolean matches(String localName, Attributes attributes) {
-            if (!name.equals(localName)) {
-                return false;
-            }
+        boolean matches(Attributes attributes) {
             for (Map.Entry<String, String> entry : this.requiredAttributeValues.entrySet()) {
                 String expectedValue = entry.getValue();
                 String currentValue = attributes.getValue(entry.getKey());
@@ -163,7 +167,10 @@ public abstract class SimpleXmlAnalyzer extends XmlAnalyzer {
     private class XmlHandler extends DefaultHandler {
         private final AnalysisContext analysisContext;
         private boolean firstElement = true;
-        private final Deque<Optional<StringBuilder>> textBuffers = new ArrayDeque<Optional<StringBuilder>>();
+        // both arrays are indexed by the nesting level of an element & reused for all elements on that level
+        private boolean[] recordText = new boolean[16];
+        private StringBuilder[] textBuffers = new StringBuilder[16];
+        private int depth = 0;
 
         public XmlHandler(AnalysisContext analysisContext) {
             this.analysisContext = analysisContext;
@@ -177,8 +184,13 @@ public abstract class SimpleXmlAnalyzer extends XmlAnalyzer {
                 firstElement = false;
             }
             boolean recordText = false;
-            for (Element registeredElement : registeredElements) {
-                if (registeredElement.matches(localName, attributes)) {
+            List<Element> candidates = registeredElements.get(localName);
+            if (candidates != null) {
+                for (int i = 0, size = candidates.size(); i < size; i++) {
+                    Element registeredElement = candidates.get(i);
+                    if (!registeredElement.matches(attributes)) {
+                        continue;
+                    }
                     if (registeredElement.shouldReportTextAsClass()) {
                         recordText = true;
                     }
@@ -191,29 +203,45 @@ public abstract class SimpleXmlAnalyzer extends XmlAnalyzer {
                     }
                 }
             }
-            textBuffers.addLast(recordText ? Optional.of(new StringBuilder()) : Optional.<StringBuilder>absent());
+            pushElement(recordText);
         }
 
         @Override
         public void characters(char[] ch, int start, int length) {
-            Optional<StringBuilder> buffer = textBuffers.getLast();
-            if (buffer.isPresent()) {
-                buffer.get().append(new String(ch, start, length).trim());
+            if (depth > 0 && recordText[depth - 1]) {
+                appendTrimmed(textBuffers[depth - 1], ch, start, length);
             }
         }
 
         @Override
         public void endElement(String uri, String localName, String qName) {
-            Optional<StringBuilder> optionalBuffer = textBuffers.removeLast();
-            if (!optionalBuffer.isPresent()) {
+            depth--;
+            if (!recordText[depth]) {
                 return;
             }
-            StringBuilder buffer = optionalBuffer.get();
+            StringBuilder buffer = textBuffers[depth];
             if (buffer.length() > 0) {
                 analysisContext.addDependencies(dependerId, buffer.toString());
             }
         }
 
+        private void pushElement(boolean recordTextOfElement) {
+            if (depth == recordText.length) {
+                recordText = Arrays.copyOf(recordText, depth * 2);
+                textBuffers = Arrays.copyOf(textBuffers, depth * 2);
+            }
+            recordText[depth] = recordTextOfElement;
+            if (recordTextOfElement) {
+                StringBuilder buffer = textBuffers[depth];
+                if (buffer == null) {
+                    textBuffers[depth] = new StringBuilder(128);
+                } else {
+                    buffer.setLength(0);
+                }
+            }
+            depth++;
+        }
+
     }
 
 }
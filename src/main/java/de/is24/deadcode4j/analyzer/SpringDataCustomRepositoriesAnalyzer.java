@@ -1,6 +1,8 @@
 package de.is24.deadcode4j.analyzer;
 
 import de.is24.deadcode4j.AnalysisContext;
+import de.is24.deadcode4j.CacheKey;
+import de.is24.guava.NonNullFunction;
 import javassist.CtClass;
 import javassist.Modifier;
 
@@ -10,7 +12,7 @@ import java.util.Set;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static de.is24.deadcode4j.IntermediateResults.*;
-import static de.is24.javassist.CtClasses.getAllImplementedInterfaces;
+import static de.is24.deadcode4j.analyzer.javassist.ClassPoolAccessor.classPoolAccessorFor;
 
 /**
  * Analyzes class files: marks custom implementations of Spring Data repositories as being in use.<br/>
@@ -21,7 +23,18 @@ import static de.is24.javassist.CtClasses.getAllImplementedInterfaces;
  */
 public class SpringDataCustomRepositoriesAnalyzer extends ByteCodeAnalyzer {
 
-    private final List<String> customRepositoryNames = newArrayList();
+    @Nonnull
+    private static final NonNullFunction<AnalysisContext, List<String>> SUPPLY_CUSTOM_REPOSITORY_NAMES =
+            new NonNullFunction<AnalysisContext, List<String>>() {
+                @Nonnull
+                @Override
+                public List<String> apply(@Nonnull AnalysisContext input) {
+                    return newArrayList();
+                }
+            };
+    @Nonnull
+    private final CacheKey<List<String>> customRepositoryNamesKey =
+            CacheKey.forModule(getClass().getName() + "|customRepositoryNames");
 
     @Override
     protected void analyzeClass(@Nonnull AnalysisContext analysisContext, @Nonnull CtClass clazz) {
@@ -35,12 +48,18 @@ public class SpringDataCustomRepositoriesAnalyzer extends ByteCodeAnalyzer {
 
     @Override
     public void finishAnalysis(@Nonnull AnalysisContext analysisContext) {
-        analysisContext.getCache().put(getClass(), resultSetFor(this.customRepositoryNames));
-        this.customRepositoryNames.clear();
+        List<String> customRepositoryNames = getCustomRepositoryNames(analysisContext);
+        analysisContext.removeCacheEntry(this.customRepositoryNamesKey);
+        analysisContext.publishIntermediateResult(getClass(), resultSetFor(customRepositoryNames));
+    }
+
+    @Nonnull
+    private List<String> getCustomRepositoryNames(@Nonnull AnalysisContext analysisContext) {
+        return analysisContext.getOrCreateCacheEntry(this.customRepositoryNamesKey, SUPPLY_CUSTOM_REPOSITORY_NAMES);
     }
 
     private void analyzeInterface(@Nonnull AnalysisContext analysisContext, @Nonnull CtClass clazz) {
-        Set<String> implementedInterfaces = getAllImplementedInterfaces(clazz);
+        Set<String> implementedInterfaces = classPoolAccessorFor(analysisContext).getAllImplementedInterfaces(clazz);
         if (!implementedInterfaces.contains("org.springframework.data.repository.Repository")) {
             return;
         }
@@ -50,7 +69,7 @@ public class SpringDataCustomRepositoriesAnalyzer extends ByteCodeAnalyzer {
             return;
         }
 
-        this.customRepositoryNames.add(nameOfCustomRepositoryInterface);
+        getCustomRepositoryNames(analysisContext).add(nameOfCustomRepositoryInterface);
         reportImplementationOfNewCustomRepository(analysisContext, clazz);
     }
 
@@ -63,7 +82,7 @@ public class SpringDataCustomRepositoriesAnalyzer extends ByteCodeAnalyzer {
             return;
         }
 
-        Set<String> implementedInterfaces = getAllImplementedInterfaces(customImpl);
+        Set<String> implementedInterfaces = classPoolAccessorFor(analysisContext).getAllImplementedInterfaces(customImpl);
         if (implementedInterfaces.contains(clazzName + "Custom")) {
             analysisContext.addDependencies(clazzName, nameOfCustomRepositoryImplementation);
         }
@@ -86,7 +105,7 @@ public class SpringDataCustomRepositoriesAnalyzer extends ByteCodeAnalyzer {
         }
 
         Set<String> existingCustomRepositories = intermediateResults.getResults();
-        Set<String> implementedInterfaces = getAllImplementedInterfaces(clazz);
+        Set<String> implementedInterfaces = classPoolAccessorFor(analysisContext).getAllImplementedInterfaces(clazz);
         implementedInterfaces.retainAll(existingCustomRepositories);
         for (String customRepositoryName : implementedInterfaces) {
             analysisContext.addDependencies(
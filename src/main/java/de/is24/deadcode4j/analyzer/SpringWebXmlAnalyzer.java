@@ -4,11 +4,11 @@ import com.google.common.base.Optional;
 import de.is24.deadcode4j.AnalysisContext;
 import de.is24.deadcode4j.analyzer.webxml.BaseWebXmlAnalyzer;
 import de.is24.deadcode4j.analyzer.webxml.Param;
-import de.is24.deadcode4j.analyzer.webxml.WebXmlHandler;
+import de.is24.deadcode4j.analyzer.webxml.WebXmlDescriptor;
 
 import javax.annotation.Nonnull;
-import java.util.List;
 
+import static com.google.common.collect.Iterables.concat;
 import static de.is24.deadcode4j.analyzer.javassist.ClassPoolAccessor.classPoolAccessorFor;
 
 
@@ -24,45 +24,35 @@ import static de.is24.deadcode4j.analyzer.javassist.ClassPoolAccessor.classPoolA
 public final class SpringWebXmlAnalyzer extends BaseWebXmlAnalyzer {
 
     @Nonnull
-    @Override
-    protected WebXmlHandler createWebXmlHandlerFor(@Nonnull final AnalysisContext analysisContext) {
-        return new WebXmlHandler() {
-            @Override
-            public void contextParam(Param param) {
-                param(param);
-            }
+    private static Iterable<Param> contextOrServletParamsNamed(@Nonnull WebXmlDescriptor webXml, @Nonnull String name) {
+        return concat(webXml.getContextParamsNamed(name), webXml.getServletInitParamsNamed(name));
+    }
 
-            @Override
-            public void servlet(String className, List<Param> initParams) {
-                for (Param initParam : initParams) {
-                    param(initParam);
+    @Override
+    protected void analyzeWebXml(@Nonnull AnalysisContext analysisContext, @Nonnull WebXmlDescriptor webXml) {
+        for (Param param : contextOrServletParamsNamed(webXml, "contextClass")) {
+            analysisContext.addDependencies("_Spring-Context_", param.getValue());
+        }
+        for (Param param : contextOrServletParamsNamed(webXml, "contextInitializerClasses")) {
+            for (String initializerClass : param.getValue().split(",")) {
+                initializerClass = initializerClass.trim();
+                if (!initializerClass.isEmpty()) {
+                    analysisContext.addDependencies("_Spring-ContextInitializer_", initializerClass);
                 }
             }
-
-            private void param(Param param) {
-                if ("contextClass".equals(param.getName())) {
-                    analysisContext.addDependencies("_Spring-Context_", param.getValue());
-                } else if ("contextInitializerClasses".equals(param.getName())) {
-                    for (String initializerClass : param.getValue().split(",")) {
-                        initializerClass = initializerClass.trim();
-                        if (!initializerClass.isEmpty()) {
-                            analysisContext.addDependencies("_Spring-ContextInitializer_", initializerClass);
-                        }
-                    }
-                } else if ("contextConfigLocation".equals(param.getName())) {
-                    for (String configLocation : param.getValue().split(",")) {
-                        configLocation = configLocation.trim();
-                        if (configLocation.isEmpty()) {
-                            continue;
-                        }
-                        Optional<String> referencedClass =
-                                classPoolAccessorFor(analysisContext).resolveClass(configLocation);
-                        if (referencedClass.isPresent()) {
-                            analysisContext.addDependencies("_Spring-ContextInitializer_", referencedClass.get());
-                        }
-                    }
+        }
+        for (Param param : contextOrServletParamsNamed(webXml, "contextConfigLocation")) {
+            for (String configLocation : param.getValue().split(",")) {
+                configLocation = configLocation.trim();
+                if (configLocation.isEmpty()) {
+                    continue;
+                }
+                Optional<String> referencedClass = classPoolAccessorFor(analysisContext).resolveClass(configLocation);
+                if (referencedClass.isPresent()) {
+                    analysisContext.addDependencies("_Spring-ContextInitializer_", referencedClass.get());
                 }
             }
-        };
+        }
     }
+
 }
@@ -2,19 +2,17 @@ package de.is24.deadcode4j.analyzer;
 
 import com.google.common.collect.Sets;
 import de.is24.deadcode4j.AnalysisContext;
+import de.is24.deadcode4j.CacheKey;
 import de.is24.deadcode4j.analyzer.javassist.ClassPathFilter;
 import de.is24.guava.NonNullFunction;
 import javassist.CtClass;
 
 import javax.annotation.Nonnull;
 import java.util.Collections;
-import java.util.List;
 import java.util.Set;
 
 import static com.google.common.base.Preconditions.checkArgument;
-import static com.google.common.collect.Lists.newArrayList;
-import static de.is24.javassist.CtClasses.getSuperclassOf;
-import static de.is24.javassist.CtClasses.isJavaLangObject;
+import static de.is24.deadcode4j.analyzer.javassist.ClassPoolAccessor.classPoolAccessorFor;
 
 /**
  * Serves as a base class with which to mark classes as being in use if they are a direct subclass of one of the
@@ -26,6 +24,8 @@ public abstract class SuperClassAnalyzer extends ByteCodeAnalyzer {
 
     private final String dependerId;
     private final NonNullFunction<AnalysisContext, Set<String>> supplySuperClassesFoundInClassPath;
+    private final CacheKey<Set<String>> superClassesFoundInClassPathKey =
+            CacheKey.forModule(getClass().getName() + "|superClassesFoundInClassPath");
 
     private SuperClassAnalyzer(@Nonnull String dependerId, @Nonnull Set<String> classNames) {
         checkArgument(!classNames.isEmpty(), "classNames cannot by empty!");
@@ -67,25 +67,14 @@ public abstract class SuperClassAnalyzer extends ByteCodeAnalyzer {
         String clazzName = clazz.getName();
         analysisContext.addAnalyzedClass(clazzName);
 
-        if (!Collections.disjoint(knownSuperClasses, getClassHierarchy(clazz))) {
+        if (!Collections.disjoint(knownSuperClasses, classPoolAccessorFor(analysisContext).getSuperclassesOf(clazz))) {
             analysisContext.addDependencies(this.dependerId, clazzName);
         }
     }
 
-    @Nonnull
-    private List<String> getClassHierarchy(@Nonnull final CtClass clazz) {
-        List<String> classes = newArrayList();
-        CtClass loopClass = clazz;
-        do {
-            classes.add(loopClass.getClassFile2().getSuperclass());
-            loopClass = getSuperclassOf(loopClass);
-        } while (loopClass != null && !isJavaLangObject(loopClass));
-        return classes;
-    }
-
     @Nonnull
     protected final Set<String> getSuperClassesFoundInClassPath(@Nonnull AnalysisContext analysisContext) {
-        return analysisContext.getOrCreateCacheEntry(getClass(), supplySuperClassesFoundInClassPath);
+        return analysisContext.getOrCreateCacheEntry(superClassesFoundInClassPathKey, supplySuperClassesFoundInClassPath);
     }
 
 }
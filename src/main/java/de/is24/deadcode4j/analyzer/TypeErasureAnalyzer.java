@@ -10,6 +10,7 @@ import com.github.javaparser.ast.type.*;
 import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
 import com.google.common.base.Optional;
 import de.is24.deadcode4j.AnalysisContext;
+import de.is24.deadcode4j.javac.JavacDependencies;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -43,6 +44,12 @@ public class TypeErasureAnalyzer extends JavaFileAnalyzer {
         return buffy.toString();
     }
 
+    @Nullable
+    @Override
+    protected JavacDependencies.Kind getRecordedDependencyKind() {
+        return JavacDependencies.Kind.TYPE_ARGUMENT;
+    }
+
     @Override
     protected void analyzeCompilationUnit(@Nonnull final AnalysisContext analysisContext, @Nonnull final CompilationUnit compilationUnit) {
         compilationUnit.accept(new TypeParameterRecordingVisitor<Void>() {
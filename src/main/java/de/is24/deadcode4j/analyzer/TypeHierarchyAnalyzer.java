@@ -0,0 +1,68 @@
+package de.is24.deadcode4j.analyzer;
+
+import de.is24.deadcode4j.AnalysisContext;
+import de.is24.deadcode4j.CacheKey;
+import de.is24.guava.NonNullFunction;
+import javassist.CtClass;
+import javassist.bytecode.ClassFile;
+
+import javax.annotation.Nonnull;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.collect.Sets.newHashSet;
+import static de.is24.deadcode4j.IntermediateResults.resultMapFor;
+import static de.is24.deadcode4j.analyzer.javassist.ClassPoolAccessor.INTERFACES_KEY;
+import static de.is24.deadcode4j.analyzer.javassist.ClassPoolAccessor.SUPERCLASSES_KEY;
+
+/**
+ * Records the direct superclass & interfaces of each analyzed class as {@link de.is24.deadcode4j.IntermediateResult}s.
+ * Those are stored along with the analysis results - e.g. in an attached analysis artifact - and allow the
+ * {@link de.is24.deadcode4j.analyzer.javassist.ClassPoolAccessor} of depending modules to examine the type hierarchy
+ * without loading the classes.
+ *
+ * @since 2.2.0
+ */
+public class TypeHierarchyAnalyzer extends ByteCodeAnalyzer {
+
+    private static final CacheKey<TypeHierarchy> TYPE_HIERARCHY_KEY =
+            CacheKey.forModule(TypeHierarchyAnalyzer.class.getName() + "|typeHierarchy");
+    @Nonnull
+    private static final NonNullFunction<AnalysisContext, TypeHierarchy> SUPPLY_TYPE_HIERARCHY =
+            new NonNullFunction<AnalysisContext, TypeHierarchy>() {
+                @Nonnull
+                @Override
+                public TypeHierarchy apply(@Nonnull AnalysisContext input) {
+                    return new TypeHierarchy();
+                }
+            };
+
+    @Override
+    protected void analyzeClass(@Nonnull AnalysisContext analysisContext, @Nonnull CtClass clazz) {
+        TypeHierarchy typeHierarchy = analysisContext.getOrCreateCacheEntry(TYPE_HIERARCHY_KEY, SUPPLY_TYPE_HIERARCHY);
+        ClassFile classFile = clazz.getClassFile2();
+        String superclass = classFile.getSuperclass();
+        if (superclass != null) {
+            typeHierarchy.superclasses.put(clazz.getName(), superclass);
+        }
+        typeHierarchy.interfaces.put(clazz.getName(), newHashSet(classFile.getInterfaces()));
+    }
+
+    @Override
+    public void finishAnalysis(@Nonnull AnalysisContext analysisContext) {
+        TypeHierarchy typeHierarchy = analysisContext.removeCacheEntry(TYPE_HIERARCHY_KEY);
+        if (typeHierarchy != null && !typeHierarchy.interfaces.isEmpty()) {
+            analysisContext.publishIntermediateResult(SUPERCLASSES_KEY, resultMapFor(typeHierarchy.superclasses));
+            analysisContext.publishIntermediateResult(INTERFACES_KEY, resultMapFor(typeHierarchy.interfaces));
+        }
+    }
+
+    private static final class TypeHierarchy {
+        @Nonnull
+        private final Map<String, String> superclasses = newHashMap();
+        @Nonnull
+        private final Map<String, Set<String>> interfaces = newHashMap();
+    }
+
+}
@@ -2,11 +2,9 @@ package de.is24.deadcode4j.analyzer;
 
 import de.is24.deadcode4j.AnalysisContext;
 import de.is24.deadcode4j.analyzer.webxml.BaseWebXmlAnalyzer;
-import de.is24.deadcode4j.analyzer.webxml.Param;
-import de.is24.deadcode4j.analyzer.webxml.WebXmlHandler;
+import de.is24.deadcode4j.analyzer.webxml.WebXmlDescriptor;
 
 import javax.annotation.Nonnull;
-import java.util.List;
 
 /**
  * Analyzes <code>web.xml</code> files: lists the listener, filter & servlet classes being referenced.
@@ -15,28 +13,21 @@ import java.util.List;
  */
 public final class WebXmlAnalyzer extends BaseWebXmlAnalyzer {
 
-    @Nonnull
     @Override
-    protected WebXmlHandler createWebXmlHandlerFor(@Nonnull final AnalysisContext analysisContext) {
-        return new WebXmlHandler() {
-            @Override
-            public void filter(String className, List<Param> initParams) {
-                addDependency(className);
-            }
-
-            @Override
-            public void listener(String className) {
-                addDependency(className);
-            }
-
-            @Override
-            public void servlet(String className, List<Param> initParams) {
-                addDependency(className);
-            }
+    protected void analyzeWebXml(@Nonnull AnalysisContext analysisContext, @Nonnull WebXmlDescriptor webXml) {
+        for (WebXmlDescriptor.Component filter : webXml.getFilters()) {
+            addDependency(analysisContext, filter.getClassName());
+        }
+        for (String listenerClass : webXml.getListenerClasses()) {
+            addDependency(analysisContext, listenerClass);
+        }
+        for (WebXmlDescriptor.Component servlet : webXml.getServlets()) {
+            addDependency(analysisContext, servlet.getClassName());
+        }
+    }
 
-            private void addDependency(String className) {
-                analysisContext.addDependencies("_web.xml_", className);
-            }
-        };
+    private void addDependency(@Nonnull AnalysisContext analysisContext, @Nonnull String className) {
+        analysisContext.addDependencies("_web.xml_", className);
     }
+
 }
@@ -1,19 +1,20 @@
 package de.is24.deadcode4j.analyzer;
 
 import de.is24.deadcode4j.AnalysisContext;
-import org.apache.commons.io.IOUtils;
+import de.is24.deadcode4j.CacheKey;
+import de.is24.guava.NonNullFunction;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
 
 import javax.annotation.Nonnull;
 import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
+import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.InputStream;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static de.is24.deadcode4j.Utils.isNotBlank;
+import static de.is24.deadcode4j.analyzer.AnalyzedFile.analyzedFileFor;
 
 /**
  * Serves as a base class with which to analyze XML files.
@@ -21,7 +22,17 @@ import static de.is24.deadcode4j.Utils.isNotBlank;
  * @since 1.2.0
  */
 public abstract class XmlAnalyzer extends AnalyzerAdapter {
-    private final SAXParser parser;
+    private static final CacheKey<SAXParser> PARSER_KEY = CacheKey.forModule(SAXParser.class.getName());
+    @Nonnull
+    private final NonNullFunction<AnalysisContext, SAXParser> supplyParser =
+            new NonNullFunction<AnalysisContext, SAXParser>() {
+                @Nonnull
+                @Override
+                public SAXParser apply(@Nonnull AnalysisContext input) {
+                    return newParser();
+                }
+            };
+    private final SAXParserFactory parserFactory;
     private final String endOfFileName;
 
     /**
@@ -33,13 +44,13 @@ public abstract class XmlAnalyzer extends AnalyzerAdapter {
      */
     protected XmlAnalyzer(@Nonnull String endOfFileName) {
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
-            factory.setFeature("http://xml.org/sax/features/namespaces", true);
-            this.parser = factory.newSAXParser();
+            this.parserFactory = SAXParserFactory.newInstance();
+            this.parserFactory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+            this.parserFactory.setFeature("http://xml.org/sax/features/namespaces", true);
         } catch (Exception e) {
             throw new RuntimeException("Failed to set up XML parser!", e);
         }
+        newParser(); // fail fast
         checkArgument(isNotBlank(endOfFileName), "[endOfFileName] must be set!");
         this.endOfFileName = endOfFileName;
     }
@@ -65,21 +76,69 @@ public abstract class XmlAnalyzer extends AnalyzerAdapter {
     @Nonnull
     protected abstract DefaultHandler createHandlerFor(@Nonnull AnalysisContext analysisContext);
 
+    /**
+     * Parses the given XML file using the <code>DefaultHandler</code> provided by
+     * {@link #createHandlerFor(AnalysisContext)}. Subclasses may override this to reuse the results of an earlier
+     * parse of the same file.
+     *
+     * @since 2.2.0
+     */
+    protected void analyzeXmlFile(@Nonnull AnalysisContext analysisContext, @Nonnull File file) {
+        parse(analysisContext, file, createHandlerFor(analysisContext));
+    }
+
+    /**
+     * Parses the given XML file using the specified <code>DefaultHandler</code>. The file's content is read only once
+     * for all analyzers, but each handler parses it on its own, so it can stop parsing as soon as it is not interested
+     * in the file anymore. The parser is kept in the module's analysis context and shared by all
+     * <code>XmlAnalyzer</code>s.
+     *
+     * @since 2.2.0
+     */
     @SuppressWarnings("PMD.EmptyCatchBlock")
-    private void analyzeXmlFile(@Nonnull AnalysisContext analysisContext, @Nonnull File file) {
-        InputStream in = null;
+    protected final void parse(@Nonnull AnalysisContext analysisContext,
+                               @Nonnull File file,
+                               @Nonnull DefaultHandler handler) {
+        SAXParser parser = analysisContext.getOrCreateCacheEntry(PARSER_KEY, supplyParser);
+        byte[] content = analyzedFileFor(analysisContext, file).getContent();
         try {
-            in = new FileInputStream(file);
-            parser.parse(in, createHandlerFor(analysisContext));
+            parser.parse(new ByteArrayInputStream(content), handler);
         } catch (StopParsing command) {
             // just do nothing
         } catch (Exception e) {
             throw new RuntimeException("Failed to parse [" + file + "]!", e);
-        } finally {
-            IOUtils.closeQuietly(in);
         }
     }
 
+    @Nonnull
+    private SAXParser newParser() {
+        synchronized (parserFactory) {
+            try {
+                return parserFactory.newSAXParser();
+            } catch (Exception e) {
+                throw new RuntimeException("Failed to set up XML parser!", e);
+            }
+        }
+    }
+
+    /**
+     * Appends the characters reported by {@link DefaultHandler#characters(char[], int, int)} to the given buffer,
+     * trimming them the way {@link String#trim()} does - but without creating an intermediate <code>String</code>.
+     * This allows handlers to reuse their buffers for all elements of the file being processed.
+     *
+     * @since 2.2.0
+     */
+    protected static void appendTrimmed(@Nonnull StringBuilder buffer, @Nonnull char[] ch, int start, int length) {
+        int end = start + length;
+        while (start < end && ch[start] <= ' ') {
+            start++;
+        }
+        while (start < end && ch[end - 1] <= ' ') {
+            end--;
+        }
+        buffer.append(ch, start, end - start);
+    }
+
     /**
      * Used to indicate that XML parsing can be stopped.
      *
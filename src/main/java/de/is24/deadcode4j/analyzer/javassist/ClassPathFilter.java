@@ -2,7 +2,6 @@ package de.is24.deadcode4j.analyzer.javassist;
 
 import de.is24.deadcode4j.AnalysisContext;
 import de.is24.guava.NonNullFunction;
-import javassist.ClassPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -15,7 +14,7 @@ import static de.is24.deadcode4j.analyzer.javassist.ClassPoolAccessor.classPoolA
 /**
  * This function returns a set containing only those classes that exist within the class path of the specified context.
  * It is intended to be used in conjunction with
- * {@link de.is24.deadcode4j.AnalysisContext#getOrCreateCacheEntry(Object, de.is24.guava.NonNullFunction)}.
+ * {@link de.is24.deadcode4j.AnalysisContext#getOrCreateCacheEntry(de.is24.deadcode4j.CacheKey, de.is24.guava.NonNullFunction)}.
  *
  * @since 2.0.0
  */
@@ -37,10 +36,10 @@ public class ClassPathFilter implements NonNullFunction<AnalysisContext, Set<Str
     @Nonnull
     @Override
     public Set<String> apply(@Nonnull AnalysisContext input) {
-        ClassPool classPool = classPoolAccessorFor(input).getClassPool();
+        ClassPoolAccessor classPoolAccessor = classPoolAccessorFor(input);
         Set<String> knownClasses = newHashSet();
         for (String className : this.classes) {
-            if (classPool.find(className) != null) {
+            if (classPoolAccessor.isOnClassPath(className)) {
                 knownClasses.add(className);
             }
         }
@@ -3,29 +3,74 @@ package de.is24.deadcode4j.analyzer.javassist;
 import com.google.common.base.Function;
 import com.google.common.base.Optional;
 import com.google.common.cache.LoadingCache;
+import com.google.common.hash.HashCode;
 import de.is24.deadcode4j.AnalysisContext;
+import de.is24.deadcode4j.CacheKey;
+import de.is24.deadcode4j.Fingerprint;
+import de.is24.deadcode4j.IntermediateResults.IntermediateResultMap;
 import de.is24.deadcode4j.Repository;
+import de.is24.guava.ConcurrentLoadingCache;
 import de.is24.guava.NonNullFunction;
-import de.is24.guava.SequentialLoadingCache;
 import javassist.ClassPool;
+import javassist.CtClass;
 import javassist.NotFoundException;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.File;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static com.google.common.base.Optional.absent;
 import static com.google.common.base.Optional.of;
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.collect.Sets.newConcurrentHashSet;
 import static com.google.common.collect.Sets.newHashSet;
+import static de.is24.deadcode4j.IntermediateResults.resultMapFrom;
+import static de.is24.javassist.CtClasses.getCtClass;
+import static java.util.Arrays.asList;
 
 /**
  * The <code>ClassPoolAccessor</code> provides access to a Javassist {@link javassist.ClassPool} with fully configured
  * class path. It also provides some convenience methods to deal with loading & resolving classes.
+ * <p/>
+ * The type hierarchy of classes recorded by the {@link de.is24.deadcode4j.analyzer.TypeHierarchyAnalyzer} of a
+ * required module or an analysis artifact is examined without loading those classes.
  *
  * @since 2.0.0
  */
 public final class ClassPoolAccessor {
+    /**
+     * The key of the intermediate result mapping classes to their direct superclass.
+     *
+     * @since 2.2.0
+     */
+    public static final String SUPERCLASSES_KEY = ClassPoolAccessor.class.getName() + "|superclasses";
+    /**
+     * The key of the intermediate result mapping classes to the interfaces they directly implement.
+     *
+     * @since 2.2.0
+     */
+    public static final String INTERFACES_KEY = ClassPoolAccessor.class.getName() + "|interfaces";
+    @Nonnull
+    private static final CacheKey<ClassPoolAccessor> CLASS_POOL_ACCESSOR_KEY =
+            CacheKey.forModule(ClassPoolAccessor.class.getName());
+    @Nonnull
+    private static final CacheKey<Map<String, LibraryClassPool>> LIBRARY_CLASS_POOLS_KEY =
+            CacheKey.forProject(ClassPoolAccessor.class.getName() + "|libraries");
+    @Nonnull
+    private static final NonNullFunction<AnalysisContext, Map<String, LibraryClassPool>> SUPPLY_LIBRARY_CLASS_POOLS =
+            new NonNullFunction<AnalysisContext, Map<String, LibraryClassPool>>() {
+                @Nonnull
+                @Override
+                public Map<String, LibraryClassPool> apply(@Nonnull AnalysisContext input) {
+                    return newHashMap();
+                }
+            };
     @Nonnull
     private static final NonNullFunction<AnalysisContext, ClassPoolAccessor> SUPPLIER = new NonNullFunction<AnalysisContext, ClassPoolAccessor>() {
         @Nonnull
@@ -35,13 +80,39 @@ public final class ClassPoolAccessor {
         }
     };
     @Nonnull
+    private final ClassPool libraryClassPool;
+    @Nonnull
     private final ClassPool classPool;
     @Nonnull
     private final LoadingCache<String, Optional<String>> classResolver;
+    @Nonnull
+    private final Map<String, String> knownSuperclasses;
+    @Nonnull
+    private final Map<String, Set<String>> knownInterfaces;
 
     public ClassPoolAccessor(@Nonnull AnalysisContext analysisContext) {
-        this.classPool = createClassPool(analysisContext);
+        List<File> directories = newArrayList();
+        List<File> libraries = newArrayList();
+        Repository outputRepository = analysisContext.getModule().getOutputRepository();
+        if (outputRepository != null) {
+            directories.add(outputRepository.getDirectory());
+        }
+        for (File file : analysisContext.getModule().getClassPath()) {
+            if (file.isDirectory()) {
+                directories.add(file);
+            } else {
+                libraries.add(file);
+            }
+        }
+        this.libraryClassPool = getLibraryClassPool(analysisContext, libraries);
+        this.classPool = createClassPool(this.libraryClassPool, directories);
         this.classResolver = createResolverCache();
+        IntermediateResultMap<String, String> superclasses = resultMapFrom(analysisContext, SUPERCLASSES_KEY);
+        this.knownSuperclasses = superclasses != null
+                ? superclasses.getResults() : Collections.<String, String>emptyMap();
+        IntermediateResultMap<String, Set<String>> interfaces = resultMapFrom(analysisContext, INTERFACES_KEY);
+        this.knownInterfaces = interfaces != null
+                ? interfaces.getResults() : Collections.<String, Set<String>>emptyMap();
     }
 
     /**
@@ -52,24 +123,48 @@ public final class ClassPoolAccessor {
      */
     @Nonnull
     public static ClassPoolAccessor classPoolAccessorFor(@Nonnull AnalysisContext analysisContext) {
-        return analysisContext.getOrCreateCacheEntry(ClassPoolAccessor.class, SUPPLIER);
+        return analysisContext.getOrCreateCacheEntry(CLASS_POOL_ACCESSOR_KEY, SUPPLIER);
+    }
+
+    /**
+     * Creates the class pool examining the given directories - the output repository & those of required modules -
+     * before the libraries (i.e. the JAR files of the class path) are examined by the given parent pool. The latter is
+     * kept in the {@link de.is24.deadcode4j.CacheKey.Scope#PROJECT project scope} and reused as long as the libraries
+     * are unchanged.
+     */
+    @Nonnull
+    private static ClassPool createClassPool(@Nonnull ClassPool libraryClassPool, @Nonnull List<File> directories) {
+        ClassPool classPool = new ClassPool(libraryClassPool);
+        classPool.childFirstLookup = true;
+        appendClassPath(classPool, directories);
+        return classPool;
     }
 
     @Nonnull
-    private static ClassPool createClassPool(AnalysisContext analysisContext) {
-        ClassPool classPool = new ClassPool(true);
+    private static ClassPool getLibraryClassPool(@Nonnull AnalysisContext analysisContext,
+                                                 @Nonnull List<File> libraries) {
+        Map<String, LibraryClassPool> libraryClassPools =
+                analysisContext.getOrCreateCacheEntry(LIBRARY_CLASS_POOLS_KEY, SUPPLY_LIBRARY_CLASS_POOLS);
+        String moduleId = analysisContext.getModule().getModuleId();
+        HashCode fingerprint = Fingerprint.ofFiles(libraries);
+        LibraryClassPool libraryClassPool = libraryClassPools.get(moduleId);
+        if (libraryClassPool == null || !libraryClassPool.fingerprint.equals(fingerprint)) {
+            ClassPool classPool = new ClassPool(true);
+            appendClassPath(classPool, libraries);
+            libraryClassPool = new LibraryClassPool(fingerprint, classPool);
+            libraryClassPools.put(moduleId, libraryClassPool);
+        }
+        return libraryClassPool.classPool;
+    }
+
+    private static void appendClassPath(@Nonnull ClassPool classPool, @Nonnull Iterable<File> classPath) {
         try {
-            Repository outputRepository = analysisContext.getModule().getOutputRepository();
-            if (outputRepository != null) {
-                classPool.appendClassPath(outputRepository.getDirectory().getAbsolutePath());
-            }
-            for (File file : analysisContext.getModule().getClassPath()) {
+            for (File file : classPath) {
                 classPool.appendClassPath(file.getAbsolutePath());
             }
         } catch (NotFoundException e) {
             throw new RuntimeException("Failed to set up ClassPool!", e);
         }
-        return classPool;
     }
 
     private static String prepareQualifier(CharSequence qualifier) {
@@ -107,11 +202,86 @@ public final class ClassPoolAccessor {
         return classResolver.getUnchecked(prepareQualifier(qualifier));
     }
 
+    /**
+     * Indicates if the specified class exists in the class path.
+     *
+     * @since 2.2.0
+     */
+    public boolean isOnClassPath(@Nonnull String className) {
+        return knownInterfaces.containsKey(className)
+                || classPool.find(className) != null || libraryClassPool.find(className) != null;
+    }
+
+    /**
+     * Retrieves the names of all superclasses of the given class in bottom-up order, up to and including
+     * <code>java.lang.Object</code> - or up to the first superclass that cannot be loaded.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public List<String> getSuperclassesOf(@Nonnull CtClass clazz) {
+        List<String> superclasses = newArrayList();
+        String superclass = clazz.getClassFile2().getSuperclass();
+        while (superclass != null) {
+            superclasses.add(superclass);
+            if ("java.lang.Object".equals(superclass)) {
+                break;
+            }
+            superclass = getSuperclassOf(superclass);
+        }
+        return superclasses;
+    }
+
+    /**
+     * Retrieves all interfaces a class implements - either directly, via superclass or via interface inheritance.
+     * Interfaces or superclasses that cannot be loaded are not examined any further.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public Set<String> getAllImplementedInterfaces(@Nonnull CtClass clazz) {
+        Set<String> interfaces = newHashSet();
+        addInterfaces(interfaces, asList(clazz.getClassFile2().getInterfaces()), clazz.getClassFile2().getSuperclass());
+        return interfaces;
+    }
+
+    private void addInterfaces(@Nonnull Set<String> interfaces,
+                               @Nonnull Collection<String> directInterfaces,
+                               @Nullable String superclass) {
+        for (String anInterface : directInterfaces) {
+            if (interfaces.add(anInterface)) {
+                addInterfaces(interfaces, getInterfacesOf(anInterface), null);
+            }
+        }
+        if (superclass != null && !"java.lang.Object".equals(superclass)) {
+            addInterfaces(interfaces, getInterfacesOf(superclass), getSuperclassOf(superclass));
+        }
+    }
+
+    @Nullable
+    private String getSuperclassOf(@Nonnull String className) {
+        if (knownInterfaces.containsKey(className)) {
+            return knownSuperclasses.get(className);
+        }
+        CtClass clazz = getCtClass(classPool, className);
+        return clazz == null ? null : clazz.getClassFile2().getSuperclass();
+    }
+
+    @Nonnull
+    private Collection<String> getInterfacesOf(@Nonnull String className) {
+        Set<String> interfaces = knownInterfaces.get(className);
+        if (interfaces != null) {
+            return interfaces;
+        }
+        CtClass clazz = getCtClass(classPool, className);
+        return clazz == null ? Collections.<String>emptyList() : asList(clazz.getClassFile2().getInterfaces());
+    }
+
     @Nonnull
     private LoadingCache<String, Optional<String>> createResolverCache() {
-        return new SequentialLoadingCache<String, String>(new Function<String, Optional<String>>() {
+        return new ConcurrentLoadingCache<String, String>(new Function<String, Optional<String>>() {
             @Nonnull
-            private final Set<String> knownPackages = newHashSet();
+            private final Set<String> knownPackages = newConcurrentHashSet();
 
             @Nullable
             @Override
@@ -154,4 +324,16 @@ public final class ClassPoolAccessor {
         });
     }
 
+    private static final class LibraryClassPool {
+        @Nonnull
+        private final HashCode fingerprint;
+        @Nonnull
+        private final ClassPool classPool;
+
+        LibraryClassPool(@Nonnull HashCode fingerprint, @Nonnull ClassPool classPool) {
+            this.fingerprint = fingerprint;
+            this.classPool = classPool;
+        }
+    }
+
 }
@@ -1,68 +1,144 @@
 package de.is24.deadcode4j.analyzer.webxml;
 
 import de.is24.deadcode4j.AnalysisContext;
+import de.is24.deadcode4j.CacheKey;
 import de.is24.deadcode4j.analyzer.XmlAnalyzer;
 import org.xml.sax.Attributes;
 import org.xml.sax.helpers.DefaultHandler;
 
 import javax.annotation.Nonnull;
+import java.io.File;
 import java.util.*;
 
 import static com.google.common.base.Strings.nullToEmpty;
-import static com.google.common.collect.Iterables.elementsEqual;
-import static java.util.Arrays.asList;
 
 /**
- * Parses {@code web.xml} and translates XML events into {@code web.xml}
- * specific events that can be consumed by a {@link WebXmlHandler}. It only
- * creates events for {@code web.xml} nodes that are needed by existing
- * {@link de.is24.deadcode4j.Analyzer}s. Please add further events if needed.
+ * Parses {@code web.xml} into a {@link WebXmlDescriptor}. The descriptor is stored in the analysis context until the
+ * file has been analyzed, so each {@code web.xml} is only parsed once, no matter how many {@code BaseWebXmlAnalyzer}s
+ * are in use.
+ * Subclasses either query the descriptor by overriding {@link #analyzeWebXml(AnalysisContext, WebXmlDescriptor)} or
+ * consume {@code web.xml} specific events by providing a {@link WebXmlHandler}.
+ * Only {@code web.xml} nodes that are needed by existing {@link de.is24.deadcode4j.Analyzer}s are represented.
+ * Please add further nodes if needed.
  *
  * @since 2.1.0
  */
 public abstract class BaseWebXmlAnalyzer extends XmlAnalyzer {
+    @Nonnull
+    private static final CacheKey<WebXmlDescriptor> DESCRIPTOR_KEY = CacheKey.forFile(WebXmlDescriptor.class.getName());
+
     protected BaseWebXmlAnalyzer() {
         super("web.xml");
     }
 
+    /**
+     * Returns the <code>WebXmlDescriptor</code> for the given file; parses the file only if the analysis context
+     * doesn't already provide the descriptor.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    protected final WebXmlDescriptor webXmlDescriptorFor(@Nonnull AnalysisContext analysisContext,
+                                                         @Nonnull File file) {
+        WebXmlDescriptor descriptor = analysisContext.getCacheEntry(DESCRIPTOR_KEY);
+        if (descriptor == null) {
+            WebXmlDescriptor.Builder builder = new WebXmlDescriptor.Builder();
+            parse(analysisContext, file, new WebXmlAdapter(builder));
+            descriptor = builder.build();
+            analysisContext.putCacheEntry(DESCRIPTOR_KEY, descriptor);
+        }
+        return descriptor;
+    }
+
+    /**
+     * This method is called to analyze the descriptor of each file being processed.
+     * Per default, the descriptor's events are sent to the handler provided by
+     * {@link #createWebXmlHandlerFor(AnalysisContext)}.
+     *
+     * @since 2.2.0
+     */
+    protected void analyzeWebXml(@Nonnull AnalysisContext analysisContext, @Nonnull WebXmlDescriptor webXml) {
+        webXml.replay(createWebXmlHandlerFor(analysisContext));
+    }
+
     /**
      * This method is called to provide a <code>WebXmlHandler</code> for each file being processed.
+     * Per default, a handler ignoring all events is returned.
      */
     @Nonnull
-    protected abstract WebXmlHandler createWebXmlHandlerFor(@Nonnull AnalysisContext analysisContext);
+    protected WebXmlHandler createWebXmlHandlerFor(@Nonnull AnalysisContext analysisContext) {
+        return new WebXmlHandler() {
+        };
+    }
+
+    @Override
+    protected final void analyzeXmlFile(@Nonnull AnalysisContext analysisContext, @Nonnull File file) {
+        analyzeWebXml(analysisContext, webXmlDescriptorFor(analysisContext, file));
+    }
 
+    /**
+     * Not used anymore, as each file is parsed into a {@link WebXmlDescriptor} only once.
+     *
+     * @deprecated override {@link #analyzeWebXml(AnalysisContext, WebXmlDescriptor)} or
+     * {@link #createWebXmlHandlerFor(AnalysisContext)} instead
+     */
+    @Deprecated
     @Nonnull
     @Override
-    protected DefaultHandler createHandlerFor(@Nonnull AnalysisContext analysisContext) {
-        WebXmlHandler webXmlHandler = createWebXmlHandlerFor(analysisContext);
-        return new WebXmlAdapter(webXmlHandler);
+    protected final DefaultHandler createHandlerFor(@Nonnull AnalysisContext analysisContext) {
+        return new WebXmlAdapter(createWebXmlHandlerFor(analysisContext));
+    }
+
+    // The web.xml nodes the WebXmlAdapter is interested in; every other node is mapped to IGNORED
+    private enum Node {
+        WEB_APP(null, "web-app", false),
+        CONTEXT_PARAM(WEB_APP, "context-param", false),
+        CONTEXT_PARAM_NAME(CONTEXT_PARAM, "param-name", true),
+        CONTEXT_PARAM_VALUE(CONTEXT_PARAM, "param-value", true),
+        FILTER(WEB_APP, "filter", false),
+        FILTER_CLASS(FILTER, "filter-class", true),
+        FILTER_INIT_PARAM(FILTER, "init-param", false),
+        FILTER_INIT_PARAM_NAME(FILTER_INIT_PARAM, "param-name", true),
+        FILTER_INIT_PARAM_VALUE(FILTER_INIT_PARAM, "param-value", true),
+        LISTENER(WEB_APP, "listener", false),
+        LISTENER_CLASS(LISTENER, "listener-class", true),
+        SERVLET(WEB_APP, "servlet", false),
+        SERVLET_CLASS(SERVLET, "servlet-class", true),
+        SERVLET_INIT_PARAM(SERVLET, "init-param", false),
+        SERVLET_INIT_PARAM_NAME(SERVLET_INIT_PARAM, "param-name", true),
+        SERVLET_INIT_PARAM_VALUE(SERVLET_INIT_PARAM, "param-value", true),
+        IGNORED(null, null, false);
+
+        final boolean hasText;
+        private final Map<String, Node> children = new HashMap<String, Node>();
+
+        Node(Node parent, String localName, boolean hasText) {
+            this.hasText = hasText;
+            if (parent != null) {
+                parent.children.put(localName, this);
+            }
+        }
+
+        static Node root(String localName) {
+            return "web-app".equals(localName) ? WEB_APP : IGNORED;
+        }
+
+        Node child(String localName) {
+            Node child = children.get(localName);
+            return child != null ? child : IGNORED;
+        }
     }
 
     // Translates XML events into web.xml events that can be consumed by a WebXmlHandler
     private static class WebXmlAdapter extends DefaultHandler {
-        @SuppressWarnings("unchecked")
-        static final Collection<List<String>> NODES_WITH_TEXT = asList(
-                asList("web-app", "context-param", "param-name"),
-                asList("web-app", "context-param", "param-value"),
-                asList("web-app", "filter", "filter-class"),
-                asList("web-app", "filter", "init-param", "param-name"),
-                asList("web-app", "filter", "init-param", "param-value"),
-                asList("web-app", "listener", "listener-class"),
-                asList("web-app", "servlet", "servlet-class"),
-                asList("web-app", "servlet", "init-param", "param-name"),
-                asList("web-app", "servlet", "init-param", "param-value"));
-        static final Collection<String> CONTEXT_PARAM_PATH = asList("web-app", "context-param");
-        static final Collection<String> FILTER_PATH = asList("web-app", "filter");
-        static final Collection<String> FILTER_INIT_PARAM_PATH = asList("web-app", "filter", "init-param");
-        static final Collection<String> LISTENER_PATH = asList("web-app", "listener");
-        static final Collection<String> SERVLET_INIT_PARAM_PATH = asList("web-app", "servlet", "init-param");
-        static final Collection<String> SERVLET_PATH = asList("web-app", "servlet");
-
-        final Deque<String> deque = new ArrayDeque<String>();
         final List<Param> initParams = new ArrayList<Param>();
-        final Map<String, String> texts = new HashMap<String, String>();
-        final Deque<StringBuilder> textBuffers = new ArrayDeque<StringBuilder>();
+        final StringBuilder textBuffer = new StringBuilder(128);
         final WebXmlHandler webXmlHandler;
+        Node[] path = new Node[8];
+        int depth = 0;
+        String className;
+        String paramName;
+        String paramValue;
 
         WebXmlAdapter(WebXmlHandler webXmlHandler) {
             this.webXmlHandler = webXmlHandler;
@@ -70,89 +146,81 @@ public abstract class BaseWebXmlAnalyzer extends XmlAnalyzer {
 
         @Override
         public void startElement(String uri, String localName, String qName, Attributes attributes) {
-            deque.add(localName);
-            if (isNodeWithText()) {
-                textBuffers.addLast(new StringBuilder(128));
+            Node node = depth == 0 ? Node.root(localName) : path[depth - 1].child(localName);
+            if (depth == path.length) {
+                path = Arrays.copyOf(path, depth * 2);
+            }
+            path[depth++] = node;
+            if (node == Node.WEB_APP) {
+                webXmlHandler.webApp("true".equals(attributes.getValue("metadata-complete")));
+            } else if (node.hasText) {
+                textBuffer.setLength(0);
             }
         }
 
         @Override
         public void characters(char[] ch, int start, int length) {
-            if (isNodeWithText()) {
-                textBuffers.getLast().append(new String(ch, start, length).trim());
+            if (depth > 0 && path[depth - 1].hasText) {
+                appendTrimmed(textBuffer, ch, start, length);
             }
         }
 
         @Override
         public void endElement(String uri, String localName, String qName) {
-            if (isNodeWithText()) {
-                storeCharacters(localName);
-            } else if (matchesPath(CONTEXT_PARAM_PATH)) {
-                reportContextParam();
-            } else if (matchesPath(FILTER_INIT_PARAM_PATH)) {
-                storeInitParam();
-            } else if (matchesPath(FILTER_PATH)) {
-                reportFilter();
-            } else if (matchesPath(LISTENER_PATH)) {
-                reportListener();
-            } else if (matchesPath(SERVLET_INIT_PARAM_PATH)) {
-                storeInitParam();
-            } else if (matchesPath(SERVLET_PATH)) {
-                reportServlet();
+            switch (path[--depth]) {
+                case CONTEXT_PARAM_NAME:
+                case FILTER_INIT_PARAM_NAME:
+                case SERVLET_INIT_PARAM_NAME:
+                    paramName = textBuffer.toString();
+                    break;
+                case CONTEXT_PARAM_VALUE:
+                case FILTER_INIT_PARAM_VALUE:
+                case SERVLET_INIT_PARAM_VALUE:
+                    paramValue = textBuffer.toString();
+                    break;
+                case FILTER_CLASS:
+                case LISTENER_CLASS:
+                case SERVLET_CLASS:
+                    className = textBuffer.toString();
+                    break;
+                case CONTEXT_PARAM:
+                    webXmlHandler.contextParam(createParam());
+                    break;
+                case FILTER_INIT_PARAM:
+                case SERVLET_INIT_PARAM:
+                    initParams.add(createParam());
+                    break;
+                case FILTER:
+                    webXmlHandler.filter(takeClassName(), takeInitParams());
+                    break;
+                case LISTENER:
+                    webXmlHandler.listener(takeClassName());
+                    break;
+                case SERVLET:
+                    webXmlHandler.servlet(takeClassName(), takeInitParams());
+                    break;
+                default:
+                    break;
             }
-            deque.removeLast();
-        }
-
-        boolean isNodeWithText() {
-            for (List<String> candidate : NODES_WITH_TEXT) {
-                if (matchesPath(candidate)) {
-                    return true;
-                }
-            }
-            return false;
-        }
-
-        void reportContextParam() {
-            webXmlHandler.contextParam(createParam());
-        }
-
-        void storeInitParam() {
-            initParams.add(createParam());
         }
 
         Param createParam() {
-            return new Param(getText("param-name"), getText("param-value"));
+            Param param = new Param(nullToEmpty(paramName), nullToEmpty(paramValue));
+            paramName = null;
+            paramValue = null;
+            return param;
         }
 
-        void reportFilter() {
-            webXmlHandler.filter(
-                    getText("filter-class"),
-                    new ArrayList<Param>(initParams));
-            initParams.clear();
+        String takeClassName() {
+            String text = nullToEmpty(className);
+            className = null;
+            return text;
         }
 
-        void reportListener() {
-            webXmlHandler.listener(getText("listener-class"));
-        }
-
-        void reportServlet() {
-            webXmlHandler.servlet(
-                    getText("servlet-class"),
-                    new ArrayList<Param>(initParams));
+        List<Param> takeInitParams() {
+            List<Param> params = new ArrayList<Param>(initParams);
             initParams.clear();
-        }
-
-        boolean matchesPath(Collection<String> path) {
-            return path.size() == deque.size() && elementsEqual(path, deque);
-        }
-
-        void storeCharacters(String localName) {
-            texts.put(localName, textBuffers.removeLast().toString());
-        }
-
-        String getText(String localName) {
-            String text = texts.remove(localName);
-            return nullToEmpty(text);
+            return params;
         }
     }
 }
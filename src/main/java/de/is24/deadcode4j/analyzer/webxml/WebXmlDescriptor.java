@@ -0,0 +1,312 @@
+package de.is24.deadcode4j.analyzer.webxml;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import java.util.List;
+
+/**
+ * A <code>WebXmlDescriptor</code> is the typed representation of a parsed <code>web.xml</code>.
+ * It is created once per file & module by the {@link BaseWebXmlAnalyzer} and stored in the analysis context, so all
+ * web related analyzers can query it instead of parsing the file again.
+ * Besides listing the nodes in document order, it offers indexed lookups of parameters by name.
+ *
+ * @since 2.2.0
+ */
+@Immutable
+public final class WebXmlDescriptor {
+    private final boolean metadataComplete;
+    @Nonnull
+    private final ImmutableList<Param> contextParams;
+    @Nonnull
+    private final ImmutableList<Component> filters;
+    @Nonnull
+    private final ImmutableList<String> listenerClasses;
+    @Nonnull
+    private final ImmutableList<Component> servlets;
+    @Nonnull
+    private final ImmutableListMultimap<String, Param> contextParamsByName;
+    @Nonnull
+    private final ImmutableListMultimap<String, Param> filterInitParamsByName;
+    @Nonnull
+    private final ImmutableListMultimap<String, Param> servletInitParamsByName;
+    @Nonnull
+    private final ImmutableList<Event> events;
+
+    private WebXmlDescriptor(@Nonnull Builder builder) {
+        this.metadataComplete = builder.metadataComplete;
+        this.contextParams = builder.contextParams.build();
+        this.filters = builder.filters.build();
+        this.listenerClasses = builder.listenerClasses.build();
+        this.servlets = builder.servlets.build();
+        this.contextParamsByName = indexByName(this.contextParams);
+        this.filterInitParamsByName = indexInitParamsByName(this.filters);
+        this.servletInitParamsByName = indexInitParamsByName(this.servlets);
+        this.events = builder.events.build();
+    }
+
+    @Nonnull
+    private static ImmutableListMultimap<String, Param> indexByName(@Nonnull Iterable<Param> params) {
+        ImmutableListMultimap.Builder<String, Param> index = ImmutableListMultimap.builder();
+        for (Param param : params) {
+            index.put(param.getName(), param);
+        }
+        return index.build();
+    }
+
+    @Nonnull
+    private static ImmutableListMultimap<String, Param> indexInitParamsByName(@Nonnull Iterable<Component> components) {
+        ImmutableListMultimap.Builder<String, Param> index = ImmutableListMultimap.builder();
+        for (Component component : components) {
+            for (Param initParam : component.getInitParams()) {
+                index.put(initParam.getName(), initParam);
+            }
+        }
+        return index.build();
+    }
+
+    @Override
+    public String toString() {
+        return "WebXmlDescriptor{metadataComplete=" + metadataComplete
+                + ", contextParams=" + contextParams
+                + ", filters=" + filters
+                + ", listenerClasses=" + listenerClasses
+                + ", servlets=" + servlets + "}";
+    }
+
+    /**
+     * Indicates if the <code>metadata-complete</code> attribute of the <code>web-app</code> node is set to "true".
+     *
+     * @since 2.2.0
+     */
+    public boolean isMetadataComplete() {
+        return metadataComplete;
+    }
+
+    /**
+     * Returns all <code>context-param</code> nodes in document order.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public List<Param> getContextParams() {
+        return contextParams;
+    }
+
+    /**
+     * Returns the <code>context-param</code> nodes with the given <code>param-name</code>.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public List<Param> getContextParamsNamed(@Nonnull String name) {
+        return contextParamsByName.get(name);
+    }
+
+    /**
+     * Returns all <code>filter</code> nodes in document order.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public List<Component> getFilters() {
+        return filters;
+    }
+
+    /**
+     * Returns the <code>init-param</code> nodes of all filters with the given <code>param-name</code>.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public List<Param> getFilterInitParamsNamed(@Nonnull String name) {
+        return filterInitParamsByName.get(name);
+    }
+
+    /**
+     * Returns the texts of all <code>listener-class</code> nodes in document order.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public List<String> getListenerClasses() {
+        return listenerClasses;
+    }
+
+    /**
+     * Returns all <code>servlet</code> nodes in document order.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public List<Component> getServlets() {
+        return servlets;
+    }
+
+    /**
+     * Returns the <code>init-param</code> nodes of all servlets with the given <code>param-name</code>.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public List<Param> getServletInitParamsNamed(@Nonnull String name) {
+        return servletInitParamsByName.get(name);
+    }
+
+    /**
+     * Sends the events of the represented <code>web.xml</code> to the given handler - in the same order the parser
+     * sent them.
+     *
+     * @since 2.2.0
+     */
+    public void replay(@Nonnull WebXmlHandler webXmlHandler) {
+        for (Event event : events) {
+            event.sendTo(webXmlHandler);
+        }
+    }
+
+    // An event sent by the web.xml parser, recorded to be replayed in document order
+    private interface Event {
+        void sendTo(@Nonnull WebXmlHandler webXmlHandler);
+    }
+
+    /**
+     * Representation of a {@code filter} or {@code servlet} node.
+     * {@code Component} is a value-based class.
+     *
+     * @since 2.2.0
+     */
+    @Immutable
+    public static final class Component {
+        @Nonnull
+        private final String className;
+        @Nonnull
+        private final List<Param> initParams;
+
+        Component(@Nonnull String className, @Nonnull List<Param> initParams) {
+            this.className = className;
+            this.initParams = ImmutableList.copyOf(initParams);
+        }
+
+        /**
+         * Returns the text of the {@code filter-class} or {@code servlet-class} node, respectively.
+         */
+        @Nonnull
+        public String getClassName() {
+            return className;
+        }
+
+        /**
+         * Returns the component's init params.
+         */
+        @Nonnull
+        public List<Param> getInitParams() {
+            return initParams;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!getClass().isInstance(o)) {
+                return false;
+            }
+            Component component = (Component) o;
+            return className.equals(component.className) && initParams.equals(component.initParams);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * className.hashCode() + initParams.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "Component{" +
+                    "className='" + className + '\'' +
+                    ", initParams=" + initParams +
+                    '}';
+        }
+    }
+
+    /**
+     * Collects the events sent by the <code>web.xml</code> parser to create a <code>WebXmlDescriptor</code>.
+     *
+     * @since 2.2.0
+     */
+    static final class Builder extends WebXmlHandler {
+        private boolean metadataComplete = false;
+        private final ImmutableList.Builder<Param> contextParams = ImmutableList.builder();
+        private final ImmutableList.Builder<Component> filters = ImmutableList.builder();
+        private final ImmutableList.Builder<String> listenerClasses = ImmutableList.builder();
+        private final ImmutableList.Builder<Component> servlets = ImmutableList.builder();
+        private final ImmutableList.Builder<Event> events = ImmutableList.builder();
+
+        @Override
+        public void webApp(final boolean metadataComplete) {
+            this.metadataComplete = metadataComplete;
+            events.add(new Event() {
+                @Override
+                public void sendTo(@Nonnull WebXmlHandler webXmlHandler) {
+                    webXmlHandler.webApp(metadataComplete);
+                }
+            });
+        }
+
+        @Override
+        public void contextParam(final Param param) {
+            contextParams.add(param);
+            events.add(new Event() {
+                @Override
+                public void sendTo(@Nonnull WebXmlHandler webXmlHandler) {
+                    webXmlHandler.contextParam(param);
+                }
+            });
+        }
+
+        @Override
+        public void filter(String className, List<Param> initParams) {
+            final Component filter = new Component(className, initParams);
+            filters.add(filter);
+            events.add(new Event() {
+                @Override
+                public void sendTo(@Nonnull WebXmlHandler webXmlHandler) {
+                    webXmlHandler.filter(filter.getClassName(), filter.getInitParams());
+                }
+            });
+        }
+
+        @Override
+        public void listener(final String className) {
+            listenerClasses.add(className);
+            events.add(new Event() {
+                @Override
+                public void sendTo(@Nonnull WebXmlHandler webXmlHandler) {
+                    webXmlHandler.listener(className);
+                }
+            });
+        }
+
+        @Override
+        public void servlet(String className, List<Param> initParams) {
+            final Component servlet = new Component(className, initParams);
+            servlets.add(servlet);
+            events.add(new Event() {
+                @Override
+                public void sendTo(@Nonnull WebXmlHandler webXmlHandler) {
+                    webXmlHandler.servlet(servlet.getClassName(), servlet.getInitParams());
+                }
+            });
+        }
+
+        @Nonnull
+        WebXmlDescriptor build() {
+            return new WebXmlDescriptor(this);
+        }
+
+    }
+
+}
@@ -10,6 +10,15 @@ import java.util.List;
  * @since 2.1.0
  */
 public abstract class WebXmlHandler {
+    /**
+     * Receive notification about the {@code web-app} node.
+     *
+     * @param metadataComplete indicates if the {@code metadata-complete} attribute is set to "true".
+     * @since 2.2.0
+     */
+    public void webApp(boolean metadataComplete) {
+    }
+
     /**
      * Receive notification about a {@code context-param} node.
      *
@@ -0,0 +1,405 @@
+package de.is24.deadcode4j.binary;
+
+import com.google.common.collect.Ordering;
+import de.is24.deadcode4j.AnalysisStage;
+import de.is24.deadcode4j.AnalyzedCode;
+import de.is24.deadcode4j.DeadCode;
+import de.is24.deadcode4j.IntermediateResult;
+import de.is24.deadcode4j.IntermediateResults.IntermediateResultMap;
+import de.is24.deadcode4j.IntermediateResults.IntermediateResultSet;
+
+import javax.annotation.Nonnull;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.collect.Lists.newArrayListWithCapacity;
+import static com.google.common.collect.Maps.newHashMapWithExpectedSize;
+import static com.google.common.collect.Sets.newHashSet;
+import static de.is24.deadcode4j.IntermediateResults.resultMapFor;
+import static de.is24.deadcode4j.IntermediateResults.resultSetFor;
+
+/**
+ * Defines the binary representation of {@link DeadCode}, {@link AnalyzedCode} and {@link IntermediateResult}s.
+ * Writing is done in two passes: first, the strings of all objects to write are added to a {@link StringTable}, then
+ * the objects are written to a {@link BinaryOutput} using that table.
+ * <p/>
+ * Only intermediate results using strings are supported, i.e.
+ * <ul>
+ * <li>keys being a <code>String</code> or a <code>Class</code></li>
+ * <li><code>IntermediateResultSet</code>s of <code>String</code>s</li>
+ * <li><code>IntermediateResultMap</code>s mapping <code>String</code>s to <code>String</code>s or to
+ * <code>Collection</code>s of <code>String</code>s</li>
+ * </ul>
+ *
+ * @since 2.2.0
+ */
+public final class AnalysisFormat {
+
+    /**
+     * The content type of a file storing a single <code>DeadCode</code>.
+     *
+     * @since 2.2.0
+     */
+    public static final byte DEAD_CODE = 1;
+    /**
+     * The content type of a file storing an <code>AnalysisSnapshot</code>.
+     *
+     * @since 2.2.0
+     */
+    public static final byte ANALYSIS_SNAPSHOT = 2;
+    /**
+     * The content type of a file storing the sorted dead classes of an analysis.
+     *
+     * @since 2.2.0
+     */
+    public static final byte DEAD_CLASSES = 3;
+    private static final byte STRING_KEY = 0;
+    private static final byte CLASS_KEY = 1;
+    private static final byte RESULT_SET = 0;
+    private static final byte RESULT_MAP_OF_STRINGS = 1;
+    private static final byte RESULT_MAP_OF_COLLECTIONS = 2;
+
+    private AnalysisFormat() {
+    }
+
+    /**
+     * Returns the binary representation of the given <code>DeadCode</code>.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static byte[] toBytes(@Nonnull DeadCode deadCode) {
+        StringTable.Builder strings = new StringTable.Builder();
+        addStrings(strings, deadCode);
+        BinaryOutput output = new BinaryOutput(strings.build(), DEAD_CODE);
+        writeDeadCode(output, deadCode);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            output.writeTo(bytes);
+        } catch (IOException e) {
+            throw new IllegalStateException("Writing to memory failed!", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads the <code>DeadCode</code> from its binary representation.
+     *
+     * @throws IOException if the data is no binary representation of a <code>DeadCode</code>
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static DeadCode fromBytes(@Nonnull byte[] bytes) throws IOException {
+        BinaryInput input = new BinaryInput(ByteBuffer.wrap(bytes));
+        checkContentType(input, DEAD_CODE);
+        return readDeadCode(input);
+    }
+
+    /**
+     * Verifies the stored content is of the expected type.
+     *
+     * @throws IOException if the content type doesn't match
+     * @since 2.2.0
+     */
+    public static void checkContentType(@Nonnull BinaryInput input, byte expectedContentType) throws IOException {
+        if (input.getContentType() != expectedContentType) {
+            throw new IOException("Expected content of type [" + expectedContentType + "], but found ["
+                    + input.getContentType() + "]!");
+        }
+    }
+
+    /**
+     * Adds the strings of the given <code>DeadCode</code> to the string table.
+     *
+     * @since 2.2.0
+     */
+    public static void addStrings(@Nonnull StringTable.Builder strings, @Nonnull DeadCode deadCode) {
+        strings.addAll(deadCode.getAnalyzedClasses());
+        strings.addAll(deadCode.getDeadClasses());
+        for (Collection<String> deadCluster : deadCode.getDeadClusters()) {
+            strings.addAll(deadCluster);
+        }
+    }
+
+    /**
+     * Writes the given <code>DeadCode</code>. The analyzed classes are written as a
+     * {@link BinaryOutput#writeSection(BinaryOutput) section}, so the dead classes can be looked up without decoding
+     * them.
+     *
+     * @since 2.2.0
+     */
+    public static void writeDeadCode(@Nonnull BinaryOutput output, @Nonnull DeadCode deadCode) {
+        writeStages(output, deadCode.getStagesWithExceptions());
+        BinaryOutput analyzedClasses = output.newSection();
+        analyzedClasses.writeStrings(deadCode.getAnalyzedClasses());
+        output.writeSection(analyzedClasses);
+        output.writeStrings(deadCode.getDeadClasses());
+        output.writeVarInt(deadCode.getDeadClusters().size());
+        for (Collection<String> deadCluster : deadCode.getDeadClusters()) {
+            output.writeStrings(deadCluster);
+        }
+    }
+
+    /**
+     * Reads a <code>DeadCode</code> written by {@link #writeDeadCode(BinaryOutput, DeadCode)}.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static DeadCode readDeadCode(@Nonnull BinaryInput input) {
+        EnumSet<AnalysisStage> stagesWithExceptions = readStages(input);
+        input.readVarInt(); // length of the analyzed classes' section
+        Collection<String> analyzedClasses = input.readStrings();
+        Collection<String> deadClasses = input.readStrings();
+        int numberOfDeadClusters = input.readVarInt();
+        List<Collection<String>> deadClusters = newArrayListWithCapacity(numberOfDeadClusters);
+        for (int i = 0; i < numberOfDeadClusters; i++) {
+            deadClusters.add(input.readStrings());
+        }
+        return new DeadCode(stagesWithExceptions, analyzedClasses, deadClasses, deadClusters);
+    }
+
+    /**
+     * Adds the strings of the given <code>AnalyzedCode</code> to the string table.
+     *
+     * @since 2.2.0
+     */
+    public static void addStrings(@Nonnull StringTable.Builder strings, @Nonnull AnalyzedCode analyzedCode) {
+        strings.addAll(analyzedCode.getAnalyzedClasses());
+        for (Map.Entry<String, Set<String>> dependencies : analyzedCode.getCodeDependencies().entrySet()) {
+            strings.add(dependencies.getKey());
+            strings.addAll(dependencies.getValue());
+        }
+    }
+
+    /**
+     * Writes the given <code>AnalyzedCode</code>. The dependencies are written as adjacency lists sorted by the
+     * depending class, with both the depending classes and the referenced classes being delta-encoded.
+     *
+     * @since 2.2.0
+     */
+    public static void writeAnalyzedCode(@Nonnull BinaryOutput output, @Nonnull AnalyzedCode analyzedCode) {
+        writeStages(output, analyzedCode.getStagesWithExceptions());
+        output.writeStrings(analyzedCode.getAnalyzedClasses());
+        Map<String, Set<String>> codeDependencies = analyzedCode.getCodeDependencies();
+        output.writeStrings(codeDependencies.keySet());
+        // the string table is sorted, so the order of the IDs written above is the natural order of the classes
+        for (String depender : Ordering.natural().sortedCopy(codeDependencies.keySet())) {
+            output.writeStrings(codeDependencies.get(depender));
+        }
+    }
+
+    /**
+     * Reads an <code>AnalyzedCode</code> written by {@link #writeAnalyzedCode(BinaryOutput, AnalyzedCode)}.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static AnalyzedCode readAnalyzedCode(@Nonnull BinaryInput input) {
+        EnumSet<AnalysisStage> stagesWithExceptions = readStages(input);
+        Set<String> analyzedClasses = newHashSet(input.readStrings());
+        Collection<String> dependers = input.readStrings();
+        Map<String, Set<String>> codeDependencies = newHashMapWithExpectedSize(dependers.size());
+        for (String depender : dependers) {
+            codeDependencies.put(depender, newHashSet(input.readStrings()));
+        }
+        return new AnalyzedCode(stagesWithExceptions, analyzedClasses, codeDependencies);
+    }
+
+    /**
+     * Indicates if the given intermediate results can be written.
+     *
+     * @since 2.2.0
+     */
+    public static boolean isSupported(@Nonnull Map<Object, IntermediateResult> intermediateResults) {
+        for (Map.Entry<Object, IntermediateResult> intermediateResult : intermediateResults.entrySet()) {
+            Object key = intermediateResult.getKey();
+            if (!(key instanceof String || key instanceof Class)
+                    || getResultType(intermediateResult.getValue()) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the strings of the given intermediate results to the string table.
+     *
+     * @throws IllegalArgumentException if the intermediate results are not {@link #isSupported(Map) supported}
+     * @since 2.2.0
+     */
+    public static void addStrings(@Nonnull StringTable.Builder strings,
+                                  @Nonnull Map<Object, IntermediateResult> intermediateResults) {
+        checkSupported(intermediateResults);
+        for (Map.Entry<Object, IntermediateResult> intermediateResult : intermediateResults.entrySet()) {
+            strings.add(getKeyName(intermediateResult.getKey()));
+            IntermediateResult value = intermediateResult.getValue();
+            if (value instanceof IntermediateResultSet) {
+                strings.addAll(toStrings(((IntermediateResultSet<?>) value).getResults()));
+                continue;
+            }
+            for (Map.Entry<?, ?> entry : ((IntermediateResultMap<?, ?>) value).getResults().entrySet()) {
+                strings.add((String) entry.getKey());
+                Object mappedValue = entry.getValue();
+                if (mappedValue instanceof String) {
+                    strings.add((String) mappedValue);
+                } else {
+                    strings.addAll(toStrings((Collection<?>) mappedValue));
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the given intermediate results.
+     *
+     * @throws IllegalArgumentException if the intermediate results are not {@link #isSupported(Map) supported}
+     * @since 2.2.0
+     */
+    public static void writeIntermediateResults(@Nonnull BinaryOutput output,
+                                                @Nonnull Map<Object, IntermediateResult> intermediateResults) {
+        checkSupported(intermediateResults);
+        output.writeVarInt(intermediateResults.size());
+        for (Map.Entry<Object, IntermediateResult> intermediateResult : intermediateResults.entrySet()) {
+            Object key = intermediateResult.getKey();
+            output.writeByte(key instanceof Class ? CLASS_KEY : STRING_KEY);
+            output.writeString(getKeyName(key));
+            IntermediateResult value = intermediateResult.getValue();
+            byte resultType = getResultType(value);
+            output.writeByte(resultType);
+            if (resultType == RESULT_SET) {
+                output.writeStrings(toStrings(((IntermediateResultSet<?>) value).getResults()));
+                continue;
+            }
+            Map<?, ?> results = ((IntermediateResultMap<?, ?>) value).getResults();
+            output.writeVarInt(results.size());
+            for (Map.Entry<?, ?> entry : results.entrySet()) {
+                output.writeString((String) entry.getKey());
+                if (resultType == RESULT_MAP_OF_STRINGS) {
+                    output.writeString((String) entry.getValue());
+                } else {
+                    output.writeStrings(toStrings((Collection<?>) entry.getValue()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the intermediate results written by {@link #writeIntermediateResults(BinaryOutput, Map)}.
+     *
+     * @throws IOException if a key refers to a class which cannot be loaded or the data is corrupt
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static Map<Object, IntermediateResult> readIntermediateResults(@Nonnull BinaryInput input)
+            throws IOException {
+        int size = input.readVarInt();
+        Map<Object, IntermediateResult> intermediateResults = newHashMapWithExpectedSize(size);
+        for (int i = 0; i < size; i++) {
+            byte keyType = input.readByte();
+            String keyName = input.readString();
+            Object key = keyType == CLASS_KEY ? loadClass(keyName) : keyName;
+            byte resultType = input.readByte();
+            if (resultType == RESULT_SET) {
+                intermediateResults.put(key, resultSetFor(input.readStrings()));
+                continue;
+            }
+            if (resultType != RESULT_MAP_OF_STRINGS && resultType != RESULT_MAP_OF_COLLECTIONS) {
+                throw new IOException("Unknown intermediate result type [" + resultType + "]!");
+            }
+            int numberOfEntries = input.readVarInt();
+            Map<String, Object> results = newHashMapWithExpectedSize(numberOfEntries);
+            for (int j = 0; j < numberOfEntries; j++) {
+                String resultKey = input.readString();
+                results.put(resultKey, resultType == RESULT_MAP_OF_STRINGS
+                        ? input.readString()
+                        : newHashSet(input.readStrings()));
+            }
+            intermediateResults.put(key, resultMapFor(results));
+        }
+        return intermediateResults;
+    }
+
+    private static void writeStages(@Nonnull BinaryOutput output, @Nonnull EnumSet<AnalysisStage> stages) {
+        int mask = 0;
+        for (AnalysisStage stage : stages) {
+            mask |= 1 << stage.ordinal();
+        }
+        output.writeVarInt(mask);
+    }
+
+    @Nonnull
+    private static EnumSet<AnalysisStage> readStages(@Nonnull BinaryInput input) {
+        int mask = input.readVarInt();
+        EnumSet<AnalysisStage> stages = EnumSet.noneOf(AnalysisStage.class);
+        for (AnalysisStage stage : AnalysisStage.values()) {
+            if ((mask & 1 << stage.ordinal()) != 0) {
+                stages.add(stage);
+            }
+        }
+        return stages;
+    }
+
+    private static void checkSupported(@Nonnull Map<Object, IntermediateResult> intermediateResults) {
+        if (!isSupported(intermediateResults)) {
+            throw new IllegalArgumentException("Intermediate results " + intermediateResults.keySet()
+                    + " contain unsupported types!");
+        }
+    }
+
+    @Nonnull
+    private static String getKeyName(@Nonnull Object key) {
+        return key instanceof Class ? ((Class<?>) key).getName() : (String) key;
+    }
+
+    private static byte getResultType(@Nonnull IntermediateResult intermediateResult) {
+        if (intermediateResult.getClass() == IntermediateResultSet.class) {
+            return containsOnlyStrings(((IntermediateResultSet<?>) intermediateResult).getResults()) ? RESULT_SET : -1;
+        }
+        if (intermediateResult.getClass() != IntermediateResultMap.class) {
+            return -1;
+        }
+        boolean mapsToStrings = true;
+        boolean mapsToCollections = true;
+        for (Map.Entry<?, ?> entry : ((IntermediateResultMap<?, ?>) intermediateResult).getResults().entrySet()) {
+            if (!(entry.getKey() instanceof String)) {
+                return -1;
+            }
+            Object value = entry.getValue();
+            mapsToStrings &= value instanceof String;
+            mapsToCollections &= value instanceof Collection && containsOnlyStrings((Collection<?>) value);
+        }
+        return mapsToStrings ? RESULT_MAP_OF_STRINGS : mapsToCollections ? RESULT_MAP_OF_COLLECTIONS : -1;
+    }
+
+    private static boolean containsOnlyStrings(@Nonnull Collection<?> collection) {
+        for (Object element : collection) {
+            if (!(element instanceof String)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    private static Collection<String> toStrings(@Nonnull Collection<?> strings) {
+        return (Collection<String>) strings;
+    }
+
+    @Nonnull
+    private static Class<?> loadClass(@Nonnull String className) throws IOException {
+        try {
+            return Class.forName(className, false, AnalysisFormat.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Intermediate result refers to unknown class [" + className + "]!");
+        }
+    }
+
+}
@@ -0,0 +1,231 @@
+package de.is24.deadcode4j.binary;
+
+import javax.annotation.Nonnull;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.List;
+
+import static com.google.common.base.Charsets.UTF_8;
+import static com.google.common.collect.Lists.newArrayListWithCapacity;
+
+/**
+ * The <code>BinaryInput</code> reads the format written by {@link BinaryOutput} from a <code>ByteBuffer</code>,
+ * typically a memory-mapped file. Strings are decoded lazily, i.e. only when requested; looking up the ID of a string
+ * is done by binary search on the encoded string table.
+ *
+ * @since 2.2.0
+ */
+public final class BinaryInput {
+    @Nonnull
+    private final ByteBuffer buffer;
+    private final byte contentType;
+    private final int numberOfStrings;
+    private final int offsetTablePosition;
+    private final int stringDataPosition;
+
+    /**
+     * Creates a new <code>BinaryInput</code> for the given buffer, which must be positioned at the file's start.
+     * After reading the header, the buffer is positioned at the start of the body.
+     *
+     * @throws IOException if the buffer contains no data of a supported version
+     * @since 2.2.0
+     */
+    public BinaryInput(@Nonnull ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.remaining() < 10 || buffer.getInt() != BinaryOutput.MAGIC) {
+            throw new IOException("Data is not in deadcode4j binary format!");
+        }
+        byte version = buffer.get();
+        if (version != BinaryOutput.VERSION) {
+            throw new IOException("Unsupported version [" + version + "] of deadcode4j binary format!");
+        }
+        this.contentType = buffer.get();
+        this.numberOfStrings = buffer.getInt();
+        this.offsetTablePosition = buffer.position();
+        buffer.position(offsetTablePosition + 4 * numberOfStrings);
+        int stringDataLength = buffer.getInt();
+        this.stringDataPosition = buffer.position();
+        buffer.position(stringDataPosition + stringDataLength);
+    }
+
+    /**
+     * Maps the given file into memory.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static BinaryInput map(@Nonnull File file) throws IOException {
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = randomAccessFile.getChannel();
+            return new BinaryInput(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } finally {
+            randomAccessFile.close();
+        }
+    }
+
+    /**
+     * Returns the type of the stored content.
+     *
+     * @since 2.2.0
+     */
+    public byte getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Returns the current position within the buffer.
+     *
+     * @since 2.2.0
+     */
+    public int position() {
+        return buffer.position();
+    }
+
+    /**
+     * Moves to the given position within the buffer.
+     *
+     * @since 2.2.0
+     */
+    public void position(int position) {
+        buffer.position(position);
+    }
+
+    /**
+     * Skips the given number of bytes, e.g. the length of a section written by
+     * {@link BinaryOutput#writeSection(BinaryOutput)}.
+     *
+     * @since 2.2.0
+     */
+    public void skip(int numberOfBytes) {
+        buffer.position(buffer.position() + numberOfBytes);
+    }
+
+    /**
+     * Reads an unsigned variable-length integer.
+     *
+     * @since 2.2.0
+     */
+    public int readVarInt() {
+        return readVarInt(buffer);
+    }
+
+    /**
+     * Reads a single byte.
+     *
+     * @since 2.2.0
+     */
+    public byte readByte() {
+        return buffer.get();
+    }
+
+    /**
+     * Reads a string ID and returns the string.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public String readString() {
+        return getString(readVarInt());
+    }
+
+    /**
+     * Reads a list of strings written by {@link BinaryOutput#writeStrings(java.util.Collection)}.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public List<String> readStrings() {
+        int size = readVarInt();
+        List<String> strings = newArrayListWithCapacity(size);
+        int id = 0;
+        for (int i = 0; i < size; i++) {
+            id += readVarInt();
+            strings.add(getString(id));
+        }
+        return strings;
+    }
+
+    /**
+     * Skips a list of strings written by {@link BinaryOutput#writeStrings(java.util.Collection)}.
+     *
+     * @since 2.2.0
+     */
+    public void skipStrings() {
+        int size = readVarInt();
+        for (int i = 0; i < size; i++) {
+            readVarInt();
+        }
+    }
+
+    /**
+     * Reads a list of strings written by {@link BinaryOutput#writeStrings(java.util.Collection)} and indicates if it
+     * contains the string with the given ID - without decoding any string. As the IDs are written in ascending order,
+     * reading stops at the first ID not less than the wanted one; thus the buffer's position is undefined afterwards.
+     *
+     * @since 2.2.0
+     */
+    public boolean stringsContain(int wantedId) {
+        int size = readVarInt();
+        int id = 0;
+        for (int i = 0; i < size; i++) {
+            id += readVarInt();
+            if (id >= wantedId) {
+                return id == wantedId;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the string with the given ID.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public String getString(int id) {
+        ByteBuffer stringBuffer = buffer.duplicate();
+        stringBuffer.position(stringDataPosition + buffer.getInt(offsetTablePosition + 4 * id));
+        int length = readVarInt(stringBuffer);
+        byte[] bytes = new byte[length];
+        stringBuffer.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Returns the ID of the given string or <code>-1</code> if it is not part of the string table.
+     *
+     * @since 2.2.0
+     */
+    public int idOf(@Nonnull String string) {
+        int low = 0;
+        int high = numberOfStrings - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = getString(middle).compareTo(string);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    private static int readVarInt(@Nonnull ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+
+}
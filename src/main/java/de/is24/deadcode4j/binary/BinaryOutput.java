@@ -0,0 +1,164 @@
+package de.is24.deadcode4j.binary;
+
+import javax.annotation.Nonnull;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collection;
+
+import static com.google.common.base.Charsets.UTF_8;
+
+/**
+ * The <code>BinaryOutput</code> writes the deadcode4j binary format: a header, the {@link StringTable} and the body,
+ * which refers to strings by their ID. Numbers are written as variable-length integers (7 bits per byte, least
+ * significant group first); lists of strings are written as sorted, delta-encoded IDs.
+ * <p/>
+ * The body is buffered in memory and written along with the header & string table when {@link #writeTo(OutputStream)
+ * writing the file}. The header consists of the magic number, the format version, the content type, the number of
+ * strings, a table of fixed-width offsets (one per string, relative to the start of the string data) and the length of
+ * the string data, so that single strings can be looked up without decoding the whole table.
+ *
+ * @since 2.2.0
+ */
+public final class BinaryOutput {
+    static final int MAGIC = 0x44433446; // "DC4F"
+    static final byte VERSION = 3;
+    @Nonnull
+    private final StringTable stringTable;
+    private final byte contentType;
+    @Nonnull
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream(8192);
+
+    /**
+     * Creates a new <code>BinaryOutput</code>.
+     *
+     * @param contentType identifies the kind of data stored in the file
+     * @since 2.2.0
+     */
+    public BinaryOutput(@Nonnull StringTable stringTable, byte contentType) {
+        this.stringTable = stringTable;
+        this.contentType = contentType;
+    }
+
+    /**
+     * Writes an unsigned variable-length integer.
+     *
+     * @since 2.2.0
+     */
+    public void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            body.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        body.write(value);
+    }
+
+    /**
+     * Writes a single byte.
+     *
+     * @since 2.2.0
+     */
+    public void writeByte(int value) {
+        body.write(value);
+    }
+
+    /**
+     * Writes the ID of the given string.
+     *
+     * @since 2.2.0
+     */
+    public void writeString(@Nonnull String string) {
+        writeVarInt(stringTable.idOf(string));
+    }
+
+    /**
+     * Writes the given strings as a sorted, delta-encoded list of IDs. Duplicates are discarded.
+     *
+     * @since 2.2.0
+     */
+    public void writeStrings(@Nonnull Collection<String> strings) {
+        int[] ids = new int[strings.size()];
+        int i = 0;
+        for (String string : strings) {
+            ids[i++] = stringTable.idOf(string);
+        }
+        Arrays.sort(ids);
+        int numberOfIds = 0;
+        for (int j = 0; j < ids.length; j++) {
+            if (j == 0 || ids[j] != ids[j - 1]) {
+                ids[numberOfIds++] = ids[j];
+            }
+        }
+        writeVarInt(numberOfIds);
+        int previousId = 0;
+        for (int j = 0; j < numberOfIds; j++) {
+            writeVarInt(ids[j] - previousId);
+            previousId = ids[j];
+        }
+    }
+
+    /**
+     * Returns a new, empty section sharing this output's string table. Once filled, it is meant to be
+     * {@link #writeSection(BinaryOutput) written} to this output.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public BinaryOutput newSection() {
+        return new BinaryOutput(stringTable, contentType);
+    }
+
+    /**
+     * Writes the given section, prefixed by its length - thus a reader can skip it without decoding it.
+     *
+     * @see BinaryInput#skip(int)
+     * @since 2.2.0
+     */
+    public void writeSection(@Nonnull BinaryOutput section) {
+        writeVarInt(section.body.size());
+        try {
+            section.body.writeTo(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("Writing to memory failed!", e);
+        }
+    }
+
+    /**
+     * Writes the header, the string table and the body to the given stream.
+     *
+     * @since 2.2.0
+     */
+    public void writeTo(@Nonnull OutputStream outputStream) throws IOException {
+        ByteArrayOutputStream stringData = new ByteArrayOutputStream(stringTable.size() * 32);
+        int[] offsets = new int[stringTable.size()];
+        for (int id = 0; id < stringTable.size(); id++) {
+            offsets[id] = stringData.size();
+            byte[] bytes = stringTable.get(id).getBytes(UTF_8);
+            writeVarInt(stringData, bytes.length);
+            stringData.write(bytes, 0, bytes.length);
+        }
+        DataOutputStream out = new DataOutputStream(outputStream);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeByte(contentType);
+        out.writeInt(offsets.length);
+        for (int offset : offsets) {
+            out.writeInt(offset);
+        }
+        out.writeInt(stringData.size());
+        stringData.writeTo(out);
+        body.writeTo(out);
+        out.flush();
+    }
+
+    private static void writeVarInt(@Nonnull ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+}
@@ -0,0 +1,60 @@
+package de.is24.deadcode4j.binary;
+
+import com.google.common.io.Files;
+import de.is24.deadcode4j.DeadClassesDiff;
+
+import javax.annotation.Nonnull;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.List;
+
+import static de.is24.deadcode4j.binary.AnalysisFormat.DEAD_CLASSES;
+import static de.is24.deadcode4j.binary.AnalysisFormat.checkContentType;
+
+/**
+ * Stores the dead classes of an analysis as a baseline for subsequent analyses. As the strings of a binary file are
+ * sorted, reading a baseline yields the dead classes in natural order - ready to be
+ * {@link DeadClassesDiff#of(List, List) merged} with the current ones.
+ *
+ * @since 2.2.0
+ */
+public final class DeadClassesBaseline {
+
+    private DeadClassesBaseline() {
+    }
+
+    /**
+     * Writes the given dead classes to the specified file.
+     *
+     * @since 2.2.0
+     */
+    public static void write(@Nonnull Collection<String> deadClasses, @Nonnull File file) throws IOException {
+        BinaryOutput output = new BinaryOutput(new StringTable.Builder().addAll(deadClasses).build(), DEAD_CLASSES);
+        output.writeStrings(deadClasses);
+        OutputStream outputStream = new FileOutputStream(file);
+        try {
+            output.writeTo(outputStream);
+        } finally {
+            outputStream.close();
+        }
+    }
+
+    /**
+     * Reads the dead classes from the given file.
+     *
+     * @return the dead classes, sorted in natural order
+     * @throws IOException if the file cannot be read or does not store dead classes
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static List<String> read(@Nonnull File file) throws IOException {
+        BinaryInput input = new BinaryInput(ByteBuffer.wrap(Files.toByteArray(file)));
+        checkContentType(input, DEAD_CLASSES);
+        return input.readStrings();
+    }
+
+}
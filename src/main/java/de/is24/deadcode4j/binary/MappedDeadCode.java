@@ -0,0 +1,119 @@
+package de.is24.deadcode4j.binary;
+
+import de.is24.deadcode4j.DeadCode;
+
+import javax.annotation.Nonnull;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static de.is24.deadcode4j.binary.AnalysisFormat.DEAD_CODE;
+import static de.is24.deadcode4j.binary.AnalysisFormat.addStrings;
+import static de.is24.deadcode4j.binary.AnalysisFormat.checkContentType;
+import static de.is24.deadcode4j.binary.AnalysisFormat.readDeadCode;
+import static de.is24.deadcode4j.binary.AnalysisFormat.writeDeadCode;
+
+/**
+ * A <code>MappedDeadCode</code> provides access to a <code>DeadCode</code> stored in a memory-mapped file. Querying
+ * if a class is dead skips the analyzed classes, reads the dead classes' IDs only up to the one looked for & decodes
+ * only the strings visited by a binary search of the string table, making it suitable for huge analysis results
+ * shared between builds.
+ *
+ * @since 2.2.0
+ */
+public final class MappedDeadCode {
+    @Nonnull
+    private final BinaryInput input;
+    private final int bodyPosition;
+
+    private MappedDeadCode(@Nonnull BinaryInput input) {
+        this.input = input;
+        this.bodyPosition = input.position();
+    }
+
+    /**
+     * Maps the given file into memory.
+     *
+     * @throws IOException if the file cannot be read or does not store a <code>DeadCode</code>
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static MappedDeadCode map(@Nonnull File file) throws IOException {
+        BinaryInput input = BinaryInput.map(file);
+        checkContentType(input, DEAD_CODE);
+        return new MappedDeadCode(input);
+    }
+
+    /**
+     * Writes the given <code>DeadCode</code> to the specified file.
+     *
+     * @since 2.2.0
+     */
+    public static void write(@Nonnull DeadCode deadCode, @Nonnull File file) throws IOException {
+        StringTable.Builder strings = new StringTable.Builder();
+        addStrings(strings, deadCode);
+        BinaryOutput output = new BinaryOutput(strings.build(), DEAD_CODE);
+        writeDeadCode(output, deadCode);
+        OutputStream outputStream = new FileOutputStream(file);
+        try {
+            output.writeTo(outputStream);
+        } finally {
+            outputStream.close();
+        }
+    }
+
+    /**
+     * Returns the number of analyzed classes.
+     *
+     * @since 2.2.0
+     */
+    public synchronized int getNumberOfAnalyzedClasses() {
+        input.position(bodyPosition);
+        input.readVarInt();
+        input.readVarInt();
+        return input.readVarInt();
+    }
+
+    /**
+     * Returns the number of dead classes.
+     *
+     * @since 2.2.0
+     */
+    public synchronized int getNumberOfDeadClasses() {
+        moveToDeadClasses();
+        return input.readVarInt();
+    }
+
+    /**
+     * Indicates if the given class was found to be dead.
+     *
+     * @since 2.2.0
+     */
+    public synchronized boolean isDead(@Nonnull String className) {
+        int id = input.idOf(className);
+        if (id < 0) {
+            return false;
+        }
+        moveToDeadClasses();
+        return input.stringsContain(id);
+    }
+
+    /**
+     * Decodes the whole <code>DeadCode</code>.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public synchronized DeadCode toDeadCode() {
+        input.position(bodyPosition);
+        return readDeadCode(input);
+    }
+
+    private void moveToDeadClasses() {
+        input.position(bodyPosition);
+        input.readVarInt();
+        input.skip(input.readVarInt());
+    }
+
+}
@@ -0,0 +1,110 @@
+package de.is24.deadcode4j.binary;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.collect.Maps.newHashMapWithExpectedSize;
+import static com.google.common.collect.Sets.newHashSet;
+
+/**
+ * A <code>StringTable</code> interns all strings written to a binary file. Each string is stored once and referred to
+ * by its ID; as the strings are sorted, the ID order matches the natural order of the strings - which allows for
+ * binary searches and keeps sorted ID lists small when delta-encoded.
+ *
+ * @since 2.2.0
+ */
+public final class StringTable {
+    @Nonnull
+    private final String[] strings;
+    @Nonnull
+    private final Map<String, Integer> ids;
+
+    private StringTable(@Nonnull String[] strings) {
+        this.strings = strings;
+        this.ids = newHashMapWithExpectedSize(strings.length);
+        for (int i = 0; i < strings.length; i++) {
+            ids.put(strings[i], i);
+        }
+    }
+
+    /**
+     * Returns the number of strings.
+     *
+     * @since 2.2.0
+     */
+    public int size() {
+        return strings.length;
+    }
+
+    /**
+     * Returns the string with the given ID.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public String get(int id) {
+        return strings[id];
+    }
+
+    /**
+     * Returns the ID of the given string.
+     *
+     * @throws IllegalArgumentException if the string was not added to the table
+     * @since 2.2.0
+     */
+    public int idOf(@Nonnull String string) throws IllegalArgumentException {
+        Integer id = ids.get(string);
+        checkArgument(id != null, "[" + string + "] is not part of the string table!");
+        return id;
+    }
+
+    /**
+     * Collects the strings to put into a <code>StringTable</code>.
+     *
+     * @since 2.2.0
+     */
+    public static final class Builder {
+        @Nonnull
+        private final Set<String> strings = newHashSet();
+
+        /**
+         * Adds the given string.
+         *
+         * @since 2.2.0
+         */
+        @Nonnull
+        public Builder add(@Nonnull String string) {
+            strings.add(string);
+            return this;
+        }
+
+        /**
+         * Adds all given strings.
+         *
+         * @since 2.2.0
+         */
+        @Nonnull
+        public Builder addAll(@Nonnull Collection<String> strings) {
+            this.strings.addAll(strings);
+            return this;
+        }
+
+        /**
+         * Returns a <code>StringTable</code> containing all added strings.
+         *
+         * @since 2.2.0
+         */
+        @Nonnull
+        public StringTable build() {
+            String[] sortedStrings = strings.toArray(new String[strings.size()]);
+            Arrays.sort(sortedStrings);
+            return new StringTable(sortedStrings);
+        }
+
+    }
+
+}
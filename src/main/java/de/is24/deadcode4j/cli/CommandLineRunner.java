@@ -0,0 +1,114 @@
+package de.is24.deadcode4j.cli;
+
+import de.is24.deadcode4j.DeadCode;
+import de.is24.deadcode4j.Module;
+import de.is24.deadcode4j.analyzer.AnalyzerConfiguration;
+import de.is24.deadcode4j.plugin.report.ReportWriter;
+
+import javax.annotation.Nonnull;
+import java.io.*;
+import java.util.List;
+
+import static com.google.common.base.Charsets.UTF_8;
+import static com.google.common.collect.Lists.newArrayList;
+
+/**
+ * Runs the analysis without Maven, reading the modules to analyze from a {@link ModulesDescriptor descriptor file}.
+ * The unused classes are written to the standard output.
+ * <pre>
+ * java -cp ... de.is24.deadcode4j.cli.CommandLineRunner [--format=json|csv|text] [--ignoreMainClasses] [--import=snapshot]... [--lowMemory] [--fail] descriptor.properties
+ * </pre>
+ * The exit code is <code>0</code> on success, <code>1</code> if <tt>--fail</tt> is given and unused classes were
+ * found, <code>2</code> if the arguments or the descriptor are invalid and <code>3</code> if the analysis failed.
+ * Each <tt>--import</tt> names a snapshot of another code base's analysis; the classes it uses are treated as live.
+ * <tt>--lowMemory</tt> only keeps track of which classes are used instead of retaining all dependencies.
+ *
+ * @since 2.2.0
+ */
+public final class CommandLineRunner {
+
+    static final int EXIT_OK = 0;
+    static final int EXIT_DEAD_CODE_FOUND = 1;
+    static final int EXIT_INVALID_USAGE = 2;
+    static final int EXIT_ANALYSIS_FAILED = 3;
+    private static final String USAGE = "Usage: CommandLineRunner [--format=json|csv|text] [--ignoreMainClasses] [--import=<snapshot>]... [--lowMemory] [--fail] <descriptor>";
+
+    private CommandLineRunner() {}
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    /**
+     * Runs the analysis as configured by the given arguments.
+     *
+     * @return the exit code
+     * @since 2.2.0
+     */
+    static int run(@Nonnull String[] args, @Nonnull PrintStream out, @Nonnull PrintStream err) {
+        String format = "text";
+        boolean ignoreMainClasses = false;
+        boolean lowMemory = false;
+        boolean failOnDeadCode = false;
+        List<File> importedAnalyses = newArrayList();
+        File descriptor = null;
+        for (String arg : args) {
+            if (arg.startsWith("--format=")) {
+                format = arg.substring("--format=".length());
+            } else if ("--ignoreMainClasses".equals(arg)) {
+                ignoreMainClasses = true;
+            } else if (arg.startsWith("--import=")) {
+                importedAnalyses.add(new File(arg.substring("--import=".length())));
+            } else if ("--lowMemory".equals(arg)) {
+                lowMemory = true;
+            } else if ("--fail".equals(arg)) {
+                failOnDeadCode = true;
+            } else if (!arg.startsWith("--") && descriptor == null) {
+                descriptor = new File(arg);
+            } else {
+                err.println("Unknown argument [" + arg + "]!");
+                err.println(USAGE);
+                return EXIT_INVALID_USAGE;
+            }
+        }
+        if (descriptor == null) {
+            err.println(USAGE);
+            return EXIT_INVALID_USAGE;
+        }
+
+        ReportWriter reportWriter;
+        List<Module> modules;
+        try {
+            reportWriter = ReportWriter.forFormat(format);
+            modules = ModulesDescriptor.read(descriptor);
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            return EXIT_INVALID_USAGE;
+        } catch (IOException e) {
+            err.println("Failed to read descriptor [" + descriptor + "]: " + e.getMessage());
+            return EXIT_INVALID_USAGE;
+        }
+
+        AnalyzerConfiguration analyzerConfiguration = new AnalyzerConfiguration();
+        analyzerConfiguration.setIgnoreMainClasses(ignoreMainClasses);
+        analyzerConfiguration.addImportedAnalyses(importedAnalyses);
+        analyzerConfiguration.setLowMemory(lowMemory);
+        DeadCode deadCode;
+        try {
+            deadCode = analyzerConfiguration.createDeadCodeFinder().findDeadCode(modules);
+        } catch (RuntimeException e) {
+            err.println("Analysis failed!");
+            e.printStackTrace(err);
+            return EXIT_ANALYSIS_FAILED;
+        }
+
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, UTF_8));
+            reportWriter.write(deadCode, writer);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write results!", e);
+        }
+        return failOnDeadCode && !deadCode.getDeadClasses().isEmpty() ? EXIT_DEAD_CODE_FOUND : EXIT_OK;
+    }
+
+}
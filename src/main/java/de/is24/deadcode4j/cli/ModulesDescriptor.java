@@ -0,0 +1,122 @@
+package de.is24.deadcode4j.cli;
+
+import com.google.common.base.Splitter;
+import de.is24.deadcode4j.Module;
+import de.is24.deadcode4j.Repository;
+import de.is24.deadcode4j.Resource;
+import org.apache.commons.io.filefilter.OrFileFilter;
+import org.apache.commons.io.filefilter.RegexFileFilter;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.*;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static com.google.common.base.Charsets.UTF_8;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Maps.newHashMap;
+import static org.apache.commons.io.IOCase.INSENSITIVE;
+import static org.apache.commons.io.filefilter.DirectoryFileFilter.DIRECTORY;
+
+/**
+ * Reads the modules to analyze from a descriptor file in the {@link java.util.Properties properties format}.
+ * Relative paths are resolved against the descriptor's directory; lists are separated by commas.
+ * <pre>
+ * modules=core,web
+ * core.output=core/target/classes
+ * core.sources=core/src/main/java
+ * core.classpath=lib/guava.jar,lib/slf4j-api.jar
+ * web.encoding=UTF-8
+ * web.output=web/target/classes
+ * web.dependsOn=core
+ * </pre>
+ * Modules may only depend on modules listed before them.
+ *
+ * @since 2.2.0
+ */
+public final class ModulesDescriptor {
+
+    private static final Splitter LIST_SPLITTER = Splitter.on(',').trimResults().omitEmptyStrings();
+
+    private ModulesDescriptor() {}
+
+    /**
+     * Reads the modules defined by the given descriptor file.
+     *
+     * @throws IllegalArgumentException if the descriptor is invalid
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static List<Module> read(@Nonnull File descriptor) throws IOException, IllegalArgumentException {
+        Properties properties = new Properties();
+        Reader reader = new InputStreamReader(new FileInputStream(descriptor), UTF_8);
+        try {
+            properties.load(reader);
+        } finally {
+            reader.close();
+        }
+        return toModules(properties, descriptor.getAbsoluteFile().getParentFile());
+    }
+
+    @Nonnull
+    static List<Module> toModules(@Nonnull Properties properties, @Nonnull File baseDirectory) {
+        List<String> moduleIds = getList(properties, "modules");
+        checkArgument(!moduleIds.isEmpty(), "No [modules] are defined!");
+        Map<String, Module> modules = newHashMap();
+        List<Module> result = newArrayList();
+        for (String moduleId : moduleIds) {
+            Module module = toModule(properties, baseDirectory, moduleId, modules);
+            modules.put(moduleId, module);
+            result.add(module);
+        }
+        return result;
+    }
+
+    @Nonnull
+    private static Module toModule(@Nonnull Properties properties,
+                                   @Nonnull File baseDirectory,
+                                   @Nonnull String moduleId,
+                                   @Nonnull Map<String, Module> knownModules) {
+        List<Resource> dependencies = newArrayList();
+        for (String requiredModuleId : getList(properties, moduleId + ".dependsOn")) {
+            Module requiredModule = knownModules.get(requiredModuleId);
+            checkArgument(requiredModule != null, "Module [" + moduleId + "] depends on [" + requiredModuleId
+                    + "], which is not defined before it!");
+            dependencies.add(Resource.of(requiredModule));
+        }
+        for (String classPathEntry : getList(properties, moduleId + ".classpath")) {
+            dependencies.add(Resource.of(resolve(baseDirectory, classPathEntry)));
+        }
+        String output = properties.getProperty(moduleId + ".output");
+        Repository outputRepository = output == null ? null : new Repository(resolve(baseDirectory, output.trim()));
+        List<Repository> sourceRepositories = newArrayList();
+        for (String sourceDirectory : getList(properties, moduleId + ".sources")) {
+            sourceRepositories.add(new Repository(resolve(baseDirectory, sourceDirectory),
+                    new OrFileFilter(DIRECTORY, new RegexFileFilter(".*\\.java$", INSENSITIVE))));
+        }
+        return new Module(moduleId, trimmed(properties.getProperty(moduleId + ".encoding")), dependencies,
+                outputRepository, sourceRepositories);
+    }
+
+    @Nonnull
+    private static List<String> getList(@Nonnull Properties properties, @Nonnull String key) {
+        String value = properties.getProperty(key);
+        return value == null ? Collections.<String>emptyList() : newArrayList(LIST_SPLITTER.split(value));
+    }
+
+    @Nullable
+    private static String trimmed(@Nullable String value) {
+        return value == null ? null : value.trim();
+    }
+
+    @Nonnull
+    private static File resolve(@Nonnull File baseDirectory, @Nonnull String path) {
+        File file = new File(path);
+        return file.isAbsolute() ? file : new File(baseDirectory, path);
+    }
+
+}
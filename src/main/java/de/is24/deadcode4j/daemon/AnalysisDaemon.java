@@ -0,0 +1,154 @@
+package de.is24.deadcode4j.daemon;
+
+import de.is24.deadcode4j.AnalysisEngine;
+import de.is24.deadcode4j.DeadCode;
+import de.is24.deadcode4j.DeadCodeFinder;
+import de.is24.deadcode4j.Module;
+import de.is24.deadcode4j.analyzer.AnalyzerConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.List;
+
+/**
+ * The <code>AnalysisDaemon</code> is a long-lived analysis server listening on a local socket.
+ * Clients send a {@link ModuleLayout} and receive the {@link DeadCode} computed for it. Requests are accepted only if
+ * the client's {@link AnalyzerConfiguration} matches the one the daemon was started with, as the results would differ
+ * otherwise.
+ * <p/>
+ * As the daemon's JVM keeps running, class loading & JIT compilation are paid only once. Additionally, the daemon
+ * runs all analyses with the same {@link AnalysisEngine}, so only those modules whose files changed (or which depend
+ * on such a module) are analyzed again.
+ *
+ * @see AnalysisDaemonClient
+ * @since 2.2.0
+ */
+public class AnalysisDaemon implements Closeable {
+
+    /**
+     * The time to wait for a client to send (the next part of) its request; as requests are served one after another,
+     * a stalled client must not block the daemon.
+     */
+    static final int DEFAULT_READ_TIMEOUT_MILLIS = 30000;
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    @Nonnull
+    private final AnalysisEngine analysisEngine;
+    @Nonnull
+    private final String configuration;
+    @Nonnull
+    private final ServerSocket serverSocket;
+    private final int readTimeoutMillis;
+
+    AnalysisDaemon(@Nonnull DeadCodeFinder deadCodeFinder,
+                   @Nonnull String configuration,
+                   int port,
+                   int readTimeoutMillis) throws IOException {
+        this.analysisEngine = new AnalysisEngine(deadCodeFinder);
+        this.configuration = configuration;
+        this.serverSocket = new ServerSocket(port, 0, InetAddress.getByName(null));
+        this.readTimeoutMillis = readTimeoutMillis;
+    }
+
+    /**
+     * Creates a new <code>AnalysisDaemon</code> listening on the loopback interface and analyzing with the analyzers
+     * of the given configuration.
+     *
+     * @param port the port to listen on; <code>0</code> selects an arbitrary free port
+     * @since 2.2.0
+     */
+    public AnalysisDaemon(@Nonnull AnalyzerConfiguration analyzerConfiguration, int port) throws IOException {
+        this(analyzerConfiguration.createDeadCodeFinder(), analyzerConfiguration.getFingerprint(), port,
+                DEFAULT_READ_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Returns the port the daemon is listening on.
+     *
+     * @since 2.2.0
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Serves analysis requests one after another until the daemon is {@link #close() closed}.
+     *
+     * @since 2.2.0
+     */
+    public void serve() {
+        logger.info("Analysis daemon is listening on port [{}].", getPort());
+        while (!serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (SocketException e) {
+                logger.debug("Server socket was closed.", e);
+                break;
+            } catch (IOException e) {
+                logger.warn("Failed to accept connection!", e);
+                continue;
+            }
+            try {
+                handle(socket);
+            } catch (IOException e) {
+                logger.warn("Failed to handle request!", e);
+            } finally {
+                closeQuietly(socket);
+            }
+        }
+        logger.info("Analysis daemon has stopped.");
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+
+    /**
+     * Analyzes the given modules, reusing the results of previous analyses for all modules whose files are unchanged.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public DeadCode analyze(@Nonnull List<Module> modules) {
+        return analysisEngine.findDeadCode(modules);
+    }
+
+    private void handle(@Nonnull Socket socket) throws IOException {
+        socket.setSoTimeout(readTimeoutMillis);
+        DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        String clientConfiguration = Protocol.readRequestHeader(in);
+        if (!configuration.equals(clientConfiguration)) {
+            logger.info("Rejecting request of a client configured differently.");
+            Protocol.writeRejection(out, "the daemon is configured differently; restart it with the same configuration");
+            return;
+        }
+        ModuleLayout moduleLayout = ModuleLayout.readFrom(in);
+        DeadCode deadCode;
+        try {
+            logger.info("Analyzing {}...", moduleLayout);
+            deadCode = analyze(moduleLayout.toModules());
+        } catch (RuntimeException e) {
+            logger.warn("Analysis failed!", e);
+            Protocol.writeError(out, e);
+            return;
+        }
+        Protocol.writeResult(out, deadCode);
+    }
+
+    private void closeQuietly(@Nonnull Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            logger.debug("Failed to close socket.", e);
+        }
+    }
+
+}
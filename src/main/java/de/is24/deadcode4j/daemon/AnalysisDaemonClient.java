@@ -0,0 +1,47 @@
+package de.is24.deadcode4j.daemon;
+
+import de.is24.deadcode4j.DeadCode;
+import de.is24.deadcode4j.Module;
+
+import javax.annotation.Nonnull;
+import java.io.*;
+import java.net.InetAddress;
+import java.net.Socket;
+
+/**
+ * The <code>AnalysisDaemonClient</code> delegates the analysis of modules to a running {@link AnalysisDaemon}.
+ *
+ * @since 2.2.0
+ */
+public final class AnalysisDaemonClient {
+
+    private AnalysisDaemonClient() {
+    }
+
+    /**
+     * Sends the given modules to the daemon listening on the specified local port and returns its results.
+     *
+     * @param configuration the {@link de.is24.deadcode4j.analyzer.AnalyzerConfiguration#getFingerprint() fingerprint}
+     *                      of the configuration to analyze with; the daemon rejects the request if it was started with
+     *                      another configuration
+     * @throws IOException              if communicating with the daemon fails, e.g. if no daemon is running, or if the
+     *                                  daemon rejected the request
+     * @throws IllegalArgumentException if the modules cannot be {@link ModuleLayout described}
+     * @throws RuntimeException         if the daemon failed to analyze the modules
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static DeadCode analyze(int port, @Nonnull String configuration, @Nonnull Iterable<Module> modules)
+            throws IOException {
+        ModuleLayout moduleLayout = ModuleLayout.of(modules);
+        Socket socket = new Socket(InetAddress.getByName(null), port);
+        try {
+            Protocol.writeRequest(new DataOutputStream(new BufferedOutputStream(socket.getOutputStream())),
+                    configuration, moduleLayout);
+            return Protocol.readResponse(new DataInputStream(new BufferedInputStream(socket.getInputStream())));
+        } finally {
+            socket.close();
+        }
+    }
+
+}
@@ -0,0 +1,362 @@
+package de.is24.deadcode4j.daemon;
+
+import com.google.common.base.Optional;
+import de.is24.deadcode4j.Module;
+import de.is24.deadcode4j.Repository;
+import de.is24.deadcode4j.Resource;
+import org.apache.commons.io.DirectoryWalker;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.*;
+import java.util.*;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.collect.Sets.newHashSet;
+import static de.is24.deadcode4j.Module.sort;
+
+/**
+ * A <code>ModuleLayout</code> is the serializable description of the {@link Module}s to analyze; it is sent to an
+ * {@link AnalysisDaemon} which recreates the modules from it.
+ * A layout can be sent either via Java serialization - in which case all file filters of the modules' repositories
+ * must be serializable - or via the plain {@link #writeTo(DataOutput) data format}, which lists the files accepted by
+ * the filters instead.
+ *
+ * @since 2.2.0
+ */
+public final class ModuleLayout implements Serializable {
+    private static final long serialVersionUID = 1L;
+    @Nonnull
+    private final ArrayList<ModuleEntry> moduleEntries;
+
+    private ModuleLayout(@Nonnull ArrayList<ModuleEntry> moduleEntries) {
+        this.moduleEntries = moduleEntries;
+    }
+
+    /**
+     * Describes the given modules.
+     *
+     * @throws IllegalArgumentException if a repository's file filter is not serializable
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static ModuleLayout of(@Nonnull Iterable<Module> modules) throws IllegalArgumentException {
+        ArrayList<ModuleEntry> moduleEntries = newArrayList();
+        for (Module module : sort(modules)) {
+            moduleEntries.add(new ModuleEntry(module));
+        }
+        return new ModuleLayout(moduleEntries);
+    }
+
+    @Nonnull
+    private static RepositoryEntry toEntry(@Nonnull Repository repository) {
+        FileFilter fileFilter = repository.getFileFilter();
+        checkArgument(fileFilter instanceof Serializable,
+                "The file filter of " + repository + " is not serializable: " + fileFilter);
+        return new RepositoryEntry(repository.getDirectory(), fileFilter);
+    }
+
+    /**
+     * Reads a layout written by {@link #writeTo(DataOutput)}. The repositories of the recreated modules provide exactly
+     * the listed files.
+     *
+     * @throws IOException if the data is malformed
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static ModuleLayout readFrom(@Nonnull DataInput in) throws IOException {
+        int numberOfModules = readCount(in);
+        ArrayList<ModuleEntry> moduleEntries = newArrayList();
+        for (int i = 0; i < numberOfModules; i++) {
+            moduleEntries.add(ModuleEntry.readFrom(in));
+        }
+        return new ModuleLayout(moduleEntries);
+    }
+
+    private static int readCount(@Nonnull DataInput in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Invalid number of entries: " + count);
+        }
+        return count;
+    }
+
+    @Nullable
+    private static String readOptionalString(@Nonnull DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeOptionalString(@Nonnull DataOutput out, @Nullable String string) throws IOException {
+        out.writeBoolean(string != null);
+        if (string != null) {
+            out.writeUTF(string);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ModuleLayout " + moduleEntries;
+    }
+
+    /**
+     * Writes this layout without relying on Java serialization. As file filters cannot be written that way, the file
+     * filter of each repository is applied right away and the accepted files are listed instead.
+     *
+     * @see #readFrom(DataInput)
+     * @since 2.2.0
+     */
+    public void writeTo(@Nonnull DataOutput out) throws IOException {
+        out.writeInt(moduleEntries.size());
+        for (ModuleEntry moduleEntry : moduleEntries) {
+            moduleEntry.writeTo(out);
+        }
+    }
+
+    /**
+     * Recreates the described modules.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public List<Module> toModules() {
+        Map<String, Module> modules = newHashMap();
+        List<Module> result = newArrayList();
+        // entries are sorted by their dependencies, so each required module has been created beforehand
+        for (ModuleEntry moduleEntry : moduleEntries) {
+            Module module = moduleEntry.toModule(modules);
+            modules.put(module.getModuleId(), module);
+            result.add(module);
+        }
+        return result;
+    }
+
+    private static final class ModuleEntry implements Serializable {
+        private static final long serialVersionUID = 1L;
+        @Nonnull
+        private final String moduleId;
+        @Nullable
+        private final String encoding;
+        @Nonnull
+        private final ArrayList<DependencyEntry> dependencies = newArrayList();
+        @Nullable
+        private final RepositoryEntry outputRepository;
+        @Nonnull
+        private final ArrayList<RepositoryEntry> repositories = newArrayList();
+
+        private ModuleEntry(@Nonnull String moduleId,
+                            @Nullable String encoding,
+                            @Nullable RepositoryEntry outputRepository) {
+            this.moduleId = moduleId;
+            this.encoding = encoding;
+            this.outputRepository = outputRepository;
+        }
+
+        public ModuleEntry(@Nonnull Module module) {
+            this.moduleId = module.getModuleId();
+            this.encoding = module.getEncoding();
+            Repository output = module.getOutputRepository();
+            this.outputRepository = output == null ? null : toEntry(output);
+            for (Repository repository : module.getAllRepositories()) {
+                if (repository != output) {
+                    this.repositories.add(toEntry(repository));
+                }
+            }
+            for (Resource dependency : module.getDependencies()) {
+                Optional<Module> referencedModule = dependency.getReferencedModule();
+                if (referencedModule.isPresent()) {
+                    this.dependencies.add(new DependencyEntry(null, referencedModule.get().getModuleId()));
+                } else if (dependency.getClassPathEntry().isPresent()) {
+                    this.dependencies.add(new DependencyEntry(dependency.getClassPathEntry().get(), null));
+                }
+            }
+        }
+
+        @Nonnull
+        public static ModuleEntry readFrom(@Nonnull DataInput in) throws IOException {
+            String moduleId = in.readUTF();
+            String encoding = readOptionalString(in);
+            RepositoryEntry outputRepository = in.readBoolean() ? RepositoryEntry.readFrom(in) : null;
+            ModuleEntry moduleEntry = new ModuleEntry(moduleId, encoding, outputRepository);
+            int numberOfRepositories = readCount(in);
+            for (int i = 0; i < numberOfRepositories; i++) {
+                moduleEntry.repositories.add(RepositoryEntry.readFrom(in));
+            }
+            int numberOfDependencies = readCount(in);
+            for (int i = 0; i < numberOfDependencies; i++) {
+                String moduleIdOrFile = in.readUTF();
+                moduleEntry.dependencies.add(in.readBoolean()
+                        ? new DependencyEntry(null, moduleIdOrFile)
+                        : new DependencyEntry(new File(moduleIdOrFile), null));
+            }
+            return moduleEntry;
+        }
+
+        @Override
+        public String toString() {
+            return moduleId;
+        }
+
+        public void writeTo(@Nonnull DataOutput out) throws IOException {
+            out.writeUTF(moduleId);
+            writeOptionalString(out, encoding);
+            out.writeBoolean(outputRepository != null);
+            if (outputRepository != null) {
+                outputRepository.writeTo(out);
+            }
+            out.writeInt(repositories.size());
+            for (RepositoryEntry repository : repositories) {
+                repository.writeTo(out);
+            }
+            out.writeInt(dependencies.size());
+            for (DependencyEntry dependency : dependencies) {
+                boolean isModule = dependency.file == null;
+                out.writeUTF(isModule ? String.valueOf(dependency.moduleId) : dependency.file.getAbsolutePath());
+                out.writeBoolean(isModule);
+            }
+        }
+
+        @Nonnull
+        public Module toModule(@Nonnull Map<String, Module> knownModules) {
+            List<Resource> resources = newArrayList();
+            for (DependencyEntry dependency : dependencies) {
+                if (dependency.file != null) {
+                    resources.add(Resource.of(dependency.file));
+                } else {
+                    Module requiredModule = knownModules.get(dependency.moduleId);
+                    checkArgument(requiredModule != null, "Module [" + dependency.moduleId + "] is unknown!");
+                    resources.add(Resource.of(requiredModule));
+                }
+            }
+            List<Repository> additionalRepositories = newArrayList();
+            for (RepositoryEntry repository : repositories) {
+                additionalRepositories.add(repository.toRepository());
+            }
+            return new Module(moduleId, encoding, resources,
+                    outputRepository == null ? null : outputRepository.toRepository(),
+                    additionalRepositories);
+        }
+
+    }
+
+    private static final class DependencyEntry implements Serializable {
+        private static final long serialVersionUID = 1L;
+        @Nullable
+        private final File file;
+        @Nullable
+        private final String moduleId;
+
+        public DependencyEntry(@Nullable File file, @Nullable String moduleId) {
+            this.file = file;
+            this.moduleId = moduleId;
+        }
+
+    }
+
+    private static final class RepositoryEntry implements Serializable {
+        private static final long serialVersionUID = 1L;
+        @Nonnull
+        private final File directory;
+        @Nonnull
+        private final FileFilter fileFilter;
+
+        public RepositoryEntry(@Nonnull File directory, @Nonnull FileFilter fileFilter) {
+            this.directory = directory;
+            this.fileFilter = fileFilter;
+        }
+
+        @Nonnull
+        public static RepositoryEntry readFrom(@Nonnull DataInput in) throws IOException {
+            File directory = new File(in.readUTF());
+            int numberOfFiles = readCount(in);
+            HashSet<String> files = newHashSet();
+            for (int i = 0; i < numberOfFiles; i++) {
+                files.add(in.readUTF());
+            }
+            return new RepositoryEntry(directory, new ListedFilesFilter(directory, files));
+        }
+
+        @Nonnull
+        public Repository toRepository() {
+            return new Repository(directory, fileFilter);
+        }
+
+        public void writeTo(@Nonnull DataOutput out) throws IOException {
+            List<String> files = new FileLister(directory, fileFilter).listFiles();
+            out.writeUTF(directory.getAbsolutePath());
+            out.writeInt(files.size());
+            for (String file : files) {
+                out.writeUTF(file);
+            }
+        }
+
+    }
+
+    /**
+     * Lists the files accepted by a repository's file filter, relative to the repository's directory.
+     */
+    private static final class FileLister extends DirectoryWalker<String> {
+        @Nonnull
+        private final File directory;
+
+        public FileLister(@Nonnull File directory, @Nonnull FileFilter fileFilter) {
+            super(fileFilter, -1);
+            this.directory = directory;
+        }
+
+        @Nonnull
+        public List<String> listFiles() throws IOException {
+            List<String> files = newArrayList();
+            super.walk(directory, files);
+            return files;
+        }
+
+        @Override
+        protected void handleFile(File file, int depth, Collection<String> results) {
+            results.add(ListedFilesFilter.relativePathOf(directory.getAbsolutePath(), file));
+        }
+
+    }
+
+    /**
+     * Accepts the listed files - given relative to the repository's directory - and the directories containing them.
+     */
+    private static final class ListedFilesFilter implements FileFilter, Serializable {
+        private static final long serialVersionUID = 1L;
+        @Nonnull
+        private final String directoryPath;
+        @Nonnull
+        private final HashSet<String> files;
+        @Nonnull
+        private final HashSet<String> directories = newHashSet();
+
+        public ListedFilesFilter(@Nonnull File directory, @Nonnull HashSet<String> files) {
+            this.directoryPath = directory.getAbsolutePath();
+            this.files = files;
+            for (String file : files) {
+                for (int index = file.lastIndexOf('/'); index > 0; index = file.lastIndexOf('/', index - 1)) {
+                    if (!directories.add(file.substring(0, index))) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        @Nonnull
+        public static String relativePathOf(@Nonnull String directoryPath, @Nonnull File file) {
+            String absolutePath = file.getAbsolutePath();
+            checkArgument(absolutePath.startsWith(directoryPath + File.separator),
+                    "[" + file + "] is not located within [" + directoryPath + "]!");
+            return absolutePath.substring(directoryPath.length() + 1).replace(File.separatorChar, '/');
+        }
+
+        @Override
+        public boolean accept(File file) {
+            String relativePath = relativePathOf(directoryPath, file);
+            return file.isDirectory() ? directories.contains(relativePath) : files.contains(relativePath);
+        }
+
+    }
+
+}
@@ -0,0 +1,57 @@
+package de.is24.deadcode4j.daemon;
+
+import com.google.common.hash.HashCode;
+import de.is24.deadcode4j.Fingerprint;
+import de.is24.deadcode4j.Module;
+
+import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Maps.newHashMap;
+import static java.util.Collections.singleton;
+
+/**
+ * The <code>ModuleWatcher</code> detects modules whose files changed by comparing file system snapshots (path, size &
+ * modification time of each file). The snapshots are taken on demand, so the watcher is meant to be
+ * {@link #pollChangedModules() polled} regularly.
+ *
+ * @since 2.2.0
+ */
+public final class ModuleWatcher {
+    @Nonnull
+    private final List<Module> modules;
+    @Nonnull
+    private final Map<Module, HashCode> fingerprints = newHashMap();
+
+    /**
+     * Creates a new <code>ModuleWatcher</code>; the current state of the modules' files is the baseline for the first
+     * poll.
+     *
+     * @since 2.2.0
+     */
+    public ModuleWatcher(@Nonnull Iterable<Module> modules) {
+        this.modules = newArrayList(modules);
+        pollChangedModules();
+    }
+
+    /**
+     * Returns the modules whose repository or class path files changed since the last poll.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public Collection<Module> pollChangedModules() {
+        List<Module> changedModules = newArrayList();
+        for (Module module : modules) {
+            HashCode fingerprint = Fingerprint.of(singleton(module));
+            if (!fingerprint.equals(fingerprints.put(module, fingerprint))) {
+                changedModules.add(module);
+            }
+        }
+        return changedModules;
+    }
+
+}
@@ -0,0 +1,109 @@
+package de.is24.deadcode4j.daemon;
+
+import de.is24.deadcode4j.DeadCode;
+import de.is24.deadcode4j.binary.AnalysisFormat;
+
+import javax.annotation.Nonnull;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Defines the length-prefixed data exchanged between {@link AnalysisDaemon} and {@link AnalysisDaemonClient}. No Java
+ * serialization is involved, so a daemon never instantiates classes chosen by a client.
+ * <ul>
+ * <li>the client sends a header, the {@link de.is24.deadcode4j.analyzer.AnalyzerConfiguration#getFingerprint()
+ * fingerprint} of its configuration and the {@link ModuleLayout#writeTo(java.io.DataOutput) layout} of the modules</li>
+ * <li>the daemon answers with a status byte, followed by either the
+ * {@link AnalysisFormat#toBytes(DeadCode) binary dead code} or an error message</li>
+ * </ul>
+ *
+ * @since 2.2.0
+ */
+final class Protocol {
+
+    private static final int MAGIC = 0x44433444; // "DC4D"
+    private static final int VERSION = 1;
+    private static final byte STATUS_OK = 0;
+    private static final byte STATUS_ERROR = 1;
+    private static final byte STATUS_REJECTED = 2;
+
+    private Protocol() {
+    }
+
+    public static void writeRequest(@Nonnull DataOutputStream out,
+                                    @Nonnull String configuration,
+                                    @Nonnull ModuleLayout moduleLayout) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeUTF(configuration);
+        moduleLayout.writeTo(out);
+        out.flush();
+    }
+
+    /**
+     * Reads the header of a request and returns the fingerprint of the client's configuration. The
+     * {@link ModuleLayout#readFrom(java.io.DataInput) module layout} follows.
+     *
+     * @throws IOException if the request is malformed
+     */
+    @Nonnull
+    public static String readRequestHeader(@Nonnull DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Received a request not being sent by an AnalysisDaemonClient!");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Received a request of unsupported version [" + version + "]!");
+        }
+        return in.readUTF();
+    }
+
+    public static void writeResult(@Nonnull DataOutputStream out, @Nonnull DeadCode deadCode) throws IOException {
+        byte[] bytes = AnalysisFormat.toBytes(deadCode);
+        out.writeByte(STATUS_OK);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+        out.flush();
+    }
+
+    public static void writeError(@Nonnull DataOutputStream out, @Nonnull Exception exception) throws IOException {
+        out.writeByte(STATUS_ERROR);
+        out.writeUTF(String.valueOf(exception));
+        out.flush();
+    }
+
+    public static void writeRejection(@Nonnull DataOutputStream out, @Nonnull String reason) throws IOException {
+        out.writeByte(STATUS_REJECTED);
+        out.writeUTF(reason);
+        out.flush();
+    }
+
+    /**
+     * Reads the daemon's response.
+     *
+     * @throws IOException      if the response is malformed or the daemon rejected the request
+     * @throws RuntimeException if the daemon failed to analyze the modules
+     */
+    @Nonnull
+    public static DeadCode readResponse(@Nonnull DataInputStream in) throws IOException {
+        byte status = in.readByte();
+        if (status == STATUS_REJECTED) {
+            throw new IOException("Analysis daemon rejected the request: " + in.readUTF());
+        }
+        if (status == STATUS_ERROR) {
+            throw new RuntimeException("Analysis daemon failed: " + in.readUTF());
+        }
+        if (status != STATUS_OK) {
+            throw new IOException("Received unexpected response from daemon: status [" + status + "]");
+        }
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Received unexpected response from daemon: length [" + length + "]");
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return AnalysisFormat.fromBytes(bytes);
+    }
+
+}
@@ -0,0 +1,163 @@
+package de.is24.deadcode4j.delta;
+
+import com.google.common.base.Splitter;
+import com.google.common.io.ByteStreams;
+import de.is24.deadcode4j.Module;
+import de.is24.deadcode4j.Repository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.base.Charsets.UTF_8;
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.collect.Sets.newLinkedHashSet;
+import static java.util.Arrays.asList;
+import static org.apache.commons.io.IOUtils.closeQuietly;
+
+/**
+ * Uses the local <tt>git</tt> executable to determine the files changed since a base revision and maps them to the
+ * modules they belong to.
+ *
+ * @since 2.2.0
+ */
+public final class GitDiff {
+
+    private static final Splitter NUL_SPLITTER = Splitter.on('\0').omitEmptyStrings();
+
+    private GitDiff() {}
+
+    /**
+     * Returns the files of the working tree that differ from the given base revision, including untracked files.
+     * Deleted files are listed as well.
+     *
+     * @param directory    a directory within the git working tree
+     * @param baseRevision the revision to compare with, e.g. <tt>origin/master</tt>
+     * @throws IOException if <tt>git</tt> cannot be executed or fails
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static Collection<File> getChangedFiles(@Nonnull File directory, @Nonnull String baseRevision) throws IOException {
+        File workTree = new File(git(directory, "rev-parse", "--show-toplevel").trim());
+        Set<File> changedFiles = newLinkedHashSet();
+        for (String path : NUL_SPLITTER.split(git(workTree, "diff", "--name-only", "-z", baseRevision, "--"))) {
+            changedFiles.add(new File(workTree, path));
+        }
+        for (String path : NUL_SPLITTER.split(git(workTree, "ls-files", "--others", "--exclude-standard", "-z"))) {
+            changedFiles.add(new File(workTree, path));
+        }
+        return changedFiles;
+    }
+
+    /**
+     * Returns the modules the given files belong to. A module is located at its base directory, i.e. the directory of
+     * its <tt>pom.xml</tt>; a file belongs to the module located closest to it. Files outside of all modules are
+     * ignored. As the files of a module whose base directory is unknown cannot be mapped, such a module is always
+     * considered to be affected.
+     *
+     * @param baseDirectories the base directories of the modules, mapped by module id
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static Collection<Module> getAffectedModules(@Nonnull Iterable<Module> modules,
+                                                        @Nonnull Map<String, File> baseDirectories,
+                                                        @Nonnull Iterable<File> changedFiles) {
+        Logger logger = LoggerFactory.getLogger(GitDiff.class);
+        Set<Module> affectedModules = newLinkedHashSet();
+        Map<String, Module> modulesByLocation = newHashMap();
+        for (Module module : modules) {
+            File baseDirectory = baseDirectories.get(module.getModuleId());
+            if (baseDirectory == null) {
+                logger.debug("Base directory of {} is unknown; considering it to be affected.", module);
+                affectedModules.add(module);
+            } else {
+                modulesByLocation.put(baseDirectory.getAbsolutePath(), module);
+            }
+        }
+        for (File changedFile : changedFiles) {
+            Module module = null;
+            for (File directory = changedFile.getAbsoluteFile().getParentFile(); directory != null && module == null;
+                 directory = directory.getParentFile()) {
+                module = modulesByLocation.get(directory.getAbsolutePath());
+            }
+            if (module == null) {
+                logger.debug("Changed file [{}] belongs to no module.", changedFile);
+            } else {
+                logger.debug("Changed file [{}] belongs to {}.", changedFile, module);
+                affectedModules.add(module);
+            }
+        }
+        return affectedModules;
+    }
+
+    @Nonnull
+    private static String git(@Nonnull File directory, @Nonnull String... arguments) throws IOException {
+        List<String> command = newArrayList("git");
+        command.addAll(asList(arguments));
+        Process process = new ProcessBuilder(command).directory(directory).start();
+        // drain stderr concurrently, so a chatty git cannot block on a full pipe
+        StreamCollector errorCollector = new StreamCollector(process.getErrorStream());
+        errorCollector.start();
+        String output;
+        InputStream in = process.getInputStream();
+        try {
+            output = new String(ByteStreams.toByteArray(in), UTF_8);
+        } finally {
+            in.close();
+        }
+        int exitCode;
+        String errorOutput;
+        try {
+            exitCode = process.waitFor();
+            errorOutput = errorCollector.getOutput();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for " + command + "!");
+        }
+        if (exitCode != 0) {
+            throw new IOException(command + " failed with exit code " + exitCode + ": " + errorOutput.trim());
+        }
+        return output;
+    }
+
+    private static final class StreamCollector extends Thread {
+        @Nonnull
+        private final InputStream in;
+        @Nonnull
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        public StreamCollector(@Nonnull InputStream in) {
+            super("git stderr collector");
+            setDaemon(true);
+            this.in = in;
+        }
+
+        @Override
+        public void run() {
+            try {
+                ByteStreams.copy(in, out);
+            } catch (IOException e) {
+                LoggerFactory.getLogger(GitDiff.class).debug("Failed to read the error output of git.", e);
+            } finally {
+                closeQuietly(in);
+            }
+        }
+
+        @Nonnull
+        public String getOutput() throws InterruptedException {
+            join();
+            return new String(out.toByteArray(), UTF_8);
+        }
+
+    }
+
+}
@@ -0,0 +1,318 @@
+package de.is24.deadcode4j.graph;
+
+import de.is24.deadcode4j.AnalyzedCode;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.collect.Maps.newHashMapWithExpectedSize;
+
+/**
+ * A <code>ClassGraph</code> is a compact, immutable representation of the dependency graph of {@link AnalyzedCode}.
+ * Each class (analyzed classes, dependers & dependees) is interned as a node identified by an <code>int</code>; the
+ * analyzed classes come first. The edges are stored as adjacency arrays in both directions, so both the dependees and
+ * the dependers of a node can be iterated without creating any objects:
+ * <pre>
+ * for (int i = graph.getFirstDependeeIndex(node); i &lt; graph.getEndDependeeIndex(node); i++) {
+ *     int dependee = graph.getDependee(i);
+ * }
+ * </pre>
+ *
+ * @since 2.2.0
+ */
+public final class ClassGraph {
+
+    @Nonnull
+    private final String[] names;
+    @Nonnull
+    private final Map<String, Integer> ids;
+    private final int numberOfAnalyzedClasses;
+    @Nonnull
+    private final int[] dependeeOffsets;
+    @Nonnull
+    private final int[] dependees;
+    @Nonnull
+    private final int[] dependerOffsets;
+    @Nonnull
+    private final int[] dependers;
+
+    private ClassGraph(@Nonnull String[] names,
+                       @Nonnull Map<String, Integer> ids,
+                       int numberOfAnalyzedClasses,
+                       @Nonnull int[] dependeeOffsets,
+                       @Nonnull int[] dependees) {
+        this.names = names;
+        this.ids = ids;
+        this.numberOfAnalyzedClasses = numberOfAnalyzedClasses;
+        this.dependeeOffsets = dependeeOffsets;
+        this.dependees = dependees;
+        this.dependerOffsets = new int[names.length + 1];
+        this.dependers = new int[dependees.length];
+        invertEdges();
+    }
+
+    /**
+     * Creates the <code>ClassGraph</code> of the given analyzed code.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static ClassGraph of(@Nonnull AnalyzedCode analyzedCode) {
+        Map<String, Set<String>> codeDependencies = analyzedCode.getCodeDependencies();
+        Map<String, Integer> ids = newHashMapWithExpectedSize(analyzedCode.getAnalyzedClasses().size());
+        Interner interner = new Interner(ids);
+        for (String analyzedClass : analyzedCode.getAnalyzedClasses()) {
+            interner.intern(analyzedClass);
+        }
+        int numberOfAnalyzedClasses = interner.size();
+        int numberOfEdges = 0;
+        for (Map.Entry<String, Set<String>> dependencies : codeDependencies.entrySet()) {
+            interner.intern(dependencies.getKey());
+            for (String dependee : dependencies.getValue()) {
+                interner.intern(dependee);
+            }
+            numberOfEdges += dependencies.getValue().size();
+        }
+
+        int numberOfNodes = interner.size();
+        int[] dependeeOffsets = new int[numberOfNodes + 1];
+        for (Map.Entry<String, Set<String>> dependencies : codeDependencies.entrySet()) {
+            dependeeOffsets[ids.get(dependencies.getKey()) + 1] = dependencies.getValue().size();
+        }
+        for (int i = 0; i < numberOfNodes; i++) {
+            dependeeOffsets[i + 1] += dependeeOffsets[i];
+        }
+        int[] dependees = new int[numberOfEdges];
+        for (Map.Entry<String, Set<String>> dependencies : codeDependencies.entrySet()) {
+            int position = dependeeOffsets[ids.get(dependencies.getKey())];
+            for (String dependee : dependencies.getValue()) {
+                dependees[position++] = ids.get(dependee);
+            }
+        }
+        return new ClassGraph(interner.getNames(), ids, numberOfAnalyzedClasses, dependeeOffsets, dependees);
+    }
+
+    private void invertEdges() {
+        for (int dependee : dependees) {
+            dependerOffsets[dependee + 1]++;
+        }
+        for (int i = 0; i < names.length; i++) {
+            dependerOffsets[i + 1] += dependerOffsets[i];
+        }
+        int[] positions = new int[names.length];
+        System.arraycopy(dependerOffsets, 0, positions, 0, names.length);
+        for (int depender = 0; depender < names.length; depender++) {
+            for (int i = dependeeOffsets[depender]; i < dependeeOffsets[depender + 1]; i++) {
+                dependers[positions[dependees[i]]++] = depender;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of nodes.
+     *
+     * @since 2.2.0
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Returns the number of edges.
+     *
+     * @since 2.2.0
+     */
+    public int getNumberOfEdges() {
+        return dependees.length;
+    }
+
+    /**
+     * Returns the name of the class represented by the given node.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public String getName(int node) {
+        checkElementIndex(node, names.length);
+        return names[node];
+    }
+
+    /**
+     * Returns the node representing the given class or <code>-1</code> if the class is not part of the graph.
+     *
+     * @since 2.2.0
+     */
+    public int getNode(@Nonnull String clazz) {
+        Integer id = ids.get(clazz);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Indicates if the given node represents an analyzed class - as opposed to a class only being referenced or a
+     * pseudo class like <tt>_Spring_XML_</tt>.
+     *
+     * @since 2.2.0
+     */
+    public boolean isAnalyzed(int node) {
+        return node < numberOfAnalyzedClasses;
+    }
+
+    /**
+     * Indicates if the given node is a root of the graph, i.e. an entry point keeping classes alive without being an
+     * analyzed class itself - typically a pseudo class like <tt>_Spring_XML_</tt> representing configuration files.
+     *
+     * @since 2.2.0
+     */
+    public boolean isRoot(int node) {
+        return !isAnalyzed(node) && dependeeOffsets[node] < dependeeOffsets[node + 1];
+    }
+
+    /**
+     * Returns the index of the first dependee of the given node, to be used with {@link #getDependee(int)}.
+     *
+     * @since 2.2.0
+     */
+    public int getFirstDependeeIndex(int node) {
+        return dependeeOffsets[node];
+    }
+
+    /**
+     * Returns the index after the last dependee of the given node.
+     *
+     * @since 2.2.0
+     */
+    public int getEndDependeeIndex(int node) {
+        return dependeeOffsets[node + 1];
+    }
+
+    /**
+     * Returns the dependee stored at the given index.
+     *
+     * @since 2.2.0
+     */
+    public int getDependee(int index) {
+        return dependees[index];
+    }
+
+    /**
+     * Returns the index of the first depender of the given node, to be used with {@link #getDepender(int)}.
+     *
+     * @since 2.2.0
+     */
+    public int getFirstDependerIndex(int node) {
+        return dependerOffsets[node];
+    }
+
+    /**
+     * Returns the index after the last depender of the given node.
+     *
+     * @since 2.2.0
+     */
+    public int getEndDependerIndex(int node) {
+        return dependerOffsets[node + 1];
+    }
+
+    /**
+     * Returns the depender stored at the given index.
+     *
+     * @since 2.2.0
+     */
+    public int getDepender(int index) {
+        return dependers[index];
+    }
+
+    /**
+     * Explains why the given class is alive: returns the shortest chain of dependencies leading from a
+     * {@link #isRoot(int) root} to the class, starting with the root and ending with the class itself. If the class is
+     * not reachable from any root but is still referenced, the chain starts at a class nobody depends on, i.e. a dead
+     * class. An empty list is returned if the class is not part of the graph or is referenced only within a cycle.
+     * <p/>
+     * The search walks the reverse index breadth-first, so it only visits the classes depending on the given one
+     * (transitively) - fast enough to be used interactively.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public List<String> getShortestPathFromRoot(@Nonnull String clazz) {
+        int target = getNode(clazz);
+        if (target < 0) {
+            return Collections.emptyList();
+        }
+        Map<Integer, Integer> successors = newHashMap();
+        successors.put(target, -1);
+        Deque<Integer> queue = new ArrayDeque<Integer>();
+        queue.add(target);
+        int fallback = -1;
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            if (isRoot(node)) {
+                return toPath(node, successors);
+            }
+            if (fallback < 0 && dependerOffsets[node] == dependerOffsets[node + 1]) {
+                fallback = node;
+            }
+            for (int i = dependerOffsets[node]; i < dependerOffsets[node + 1]; i++) {
+                int depender = dependers[i];
+                if (!successors.containsKey(depender)) {
+                    successors.put(depender, node);
+                    queue.add(depender);
+                }
+            }
+        }
+        return fallback < 0 ? Collections.<String>emptyList() : toPath(fallback, successors);
+    }
+
+    @Nonnull
+    private List<String> toPath(int start, @Nonnull Map<Integer, Integer> successors) {
+        List<String> path = newArrayList();
+        for (int node = start; node >= 0; node = successors.get(node)) {
+            path.add(names[node]);
+        }
+        return path;
+    }
+
+    private static final class Interner {
+        @Nonnull
+        private final Map<String, Integer> ids;
+        @Nonnull
+        private String[] names = new String[16];
+
+        Interner(@Nonnull Map<String, Integer> ids) {
+            this.ids = ids;
+        }
+
+        void intern(@Nonnull String name) {
+            if (ids.containsKey(name)) {
+                return;
+            }
+            int id = ids.size();
+            if (id == names.length) {
+                String[] newNames = new String[names.length * 2];
+                System.arraycopy(names, 0, newNames, 0, id);
+                names = newNames;
+            }
+            names[id] = name;
+            ids.put(name, id);
+        }
+
+        int size() {
+            return ids.size();
+        }
+
+        @Nonnull
+        String[] getNames() {
+            String[] result = new String[ids.size()];
+            System.arraycopy(names, 0, result, 0, result.length);
+            return result;
+        }
+    }
+
+}
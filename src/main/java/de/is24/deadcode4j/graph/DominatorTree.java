@@ -0,0 +1,253 @@
+package de.is24.deadcode4j.graph;
+
+import com.google.common.primitives.Ints;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.google.common.collect.Lists.newArrayList;
+
+/**
+ * The <code>DominatorTree</code> of a {@link ClassGraph} tells which classes keep which other classes alive
+ * exclusively: a class <i>d</i> dominates a class <i>c</i> if every path from any {@link ClassGraph#isRoot(int) root}
+ * to <i>c</i> passes through <i>d</i>. Thus, if <i>d</i> is deleted, all classes it dominates are no longer reachable
+ * and will eventually be reported as dead code.
+ * <p/>
+ * The tree is computed using the algorithm of Lengauer &amp; Tarjan (the simple version using path compression) with a
+ * virtual node connecting all roots; all traversals are iterative, so graphs of any depth are supported.
+ * Classes not reachable from any root are not part of the tree.
+ *
+ * @since 2.2.0
+ */
+public final class DominatorTree {
+
+    private static final int NONE = -1;
+    @Nonnull
+    private final ClassGraph graph;
+    /** The immediate dominator of each node; <code>NONE</code> for roots, unreachable nodes & those only dominated
+     * by the virtual node. */
+    @Nonnull
+    private final int[] immediateDominators;
+    @Nonnull
+    private final boolean[] reachable;
+    /** The number of analyzed classes dominated by each node, excluding the node itself. */
+    @Nonnull
+    private final int[] dominatedClasses;
+
+    private DominatorTree(@Nonnull ClassGraph graph,
+                          @Nonnull int[] immediateDominators,
+                          @Nonnull boolean[] reachable,
+                          @Nonnull int[] dominatedClasses) {
+        this.graph = graph;
+        this.immediateDominators = immediateDominators;
+        this.reachable = reachable;
+        this.dominatedClasses = dominatedClasses;
+    }
+
+    /**
+     * Computes the dominator tree of the given graph.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static DominatorTree of(@Nonnull ClassGraph graph) {
+        int size = graph.size();
+        int virtualRoot = size;
+        int[] roots = findRoots(graph);
+
+        // depth-first search numbering the nodes in preorder; the virtual root is number 0
+        int[] numberOf = new int[size + 1];
+        Arrays.fill(numberOf, NONE);
+        int[] vertex = new int[size + 1];
+        int[] parent = new int[size + 1];
+        int[] callStack = new int[size + 1];
+        int[] edgePositions = new int[size + 1];
+        int numberOfVertices = 0;
+        numberOf[virtualRoot] = numberOfVertices;
+        vertex[numberOfVertices++] = virtualRoot;
+        callStack[0] = virtualRoot;
+        edgePositions[0] = 0;
+        int callStackSize = 1;
+        while (callStackSize > 0) {
+            int node = callStack[callStackSize - 1];
+            int edgePosition = edgePositions[callStackSize - 1]++;
+            int successor;
+            if (node == virtualRoot) {
+                if (edgePosition >= roots.length) {
+                    callStackSize--;
+                    continue;
+                }
+                successor = roots[edgePosition];
+            } else {
+                int index = graph.getFirstDependeeIndex(node) + edgePosition;
+                if (index >= graph.getEndDependeeIndex(node)) {
+                    callStackSize--;
+                    continue;
+                }
+                successor = graph.getDependee(index);
+            }
+            if (numberOf[successor] == NONE) {
+                numberOf[successor] = numberOfVertices;
+                vertex[numberOfVertices] = successor;
+                parent[numberOfVertices++] = numberOf[node];
+                callStack[callStackSize] = successor;
+                edgePositions[callStackSize++] = 0;
+            }
+        }
+
+        // from here on, all arrays are indexed by preorder number
+        int[] semi = new int[numberOfVertices];
+        int[] label = new int[numberOfVertices];
+        int[] ancestor = new int[numberOfVertices];
+        int[] idom = new int[numberOfVertices];
+        int[] bucketHead = new int[numberOfVertices];
+        int[] bucketNext = new int[numberOfVertices];
+        for (int v = 0; v < numberOfVertices; v++) {
+            semi[v] = label[v] = v;
+            ancestor[v] = bucketHead[v] = NONE;
+        }
+        int[] path = new int[numberOfVertices];
+        for (int w = numberOfVertices - 1; w > 0; w--) {
+            int node = vertex[w];
+            if (graph.isRoot(node)) {
+                semi[w] = 0;
+            }
+            for (int i = graph.getFirstDependerIndex(node); i < graph.getEndDependerIndex(node); i++) {
+                int v = numberOf[graph.getDepender(i)];
+                if (v == NONE) {
+                    continue;
+                }
+                int u = eval(v, ancestor, label, semi, path);
+                if (semi[u] < semi[w]) {
+                    semi[w] = semi[u];
+                }
+            }
+            bucketNext[w] = bucketHead[semi[w]];
+            bucketHead[semi[w]] = w;
+            int p = parent[w];
+            ancestor[w] = p;
+            for (int v = bucketHead[p]; v != NONE; v = bucketNext[v]) {
+                int u = eval(v, ancestor, label, semi, path);
+                idom[v] = semi[u] < semi[v] ? u : p;
+            }
+            bucketHead[p] = NONE;
+        }
+        for (int w = 1; w < numberOfVertices; w++) {
+            if (idom[w] != semi[w]) {
+                idom[w] = idom[idom[w]];
+            }
+        }
+
+        int[] subtreeSizes = new int[numberOfVertices];
+        for (int w = numberOfVertices - 1; w > 0; w--) {
+            if (graph.isAnalyzed(vertex[w])) {
+                subtreeSizes[w]++;
+            }
+            subtreeSizes[idom[w]] += subtreeSizes[w];
+        }
+
+        int[] immediateDominators = new int[size];
+        Arrays.fill(immediateDominators, NONE);
+        boolean[] reachable = new boolean[size];
+        int[] dominatedClasses = new int[size];
+        for (int w = 1; w < numberOfVertices; w++) {
+            int node = vertex[w];
+            reachable[node] = true;
+            immediateDominators[node] = idom[w] == 0 ? NONE : vertex[idom[w]];
+            dominatedClasses[node] = subtreeSizes[w] - (graph.isAnalyzed(node) ? 1 : 0);
+        }
+        return new DominatorTree(graph, immediateDominators, reachable, dominatedClasses);
+    }
+
+    @Nonnull
+    private static int[] findRoots(@Nonnull ClassGraph graph) {
+        List<Integer> roots = newArrayList();
+        for (int node = 0; node < graph.size(); node++) {
+            if (graph.isRoot(node)) {
+                roots.add(node);
+            }
+        }
+        return Ints.toArray(roots);
+    }
+
+    /**
+     * Returns the vertex with the minimal semidominator on the path from <code>v</code> to the root of its tree in
+     * the forest built so far, compressing that path on the way.
+     */
+    private static int eval(int v, @Nonnull int[] ancestor, @Nonnull int[] label, @Nonnull int[] semi,
+                            @Nonnull int[] path) {
+        if (ancestor[v] == NONE) {
+            return v;
+        }
+        int pathLength = 0;
+        for (int x = v; ancestor[ancestor[x]] != NONE; x = ancestor[x]) {
+            path[pathLength++] = x;
+        }
+        while (pathLength > 0) {
+            int x = path[--pathLength];
+            int a = ancestor[x];
+            if (semi[label[a]] < semi[label[x]]) {
+                label[x] = label[a];
+            }
+            ancestor[x] = ancestor[a];
+        }
+        return label[v];
+    }
+
+    /**
+     * Indicates if the given node is reachable from any root.
+     *
+     * @since 2.2.0
+     */
+    public boolean isReachable(int node) {
+        return reachable[node];
+    }
+
+    /**
+     * Returns the immediate dominator of the given node or <code>-1</code> if the node is not dominated by any single
+     * node, e.g. because it is used by several roots.
+     *
+     * @since 2.2.0
+     */
+    public int getImmediateDominator(int node) {
+        return immediateDominators[node];
+    }
+
+    /**
+     * Returns the number of analyzed classes the given node keeps alive exclusively, i.e. the number of classes
+     * becoming unreachable if it is removed.
+     *
+     * @since 2.2.0
+     */
+    public int getNumberOfDominatedClasses(int node) {
+        return dominatedClasses[node];
+    }
+
+    /**
+     * Returns all reachable analyzed classes keeping alive at least one other class exclusively, ordered by the number
+     * of classes they keep alive (descending) and by name.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public List<Integer> rankByRemovalImpact() {
+        List<Integer> ranking = newArrayList();
+        for (int node = 0; node < dominatedClasses.length; node++) {
+            if (reachable[node] && graph.isAnalyzed(node) && dominatedClasses[node] > 0) {
+                ranking.add(node);
+            }
+        }
+        Collections.sort(ranking, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                int byImpact = Ints.compare(dominatedClasses[b], dominatedClasses[a]);
+                return byImpact != 0 ? byImpact : graph.getName(a).compareTo(graph.getName(b));
+            }
+        });
+        return ranking;
+    }
+
+}
@@ -0,0 +1,74 @@
+package de.is24.deadcode4j.graph;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * The <code>DotWriter</code> writes a graph in the <a href="http://www.graphviz.org/">Graphviz</a> DOT language.
+ * Each node is labeled with its class name and carries the <tt>analyzed</tt>, <tt>dead</tt> &amp; <tt>module</tt>
+ * attributes; classes not being analyzed are drawn dashed, dead classes red.
+ *
+ * @since 2.2.0
+ */
+public class DotWriter extends GraphWriter {
+
+    private static void writeQuoted(@Nonnull Writer writer, @Nonnull String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                writer.write('\\');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    @Nonnull
+    @Override
+    public String getFileExtension() {
+        return "dot";
+    }
+
+    @Override
+    protected void startGraph(@Nonnull Writer writer, @Nonnull ClassGraph graph) throws IOException {
+        writer.write("digraph deadcode4j {\n");
+    }
+
+    @Override
+    protected void writeNode(@Nonnull Writer writer,
+                             int node,
+                             @Nonnull String className,
+                             boolean analyzed,
+                             boolean dead,
+                             @Nullable String module) throws IOException {
+        writer.write("  n");
+        writer.write(Integer.toString(node));
+        writer.write(" [label=");
+        writeQuoted(writer, className);
+        writer.write(analyzed ? ", analyzed=true" : ", analyzed=false, style=dashed");
+        writer.write(dead ? ", dead=true, color=red" : ", dead=false");
+        if (module != null) {
+            writer.write(", module=");
+            writeQuoted(writer, module);
+        }
+        writer.write("];\n");
+    }
+
+    @Override
+    protected void writeEdge(@Nonnull Writer writer, int depender, int dependee) throws IOException {
+        writer.write("  n");
+        writer.write(Integer.toString(depender));
+        writer.write(" -> n");
+        writer.write(Integer.toString(dependee));
+        writer.write(";\n");
+    }
+
+    @Override
+    protected void endGraph(@Nonnull Writer writer) throws IOException {
+        writer.write("}\n");
+    }
+
+}
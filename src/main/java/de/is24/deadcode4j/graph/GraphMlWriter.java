@@ -0,0 +1,104 @@
+package de.is24.deadcode4j.graph;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * The <code>GraphMlWriter</code> writes a graph in the <a href="http://graphml.graphdrawing.org/">GraphML</a> format;
+ * each node carries the class name, the <tt>analyzed</tt> &amp; <tt>dead</tt> flags and the module as data.
+ *
+ * @since 2.2.0
+ */
+public class GraphMlWriter extends GraphWriter {
+
+    private static void writeEscaped(@Nonnull Writer writer, @Nonnull String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '<':
+                    writer.write("&lt;");
+                    break;
+                case '>':
+                    writer.write("&gt;");
+                    break;
+                case '&':
+                    writer.write("&amp;");
+                    break;
+                case '"':
+                    writer.write("&quot;");
+                    break;
+                default:
+                    writer.write(c);
+            }
+        }
+    }
+
+    private static void writeData(@Nonnull Writer writer, @Nonnull String key, @Nonnull String value)
+            throws IOException {
+        writer.write("<data key=\"");
+        writer.write(key);
+        writer.write("\">");
+        writeEscaped(writer, value);
+        writer.write("</data>");
+    }
+
+    @Nonnull
+    @Override
+    public String getFileExtension() {
+        return "graphml";
+    }
+
+    @Override
+    protected void startGraph(@Nonnull Writer writer, @Nonnull ClassGraph graph) throws IOException {
+        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        writer.write("<graphml xmlns=\"http://graphml.graphdrawing.org/xmlns\">\n");
+        writer.write("  <key id=\"class\" for=\"node\" attr.name=\"class\" attr.type=\"string\"/>\n");
+        writer.write("  <key id=\"analyzed\" for=\"node\" attr.name=\"analyzed\" attr.type=\"boolean\">"
+                + "<default>false</default></key>\n");
+        writer.write("  <key id=\"dead\" for=\"node\" attr.name=\"dead\" attr.type=\"boolean\">"
+                + "<default>false</default></key>\n");
+        writer.write("  <key id=\"module\" for=\"node\" attr.name=\"module\" attr.type=\"string\"/>\n");
+        writer.write("  <graph id=\"deadcode4j\" edgedefault=\"directed\">\n");
+    }
+
+    @Override
+    protected void writeNode(@Nonnull Writer writer,
+                             int node,
+                             @Nonnull String className,
+                             boolean analyzed,
+                             boolean dead,
+                             @Nullable String module) throws IOException {
+        writer.write("    <node id=\"n");
+        writer.write(Integer.toString(node));
+        writer.write("\">");
+        writeData(writer, "class", className);
+        if (analyzed) {
+            writeData(writer, "analyzed", "true");
+        }
+        if (dead) {
+            writeData(writer, "dead", "true");
+        }
+        if (module != null) {
+            writeData(writer, "module", module);
+        }
+        writer.write("</node>\n");
+    }
+
+    @Override
+    protected void writeEdge(@Nonnull Writer writer, int depender, int dependee) throws IOException {
+        writer.write("    <edge source=\"n");
+        writer.write(Integer.toString(depender));
+        writer.write("\" target=\"n");
+        writer.write(Integer.toString(dependee));
+        writer.write("\"/>\n");
+    }
+
+    @Override
+    protected void endGraph(@Nonnull Writer writer) throws IOException {
+        writer.write("  </graph>\n");
+        writer.write("</graphml>\n");
+    }
+
+}
@@ -0,0 +1,160 @@
+package de.is24.deadcode4j.graph;
+
+import com.google.common.base.Charsets;
+import de.is24.deadcode4j.DeadCode;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.*;
+import java.util.BitSet;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A <code>GraphWriter</code> streams a {@link ClassGraph} - along with the information which classes are analyzed or
+ * dead and which module they belong to - into a file that can be loaded into graph databases or visualization tools.
+ * The nodes and edges are written straight from the graph's arrays, so the memory required does not depend on the
+ * size of the graph; subclasses only need to define the format.
+ *
+ * @since 2.2.0
+ */
+public abstract class GraphWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Returns the <code>GraphWriter</code> for the given format.
+     *
+     * @param format one of <tt>graphml</tt>, <tt>dot</tt> or <tt>tgf</tt> (case insensitive)
+     * @throws IllegalArgumentException if the format is not supported
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static GraphWriter forFormat(@Nonnull String format) throws IllegalArgumentException {
+        String normalizedFormat = format.trim().toLowerCase(Locale.ENGLISH);
+        if ("graphml".equals(normalizedFormat)) {
+            return new GraphMlWriter();
+        }
+        if ("dot".equals(normalizedFormat)) {
+            return new DotWriter();
+        }
+        checkArgument("tgf".equals(normalizedFormat),
+                "The graph format [" + format + "] is not supported; use one of [graphml, dot, tgf]!");
+        return new TgfWriter();
+    }
+
+    /**
+     * Returns the file extension (without a leading dot) of the files written by this <code>GraphWriter</code>.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public abstract String getFileExtension();
+
+    /**
+     * Writes the given graph into a file called <tt>deadcode4j.<i>extension</i></tt> located in the specified
+     * directory, which is created if necessary.
+     *
+     * @param modulesOfClasses maps the analyzed classes to the ID of the module they belong to
+     * @return the written file
+     * @since 2.2.0
+     */
+    @Nonnull
+    public final File write(@Nonnull ClassGraph graph,
+                            @Nonnull DeadCode deadCode,
+                            @Nonnull Map<String, String> modulesOfClasses,
+                            @Nonnull File directory) throws IOException {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Failed to create directory [" + directory + "]!");
+        }
+        File graphFile = new File(directory, "deadcode4j." + getFileExtension());
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(graphFile), Charsets.UTF_8), BUFFER_SIZE);
+        try {
+            write(graph, deadCode, modulesOfClasses, writer);
+        } finally {
+            writer.close();
+        }
+        return graphFile;
+    }
+
+    /**
+     * Writes the given graph to the given <code>Writer</code>.
+     *
+     * @param modulesOfClasses maps the analyzed classes to the ID of the module they belong to
+     * @since 2.2.0
+     */
+    public final void write(@Nonnull ClassGraph graph,
+                            @Nonnull DeadCode deadCode,
+                            @Nonnull Map<String, String> modulesOfClasses,
+                            @Nonnull Writer writer) throws IOException {
+        BitSet deadNodes = new BitSet(graph.size());
+        for (String deadClass : deadCode.getDeadClasses()) {
+            int node = graph.getNode(deadClass);
+            if (node >= 0) {
+                deadNodes.set(node);
+            }
+        }
+        startGraph(writer, graph);
+        for (int node = 0; node < graph.size(); node++) {
+            String className = graph.getName(node);
+            writeNode(writer, node, className, graph.isAnalyzed(node), deadNodes.get(node),
+                    modulesOfClasses.get(className));
+        }
+        startEdges(writer);
+        for (int node = 0; node < graph.size(); node++) {
+            for (int i = graph.getFirstDependeeIndex(node); i < graph.getEndDependeeIndex(node); i++) {
+                writeEdge(writer, node, graph.getDependee(i));
+            }
+        }
+        endGraph(writer);
+        writer.flush();
+    }
+
+    /**
+     * Called once before any node is written.
+     *
+     * @since 2.2.0
+     */
+    protected abstract void startGraph(@Nonnull Writer writer, @Nonnull ClassGraph graph) throws IOException;
+
+    /**
+     * Called for each node.
+     *
+     * @param node   the node's ID, which is used to refer to it when writing edges
+     * @param module the ID of the module the class belongs to or <code>null</code> if it is not analyzed
+     * @since 2.2.0
+     */
+    protected abstract void writeNode(@Nonnull Writer writer,
+                                      int node,
+                                      @Nonnull String className,
+                                      boolean analyzed,
+                                      boolean dead,
+                                      @Nullable String module) throws IOException;
+
+    /**
+     * Called once after all nodes and before any edge is written.
+     *
+     * @since 2.2.0
+     */
+    protected void startEdges(@Nonnull Writer writer) throws IOException {
+    }
+
+    /**
+     * Called for each dependency.
+     *
+     * @since 2.2.0
+     */
+    protected abstract void writeEdge(@Nonnull Writer writer, int depender, int dependee) throws IOException;
+
+    /**
+     * Called once after all edges were written.
+     *
+     * @since 2.2.0
+     */
+    protected void endGraph(@Nonnull Writer writer) throws IOException {
+    }
+
+}
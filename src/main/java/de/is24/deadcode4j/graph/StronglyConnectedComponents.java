@@ -0,0 +1,139 @@
+package de.is24.deadcode4j.graph;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+
+/**
+ * Computes the strongly connected components of a {@link ClassGraph} using Tarjan's algorithm. The implementation is
+ * iterative - it maintains an explicit call stack - so it handles graphs of any depth without risking a
+ * <code>StackOverflowError</code>; it runs in linear time.
+ * <p/>
+ * The components are numbered in reverse topological order: if a node of component <i>a</i> depends on a node of
+ * another component <i>b</i>, then <i>a</i> &gt; <i>b</i>.
+ *
+ * @since 2.2.0
+ */
+public final class StronglyConnectedComponents {
+
+    @Nonnull
+    private final int[] componentOf;
+    private final int numberOfComponents;
+
+    private StronglyConnectedComponents(@Nonnull int[] componentOf, int numberOfComponents) {
+        this.componentOf = componentOf;
+        this.numberOfComponents = numberOfComponents;
+    }
+
+    /**
+     * Computes the strongly connected components of the given graph.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static StronglyConnectedComponents of(@Nonnull ClassGraph graph) {
+        int size = graph.size();
+        int[] index = new int[size];
+        Arrays.fill(index, -1);
+        int[] lowLink = new int[size];
+        int[] componentOf = new int[size];
+        Arrays.fill(componentOf, -1);
+        boolean[] onStack = new boolean[size];
+        int[] stack = new int[size];
+        int stackSize = 0;
+        int[] callStack = new int[size];
+        int[] edgePositions = new int[size];
+        int callStackSize;
+        int nextIndex = 0;
+        int numberOfComponents = 0;
+
+        for (int root = 0; root < size; root++) {
+            if (index[root] >= 0) {
+                continue;
+            }
+            index[root] = lowLink[root] = nextIndex++;
+            stack[stackSize++] = root;
+            onStack[root] = true;
+            callStack[0] = root;
+            edgePositions[0] = graph.getFirstDependeeIndex(root);
+            callStackSize = 1;
+
+            while (callStackSize > 0) {
+                int node = callStack[callStackSize - 1];
+                int edgePosition = edgePositions[callStackSize - 1];
+                if (edgePosition < graph.getEndDependeeIndex(node)) {
+                    edgePositions[callStackSize - 1]++;
+                    int dependee = graph.getDependee(edgePosition);
+                    if (index[dependee] < 0) {
+                        index[dependee] = lowLink[dependee] = nextIndex++;
+                        stack[stackSize++] = dependee;
+                        onStack[dependee] = true;
+                        callStack[callStackSize] = dependee;
+                        edgePositions[callStackSize] = graph.getFirstDependeeIndex(dependee);
+                        callStackSize++;
+                    } else if (onStack[dependee]) {
+                        lowLink[node] = Math.min(lowLink[node], index[dependee]);
+                    }
+                    continue;
+                }
+                if (lowLink[node] == index[node]) {
+                    int member;
+                    do {
+                        member = stack[--stackSize];
+                        onStack[member] = false;
+                        componentOf[member] = numberOfComponents;
+                    } while (member != node);
+                    numberOfComponents++;
+                }
+                callStackSize--;
+                if (callStackSize > 0) {
+                    int caller = callStack[callStackSize - 1];
+                    lowLink[caller] = Math.min(lowLink[caller], lowLink[node]);
+                }
+            }
+        }
+        return new StronglyConnectedComponents(componentOf, numberOfComponents);
+    }
+
+    /**
+     * Returns the number of components.
+     *
+     * @since 2.2.0
+     */
+    public int getNumberOfComponents() {
+        return numberOfComponents;
+    }
+
+    /**
+     * Returns the component the given node belongs to.
+     *
+     * @since 2.2.0
+     */
+    public int getComponentOf(int node) {
+        return componentOf[node];
+    }
+
+    /**
+     * Returns the members of all components: the members of component <i>c</i> are stored in the returned array
+     * between the indexes <code>offsets[c]</code> (inclusive) and <code>offsets[c + 1]</code> (exclusive).
+     *
+     * @param offsets an array of length {@link #getNumberOfComponents()} + 1, which is filled by this method
+     * @since 2.2.0
+     */
+    @Nonnull
+    public int[] getMembers(@Nonnull int[] offsets) {
+        Arrays.fill(offsets, 0);
+        for (int component : componentOf) {
+            offsets[component + 1]++;
+        }
+        for (int i = 0; i < numberOfComponents; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        int[] positions = Arrays.copyOf(offsets, numberOfComponents);
+        int[] members = new int[componentOf.length];
+        for (int node = 0; node < componentOf.length; node++) {
+            members[positions[componentOf[node]]++] = node;
+        }
+        return members;
+    }
+
+}
@@ -0,0 +1,70 @@
+package de.is24.deadcode4j.graph;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * The <code>TgfWriter</code> writes a graph as compact edge list in the Trivial Graph Format: one line per node
+ * consisting of its ID and its label, a line containing only <tt>#</tt> and one line per edge consisting of the IDs of
+ * the depender and the dependee. The label is the class name, followed by the flags <tt>analyzed</tt> and
+ * <tt>dead</tt> if they apply and by the module, e.g.
+ * <pre>
+ * 0 de.is24.Foo analyzed dead module=de.is24:foo
+ * 1 java.lang.Object
+ * #
+ * 0 1
+ * </pre>
+ *
+ * @since 2.2.0
+ */
+public class TgfWriter extends GraphWriter {
+
+    @Nonnull
+    @Override
+    public String getFileExtension() {
+        return "tgf";
+    }
+
+    @Override
+    protected void startGraph(@Nonnull Writer writer, @Nonnull ClassGraph graph) {
+    }
+
+    @Override
+    protected void writeNode(@Nonnull Writer writer,
+                             int node,
+                             @Nonnull String className,
+                             boolean analyzed,
+                             boolean dead,
+                             @Nullable String module) throws IOException {
+        writer.write(Integer.toString(node));
+        writer.write(' ');
+        writer.write(className);
+        if (analyzed) {
+            writer.write(" analyzed");
+        }
+        if (dead) {
+            writer.write(" dead");
+        }
+        if (module != null) {
+            writer.write(" module=");
+            writer.write(module);
+        }
+        writer.write('\n');
+    }
+
+    @Override
+    protected void startEdges(@Nonnull Writer writer) throws IOException {
+        writer.write("#\n");
+    }
+
+    @Override
+    protected void writeEdge(@Nonnull Writer writer, int depender, int dependee) throws IOException {
+        writer.write(Integer.toString(depender));
+        writer.write(' ');
+        writer.write(Integer.toString(dependee));
+        writer.write('\n');
+    }
+
+}
@@ -0,0 +1,261 @@
+package de.is24.deadcode4j.javac;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Multimaps;
+import com.google.common.collect.SetMultimap;
+import de.is24.deadcode4j.Module;
+import de.is24.deadcode4j.Repository;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.*;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.collect.Maps.newHashMap;
+
+/**
+ * <code>JavacDependencies</code> represents the dependencies recorded by the <code>DependencyRecordingPlugin</code>
+ * (available if deadcode4j is built with JDK 8 or later) while compiling the java files of a module. The dependencies are stored in a sidecar file next to the module's output
+ * directory, i.e. <tt>target/deadcode4j-javac.deps</tt>.
+ * <p/>
+ * Each compilation appends to the sidecar file, so the main and the test sources of a module may share it. If a class
+ * is recorded several times, e.g. because it was recompiled, only its latest record is taken into account.
+ * <p/>
+ * The file is a UTF-8 encoded text file; each line consists of a record type and two tab separated values:
+ * <ul>
+ * <li><tt>S</tt> starts the section of a top level class, followed by the source file & the class name</li>
+ * <li>all other record types denote a {@link Kind dependency}, followed by depender & dependee</li>
+ * </ul>
+ *
+ * @since 2.2.0
+ */
+public final class JavacDependencies {
+
+    /**
+     * The name of the sidecar file.
+     *
+     * @since 2.2.0
+     */
+    public static final String FILE_NAME = "deadcode4j-javac.deps";
+    private static final char SECTION = 'S';
+    /** Maps each source file to the dependencies of its top level classes. */
+    @Nonnull
+    private final Map<String, Map<String, Map<Kind, SetMultimap<String, String>>>> dependenciesBySourceFile;
+
+    private JavacDependencies(
+            @Nonnull Map<String, Map<String, Map<Kind, SetMultimap<String, String>>>> dependenciesBySourceFile) {
+        this.dependenciesBySourceFile = dependenciesBySourceFile;
+    }
+
+    /**
+     * Returns the sidecar file the dependencies of the given module are expected in or <code>null</code> if the module
+     * has no output directory.
+     *
+     * @since 2.2.0
+     */
+    @Nullable
+    public static File getFileFor(@Nonnull Module module) {
+        Repository outputRepository = module.getOutputRepository();
+        if (outputRepository == null) {
+            return null;
+        }
+        File buildDirectory = outputRepository.getDirectory().getAbsoluteFile().getParentFile();
+        return buildDirectory == null ? null : new File(buildDirectory, FILE_NAME);
+    }
+
+    /**
+     * Reads the recorded dependencies from the given sidecar file.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static JavacDependencies read(@Nonnull File file) throws IOException {
+        Map<String, Map<String, Map<Kind, SetMultimap<String, String>>>> dependenciesBySourceFile = newHashMap();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), Charsets.UTF_8));
+        try {
+            Map<Kind, SetMultimap<String, String>> currentSection = null;
+            int lineNumber = 0;
+            for (String line; (line = reader.readLine()) != null; ) {
+                lineNumber++;
+                if (line.isEmpty()) {
+                    continue;
+                }
+                int separator = line.indexOf('\t', 2);
+                if (line.length() < 3 || line.charAt(1) != ' ' || separator < 0) {
+                    throw new IOException("Malformed line " + lineNumber + " in [" + file + "]: " + line);
+                }
+                String first = line.substring(2, separator);
+                String second = line.substring(separator + 1);
+                char recordType = line.charAt(0);
+                if (recordType == SECTION) {
+                    Map<String, Map<Kind, SetMultimap<String, String>>> sectionsOfSourceFile =
+                            dependenciesBySourceFile.get(first);
+                    if (sectionsOfSourceFile == null) {
+                        sectionsOfSourceFile = newHashMap();
+                        dependenciesBySourceFile.put(first, sectionsOfSourceFile);
+                    }
+                    currentSection = newHashMap();
+                    sectionsOfSourceFile.put(second, currentSection); // replaces an earlier record of the class
+                    continue;
+                }
+                Kind kind = Kind.forRecordType(recordType);
+                if (kind == null || currentSection == null) {
+                    throw new IOException("Malformed line " + lineNumber + " in [" + file + "]: " + line);
+                }
+                SetMultimap<String, String> dependencies = currentSection.get(kind);
+                if (dependencies == null) {
+                    dependencies = HashMultimap.create();
+                    currentSection.put(kind, dependencies);
+                }
+                dependencies.put(first, second);
+            }
+        } finally {
+            reader.close();
+        }
+        return new JavacDependencies(dependenciesBySourceFile);
+    }
+
+    /**
+     * Returns a <code>Writer</code> to record dependencies into the given sidecar file. The file is created if
+     * necessary; an existing file is appended to, thus keeping the dependencies recorded by earlier compilations.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static Writer createWriter(@Nonnull File file) throws IOException {
+        File directory = file.getAbsoluteFile().getParentFile();
+        if (directory != null && !directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Failed to create directory [" + directory + "]!");
+        }
+        new FileOutputStream(file, true).close();
+        return new Writer(file);
+    }
+
+    @Nonnull
+    private static String toKey(@Nonnull File sourceFile) {
+        return sourceFile.getAbsoluteFile().toURI().normalize().getPath();
+    }
+
+    /**
+     * Indicates if the dependencies of the given java file were recorded.
+     *
+     * @since 2.2.0
+     */
+    public boolean covers(@Nonnull File sourceFile) {
+        return dependenciesBySourceFile.containsKey(toKey(sourceFile));
+    }
+
+    /**
+     * Returns the recorded dependencies of the specified kind for the given java file, mapping each depender to its
+     * dependees.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public Map<String, Set<String>> getDependencies(@Nonnull File sourceFile, @Nonnull Kind kind) {
+        Map<String, Map<Kind, SetMultimap<String, String>>> sections = dependenciesBySourceFile.get(toKey(sourceFile));
+        if (sections == null) {
+            return Collections.emptyMap();
+        }
+        SetMultimap<String, String> dependencies = HashMultimap.create();
+        for (Map<Kind, SetMultimap<String, String>> section : sections.values()) {
+            SetMultimap<String, String> dependenciesOfKind = section.get(kind);
+            if (dependenciesOfKind != null) {
+                dependencies.putAll(dependenciesOfKind);
+            }
+        }
+        return Multimaps.asMap(dependencies);
+    }
+
+    /**
+     * The kinds of dependencies being recorded.
+     *
+     * @since 2.2.0
+     */
+    public enum Kind {
+        /**
+         * A reference to a compile-time constant, which the compiler inlines.
+         *
+         * @since 2.2.0
+         */
+        CONSTANT('K'),
+        /**
+         * The usage of a class as type argument, which is erased by the compiler.
+         *
+         * @since 2.2.0
+         */
+        TYPE_ARGUMENT('G');
+
+        private final char recordType;
+
+        Kind(char recordType) {
+            this.recordType = recordType;
+        }
+
+        @Nullable
+        private static Kind forRecordType(char recordType) {
+            for (Kind kind : values()) {
+                if (kind.recordType == recordType) {
+                    return kind;
+                }
+            }
+            return null;
+        }
+
+    }
+
+    /**
+     * A <code>Writer</code> appends the dependencies of top level classes to a sidecar file.
+     *
+     * @since 2.2.0
+     */
+    public static final class Writer {
+        @Nonnull
+        private final File file;
+
+        private Writer(@Nonnull File file) {
+            this.file = file;
+        }
+
+        /**
+         * Appends the dependencies recorded for the given top level class.
+         *
+         * @since 2.2.0
+         */
+        public synchronized void write(@Nonnull File sourceFile,
+                                       @Nonnull String className,
+                                       @Nonnull Map<Kind, SetMultimap<String, String>> dependencies)
+                throws IOException {
+            java.io.Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(new FileOutputStream(file, true), Charsets.UTF_8));
+            try {
+                writeRecord(writer, SECTION, toKey(sourceFile), className);
+                for (Map.Entry<Kind, SetMultimap<String, String>> dependenciesOfKind : dependencies.entrySet()) {
+                    char recordType = dependenciesOfKind.getKey().recordType;
+                    for (Map.Entry<String, String> dependency : dependenciesOfKind.getValue().entries()) {
+                        writeRecord(writer, recordType, dependency.getKey(), dependency.getValue());
+                    }
+                }
+            } finally {
+                writer.close();
+            }
+        }
+
+        private void writeRecord(@Nonnull java.io.Writer writer,
+                                 char recordType,
+                                 @Nonnull String first,
+                                 @Nonnull String second) throws IOException {
+            writer.write(recordType);
+            writer.write(' ');
+            writer.write(first);
+            writer.write('\t');
+            writer.write(second);
+            writer.write('\n');
+        }
+
+    }
+
+}
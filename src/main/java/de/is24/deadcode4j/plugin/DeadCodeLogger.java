@@ -2,12 +2,15 @@ package de.is24.deadcode4j.plugin;
 
 import com.google.common.collect.Ordering;
 import de.is24.deadcode4j.AnalysisStage;
+import de.is24.deadcode4j.DeadClassesDiff;
 import de.is24.deadcode4j.DeadCode;
 import org.apache.maven.plugin.logging.Log;
 
 import javax.annotation.Nonnull;
+import java.io.File;
 import java.util.Collection;
 import java.util.EnumSet;
+import java.util.List;
 
 /**
  * The <code>DeadCodeLogger</code> is responsible for logging the findings of a code analysis.
@@ -26,6 +29,56 @@ class DeadCodeLogger {
         logExceptions(deadCode.getStagesWithExceptions());
         logAnalyzedClasses(deadCode.getAnalyzedClasses());
         logDeadClasses(deadCode.getDeadClasses());
+        logDeadClusters(deadCode.getDeadClusters());
+    }
+
+    /**
+     * Logs only a summary of the findings, referring to the report listing the dead classes.
+     *
+     * @since 2.2.0
+     */
+    public void logSummary(@Nonnull DeadCode deadCode, @Nonnull File report) {
+        logExceptions(deadCode.getStagesWithExceptions());
+        logAnalyzedClasses(deadCode.getAnalyzedClasses());
+        logDeadClusters(deadCode.getDeadClusters());
+        int numberOfDeadClasses = deadCode.getDeadClasses().size();
+        if (numberOfDeadClasses == 0) {
+            log.info("No unused classes found. Rejoice!");
+            return;
+        }
+        log.warn("Found " + numberOfDeadClasses + " unused class(es); see [" + report + "] for details.");
+    }
+
+    /**
+     * Logs the changes of the findings of two subsequent code analyses.
+     *
+     * @since 2.2.0
+     */
+    public void logDelta(@Nonnull Collection<String> previousDeadClasses, @Nonnull DeadCode deadCode) {
+        logDelta(DeadClassesDiff.of(Ordering.natural().sortedCopy(previousDeadClasses),
+                Ordering.natural().sortedCopy(deadCode.getDeadClasses())), deadCode);
+    }
+
+    /**
+     * Logs the given changes of the findings.
+     *
+     * @since 2.2.0
+     */
+    public void logDelta(@Nonnull DeadClassesDiff diff, @Nonnull DeadCode deadCode) {
+        logExceptions(deadCode.getStagesWithExceptions());
+        int numberOfDeadClasses = deadCode.getDeadClasses().size();
+        if (diff.isEmpty()) {
+            log.info("Unused classes are unchanged; there are " + numberOfDeadClasses + " of them.");
+            return;
+        }
+        for (String newDeadClass : diff.getNewDeadClasses()) {
+            log.warn("+ " + newDeadClass);
+        }
+        for (String revivedClass : diff.getRevivedClasses()) {
+            log.info("- " + revivedClass);
+        }
+        log.info("Found " + diff.getNewDeadClasses().size() + " new and " + diff.getRevivedClasses().size()
+                + " no longer unused class(es); there are " + numberOfDeadClasses + " unused class(es) now.");
     }
 
     private void logExceptions(EnumSet<AnalysisStage> stagesWithExceptions) {
@@ -66,4 +119,14 @@ class DeadCodeLogger {
         }
     }
 
+    private void logDeadClusters(@Nonnull List<Collection<String>> deadClusters) {
+        if (deadClusters.isEmpty()) {
+            return;
+        }
+        log.warn("Found " + deadClusters.size() + " cluster(s) of classes referenced only by each other or by unused code:");
+        for (Collection<String> deadCluster : deadClusters) {
+            log.warn("  " + Ordering.natural().sortedCopy(deadCluster));
+        }
+    }
+
 }
@@ -0,0 +1,84 @@
+package de.is24.deadcode4j.plugin;
+
+import de.is24.deadcode4j.AnalyzedCode;
+import de.is24.deadcode4j.DeadCode;
+import de.is24.deadcode4j.DeadCodeFinder;
+import de.is24.deadcode4j.DeadCodeListener;
+import de.is24.deadcode4j.Module;
+import de.is24.deadcode4j.graph.ClassGraph;
+import de.is24.deadcode4j.graph.GraphWriter;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+import javax.annotation.Nonnull;
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+
+import static com.google.common.collect.Maps.newHashMap;
+import static org.apache.maven.plugins.annotations.ResolutionScope.COMPILE;
+
+/**
+ * Analyzes the code like {@link FindDeadCodeOnlyMojo} and exports the dependency graph - including which classes are
+ * analyzed or dead and which module they belong to - for external tools like graph databases or visualizers.
+ *
+ * @see GraphWriter
+ * @since 2.2.0
+ */
+@Mojo(name = "export-graph",
+        aggregator = true,
+        requiresProject = true,
+        requiresDependencyCollection = COMPILE,
+        threadSafe = true)
+public class ExportGraphMojo extends FindDeadCodeOnlyMojo {
+
+    /**
+     * The directory to write the graph to.
+     *
+     * @since 2.2.0
+     */
+    @Parameter(property = "deadcode4j.graphDirectory", defaultValue = "${project.build.directory}")
+    private File graphDirectory;
+    /**
+     * The format of the exported graph; the graph is written to <tt>deadcode4j.<i>format</i></tt>.<br/>
+     * Supported formats are <tt>graphml</tt>, <tt>dot</tt> (Graphviz) and <tt>tgf</tt> (Trivial Graph Format, a
+     * compact edge list).
+     *
+     * @since 2.2.0
+     */
+    @Parameter(property = "deadcode4j.graphFormat", defaultValue = "graphml")
+    @SuppressWarnings("PMD.ImmutableField")
+    private String graphFormat = "graphml";
+
+    @Override
+    public void doExecute() throws MojoExecutionException {
+        GraphWriter graphWriter;
+        try {
+            graphWriter = GraphWriter.forFormat(graphFormat);
+        } catch (IllegalArgumentException e) {
+            throw new MojoExecutionException(e.getMessage(), e);
+        }
+        final Map<String, String> modulesOfClasses = newHashMap();
+        DeadCodeFinder deadCodeFinder = createDeadCodeFinder();
+        AnalyzedCode analyzedCode = deadCodeFinder.analyzeCode(gatherModules(), new DeadCodeListener() {
+            @Override
+            public void moduleSettled(@Nonnull Module module, @Nonnull DeadCode deadCode) {
+                for (String analyzedClass : deadCode.getAnalyzedClasses()) {
+                    modulesOfClasses.put(analyzedClass, module.getModuleId());
+                }
+            }
+        });
+        DeadCode deadCode = deadCodeFinder.computeDeadCode(analyzedCode);
+        ClassGraph classGraph = ClassGraph.of(analyzedCode);
+        File graphFile;
+        try {
+            graphFile = graphWriter.write(classGraph, deadCode, modulesOfClasses, graphDirectory);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to write graph to [" + graphDirectory + "]!", e);
+        }
+        getLog().info("Exported " + classGraph.size() + " class(es) and " + classGraph.getNumberOfEdges()
+                + " dependencies to [" + graphFile + "].");
+    }
+
+}
@@ -1,32 +1,59 @@
 package de.is24.deadcode4j.plugin;
 
+import com.google.common.base.CharMatcher;
+import com.google.common.base.Joiner;
 import com.google.common.base.Optional;
-import com.google.common.collect.Sets;
+import com.google.common.base.Splitter;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.Ordering;
+import com.google.common.io.Files;
 import de.is24.deadcode4j.*;
 import de.is24.deadcode4j.analyzer.*;
+import de.is24.deadcode4j.binary.DeadClassesBaseline;
+import de.is24.deadcode4j.daemon.AnalysisDaemonClient;
+import de.is24.deadcode4j.delta.GitDiff;
+import de.is24.deadcode4j.graph.ClassGraph;
+import de.is24.deadcode4j.graph.DominatorTree;
+import de.is24.deadcode4j.plugin.report.ReportWriter;
+import de.is24.deadcode4j.shard.ForkingShardExecutor;
+import de.is24.deadcode4j.shard.ShardExecutor;
+import de.is24.deadcode4j.shard.ShardedDeadCodeFinder;
 import de.is24.maven.UpdateChecker;
 import de.is24.maven.slf4j.AbstractSlf4jMojo;
+import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.versioning.ArtifactVersion;
 import org.apache.maven.plugin.MojoExecution;
 import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.MavenProjectHelper;
 import org.apache.maven.repository.RepositorySystem;
 
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
-import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Lists.transform;
+import static com.google.common.collect.Maps.newHashMap;
 import static de.is24.deadcode4j.Utils.getKeyFor;
+import static de.is24.deadcode4j.Utils.isNotBlank;
 import static de.is24.deadcode4j.Utils.toKey;
+import static de.is24.deadcode4j.shard.ForkingShardExecutor.currentJavaExecutable;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.apache.maven.plugin.MojoExecution.Source.CLI;
 import static org.apache.maven.plugins.annotations.ResolutionScope.COMPILE;
 
@@ -52,6 +79,28 @@ public class FindDeadCodeOnlyMojo extends AbstractSlf4jMojo {
     @Parameter
     @SuppressWarnings("PMD.ImmutableField")
     private Set<String> annotationsMarkingLiveCode = emptySet();
+    /**
+     * Attaches the analysis results of each module - the analyzed classes, their dependencies, the intermediate
+     * results and the type hierarchy - as an artifact with the classifier <tt>deadcode4j</tt> and type <tt>dc4j</tt>.
+     * Once installed or deployed next to the module's jar, subsequent analyses of projects depending on that jar use
+     * those results instead of examining the jar's classes.
+     *
+     * @since 2.2.0
+     */
+    @Parameter(property = "deadcode4j.attachAnalysis")
+    @SuppressWarnings("PMD.ImmutableField")
+    private boolean attachAnalysis = false;
+    /**
+     * A file storing the unused classes of a previous analysis. If the file exists, only the classes which became
+     * unused or are no longer unused since then are reported; otherwise, it is created with the results of this
+     * analysis.
+     *
+     * @see #failOnNewDeadCode
+     * @see #updateBaseline
+     * @since 2.2.0
+     */
+    @Parameter(property = "deadcode4j.baselineFile")
+    private File baselineFile;
     /**
      * Lists the "dead" classes that should be ignored.
      *
@@ -69,6 +118,36 @@ public class FindDeadCodeOnlyMojo extends AbstractSlf4jMojo {
     @Parameter
     @SuppressWarnings("PMD.ImmutableField")
     private List<CustomXml> customXmls = emptyList();
+    /**
+     * The local port of a running analysis daemon (see the <code>daemon</code> goal) to delegate the analysis to.
+     * If no daemon can be reached or the daemon was started with another configuration, the analysis is performed
+     * locally.<br/>
+     * The <code>daemon</code> goal listens on this port, defaulting to {@value RunDaemonMojo#DEFAULT_PORT}.
+     *
+     * @since 2.2.0
+     */
+    @Parameter(property = "deadcode4j.daemonPort")
+    private Integer daemonPort;
+    /**
+     * Enables the delta mode: only the modules containing files that changed compared to the given git revision (and
+     * the modules depending on them) are analyzed; the results of all other modules are taken from the
+     * {@link #snapshotFile snapshot} of the base revision. Only the classes that became unused or used because of the
+     * changes are reported.
+     *
+     * @see #snapshotFile
+     * @since 2.2.0
+     */
+    @Parameter(property = "deadcode4j.deltaBaseRevision")
+    private String deltaBaseRevision;
+    /**
+     * Fails the build if classes became unused compared to the {@link #baselineFile baseline} or - in delta mode - to
+     * the base revision.
+     *
+     * @since 2.2.0
+     */
+    @Parameter(property = "deadcode4j.failOnNewDeadCode")
+    @SuppressWarnings("PMD.ImmutableField")
+    private boolean failOnNewDeadCode = false;
     /**
      * Mark all classes with a main method as being "live code".
      *
@@ -77,6 +156,16 @@ public class FindDeadCodeOnlyMojo extends AbstractSlf4jMojo {
     @Parameter
     @SuppressWarnings("PMD.ImmutableField")
     private boolean ignoreMainClasses = false;
+    /**
+     * Lists the {@link #snapshotFile snapshots} written by the analyses of other code bases, e.g. those of the
+     * projects depending on the analyzed library. Classes being used by the code of those analyses are treated as
+     * "live code", without analyzing that code again.
+     *
+     * @since 2.2.0
+     */
+    @Parameter
+    @SuppressWarnings("PMD.ImmutableField")
+    private List<File> importedAnalyses = emptyList();
     /**
      * Lists the fqcn of the interfaces marking a class as being "live code".
      *
@@ -85,6 +174,16 @@ public class FindDeadCodeOnlyMojo extends AbstractSlf4jMojo {
     @Parameter
     @SuppressWarnings("PMD.ImmutableField")
     private Set<String> interfacesMarkingLiveCode = emptySet();
+    /**
+     * Reduces the memory consumption of the analysis: instead of keeping the dependencies of all classes until every
+     * module is analyzed, only the fact that a class is used at all is retained. Does not apply if a
+     * {@link #snapshotFile snapshot} is written or the analysis is delegated to shards or a daemon.
+     *
+     * @since 2.2.0
+     */
+    @Parameter(property = "deadcode4j.lowMemory")
+    @SuppressWarnings("PMD.ImmutableField")
+    private boolean lowMemory = false;
     @Component
     private MavenProject project;
     /**
@@ -97,11 +196,77 @@ public class FindDeadCodeOnlyMojo extends AbstractSlf4jMojo {
     private List<String> modulesToSkip = emptyList();
     @Component
     private MojoExecution mojoExecution;
+    @Parameter(defaultValue = "${plugin}", readonly = true)
+    private PluginDescriptor pluginDescriptor;
+    @Component
+    private MavenProjectHelper projectHelper;
+    /**
+     * Lists the given number of classes which keep the most other classes alive exclusively, i.e. answers the
+     * question "if I delete class X, which other classes become unused, too?" for all classes at once. The ranking is
+     * based on the dominator tree of the dependency graph, rooted at the entry points like Spring XML files.
+     * Enabling this query requires a complete local analysis; the delta, snapshot, shard, daemon & low-memory modes
+     * do not apply.
+     *
+     * @since 2.2.0
+     */
+    @Parameter(property = "deadcode4j.removalImpact")
+    @SuppressWarnings("PMD.ImmutableField")
+    private int removalImpact = 0;
+    /**
+     * Reports dead clusters: groups of classes which are referenced only by each other or by dead code, e.g. a whole
+     * subsystem nobody uses anymore. Those classes are not reported as unused classes, as each of them is referenced.
+     * Requires the full code dependencies, i.e. the {@link #lowMemory low-memory mode} does not apply.
+     *
+     * @since 2.2.0
+     */
+    @Parameter(property = "deadcode4j.reportDeadClusters")
+    @SuppressWarnings("PMD.ImmutableField")
+    private boolean reportDeadClusters = false;
+    /**
+     * The directory to write the report to.
+     *
+     * @see #reportFormat
+     * @since 2.2.0
+     */
+    @Parameter(property = "deadcode4j.reportDirectory", defaultValue = "${project.build.directory}")
+    private File reportDirectory;
+    /**
+     * Writes the unused classes - grouped by package - to a report file instead of logging each of them.
+     * Only a summary is logged then.<br/>
+     * Supported formats are <tt>json</tt>, <tt>csv</tt> and <tt>text</tt>; the report is written to
+     * <tt>deadcode4j.json</tt>, <tt>deadcode4j.csv</tt> or <tt>deadcode4j.txt</tt>, respectively. An unsupported
+     * format fails the build before the analysis starts.<br/>
+     * If a {@link #baselineFile baseline} is compared with, the report lists all unused classes nonetheless.
+     *
+     * @see #reportDirectory
+     * @since 2.2.0
+     */
+    @Parameter(property = "deadcode4j.reportFormat")
+    private String reportFormat;
     @Parameter(property = "reactorProjects", readonly = true)
     @SuppressWarnings("MismatchedQueryAndUpdateOfCollection")
     private List<MavenProject> reactorProjects;
     @Component
     private RepositorySystem repositorySystem;
+    /**
+     * Additional arguments for the JVMs forked for the {@link #shards shards}, e.g. <tt>-Xmx2g</tt>.
+     *
+     * @see #shards
+     * @since 2.2.0
+     */
+    @Parameter(property = "deadcode4j.shardJvmArgs")
+    private String shardJvmArgs;
+    /**
+     * The number of JVMs to fork in order to analyze the modules in parallel. Modules not depending on one another
+     * are spread among the forked JVMs; the results are merged in the Maven JVM. A value lower than <code>2</code>
+     * analyzes all modules in the Maven JVM.
+     *
+     * @see #shardJvmArgs
+     * @since 2.2.0
+     */
+    @Parameter(property = "deadcode4j.shards", defaultValue = "1")
+    @SuppressWarnings("PMD.ImmutableField")
+    private int shards = 1;
     /**
      * Skip sending usage statistics.<br/>
      * If set to {@code false}, statistics will be sent.<br/>
@@ -121,6 +286,16 @@ public class FindDeadCodeOnlyMojo extends AbstractSlf4jMojo {
     @Parameter(property = "deadcode4j.skipUpdate")
     @SuppressWarnings("PMD.ImmutableField")
     private boolean skipUpdateCheck = false;
+    /**
+     * The file storing the results of the analysis.<br/>
+     * If the {@link #deltaBaseRevision delta mode} is enabled, the snapshot is read and must have been taken for the
+     * base revision; otherwise, a snapshot of the analysis is written to it.
+     *
+     * @see #deltaBaseRevision
+     * @since 2.2.0
+     */
+    @Parameter(property = "deadcode4j.snapshot")
+    private File snapshotFile;
     /**
      * Lists the fqcn of the classes marking a direct subclass as being "live code".
      *
@@ -129,6 +304,15 @@ public class FindDeadCodeOnlyMojo extends AbstractSlf4jMojo {
     @Parameter
     @SuppressWarnings("PMD.ImmutableField")
     private Set<String> superClassesMarkingLiveCode = emptySet();
+    /**
+     * Overwrites an existing {@link #baselineFile baseline} with the results of this analysis - unless the build
+     * fails because of new unused classes.
+     *
+     * @since 2.2.0
+     */
+    @Parameter(property = "deadcode4j.updateBaseline")
+    @SuppressWarnings("PMD.ImmutableField")
+    private boolean updateBaseline = false;
     @Component
     private UpdateChecker updateChecker;
     /**
@@ -140,15 +324,30 @@ public class FindDeadCodeOnlyMojo extends AbstractSlf4jMojo {
      */
     @Parameter(property = "deadcode4j.statisticsComment")
     private String usageStatisticsComment;
+    /**
+     * Lists classes to explain: for each of them, the shortest chain of dependencies leading from an entry point (like
+     * a Spring XML file) to the class is logged, i.e. the reason why the class is not reported as being unused.
+     * Enabling this query requires a complete local analysis; the delta, snapshot, shard, daemon & low-memory modes
+     * do not apply.
+     *
+     * @since 2.2.0
+     */
+    @Parameter(property = "deadcode4j.whyAlive")
+    @SuppressWarnings("PMD.ImmutableField")
+    private List<String> whyAlive = emptyList();
     @Component
     private UsageStatisticsManager usageStatisticsManager;
+    private Collection<String> baselineDeadClasses;
 
-    public void doExecute() throws MojoExecutionException {
+    public void doExecute() throws MojoExecutionException, MojoFailureException {
         try {
+            ReportWriter reportWriter = createReportWriterIfConfigured();
             checkForUpdate();
             logWelcome();
             DeadCode deadCode = analyzeCode();
-            log(deadCode);
+            boolean baselineExists = readBaselineIfConfigured();
+            log(deadCode, reportWriter);
+            writeBaselineIfConfigured(deadCode, baselineExists);
             logGoodbye();
             sendStatistics(deadCode);
         } catch (RuntimeException rE) {
@@ -196,99 +395,291 @@ public class FindDeadCodeOnlyMojo extends AbstractSlf4jMojo {
     }
 
     private DeadCode analyzeCode() throws MojoExecutionException {
-        Set<Analyzer> analyzers = Sets.<Analyzer>newHashSet(
-                new AopXmlAnalyzer(),
-                new ApacheTilesAnalyzer(),
-                new CastorClassesAnalyzer(),
-                new ClassDependencyAnalyzer(),
-                new FacesConfigXmlAnalyzer(),
-                new HibernateAnnotationsAnalyzer(),
-                new JeeAnnotationsAnalyzer(),
-                new JerseyWebXmlAnalyzer(),
-                new JettyXmlAnalyzer(),
-                new LogbackXmlAnalyzer(),
-                new ReferenceToConstantsAnalyzer(),
-                new ServletContainerInitializerAnalyzer(),
-                new SpringAnnotationsAnalyzer(),
-                new SpringDataCustomRepositoriesAnalyzer(),
-                new SpringNamespaceHandlerAnalyzer(),
-                new SpringWebApplicationInitializerAnalyzer(),
-                new SpringWebFlowAnalyzer(),
-                new SpringWebXmlAnalyzer(),
-                new SpringXmlAnalyzer(),
-                new TldAnalyzer(),
-                new TypeErasureAnalyzer(),
-                new WebXmlAnalyzer(),
-                new WsddAnalyzer());
-        DeadCodeComputer deadCodeComputer = new DeadCodeComputer();
-        addCustomAnnotationsAnalyzerIfConfigured(analyzers);
-        addCustomInterfacesAnalyzerIfConfigured(analyzers);
-        addCustomSuperClassesAnalyzerIfConfigured(analyzers);
-        addCustomXmlAnalyzerIfConfigured(analyzers);
-        addIgnoreClassesAnalyzerIfConfigured(deadCodeComputer, analyzers);
-        addMainClassAnalyzerIfConfigured(analyzers);
-        DeadCodeFinder deadCodeFinder = new DeadCodeFinder(deadCodeComputer, analyzers);
-        return deadCodeFinder.findDeadCode(gatherModules());
+        checkModesOfAnalysis();
+        Iterable<Module> modules = gatherModules();
+        if (removalImpact > 0 || !whyAlive.isEmpty()) {
+            return analyzeAndQuery(modules);
+        }
+        if (isNotBlank(deltaBaseRevision)) {
+            return analyzeDelta(modules);
+        }
+        if (snapshotFile != null || attachAnalysis) {
+            return analyzeAndWriteSnapshot(modules);
+        }
+        if (shards > 1) {
+            return analyzeInShards(modules);
+        }
+        AnalyzerConfiguration analyzerConfiguration = createAnalyzerConfiguration();
+        if (daemonPort != null) {
+            try {
+                return AnalysisDaemonClient.analyze(daemonPort, analyzerConfiguration.getFingerprint(), modules);
+            } catch (IOException e) {
+                getLog().warn("Failed to delegate the analysis to the daemon at port [" + daemonPort + "] ("
+                        + e.getMessage() + "); analyzing locally.");
+            }
+        }
+        return analyzerConfiguration.createDeadCodeFinder().findDeadCode(modules, new DeadCodeListener() {
+            @Override
+            public void moduleSettled(@Nonnull Module module, @Nonnull DeadCode deadCode) {
+                getLog().info("Found " + deadCode.getDeadClasses().size() + " unused class(es) in ["
+                        + module.getModuleId() + "].");
+            }
+        });
+    }
+
+    /**
+     * Makes sure at most one mode of analysis is configured - each of them is performed on its own.
+     * Note that the delta mode reads the <code>snapshotFile</code> instead of writing it.
+     */
+    private void checkModesOfAnalysis() throws MojoExecutionException {
+        List<String> modes = newArrayList();
+        if (removalImpact > 0 || !whyAlive.isEmpty()) {
+            modes.add("removalImpact/whyAlive");
+        }
+        boolean deltaMode = isNotBlank(deltaBaseRevision);
+        if (deltaMode) {
+            modes.add("deltaBaseRevision");
+        }
+        if (attachAnalysis || snapshotFile != null && !deltaMode) {
+            modes.add("snapshotFile/attachAnalysis");
+        }
+        if (shards > 1) {
+            modes.add("shards");
+        }
+        if (daemonPort != null) {
+            modes.add("daemonPort");
+        }
+        if (modes.size() > 1) {
+            throw new MojoExecutionException("The parameters " + modes
+                    + " configure different modes of analysis which cannot be combined!");
+        }
+    }
+
+    private DeadCode analyzeAndQuery(Iterable<Module> modules) {
+        DeadCodeFinder deadCodeFinder = createDeadCodeFinder();
+        AnalyzedCode analyzedCode = deadCodeFinder.analyzeCode(modules);
+        ClassGraph classGraph = ClassGraph.of(analyzedCode);
+        if (removalImpact > 0) {
+            logRemovalImpact(classGraph);
+        }
+        for (String clazz : whyAlive) {
+            logWhyAlive(classGraph, clazz);
+        }
+        return deadCodeFinder.computeDeadCode(analyzedCode);
     }
 
-    private void addCustomAnnotationsAnalyzerIfConfigured(Set<Analyzer> analyzers) {
+    private void logRemovalImpact(ClassGraph classGraph) {
+        DominatorTree dominatorTree = DominatorTree.of(classGraph);
+        List<Integer> ranking = dominatorTree.rankByRemovalImpact();
+        if (ranking.isEmpty()) {
+            getLog().info("There are no classes keeping other classes alive exclusively.");
+            return;
+        }
+        getLog().info("Classes keeping the most other classes alive exclusively:");
+        for (Integer node : ranking.subList(0, Math.min(removalImpact, ranking.size()))) {
+            getLog().info("  " + classGraph.getName(node) + ": removing it leaves "
+                    + dominatorTree.getNumberOfDominatedClasses(node) + " other class(es) unused");
+        }
+    }
+
+    private void logWhyAlive(ClassGraph classGraph, String clazz) {
+        if (classGraph.getNode(clazz) < 0) {
+            getLog().info("Class [" + clazz + "] is neither analyzed nor used.");
+            return;
+        }
+        List<String> path = classGraph.getShortestPathFromRoot(clazz);
+        if (path.isEmpty()) {
+            getLog().info("Class [" + clazz + "] is used only within a cycle of classes.");
+        } else if (path.size() == 1) {
+            getLog().info("Class [" + clazz + "] is not used by any other class.");
+        } else if (classGraph.isRoot(classGraph.getNode(path.get(0)))) {
+            getLog().info("Class [" + clazz + "] is used via " + Joiner.on(" -> ").join(path));
+        } else {
+            getLog().info("Class [" + clazz + "] is used via " + Joiner.on(" -> ").join(path)
+                    + ", but [" + path.get(0) + "] is unused itself.");
+        }
+    }
+
+    private DeadCode analyzeDelta(Iterable<Module> modules) throws MojoExecutionException {
+        if (snapshotFile == null || !snapshotFile.isFile()) {
+            throw new MojoExecutionException("The delta mode requires the [snapshotFile] of the base revision; "
+                    + "[" + snapshotFile + "] does not exist!");
+        }
+        try {
+            AnalysisSnapshot snapshot = AnalysisSnapshot.read(snapshotFile);
+            Map<String, File> baseDirectories = newHashMap();
+            for (MavenProject mavenProject : getProjectsToAnalyze()) {
+                baseDirectories.put(getKeyFor(mavenProject), mavenProject.getBasedir());
+            }
+            Collection<Module> changedModules = GitDiff.getAffectedModules(modules, baseDirectories,
+                    GitDiff.getChangedFiles(project.getBasedir(), deltaBaseRevision));
+            getLog().info("Analyzing " + changedModules + " which changed since [" + deltaBaseRevision
+                    + "] and the modules depending on them.");
+            IncrementalDeadCodeFinder deadCodeFinder = new IncrementalDeadCodeFinder(createDeadCodeFinder(), modules);
+            deadCodeFinder.restore(snapshot);
+            this.baselineDeadClasses = snapshot.getDeadClasses();
+            return deadCodeFinder.findDeadCode(changedModules);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to perform delta analysis!", e);
+        }
+    }
+
+    private DeadCode analyzeInShards(Iterable<Module> modules) throws MojoExecutionException {
+        List<File> classPath = newArrayList(pluginDescriptor.getPluginArtifact().getFile());
+        for (Artifact artifact : pluginDescriptor.getArtifacts()) {
+            if (!classPath.contains(artifact.getFile())) {
+                classPath.add(artifact.getFile());
+            }
+        }
+        List<String> jvmArguments = isNotBlank(shardJvmArgs)
+                ? newArrayList(Splitter.on(CharMatcher.WHITESPACE).omitEmptyStrings().split(shardJvmArgs))
+                : Collections.<String>emptyList();
+        ShardExecutor shardExecutor = new ForkingShardExecutor(currentJavaExecutable(), classPath, jvmArguments);
+        File workDirectory = new File(project.getBuild().getDirectory(), "deadcode4j-shards");
+        try {
+            return new ShardedDeadCodeFinder(createAnalyzerConfiguration(), shards, shardExecutor, workDirectory)
+                    .findDeadCode(modules);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to analyze modules in shards!", e);
+        }
+    }
+
+    private DeadCode analyzeAndWriteSnapshot(Iterable<Module> modules) throws MojoExecutionException {
+        IncrementalDeadCodeFinder deadCodeFinder = new IncrementalDeadCodeFinder(createDeadCodeFinder(), modules);
+        DeadCode deadCode = deadCodeFinder.findDeadCode();
+        AnalysisSnapshot snapshot = deadCodeFinder.createSnapshot();
+        if (attachAnalysis) {
+            attachAnalysisArtifacts(snapshot, modules);
+        }
+        if (snapshotFile == null) {
+            return deadCode;
+        }
+        try {
+            snapshot.write(snapshotFile);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to write snapshot to [" + snapshotFile + "]!", e);
+        }
+        getLog().info("Wrote snapshot to [" + snapshotFile + "].");
+        return deadCode;
+    }
+
+    private void attachAnalysisArtifacts(AnalysisSnapshot snapshot, Iterable<Module> modules)
+            throws MojoExecutionException {
+        Map<String, MavenProject> projectsByKey = newHashMap();
+        for (MavenProject mavenProject : getProjectsToAnalyze()) {
+            projectsByKey.put(getKeyFor(mavenProject), mavenProject);
+        }
+        for (Module module : modules) {
+            MavenProject mavenProject = projectsByKey.get(module.getModuleId());
+            if (mavenProject == null || "pom".equals(mavenProject.getPackaging())) {
+                continue;
+            }
+            File artifactFile = new File(mavenProject.getBuild().getDirectory(),
+                    mavenProject.getBuild().getFinalName() + "-" + AnalysisArtifacts.CLASSIFIER + "."
+                            + AnalysisArtifacts.EXTENSION);
+            try {
+                Files.createParentDirs(artifactFile);
+                snapshot.restrictTo(module).write(artifactFile);
+            } catch (IOException e) {
+                throw new MojoExecutionException("Failed to write analysis artifact [" + artifactFile + "]!", e);
+            }
+            projectHelper.attachArtifact(mavenProject, AnalysisArtifacts.EXTENSION, AnalysisArtifacts.CLASSIFIER,
+                    artifactFile);
+            getLog().debug("Attached analysis artifact [" + artifactFile + "] to " + module + ".");
+        }
+    }
+
+    /**
+     * Creates the <code>DeadCodeFinder</code> set up with all configured analyzers.
+     */
+    DeadCodeFinder createDeadCodeFinder() {
+        return createAnalyzerConfiguration().createDeadCodeFinder();
+    }
+
+    /**
+     * Creates the <code>AnalyzerConfiguration</code> reflecting the mojo's configuration.
+     */
+    AnalyzerConfiguration createAnalyzerConfiguration() {
+        AnalyzerConfiguration analyzerConfiguration = new AnalyzerConfiguration();
+        addCustomAnnotationsIfConfigured(analyzerConfiguration);
+        addCustomInterfacesIfConfigured(analyzerConfiguration);
+        addCustomSuperClassesIfConfigured(analyzerConfiguration);
+        addCustomXmlsIfConfigured(analyzerConfiguration);
+        analyzerConfiguration.addClassesToIgnore(classesToIgnore);
+        setIgnoreMainClassesIfConfigured(analyzerConfiguration);
+        addImportedAnalysesIfConfigured(analyzerConfiguration);
+        analyzerConfiguration.setRecordTypeHierarchy(attachAnalysis);
+        analyzerConfiguration.setLowMemory(lowMemory);
+        analyzerConfiguration.setReportDeadClusters(reportDeadClusters);
+        return analyzerConfiguration;
+    }
+
+    private void addCustomAnnotationsIfConfigured(AnalyzerConfiguration analyzerConfiguration) {
         if (annotationsMarkingLiveCode.isEmpty()) {
             return;
         }
-        analyzers.add(new CustomAnnotationsAnalyzer(annotationsMarkingLiveCode));
+        analyzerConfiguration.addAnnotationsMarkingLiveCode(annotationsMarkingLiveCode);
         getLog().info("Treating classes annotated with any of " + annotationsMarkingLiveCode + " as live code.");
     }
 
-    private void addCustomInterfacesAnalyzerIfConfigured(Set<Analyzer> analyzers) {
+    private void addCustomInterfacesIfConfigured(AnalyzerConfiguration analyzerConfiguration) {
         if (interfacesMarkingLiveCode.isEmpty()) {
             return;
         }
-        analyzers.add(new CustomInterfacesAnalyzer(interfacesMarkingLiveCode));
+        analyzerConfiguration.addInterfacesMarkingLiveCode(interfacesMarkingLiveCode);
         getLog().info("Treating classes implementing any of " + interfacesMarkingLiveCode + " as live code.");
     }
 
-    private void addCustomSuperClassesAnalyzerIfConfigured(Set<Analyzer> analyzers) {
+    private void addCustomSuperClassesIfConfigured(AnalyzerConfiguration analyzerConfiguration) {
         if (superClassesMarkingLiveCode.isEmpty()) {
             return;
         }
-        analyzers.add(new CustomSuperClassAnalyzer(superClassesMarkingLiveCode));
+        analyzerConfiguration.addSuperClassesMarkingLiveCode(superClassesMarkingLiveCode);
         getLog().info("Treating classes being subclasses of any of " + superClassesMarkingLiveCode + " as live code.");
     }
 
-    private void addCustomXmlAnalyzerIfConfigured(Set<Analyzer> analyzers) {
-        if (customXmls.isEmpty()) {
-            return;
-        }
+    private void addCustomXmlsIfConfigured(AnalyzerConfiguration analyzerConfiguration) {
         for (CustomXml customXml : customXmls) {
-            CustomXmlAnalyzer customXmlAnalyzer = new CustomXmlAnalyzer(customXml.getEndOfFileName(), customXml.getRootElement());
-            checkArgument(!customXml.getXPaths().isEmpty(), "At least one entry for [xPaths] must be set!");
+            analyzerConfiguration.addCustomXml(customXml.getEndOfFileName(), customXml.getRootElement(), customXml.getXPaths());
             for (String xPath : customXml.getXPaths()) {
-                customXmlAnalyzer.registerXPath(xPath);
                 String rootPath = customXml.getRootElement() == null ? "" : "/" + customXml.getRootElement();
                 getLog().info("Treating classes found at [" + rootPath + "//" + xPath + "] in [" + customXml.getEndOfFileName() + "] files as live code.");
             }
-            analyzers.add(customXmlAnalyzer);
         }
     }
 
-    private void addIgnoreClassesAnalyzerIfConfigured(DeadCodeComputer deadCodeComputer, Set<Analyzer> analyzers) {
-        if (classesToIgnore.isEmpty()) {
+    private void setIgnoreMainClassesIfConfigured(AnalyzerConfiguration analyzerConfiguration) {
+        if (!ignoreMainClasses) {
             return;
         }
-        analyzers.add(new IgnoreClassesAnalyzer(deadCodeComputer, classesToIgnore));
+        analyzerConfiguration.setIgnoreMainClasses(true);
+        getLog().info("Treating classes with a main method as live code.");
     }
 
-    private void addMainClassAnalyzerIfConfigured(Set<Analyzer> analyzers) {
-        if (!ignoreMainClasses) {
+    private void addImportedAnalysesIfConfigured(AnalyzerConfiguration analyzerConfiguration) {
+        if (importedAnalyses.isEmpty()) {
             return;
         }
-        analyzers.add(new MainClassAnalyzer());
-        getLog().info("Treating classes with a main method as live code.");
+        analyzerConfiguration.addImportedAnalyses(importedAnalyses);
+        getLog().info("Treating classes used by the code of the analyses " + importedAnalyses + " as live code.");
+    }
+
+    /**
+     * Returns the configured port of the analysis daemon or <code>null</code> if none is configured.
+     */
+    @Nullable
+    Integer getDaemonPort() {
+        return daemonPort;
     }
 
-    private Iterable<Module> gatherModules() throws MojoExecutionException {
+    Iterable<Module> gatherModules() throws MojoExecutionException {
         ModuleGenerator moduleGenerator = new ModuleGenerator(this.repositorySystem);
-        return moduleGenerator.getModulesFor(getProjectsToAnalyze());
+        Iterable<Module> modules = moduleGenerator.getModulesFor(getProjectsToAnalyze());
+        CacheStats stats = moduleGenerator.getClassPathResolutionStats();
+        getLog().info("Resolved " + stats.loadCount() + " class path element(s) in "
+                + NANOSECONDS.toMillis(stats.totalLoadTime()) + "ms; " + stats.hitCount()
+                + " further request(s) were served from the cache.");
+        return modules;
     }
 
     private Collection<MavenProject> getProjectsToAnalyze() {
@@ -322,8 +713,75 @@ public class FindDeadCodeOnlyMojo extends AbstractSlf4jMojo {
         return mavenProjects;
     }
 
-    private void log(DeadCode deadCode) {
-        new DeadCodeLogger(getLog()).log(deadCode);
+    @Nullable
+    private ReportWriter createReportWriterIfConfigured() throws MojoExecutionException {
+        if (!isNotBlank(reportFormat)) {
+            return null;
+        }
+        try {
+            return ReportWriter.forFormat(reportFormat);
+        } catch (IllegalArgumentException e) {
+            throw new MojoExecutionException(e.getMessage(), e);
+        }
+    }
+
+    private boolean readBaselineIfConfigured() throws MojoExecutionException {
+        if (baselineFile == null || !baselineFile.isFile()) {
+            return false;
+        }
+        try {
+            this.baselineDeadClasses = DeadClassesBaseline.read(baselineFile);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to read baseline from [" + baselineFile + "]!", e);
+        }
+        getLog().info("Comparing with the " + baselineDeadClasses.size() + " unused class(es) of the baseline ["
+                + baselineFile + "].");
+        return true;
+    }
+
+    private void writeBaselineIfConfigured(DeadCode deadCode, boolean baselineExists)
+            throws MojoExecutionException {
+        if (baselineFile == null || baselineExists && !updateBaseline) {
+            return;
+        }
+        try {
+            DeadClassesBaseline.write(deadCode.getDeadClasses(), baselineFile);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to write baseline to [" + baselineFile + "]!", e);
+        }
+        getLog().info("Wrote baseline to [" + baselineFile + "].");
+    }
+
+    private void log(DeadCode deadCode, @Nullable ReportWriter reportWriter)
+            throws MojoExecutionException, MojoFailureException {
+        DeadCodeLogger deadCodeLogger = new DeadCodeLogger(getLog());
+        File report = reportWriter == null ? null : writeReport(deadCode, reportWriter);
+        if (baselineDeadClasses != null) {
+            DeadClassesDiff diff = DeadClassesDiff.of(Ordering.natural().sortedCopy(baselineDeadClasses),
+                    Ordering.natural().sortedCopy(deadCode.getDeadClasses()));
+            deadCodeLogger.logDelta(diff, deadCode);
+            if (report != null) {
+                getLog().info("Wrote report of all unused classes to [" + report + "].");
+            }
+            if (failOnNewDeadCode && !diff.getNewDeadClasses().isEmpty()) {
+                throw new MojoFailureException("Found " + diff.getNewDeadClasses().size() + " new unused class(es)!");
+            }
+            return;
+        }
+        if (report == null) {
+            deadCodeLogger.log(deadCode);
+            return;
+        }
+        deadCodeLogger.logSummary(deadCode, report);
+    }
+
+    @Nonnull
+    private File writeReport(DeadCode deadCode, ReportWriter reportWriter) throws MojoExecutionException {
+        try {
+            return reportWriter.write(deadCode, reportDirectory);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to write report to [" + reportDirectory + "]!", e);
+        }
     }
 
     private void logGoodbye() {
@@ -2,6 +2,7 @@ package de.is24.deadcode4j.plugin;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Predicate;
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
 import de.is24.deadcode4j.Module;
 import de.is24.deadcode4j.Repository;
@@ -10,9 +11,9 @@ import de.is24.deadcode4j.plugin.packaginghandler.DefaultPackagingHandler;
 import de.is24.deadcode4j.plugin.packaginghandler.PackagingHandler;
 import de.is24.deadcode4j.plugin.packaginghandler.PomPackagingHandler;
 import de.is24.deadcode4j.plugin.packaginghandler.WarPackagingHandler;
+import de.is24.guava.ConcurrentLoadingCache;
 import de.is24.guava.NonNullFunction;
 import de.is24.guava.NonNullFunctions;
-import de.is24.guava.SequentialLoadingCache;
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.resolver.ArtifactResolutionRequest;
 import org.apache.maven.artifact.resolver.ArtifactResolutionResult;
@@ -65,7 +66,7 @@ class ModuleGenerator {
     public ModuleGenerator(@Nonnull final RepositorySystem repositorySystem) {
         packagingHandlers.put("pom", new PomPackagingHandler());
         packagingHandlers.put("war", new WarPackagingHandler());
-        artifactResolverCache = new SequentialLoadingCache<Artifact, File>(NonNullFunctions.toFunction(new NonNullFunction<Artifact, Optional<File>>() {
+        artifactResolverCache = new ConcurrentLoadingCache<Artifact, File>(NonNullFunctions.toFunction(new NonNullFunction<Artifact, Optional<File>>() {
             @Nonnull
             @Override
             public Optional<File> apply(@Nonnull Artifact input) {
@@ -107,9 +108,21 @@ class ModuleGenerator {
             knownModules.put(module.getModuleId(), module);
             logger.debug("Added [{}] for [{}].", module, project);
         }
+        logger.debug("Resolved class path elements: {}", artifactResolverCache.stats());
         return knownModules.values();
     }
 
+    /**
+     * Returns the statistics of resolving the class path elements of the examined projects - each artifact is resolved
+     * only once, no matter how many projects depend on it.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public CacheStats getClassPathResolutionStats() {
+        return artifactResolverCache.stats();
+    }
+
     @Nonnull
     private Module getModuleFor(
             @Nonnull MavenProject project,
@@ -0,0 +1,46 @@
+package de.is24.deadcode4j.plugin;
+
+import de.is24.deadcode4j.daemon.AnalysisDaemon;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+
+import java.io.IOException;
+
+/**
+ * Starts an analysis daemon set up with the configured analyzers and serves analysis requests until the build is
+ * interrupted. The daemon listens on the port given by <tt>-Ddeadcode4j.daemonPort</tt>, defaulting to
+ * {@value #DEFAULT_PORT}; run <code>find</code> or <code>find-only</code> with the same property to delegate the analysis
+ * to the daemon. Repeated analyses of an unchanged reactor are answered from memory. The daemon serves only requests
+ * configured the same way it was started, e.g. regarding <code>classesToIgnore</code>.
+ *
+ * @see FindDeadCodeOnlyMojo
+ * @since 2.2.0
+ */
+@Mojo(name = "daemon",
+        aggregator = true,
+        requiresProject = true,
+        threadSafe = true)
+public class RunDaemonMojo extends FindDeadCodeOnlyMojo {
+
+    /**
+     * The local port the daemon listens on if no <tt>daemonPort</tt> is configured.
+     *
+     * @since 2.2.0
+     */
+    public static final int DEFAULT_PORT = 7425;
+
+    @Override
+    public void doExecute() throws MojoExecutionException {
+        Integer daemonPort = getDaemonPort();
+        int port = daemonPort == null ? DEFAULT_PORT : daemonPort;
+        AnalysisDaemon analysisDaemon;
+        try {
+            analysisDaemon = new AnalysisDaemon(createAnalyzerConfiguration(), port);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to start analysis daemon on port [" + port + "]!", e);
+        }
+        getLog().info("Started analysis daemon; press Ctrl+C to stop it.");
+        analysisDaemon.serve();
+    }
+
+}
@@ -3,13 +3,15 @@ package de.is24.deadcode4j.plugin;
 import javax.annotation.Nonnull;
 import java.io.File;
 import java.io.FileFilter;
+import java.io.Serializable;
 
 /**
  * A <code>SubDirectoryFilter</code> only accepts a specific subdirectory of a directory.
  *
  * @since 1.2.0
  */
-public class SubDirectoryFilter implements FileFilter {
+public class SubDirectoryFilter implements FileFilter, Serializable {
+    private static final long serialVersionUID = 1L;
 
     private final File directory;
     private final String subDirectoryName;
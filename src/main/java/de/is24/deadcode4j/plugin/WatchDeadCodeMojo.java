@@ -0,0 +1,66 @@
+package de.is24.deadcode4j.plugin;
+
+import de.is24.deadcode4j.DeadCode;
+import de.is24.deadcode4j.IncrementalDeadCodeFinder;
+import de.is24.deadcode4j.Module;
+import de.is24.deadcode4j.daemon.ModuleWatcher;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+import java.util.Collection;
+
+import static org.apache.maven.plugins.annotations.ResolutionScope.COMPILE;
+
+/**
+ * Finds dead code and keeps watching the analyzed directories. Whenever files change, the affected modules (and the
+ * modules depending on them) are analyzed again and the changes of the unused classes are logged. Runs until the
+ * build is interrupted.
+ *
+ * @see FindDeadCodeOnlyMojo
+ * @since 2.2.0
+ */
+@Mojo(name = "watch",
+        aggregator = true,
+        requiresProject = true,
+        requiresDependencyCollection = COMPILE,
+        threadSafe = true)
+public class WatchDeadCodeMojo extends FindDeadCodeOnlyMojo {
+
+    /**
+     * The interval (in milliseconds) in which the directories are checked for changes.
+     *
+     * @since 2.2.0
+     */
+    @Parameter(property = "deadcode4j.watchInterval", defaultValue = "1000")
+    @SuppressWarnings("PMD.ImmutableField")
+    private long watchInterval = 1000;
+
+    @Override
+    public void doExecute() throws MojoExecutionException {
+        Iterable<Module> modules = gatherModules();
+        IncrementalDeadCodeFinder deadCodeFinder = new IncrementalDeadCodeFinder(createDeadCodeFinder(), modules);
+        ModuleWatcher moduleWatcher = new ModuleWatcher(modules);
+        DeadCodeLogger deadCodeLogger = new DeadCodeLogger(getLog());
+        DeadCode deadCode = deadCodeFinder.findDeadCode();
+        deadCodeLogger.log(deadCode);
+        getLog().info("Watching for changes; press Ctrl+C to stop.");
+        try {
+            for (; ; ) {
+                Thread.sleep(watchInterval);
+                Collection<Module> changedModules = moduleWatcher.pollChangedModules();
+                if (changedModules.isEmpty()) {
+                    continue;
+                }
+                getLog().info("Detected changes in " + changedModules + "; analyzing again...");
+                DeadCode previousDeadCode = deadCode;
+                deadCode = deadCodeFinder.findDeadCode(changedModules);
+                deadCodeLogger.logDelta(previousDeadCode.getDeadClasses(), deadCode);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            getLog().info("Stopped watching.");
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+package de.is24.deadcode4j.plugin.report;
+
+import de.is24.deadcode4j.DeadCode;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * The <code>CsvReportWriter</code> writes one line per dead class, consisting of the package and the fully qualified
+ * class name. The lines are grouped by package.
+ *
+ * @since 2.2.0
+ */
+public class CsvReportWriter extends ReportWriter {
+
+    private static void writeValue(@Nonnull Writer writer, @Nonnull String value) throws IOException {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    @Nonnull
+    @Override
+    public String getFileExtension() {
+        return "csv";
+    }
+
+    @Override
+    protected void startReport(@Nonnull Writer writer, @Nonnull DeadCode deadCode) throws IOException {
+        writer.write("package,class\n");
+    }
+
+    @Override
+    protected void startPackage(@Nonnull Writer writer, @Nonnull String packageName) {
+    }
+
+    @Override
+    protected void writeDeadClass(@Nonnull Writer writer,
+                                  @Nonnull String packageName,
+                                  @Nonnull String className) throws IOException {
+        writeValue(writer, packageName);
+        writer.write(',');
+        writeValue(writer, className);
+        writer.write('\n');
+    }
+
+}
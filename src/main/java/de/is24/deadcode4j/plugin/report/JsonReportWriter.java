@@ -0,0 +1,99 @@
+package de.is24.deadcode4j.plugin.report;
+
+import de.is24.deadcode4j.AnalysisStage;
+import de.is24.deadcode4j.DeadCode;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * The <code>JsonReportWriter</code> writes a JSON document listing the dead classes per package, e.g.
+ * <pre>
+ * {"analyzedClasses":42,"deadClasses":2,"stagesWithExceptions":[],"packages":[
+ * {"name":"de.is24","classes":["Bar","Foo"]}
+ * ]}
+ * </pre>
+ *
+ * @since 2.2.0
+ */
+public class JsonReportWriter extends ReportWriter {
+
+    private boolean firstPackage;
+    private boolean firstClassOfPackage;
+
+    private static void writeString(@Nonnull Writer writer, @Nonnull String value) throws IOException {
+        writer.write('"');
+        for (int i = 0, length = value.length(); i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                writer.write('\\');
+                writer.write(c);
+            } else if (c < ' ') {
+                writer.write(String.format("\\u%04x", (int) c));
+            } else {
+                writer.write(c);
+            }
+        }
+        writer.write('"');
+    }
+
+    @Nonnull
+    @Override
+    public String getFileExtension() {
+        return "json";
+    }
+
+    @Override
+    protected void startReport(@Nonnull Writer writer, @Nonnull DeadCode deadCode) throws IOException {
+        firstPackage = true;
+        writer.write("{\"analyzedClasses\":");
+        writer.write(String.valueOf(deadCode.getAnalyzedClasses().size()));
+        writer.write(",\"deadClasses\":");
+        writer.write(String.valueOf(deadCode.getDeadClasses().size()));
+        writer.write(",\"stagesWithExceptions\":[");
+        boolean firstStage = true;
+        for (AnalysisStage stage : deadCode.getStagesWithExceptions()) {
+            if (!firstStage) {
+                writer.write(',');
+            }
+            firstStage = false;
+            writeString(writer, stage.name());
+        }
+        writer.write("],\"packages\":[");
+    }
+
+    @Override
+    protected void startPackage(@Nonnull Writer writer, @Nonnull String packageName) throws IOException {
+        if (!firstPackage) {
+            writer.write(',');
+        }
+        firstPackage = false;
+        firstClassOfPackage = true;
+        writer.write("\n{\"name\":");
+        writeString(writer, packageName);
+        writer.write(",\"classes\":[");
+    }
+
+    @Override
+    protected void writeDeadClass(@Nonnull Writer writer,
+                                  @Nonnull String packageName,
+                                  @Nonnull String className) throws IOException {
+        if (!firstClassOfPackage) {
+            writer.write(',');
+        }
+        firstClassOfPackage = false;
+        writeString(writer, getSimpleName(packageName, className));
+    }
+
+    @Override
+    protected void endPackage(@Nonnull Writer writer) throws IOException {
+        writer.write("]}");
+    }
+
+    @Override
+    protected void endReport(@Nonnull Writer writer) throws IOException {
+        writer.write("\n]}\n");
+    }
+
+}
@@ -0,0 +1,178 @@
+package de.is24.deadcode4j.plugin.report;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.Ordering;
+import de.is24.deadcode4j.DeadCode;
+
+import javax.annotation.Nonnull;
+import java.io.*;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A <code>ReportWriter</code> streams the results of a code analysis into a file.
+ * The dead classes are written grouped by package; subclasses only need to define the format.
+ *
+ * @since 2.2.0
+ */
+public abstract class ReportWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Comparator<String> BY_PACKAGE_AND_CLASS_NAME = new Comparator<String>() {
+        @Override
+        public int compare(String left, String right) {
+            int result = getPackageName(left).compareTo(getPackageName(right));
+            return result != 0 ? result : left.compareTo(right);
+        }
+    };
+
+    /**
+     * Returns the <code>ReportWriter</code> for the given format.
+     *
+     * @param format one of <tt>json</tt>, <tt>csv</tt> or <tt>text</tt> (case insensitive)
+     * @throws IllegalArgumentException if the format is not supported
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static ReportWriter forFormat(@Nonnull String format) throws IllegalArgumentException {
+        String normalizedFormat = format.trim().toLowerCase(Locale.ENGLISH);
+        if ("json".equals(normalizedFormat)) {
+            return new JsonReportWriter();
+        }
+        if ("csv".equals(normalizedFormat)) {
+            return new CsvReportWriter();
+        }
+        checkArgument("text".equals(normalizedFormat),
+                "The report format [" + format + "] is not supported; use one of [json, csv, text]!");
+        return new TextReportWriter();
+    }
+
+    /**
+     * Returns the package name of the given class or an empty <code>String</code> for the default package.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    protected static String getPackageName(@Nonnull String className) {
+        int lastDot = className.lastIndexOf('.');
+        return lastDot < 0 ? "" : className.substring(0, lastDot);
+    }
+
+    /**
+     * Returns the file extension (without a leading dot) of the reports written by this <code>ReportWriter</code>.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public abstract String getFileExtension();
+
+    /**
+     * Writes the report for the given <code>DeadCode</code> into a file called <tt>deadcode4j.<i>extension</i></tt>
+     * located in the specified directory, which is created if necessary.
+     *
+     * @return the written report file
+     * @since 2.2.0
+     */
+    @Nonnull
+    public final File write(@Nonnull DeadCode deadCode, @Nonnull File directory) throws IOException {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Failed to create directory [" + directory + "]!");
+        }
+        File reportFile = new File(directory, "deadcode4j." + getFileExtension());
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(reportFile), Charsets.UTF_8), BUFFER_SIZE);
+        try {
+            write(deadCode, writer);
+        } finally {
+            writer.close();
+        }
+        return reportFile;
+    }
+
+    /**
+     * Writes the report for the given <code>DeadCode</code> to the given <code>Writer</code>.
+     *
+     * @since 2.2.0
+     */
+    public final void write(@Nonnull DeadCode deadCode, @Nonnull Writer writer) throws IOException {
+        Collection<String> deadClasses = deadCode.getDeadClasses();
+        startReport(writer, deadCode);
+        String currentPackage = null;
+        for (String deadClass : sortByPackage(deadClasses)) {
+            String packageName = getPackageName(deadClass);
+            if (!packageName.equals(currentPackage)) {
+                if (currentPackage != null) {
+                    endPackage(writer);
+                }
+                currentPackage = packageName;
+                startPackage(writer, packageName);
+            }
+            writeDeadClass(writer, packageName, deadClass);
+        }
+        if (currentPackage != null) {
+            endPackage(writer);
+        }
+        endReport(writer);
+        writer.flush();
+    }
+
+    /**
+     * Called once before any package is written.
+     *
+     * @since 2.2.0
+     */
+    protected abstract void startReport(@Nonnull Writer writer, @Nonnull DeadCode deadCode) throws IOException;
+
+    /**
+     * Called before the dead classes of a package are written.
+     *
+     * @param packageName the package's name; empty for the default package
+     * @since 2.2.0
+     */
+    protected abstract void startPackage(@Nonnull Writer writer, @Nonnull String packageName) throws IOException;
+
+    /**
+     * Called for each dead class.
+     *
+     * @since 2.2.0
+     */
+    protected abstract void writeDeadClass(@Nonnull Writer writer,
+                                           @Nonnull String packageName,
+                                           @Nonnull String className) throws IOException;
+
+    /**
+     * Called after the dead classes of a package were written.
+     *
+     * @since 2.2.0
+     */
+    protected void endPackage(@Nonnull Writer writer) throws IOException {
+    }
+
+    /**
+     * Called once after all packages were written.
+     *
+     * @since 2.2.0
+     */
+    protected void endReport(@Nonnull Writer writer) throws IOException {
+    }
+
+    /**
+     * Returns the simple name of the given class, i.e. the class name without the package.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    protected String getSimpleName(@Nonnull String packageName, @Nonnull String className) {
+        return packageName.isEmpty() ? className : className.substring(packageName.length() + 1);
+    }
+
+    @Nonnull
+    private List<String> sortByPackage(@Nonnull Collection<String> deadClasses) {
+        return Ordering.from(BY_PACKAGE_AND_CLASS_NAME).sortedCopy(deadClasses);
+    }
+
+}
@@ -0,0 +1,53 @@
+package de.is24.deadcode4j.plugin.report;
+
+import de.is24.deadcode4j.DeadCode;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * The <code>TextReportWriter</code> writes a compact plain text report: a summary line, followed by each package and
+ * the simple names of its dead classes, e.g.
+ * <pre>
+ * # analyzed 42 class(es), found 2 unused class(es)
+ * de.is24
+ *   Bar
+ *   Foo
+ * </pre>
+ *
+ * @since 2.2.0
+ */
+public class TextReportWriter extends ReportWriter {
+
+    @Nonnull
+    @Override
+    public String getFileExtension() {
+        return "txt";
+    }
+
+    @Override
+    protected void startReport(@Nonnull Writer writer, @Nonnull DeadCode deadCode) throws IOException {
+        writer.write("# analyzed ");
+        writer.write(String.valueOf(deadCode.getAnalyzedClasses().size()));
+        writer.write(" class(es), found ");
+        writer.write(String.valueOf(deadCode.getDeadClasses().size()));
+        writer.write(" unused class(es)\n");
+    }
+
+    @Override
+    protected void startPackage(@Nonnull Writer writer, @Nonnull String packageName) throws IOException {
+        writer.write(packageName.isEmpty() ? "<default package>" : packageName);
+        writer.write('\n');
+    }
+
+    @Override
+    protected void writeDeadClass(@Nonnull Writer writer,
+                                  @Nonnull String packageName,
+                                  @Nonnull String className) throws IOException {
+        writer.write("  ");
+        writer.write(getSimpleName(packageName, className));
+        writer.write('\n');
+    }
+
+}
@@ -0,0 +1,129 @@
+package de.is24.deadcode4j.shard;
+
+import com.google.common.base.Joiner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import java.io.*;
+import java.util.List;
+
+import static com.google.common.base.Charsets.UTF_8;
+import static com.google.common.collect.Lists.newArrayList;
+
+/**
+ * The <code>ForkingShardExecutor</code> runs each {@link ShardTask} in a separate JVM, all of them in parallel.
+ * The output of the forked JVMs is passed on to the logger.
+ *
+ * @since 2.2.0
+ */
+public class ForkingShardExecutor implements ShardExecutor {
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    @Nonnull
+    private final File javaExecutable;
+    @Nonnull
+    private final List<File> classPath;
+    @Nonnull
+    private final List<String> jvmArguments;
+
+    /**
+     * Creates a new <code>ForkingShardExecutor</code>.
+     *
+     * @param javaExecutable the <tt>java</tt> executable to launch
+     * @param classPath      the class path of the forked JVMs; must contain deadcode4j and its dependencies
+     * @param jvmArguments   additional arguments for the forked JVMs, e.g. <tt>-Xmx1g</tt>
+     * @since 2.2.0
+     */
+    public ForkingShardExecutor(@Nonnull File javaExecutable,
+                                @Nonnull List<File> classPath,
+                                @Nonnull List<String> jvmArguments) {
+        this.javaExecutable = javaExecutable;
+        this.classPath = newArrayList(classPath);
+        this.jvmArguments = newArrayList(jvmArguments);
+    }
+
+    /**
+     * Returns the <tt>java</tt> executable of the running JVM.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static File currentJavaExecutable() {
+        return new File(new File(System.getProperty("java.home"), "bin"), "java");
+    }
+
+    @Override
+    public void execute(@Nonnull List<File> taskFiles) throws IOException {
+        List<Process> processes = newArrayList();
+        List<Thread> outputPumps = newArrayList();
+        try {
+            for (int i = 0; i < taskFiles.size(); i++) {
+                Process process = fork(taskFiles.get(i));
+                processes.add(process);
+                Thread outputPump = new Thread(new OutputPump(process.getInputStream(), "[shard " + i + "] "));
+                outputPump.setDaemon(true);
+                outputPump.start();
+                outputPumps.add(outputPump);
+            }
+            for (int i = 0; i < processes.size(); i++) {
+                int exitCode = processes.get(i).waitFor();
+                outputPumps.get(i).join();
+                if (exitCode != 0) {
+                    throw new IOException("Shard " + i + " failed with exit code " + exitCode + "!");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for shards!");
+        } finally {
+            for (Process process : processes) {
+                process.destroy();
+            }
+        }
+    }
+
+    @Nonnull
+    private Process fork(@Nonnull File taskFile) throws IOException {
+        List<String> command = newArrayList(javaExecutable.getAbsolutePath());
+        command.addAll(jvmArguments);
+        command.add("-cp");
+        command.add(Joiner.on(File.pathSeparatorChar).join(classPath));
+        command.add(ShardWorker.class.getName());
+        command.add(taskFile.getAbsolutePath());
+        logger.debug("Forking {}", command);
+        return new ProcessBuilder(command).redirectErrorStream(true).start();
+    }
+
+    private class OutputPump implements Runnable {
+        @Nonnull
+        private final InputStream output;
+        @Nonnull
+        private final String prefix;
+
+        public OutputPump(@Nonnull InputStream output, @Nonnull String prefix) {
+            this.output = output;
+            this.prefix = prefix;
+        }
+
+        @Override
+        public void run() {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(output, UTF_8));
+            try {
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    logger.info(prefix + line);
+                }
+            } catch (IOException e) {
+                logger.debug("Failed to read output of shard.", e);
+            } finally {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    logger.debug("Failed to close output of shard.", e);
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,23 @@
+package de.is24.deadcode4j.shard;
+
+import javax.annotation.Nonnull;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A <code>ShardExecutor</code> performs {@link ShardTask}s.
+ *
+ * @since 2.2.0
+ */
+public interface ShardExecutor {
+
+    /**
+     * Performs the tasks stored in the given files - possibly in parallel - and waits for all of them to finish.
+     *
+     * @throws IOException if any of the tasks fails
+     * @since 2.2.0
+     */
+    void execute(@Nonnull List<File> taskFiles) throws IOException;
+
+}
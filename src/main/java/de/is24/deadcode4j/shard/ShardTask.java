@@ -0,0 +1,117 @@
+package de.is24.deadcode4j.shard;
+
+import de.is24.deadcode4j.analyzer.AnalyzerConfiguration;
+import de.is24.deadcode4j.daemon.ModuleLayout;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.google.common.collect.Lists.newArrayList;
+
+/**
+ * A <code>ShardTask</code> describes the work of one shard: which modules to analyze, how to set up the analyzers,
+ * where to find the results of the modules analyzed by previous shards and where to write the results to.
+ *
+ * @since 2.2.0
+ */
+public final class ShardTask implements Serializable {
+    private static final long serialVersionUID = 1L;
+    @Nonnull
+    private final ModuleLayout moduleLayout;
+    @Nonnull
+    private final ArrayList<String> moduleIds;
+    @Nonnull
+    private final AnalyzerConfiguration analyzerConfiguration;
+    @Nullable
+    private final File inputSnapshot;
+    @Nonnull
+    private final File outputSnapshot;
+
+    /**
+     * Creates a new <code>ShardTask</code>.
+     *
+     * @param moduleLayout          the layout of all modules
+     * @param moduleIds             the IDs of the modules to analyze
+     * @param analyzerConfiguration the configuration of the analyzers to set up
+     * @param inputSnapshot         the snapshot providing the results of previously analyzed modules
+     * @param outputSnapshot        the file to write the results to
+     * @since 2.2.0
+     */
+    public ShardTask(@Nonnull ModuleLayout moduleLayout,
+                     @Nonnull Collection<String> moduleIds,
+                     @Nonnull AnalyzerConfiguration analyzerConfiguration,
+                     @Nullable File inputSnapshot,
+                     @Nonnull File outputSnapshot) {
+        this.moduleLayout = moduleLayout;
+        this.moduleIds = newArrayList(moduleIds);
+        this.analyzerConfiguration = analyzerConfiguration;
+        this.inputSnapshot = inputSnapshot;
+        this.outputSnapshot = outputSnapshot;
+    }
+
+    /**
+     * Reads a task from the given file.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static ShardTask read(@Nonnull File file) throws IOException {
+        ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)));
+        try {
+            return (ShardTask) in.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new IOException("[" + file + "] is no valid shard task: " + e.getMessage());
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Writes this task to the given file.
+     *
+     * @since 2.2.0
+     */
+    public void write(@Nonnull File file) throws IOException {
+        ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+        try {
+            out.writeObject(this);
+        } finally {
+            out.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ShardTask " + moduleIds;
+    }
+
+    @Nonnull
+    public ModuleLayout getModuleLayout() {
+        return moduleLayout;
+    }
+
+    @Nonnull
+    public List<String> getModuleIds() {
+        return moduleIds;
+    }
+
+    @Nonnull
+    public AnalyzerConfiguration getAnalyzerConfiguration() {
+        return analyzerConfiguration;
+    }
+
+    @Nullable
+    public File getInputSnapshot() {
+        return inputSnapshot;
+    }
+
+    @Nonnull
+    public File getOutputSnapshot() {
+        return outputSnapshot;
+    }
+
+}
@@ -0,0 +1,71 @@
+package de.is24.deadcode4j.shard;
+
+import de.is24.deadcode4j.AnalysisSnapshot;
+import de.is24.deadcode4j.IncrementalDeadCodeFinder;
+import de.is24.deadcode4j.Module;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import static com.google.common.collect.Lists.newArrayList;
+
+/**
+ * The <code>ShardWorker</code> performs a {@link ShardTask}; it is the entry point of the forked JVMs.
+ *
+ * @since 2.2.0
+ */
+public final class ShardWorker {
+
+    private ShardWorker() {}
+
+    /**
+     * Performs the task stored in the file given as the only argument.
+     *
+     * @since 2.2.0
+     */
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            System.err.println("Usage: ShardWorker <task file>");
+            System.exit(2);
+        }
+        try {
+            run(ShardTask.read(new File(args[0])));
+        } catch (Exception e) {
+            LoggerFactory.getLogger(ShardWorker.class).error("Shard failed!", e);
+            e.printStackTrace();
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Analyzes the modules listed by the given task and writes their results - and only theirs - to the task's output
+     * snapshot.
+     *
+     * @since 2.2.0
+     */
+    public static void run(@Nonnull ShardTask task) throws IOException {
+        Logger logger = LoggerFactory.getLogger(ShardWorker.class);
+        List<Module> modules = task.getModuleLayout().toModules();
+        IncrementalDeadCodeFinder deadCodeFinder = new IncrementalDeadCodeFinder(
+                task.getAnalyzerConfiguration().createDeadCodeFinder(), modules);
+        File inputSnapshot = task.getInputSnapshot();
+        if (inputSnapshot != null) {
+            deadCodeFinder.restore(AnalysisSnapshot.read(inputSnapshot));
+        }
+        List<Module> modulesToAnalyze = newArrayList();
+        for (Module module : modules) {
+            if (task.getModuleIds().contains(module.getModuleId())) {
+                modulesToAnalyze.add(module);
+            }
+        }
+        logger.info("Analyzing {}...", modulesToAnalyze);
+        deadCodeFinder.analyzeModules(modulesToAnalyze);
+        deadCodeFinder.createSnapshot().restrictTo(modulesToAnalyze).write(task.getOutputSnapshot());
+    }
+
+}
@@ -0,0 +1,194 @@
+package de.is24.deadcode4j.shard;
+
+import de.is24.deadcode4j.AnalysisSnapshot;
+import de.is24.deadcode4j.DeadCode;
+import de.is24.deadcode4j.IncrementalDeadCodeFinder;
+import de.is24.deadcode4j.Module;
+import de.is24.deadcode4j.analyzer.AnalyzerConfiguration;
+import de.is24.deadcode4j.daemon.ModuleLayout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.collect.Sets.newHashSet;
+import static de.is24.deadcode4j.Module.sort;
+
+/**
+ * The <code>ShardedDeadCodeFinder</code> distributes the analysis of the modules among several shards, each of which
+ * is run by a {@link ShardExecutor} - typically in a separate JVM, so the heap of each process stays bounded.
+ * <p/>
+ * The modules are analyzed in waves: a wave consists of all modules whose required modules were analyzed by previous
+ * waves. The modules of a wave are spread among the shards, which are executed in parallel; each shard gets the
+ * results of the modules its modules (transitively) require via an {@link AnalysisSnapshot}. Finally, the results of all shards are merged and the
+ * project-wide analysis is performed in the calling JVM.
+ *
+ * @since 2.2.0
+ */
+public class ShardedDeadCodeFinder {
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    @Nonnull
+    private final AnalyzerConfiguration analyzerConfiguration;
+    private final int numberOfShards;
+    @Nonnull
+    private final ShardExecutor shardExecutor;
+    @Nonnull
+    private final File workDirectory;
+
+    /**
+     * Creates a new <code>ShardedDeadCodeFinder</code>.
+     *
+     * @param numberOfShards the maximum number of shards executed in parallel
+     * @param workDirectory  the directory to store the tasks & snapshots exchanged with the shards in
+     * @since 2.2.0
+     */
+    public ShardedDeadCodeFinder(@Nonnull AnalyzerConfiguration analyzerConfiguration,
+                                 int numberOfShards,
+                                 @Nonnull ShardExecutor shardExecutor,
+                                 @Nonnull File workDirectory) {
+        checkArgument(numberOfShards > 0, "The number of shards must be positive!");
+        this.analyzerConfiguration = analyzerConfiguration;
+        this.numberOfShards = numberOfShards;
+        this.shardExecutor = shardExecutor;
+        this.workDirectory = workDirectory;
+    }
+
+    /**
+     * Groups the modules into waves, each containing the modules whose required modules are part of previous waves.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    static List<List<Module>> planWaves(@Nonnull Iterable<Module> modules) {
+        Map<Module, Integer> waveOfModule = newHashMap();
+        List<List<Module>> waves = newArrayList();
+        for (Module module : sort(modules)) {
+            int wave = 0;
+            for (Module requiredModule : module.getRequiredModules()) {
+                Integer waveOfRequiredModule = waveOfModule.get(requiredModule);
+                if (waveOfRequiredModule != null) {
+                    wave = Math.max(wave, waveOfRequiredModule + 1);
+                }
+            }
+            waveOfModule.put(module, wave);
+            if (wave == waves.size()) {
+                waves.add(new ArrayList<Module>());
+            }
+            waves.get(wave).add(module);
+        }
+        return waves;
+    }
+
+    /**
+     * Spreads the given modules evenly among at most <code>numberOfShards</code> shards.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    static List<List<String>> distribute(@Nonnull List<Module> modules, int numberOfShards) {
+        List<List<String>> shards = newArrayList();
+        for (int i = 0; i < modules.size(); i++) {
+            if (i < numberOfShards) {
+                shards.add(new ArrayList<String>());
+            }
+            shards.get(i % numberOfShards).add(modules.get(i).getModuleId());
+        }
+        return shards;
+    }
+
+    /**
+     * Analyzes the given modules using the configured shards.
+     *
+     * @throws IOException if a shard fails or the files exchanged with the shards cannot be read or written
+     * @since 2.2.0
+     */
+    @Nonnull
+    public DeadCode findDeadCode(@Nonnull Iterable<Module> modules) throws IOException {
+        if (!workDirectory.isDirectory() && !workDirectory.mkdirs()) {
+            throw new IOException("Failed to create directory [" + workDirectory + "]!");
+        }
+        ModuleLayout moduleLayout = ModuleLayout.of(modules);
+        Map<String, Module> modulesById = newHashMap();
+        for (Module module : modules) {
+            modulesById.put(module.getModuleId(), module);
+        }
+        List<AnalysisSnapshot> snapshots = newArrayList();
+        AnalysisSnapshot resultsOfPreviousWaves = AnalysisSnapshot.merge(snapshots);
+        List<List<Module>> waves = planWaves(modules);
+        for (int wave = 0; wave < waves.size(); wave++) {
+            List<List<String>> shards = distribute(waves.get(wave), numberOfShards);
+            logger.info("Analyzing wave {} of {} using {} shard(s)...", wave + 1, waves.size(), shards.size());
+            List<File> taskFiles = newArrayList();
+            List<File> outputSnapshots = newArrayList();
+            for (int shard = 0; shard < shards.size(); shard++) {
+                String prefix = "wave" + wave + "-shard" + shard;
+                File inputSnapshot = writeInputSnapshot(resultsOfPreviousWaves,
+                        getRequiredModules(shards.get(shard), modulesById), prefix);
+                File outputSnapshot = new File(workDirectory, prefix + ".snapshot");
+                File taskFile = new File(workDirectory, prefix + ".task");
+                new ShardTask(moduleLayout, shards.get(shard), analyzerConfiguration, inputSnapshot, outputSnapshot)
+                        .write(taskFile);
+                taskFiles.add(taskFile);
+                outputSnapshots.add(outputSnapshot);
+            }
+            shardExecutor.execute(taskFiles);
+            for (File outputSnapshot : outputSnapshots) {
+                snapshots.add(AnalysisSnapshot.read(outputSnapshot));
+            }
+            resultsOfPreviousWaves = AnalysisSnapshot.merge(snapshots);
+        }
+        logger.info("Merging results of all shards...");
+        IncrementalDeadCodeFinder deadCodeFinder = new IncrementalDeadCodeFinder(
+                analyzerConfiguration.createDeadCodeFinder(), modules);
+        deadCodeFinder.restore(resultsOfPreviousWaves);
+        return deadCodeFinder.findDeadCode(Collections.<Module>emptyList());
+    }
+
+    /**
+     * Returns the modules (transitively) required by the specified modules.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    static Set<Module> getRequiredModules(@Nonnull Iterable<String> moduleIds, @Nonnull Map<String, Module> modulesById) {
+        Set<Module> requiredModules = newHashSet();
+        Deque<Module> modulesToVisit = new ArrayDeque<Module>();
+        for (String moduleId : moduleIds) {
+            modulesToVisit.addAll(modulesById.get(moduleId).getRequiredModules());
+        }
+        while (!modulesToVisit.isEmpty()) {
+            Module module = modulesToVisit.pop();
+            if (requiredModules.add(module)) {
+                modulesToVisit.addAll(module.getRequiredModules());
+            }
+        }
+        return requiredModules;
+    }
+
+    @Nullable
+    private File writeInputSnapshot(@Nonnull AnalysisSnapshot resultsOfPreviousWaves,
+                                    @Nonnull Set<Module> requiredModules,
+                                    @Nonnull String prefix) throws IOException {
+        if (requiredModules.isEmpty()) {
+            return null;
+        }
+        File inputSnapshot = new File(workDirectory, prefix + "-input.snapshot");
+        resultsOfPreviousWaves.restrictTo(requiredModules).write(inputSnapshot);
+        return inputSnapshot;
+    }
+
+}
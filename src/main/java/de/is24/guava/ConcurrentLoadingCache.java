@@ -0,0 +1,347 @@
+package de.is24.guava;
+
+import com.google.common.base.Function;
+import com.google.common.base.Optional;
+import com.google.common.cache.AbstractCache.SimpleStatsCounter;
+import com.google.common.cache.AbstractCache.StatsCounter;
+import com.google.common.cache.AbstractLoadingCache;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.Weigher;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Throwables.propagate;
+import static com.google.common.util.concurrent.Uninterruptibles.awaitUninterruptibly;
+
+/**
+ * The <code>ConcurrentLoadingCache</code> is a <code>LoadingCache</code> that can be accessed by several threads
+ * simultaneously. Like the {@link SequentialLoadingCache}, it caches <code>null</code> values. In addition, it
+ * <ul>
+ * <li>loads each value only once - threads requesting a value that is being loaded wait for the loading thread</li>
+ * <li>optionally limits its size or total weight, evicting the least recently used entries</li>
+ * <li>records {@link #stats() statistics} about hits, misses, load times & evictions</li>
+ * </ul>
+ * Like Guava's caches, it throws an <code>IllegalStateException</code> if the function loading a value requests that
+ * very value, instead of waiting for itself forever.
+ * Reading a loaded value requires no locking; a bounded cache takes a lock only to load or evict values.
+ * If the function loading a value throws an exception, it is passed on to all threads waiting for that value & the
+ * value is not cached.
+ *
+ * @param <K> the keys' type
+ * @param <V> the values' type
+ * @since 2.2.0
+ */
+public class ConcurrentLoadingCache<K, V> extends AbstractLoadingCache<K, Optional<V>> {
+
+    private static final Object NULL_KEY = new Object();
+    private static final int DRAIN_THRESHOLD = 64;
+    private static final Weigher<Object, Object> ONE_PER_ENTRY = new Weigher<Object, Object>() {
+        @Override
+        public int weigh(@Nullable Object key, @Nullable Object value) {
+            return 1;
+        }
+    };
+    @Nonnull
+    private final ConcurrentMap<Object, Entry<V>> entries = new ConcurrentHashMap<Object, Entry<V>>();
+    @Nonnull
+    private final Function<K, Optional<V>> cacheLoader;
+    private final long maximumWeight;
+    @Nullable
+    private final Weigher<? super K, ? super Optional<V>> weigher;
+    @Nonnull
+    private final StatsCounter statsCounter = new SimpleStatsCounter();
+    @Nonnull
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    /** Guarded by the <code>evictionLock</code>; holds the loaded entries of a bounded cache in access order. */
+    @Nonnull
+    private final LinkedHashMap<Object, Entry<V>> accessOrder = new LinkedHashMap<Object, Entry<V>>(16, 0.75f, true);
+    /** Guarded by the <code>evictionLock</code>. */
+    private long totalWeight = 0;
+    /** Records the hits of a bounded cache without locking; applied to the <code>accessOrder</code> later on. */
+    @Nonnull
+    private final Queue<Entry<V>> recentAccesses = new ConcurrentLinkedQueue<Entry<V>>();
+    @Nonnull
+    private final AtomicInteger numberOfRecentAccesses = new AtomicInteger();
+
+    private ConcurrentLoadingCache(@Nonnull Function<K, Optional<V>> cacheLoader,
+                                   long maximumWeight,
+                                   @Nullable Weigher<? super K, ? super Optional<V>> weigher) {
+        checkArgument(weigher == null || maximumWeight >= 0, "The maximum weight must not be negative!");
+        this.cacheLoader = cacheLoader;
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+    }
+
+    /**
+     * Creates an unbounded <code>ConcurrentLoadingCache</code> that uses the given function to load the values.
+     *
+     * @since 2.2.0
+     */
+    public ConcurrentLoadingCache(@Nonnull Function<K, Optional<V>> cacheLoader) {
+        this(cacheLoader, -1, null);
+    }
+
+    /**
+     * Creates a <code>ConcurrentLoadingCache</code> that holds at most the given number of values, evicting the least
+     * recently used ones.
+     *
+     * @see #ConcurrentLoadingCache(com.google.common.base.Function)
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static <K, V> ConcurrentLoadingCache<K, V> createBoundedCache(long maximumSize,
+                                                                         @Nonnull Function<K, Optional<V>> cacheLoader) {
+        return new ConcurrentLoadingCache<K, V>(cacheLoader, maximumSize, ONE_PER_ENTRY);
+    }
+
+    /**
+     * Creates a <code>ConcurrentLoadingCache</code> whose values weigh at most the given weight in total, evicting the
+     * least recently used values.
+     *
+     * @see #ConcurrentLoadingCache(com.google.common.base.Function)
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static <K, V> ConcurrentLoadingCache<K, V> createWeightBoundedCache(
+            long maximumWeight,
+            @Nonnull Weigher<? super K, ? super Optional<V>> weigher,
+            @Nonnull Function<K, Optional<V>> cacheLoader) {
+        return new ConcurrentLoadingCache<K, V>(cacheLoader, maximumWeight, weigher);
+    }
+
+    /**
+     * Creates a <code>ConcurrentLoadingCache</code> that only caches one value.
+     *
+     * @see #ConcurrentLoadingCache(com.google.common.base.Function)
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static <K, V> ConcurrentLoadingCache<K, V> createSingleValueCache(@Nonnull Function<K, Optional<V>> cacheLoader) {
+        return createBoundedCache(1, cacheLoader);
+    }
+
+    @Nonnull
+    @Override
+    public Optional<V> get(@Nullable K key) {
+        Object internalKey = key == null ? NULL_KEY : key;
+        Entry<V> entry = this.entries.get(internalKey);
+        if (entry == null) {
+            Entry<V> newEntry = new Entry<V>(internalKey);
+            entry = this.entries.putIfAbsent(internalKey, newEntry);
+            if (entry == null) {
+                this.statsCounter.recordMisses(1);
+                return load(key, newEntry);
+            }
+        }
+        Optional<V> value = entry.value;
+        if (value == null) {
+            if (entry.loadingThread == Thread.currentThread()) {
+                throw new IllegalStateException("Recursive load of [" + key + "]!");
+            }
+            this.statsCounter.recordMisses(1);
+            value = entry.waitForValue();
+        } else {
+            this.statsCounter.recordHits(1);
+        }
+        recordAccess(entry);
+        return value;
+    }
+
+    @Nonnull
+    @Override
+    public Optional<V> getIfPresent(@Nullable Object key) {
+        Entry<V> entry = this.entries.get(key == null ? NULL_KEY : key);
+        Optional<V> value = entry == null ? null : entry.value;
+        if (value == null) {
+            this.statsCounter.recordMisses(1);
+            return Optional.absent();
+        }
+        this.statsCounter.recordHits(1);
+        recordAccess(entry);
+        return value;
+    }
+
+    @Override
+    public void invalidate(@Nullable Object key) {
+        Object internalKey = key == null ? NULL_KEY : key;
+        if (!isBounded()) {
+            this.entries.remove(internalKey);
+            return;
+        }
+        this.evictionLock.lock();
+        try {
+            Entry<V> entry = this.entries.remove(internalKey);
+            if (entry != null && this.accessOrder.remove(internalKey) != null) {
+                this.totalWeight -= entry.weight;
+            }
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        if (!isBounded()) {
+            this.entries.clear();
+            return;
+        }
+        this.evictionLock.lock();
+        try {
+            this.entries.clear();
+            this.accessOrder.clear();
+            this.totalWeight = 0;
+            drainRecentAccesses();
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public long size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Returns the statistics recorded since this cache was created.
+     *
+     * @since 2.2.0
+     */
+    @Nonnull
+    @Override
+    public CacheStats stats() {
+        return this.statsCounter.snapshot();
+    }
+
+    private boolean isBounded() {
+        return this.weigher != null;
+    }
+
+    @Nonnull
+    private Optional<V> load(@Nullable K key, @Nonnull Entry<V> entry) {
+        long start = System.nanoTime();
+        Optional<V> value;
+        try {
+            value = this.cacheLoader.apply(key);
+        } catch (RuntimeException e) {
+            abortLoading(entry, e, start);
+            throw e;
+        } catch (Error e) {
+            abortLoading(entry, e, start);
+            throw e;
+        }
+        if (value == null) {
+            value = Optional.absent();
+        }
+        this.statsCounter.recordLoadSuccess(System.nanoTime() - start);
+        entry.setValue(value);
+        if (isBounded()) {
+            addToAccessOrder(key, entry, value);
+        }
+        return value;
+    }
+
+    private void abortLoading(@Nonnull Entry<V> entry, @Nonnull Throwable failure, long start) {
+        this.entries.remove(entry.key, entry);
+        this.statsCounter.recordLoadException(System.nanoTime() - start);
+        entry.setFailure(failure);
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    private void addToAccessOrder(@Nullable K key, @Nonnull Entry<V> entry, @Nonnull Optional<V> value) {
+        this.evictionLock.lock();
+        try {
+            drainRecentAccesses();
+            if (this.entries.get(entry.key) != entry) {
+                return; // invalidated while loading
+            }
+            entry.weight = this.weigher.weigh(key, value);
+            this.accessOrder.put(entry.key, entry);
+            this.totalWeight += entry.weight;
+            Iterator<Entry<V>> leastRecentlyUsed = this.accessOrder.values().iterator();
+            while (this.totalWeight > this.maximumWeight && leastRecentlyUsed.hasNext()) {
+                Entry<V> evictedEntry = leastRecentlyUsed.next();
+                leastRecentlyUsed.remove();
+                this.entries.remove(evictedEntry.key, evictedEntry);
+                this.totalWeight -= evictedEntry.weight;
+                this.statsCounter.recordEviction();
+            }
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    private void recordAccess(@Nonnull Entry<V> entry) {
+        if (!isBounded()) {
+            return;
+        }
+        this.recentAccesses.add(entry);
+        if (this.numberOfRecentAccesses.incrementAndGet() > DRAIN_THRESHOLD && this.evictionLock.tryLock()) {
+            try {
+                drainRecentAccesses();
+            } finally {
+                this.evictionLock.unlock();
+            }
+        }
+    }
+
+    /** Must be called while holding the <code>evictionLock</code>. */
+    private void drainRecentAccesses() {
+        for (Entry<V> entry; (entry = this.recentAccesses.poll()) != null; ) {
+            this.numberOfRecentAccesses.decrementAndGet();
+            this.accessOrder.get(entry.key); // moves the entry to the end of the access order
+        }
+    }
+
+    private static final class Entry<V> {
+        @Nonnull
+        private final Object key;
+        @Nonnull
+        private final CountDownLatch loaded = new CountDownLatch(1);
+        /** The entry is created by the thread that is going to load its value. */
+        @Nonnull
+        private final Thread loadingThread = Thread.currentThread();
+        @Nullable
+        private volatile Optional<V> value;
+        @Nullable
+        private volatile Throwable failure;
+        /** Guarded by the <code>evictionLock</code>. */
+        private long weight;
+
+        Entry(@Nonnull Object key) {
+            this.key = key;
+        }
+
+        void setValue(@Nonnull Optional<V> value) {
+            this.value = value;
+            this.loaded.countDown();
+        }
+
+        void setFailure(@Nonnull Throwable failure) {
+            this.failure = failure;
+            this.loaded.countDown();
+        }
+
+        @Nonnull
+        @SuppressWarnings("ConstantConditions")
+        Optional<V> waitForValue() {
+            awaitUninterruptibly(this.loaded);
+            Throwable failure = this.failure;
+            if (failure != null) {
+                throw propagate(failure);
+            }
+            return this.value;
+        }
+    }
+
+}
@@ -18,7 +18,10 @@ import java.util.concurrent.ExecutionException;
  * @param <K> the keys' type
  * @param <V> the values' type
  * @since 2.0.0
+ * @deprecated use the {@link ConcurrentLoadingCache} instead, which is thread-safe, can be bounded & records
+ * statistics
  */
+@Deprecated
 public class SequentialLoadingCache<K, V> extends AbstractLoadingCache<K, Optional<V>> {
 
     @Nonnull
@@ -0,0 +1,221 @@
+package de.is24.deadcode4j.javac;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.SetMultimap;
+import com.sun.source.tree.*;
+import com.sun.source.util.*;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static de.is24.deadcode4j.javac.JavacDependencies.Kind.CONSTANT;
+import static de.is24.deadcode4j.javac.JavacDependencies.Kind.TYPE_ARGUMENT;
+
+/**
+ * The <code>DependencyRecordingPlugin</code> is a javac plugin recording those dependencies that do not show up in the
+ * byte code: references to compile-time constants (which are inlined) and classes used as type arguments (which are
+ * erased). As javac has resolved all types at this point, the recorded dependencies are exact and the
+ * {@link de.is24.deadcode4j.analyzer.ReferenceToConstantsAnalyzer} & the
+ * {@link de.is24.deadcode4j.analyzer.TypeErasureAnalyzer} can skip parsing the java files.
+ * <p/>
+ * To enable it, put deadcode4j on the compiler's (annotation processor) class path and pass
+ * <tt>-Xplugin:"DeadCode4j ${project.build.directory}/deadcode4j-javac.deps"</tt> to javac. The dependencies are
+ * appended to that file, so it may be passed to the compilation of both the main & the test sources.
+ *
+ * @see JavacDependencies
+ * @since 2.2.0
+ */
+public final class DependencyRecordingPlugin implements Plugin {
+
+    /**
+     * The name of the plugin, as used with the <tt>-Xplugin</tt> option.
+     *
+     * @since 2.2.0
+     */
+    public static final String NAME = "DeadCode4j";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void init(JavacTask task, String... args) {
+        checkArgument(args.length == 1, "The " + NAME + " plugin requires the file to record the dependencies in, e.g. "
+                + "-Xplugin:\"" + NAME + " target/" + JavacDependencies.FILE_NAME + "\"");
+        final JavacDependencies.Writer writer;
+        try {
+            writer = JavacDependencies.createWriter(new File(args[0]));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to create [" + args[0] + "]!", e);
+        }
+        task.addTaskListener(new RecordingTaskListener(Trees.instance(task), task.getElements(), writer));
+    }
+
+    private static class RecordingTaskListener implements TaskListener {
+        @Nonnull
+        private final Trees trees;
+        @Nonnull
+        private final Elements elements;
+        @Nonnull
+        private final JavacDependencies.Writer writer;
+
+        public RecordingTaskListener(@Nonnull Trees trees,
+                                     @Nonnull Elements elements,
+                                     @Nonnull JavacDependencies.Writer writer) {
+            this.trees = trees;
+            this.elements = elements;
+            this.writer = writer;
+        }
+
+        @Override
+        public void started(TaskEvent taskEvent) {
+        }
+
+        @Override
+        public void finished(TaskEvent taskEvent) {
+            if (taskEvent.getKind() != TaskEvent.Kind.ANALYZE || taskEvent.getTypeElement() == null) {
+                return;
+            }
+            URI sourceFile = taskEvent.getSourceFile().toUri();
+            if (!"file".equals(sourceFile.getScheme())) {
+                return;
+            }
+            TypeElement typeElement = taskEvent.getTypeElement();
+            TreePath path = trees.getPath(typeElement);
+            if (path == null) {
+                return;
+            }
+            DependencyScanner dependencyScanner = new DependencyScanner(trees, elements);
+            dependencyScanner.scan(path, null);
+            try {
+                writer.write(new File(sourceFile), elements.getBinaryName(typeElement).toString(),
+                        dependencyScanner.getDependencies());
+            } catch (IOException e) {
+                trees.printMessage(Diagnostic.Kind.WARNING, "Failed to record dependencies for deadcode4j: " + e,
+                        path.getLeaf(), taskEvent.getCompilationUnit());
+            }
+        }
+
+    }
+
+    private static class DependencyScanner extends TreePathScanner<Void, Void> {
+        @Nonnull
+        private final Trees trees;
+        @Nonnull
+        private final Elements elements;
+        @Nonnull
+        private final Deque<String> enclosingTypes = new ArrayDeque<String>();
+        @Nonnull
+        private final Map<JavacDependencies.Kind, SetMultimap<String, String>> dependencies =
+                new EnumMap<JavacDependencies.Kind, SetMultimap<String, String>>(JavacDependencies.Kind.class);
+
+        public DependencyScanner(@Nonnull Trees trees, @Nonnull Elements elements) {
+            this.trees = trees;
+            this.elements = elements;
+            for (JavacDependencies.Kind kind : JavacDependencies.Kind.values()) {
+                dependencies.put(kind, HashMultimap.<String, String>create());
+            }
+        }
+
+        @Nonnull
+        public Map<JavacDependencies.Kind, SetMultimap<String, String>> getDependencies() {
+            return dependencies;
+        }
+
+        @Override
+        public Void visitClass(ClassTree node, Void arg) {
+            Element element = trees.getElement(getCurrentPath());
+            if (!TypeElement.class.isInstance(element)) {
+                return super.visitClass(node, arg);
+            }
+            enclosingTypes.push(getBinaryName(TypeElement.class.cast(element)));
+            try {
+                return super.visitClass(node, arg);
+            } finally {
+                enclosingTypes.pop();
+            }
+        }
+
+        @Override
+        public Void visitIdentifier(IdentifierTree node, Void arg) {
+            recordConstantReference(trees.getElement(getCurrentPath()));
+            return super.visitIdentifier(node, arg);
+        }
+
+        @Override
+        public Void visitMemberSelect(MemberSelectTree node, Void arg) {
+            recordConstantReference(trees.getElement(getCurrentPath()));
+            return super.visitMemberSelect(node, arg);
+        }
+
+        @Override
+        public Void visitParameterizedType(ParameterizedTypeTree node, Void arg) {
+            for (Tree typeArgument : node.getTypeArguments()) {
+                Tree referencedType = getReferencedType(typeArgument);
+                if (referencedType != null) {
+                    Element element = trees.getElement(new TreePath(getCurrentPath(), referencedType));
+                    if (TypeElement.class.isInstance(element)) {
+                        record(TYPE_ARGUMENT, TypeElement.class.cast(element));
+                    }
+                }
+            }
+            return super.visitParameterizedType(node, arg);
+        }
+
+        @Nullable
+        private Tree getReferencedType(@Nonnull Tree typeArgument) {
+            Tree referencedType = typeArgument;
+            if (WildcardTree.class.isInstance(referencedType)) {
+                referencedType = WildcardTree.class.cast(referencedType).getBound();
+            }
+            while (ArrayTypeTree.class.isInstance(referencedType)) {
+                referencedType = ArrayTypeTree.class.cast(referencedType).getType();
+            }
+            return referencedType;
+        }
+
+        private void recordConstantReference(@Nullable Element element) {
+            if (element == null || element.getKind() != ElementKind.FIELD
+                    || VariableElement.class.cast(element).getConstantValue() == null) {
+                return;
+            }
+            Element owner = element.getEnclosingElement();
+            if (TypeElement.class.isInstance(owner)) {
+                record(CONSTANT, TypeElement.class.cast(owner));
+            }
+        }
+
+        private void record(@Nonnull JavacDependencies.Kind kind, @Nonnull TypeElement dependee) {
+            String depender = enclosingTypes.peek();
+            if (depender == null) {
+                return;
+            }
+            String dependeeName = getBinaryName(dependee);
+            if (!depender.equals(dependeeName)) {
+                dependencies.get(kind).put(depender, dependeeName);
+            }
+        }
+
+        @Nonnull
+        private String getBinaryName(@Nonnull TypeElement typeElement) {
+            return elements.getBinaryName(typeElement).toString();
+        }
+
+    }
+
+}
@@ -0,0 +1,61 @@
+package de.is24.deadcode4j;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+public final class A_DeadClassesDiff {
+
+    @Test
+    public void reportsNewAndRevivedClasses() {
+        DeadClassesDiff diff = DeadClassesDiff.of(asList("A", "C", "D", "F"), asList("B", "C", "E", "F", "G"));
+
+        assertThat(diff.getNewDeadClasses(), contains("B", "E", "G"));
+        assertThat(diff.getRevivedClasses(), contains("A", "D"));
+        assertThat(diff.isEmpty(), is(false));
+    }
+
+    @Test
+    public void reportsNoChangesForEqualClasses() {
+        DeadClassesDiff diff = DeadClassesDiff.of(asList("A", "B"), asList("A", "B"));
+
+        assertThat(diff.isEmpty(), is(true));
+    }
+
+    @Test
+    public void handlesEmptyLists() {
+        DeadClassesDiff diff = DeadClassesDiff.of(Collections.<String>emptyList(), asList("A"));
+
+        assertThat(diff.getNewDeadClasses(), contains("A"));
+        assertThat(diff.getRevivedClasses(), is(empty()));
+    }
+
+    @Test
+    public void comparesLargeLists() {
+        List<String> previousDeadClasses = newArrayList();
+        List<String> deadClasses = newArrayList();
+        for (int i = 0; i < 50000; i++) {
+            String clazz = String.format("de.is24.Class%05d", i);
+            if (i % 100 != 0) {
+                previousDeadClasses.add(clazz);
+            }
+            if (i % 100 != 1) {
+                deadClasses.add(clazz);
+            }
+        }
+
+        DeadClassesDiff diff = DeadClassesDiff.of(previousDeadClasses, deadClasses);
+
+        assertThat(diff.getNewDeadClasses().size(), is(500));
+        assertThat(diff.getRevivedClasses().size(), is(500));
+    }
+
+}
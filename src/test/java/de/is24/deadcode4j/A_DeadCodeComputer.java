@@ -4,7 +4,9 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -55,15 +57,89 @@ public class A_DeadCodeComputer {
         assertThat("Should recognize one class as dead", deadClasses, contains("DependingClass"));
     }
 
+    @Test
+    public void reportsNoDeadClustersIfNotConfigured() {
+        setUpDependency("A", "B");
+        setUpDependency("B", "A");
+
+        assertThat(computeDeadCode().getDeadClusters(), hasSize(0));
+    }
+
+    @Test
+    public void reportsInterdependentClassesAsDeadCluster() {
+        this.objectUnderTest = new DeadCodeComputer(true);
+        setUpDependency("A", "B");
+        setUpDependency("B", "A");
+
+        List<Collection<String>> deadClusters = computeDeadCode().getDeadClusters();
+
+        assertThat(deadClusters, hasSize(1));
+        assertThat(deadClusters.get(0), contains("A", "B"));
+    }
+
+    @Test
+    public void reportsClustersReferencedOnlyByDeadCodeAsDeadClusters() {
+        this.objectUnderTest = new DeadCodeComputer(true);
+        setUpDependency("DeadClass", "A");
+        setUpDependency("A", "B");
+        setUpDependency("B", "A", "C");
+        setUpDependency("C", "D");
+        setUpDependency("D", "C");
+
+        DeadCode deadCode = computeDeadCode();
+
+        assertThat(deadCode.getDeadClasses(), contains("DeadClass"));
+        assertThat(deadCode.getDeadClusters(), hasSize(2));
+        assertThat(deadCode.getDeadClusters().get(0), contains("A", "B"));
+        assertThat(deadCode.getDeadClusters().get(1), contains("C", "D"));
+    }
+
+    @Test
+    public void reportsClassesAndClustersReferencedOnlyByDeadClustersAsDeadCode() {
+        this.objectUnderTest = new DeadCodeComputer(true);
+        setUpDependency("A", "B");
+        setUpDependency("B", "A", "C");
+        setUpDependency("C", "D");
+        setUpDependency("D", "E");
+        setUpDependency("E", "D");
+
+        DeadCode deadCode = computeDeadCode();
+
+        assertThat(deadCode.getDeadClasses(), contains("C"));
+        assertThat(deadCode.getDeadClusters(), hasSize(2));
+        assertThat(deadCode.getDeadClusters().get(0), contains("A", "B"));
+        assertThat(deadCode.getDeadClusters().get(1), contains("D", "E"));
+    }
+
+    @Test
+    public void doesNotReportClustersUsedByLiveCodeAsDeadClusters() {
+        this.objectUnderTest = new DeadCodeComputer(true);
+        setUpDependency("_Spring_XML_", "Entry");
+        setUpDependency("Entry", "A");
+        setUpDependency("A", "B");
+        setUpDependency("B", "A", "java.lang.Object");
+        codeDependencies.put("java.lang.Object", Collections.<String>emptySet());
+        AnalyzedCode analyzedCode = new AnalyzedCode(
+                EnumSet.noneOf(AnalysisStage.class), newHashSet("Entry", "A", "B"), codeDependencies);
+
+        DeadCode deadCode = objectUnderTest.computeDeadCode(analyzedCode);
+
+        assertThat(deadCode.getDeadClasses(), hasSize(0));
+        assertThat(deadCode.getDeadClusters(), hasSize(0));
+    }
+
     private void setUpDependency(String depender, String... dependees) {
         codeDependencies.put(depender, newHashSet(dependees));
     }
 
     private Collection<String> computeDeadClasses() {
+        return computeDeadCode().getDeadClasses();
+    }
+
+    private DeadCode computeDeadCode() {
         AnalyzedCode analyzedCode = new AnalyzedCode(
                 EnumSet.noneOf(AnalysisStage.class), codeDependencies.keySet(), codeDependencies);
-        DeadCode deadCode = objectUnderTest.computeDeadCode(analyzedCode);
-        return deadCode.getDeadClasses();
+        return objectUnderTest.computeDeadCode(analyzedCode);
     }
 
 }
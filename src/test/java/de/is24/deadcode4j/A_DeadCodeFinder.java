@@ -1,5 +1,6 @@
 package de.is24.deadcode4j;
 
+import com.google.common.collect.Ordering;
 import de.is24.deadcode4j.analyzer.AnalyzerAdapter;
 import de.is24.deadcode4j.junit.FileLoader;
 import de.is24.deadcode4j.junit.LoggingRule;
@@ -86,8 +87,199 @@ public final class A_DeadCodeFinder {
         assertThat("As no valid analyzer is set up, everything should be dead!", deadCode.getDeadClasses(), hasSize(greaterThan(0)));
     }
 
+    @Test
+    public void evictsCacheEntriesAtTheEndOfTheirScope() {
+        final CacheKey<File> fileKey = CacheKey.forFile("file");
+        final CacheKey<Module> moduleKey = CacheKey.forModule("module");
+        final CacheKey<List<Module>> projectKey = CacheKey.forProject("project");
+        final List<String> violations = newArrayList();
+        final List<List<Module>> projectEntries = newArrayList();
+        createObjectUnderTest(new AnalyzerAdapter() {
+            @Override
+            public void doAnalysis(@Nonnull AnalysisContext analysisContext, @Nonnull File fileName) {
+                if (analysisContext.getCacheEntry(fileKey) != null) {
+                    violations.add("file entry of " + analysisContext.getCacheEntry(fileKey) + " still present");
+                }
+                analysisContext.putCacheEntry(fileKey, fileName);
+                Module module = analysisContext.getCacheEntry(moduleKey);
+                if (module != null && module != analysisContext.getModule()) {
+                    violations.add("module entry of " + module + " still present");
+                }
+                analysisContext.putCacheEntry(moduleKey, analysisContext.getModule());
+            }
+
+            @Override
+            public void finishAnalysis(@Nonnull AnalysisContext analysisContext) {
+                List<Module> modules = analysisContext.getCacheEntry(projectKey);
+                if (modules == null) {
+                    modules = newArrayList();
+                    analysisContext.putCacheEntry(projectKey, modules);
+                }
+                modules.add(analysisContext.getModule());
+                projectEntries.add(modules);
+            }
+        });
+        Module a = givenModule("A", FileLoader.getFile("de/is24/deadcode4j/analyzer"));
+        Module b = givenModule("B", FileLoader.getFile("de/is24/deadcode4j/graph"));
+
+        objectUnderTest.findDeadCode(newArrayList(a, b));
+
+        assertThat(violations, is(empty()));
+        assertThat(projectEntries, hasSize(2));
+        assertThat(projectEntries.get(1), is(sameInstance(projectEntries.get(0))));
+        assertThat(projectEntries.get(0), contains(a, b));
+    }
+
+    @Test
+    public void condensesCodeDependenciesInLowMemoryMode() {
+        final List<AnalyzedCode> projectAnalyses = newArrayList();
+        this.objectUnderTest = new DeadCodeFinder(new DeadCodeComputer(),
+                newHashSet(new ModuleReportingAnalyzer(projectAnalyses)), true);
+
+        DeadCode deadCode = objectUnderTest.findDeadCode(newArrayList(givenModule("A"), givenModule("B")));
+
+        assertThat(deadCode.getAnalyzedClasses(), containsInAnyOrder("A1", "A2", "B1"));
+        assertThat(deadCode.getDeadClasses(), contains("B1"));
+        assertThat(projectAnalyses, hasSize(1));
+        assertThat(projectAnalyses.get(0).getCodeDependencies(), hasEntry(
+                equalTo(ClassUsage.USED_CLASSES), containsInAnyOrder("A1", "A2", "java.lang.Object")));
+        assertThat(projectAnalyses.get(0).getCodeDependencies().size(), is(1));
+    }
+
+    @Test
+    public void retainsCodeDependenciesInLowMemoryModeIfRequired() {
+        final List<AnalyzedCode> projectAnalyses = newArrayList();
+        class RequiringAnalyzer extends ModuleReportingAnalyzer implements RequiresCodeDependencies {
+            RequiringAnalyzer() {
+                super(projectAnalyses);
+            }
+        }
+        this.objectUnderTest = new DeadCodeFinder(new DeadCodeComputer(), newHashSet(new RequiringAnalyzer()), true);
+
+        DeadCode deadCode = objectUnderTest.findDeadCode(newArrayList(givenModule("A"), givenModule("B")));
+
+        assertThat(deadCode.getDeadClasses(), contains("B1"));
+        assertThat(projectAnalyses.get(0).getCodeDependencies().keySet(), containsInAnyOrder("A1", "A2", "B1"));
+    }
+
+    @Test
+    public void publishesDeadCodeOfModulesAsSoonAsTheyAreSettled() {
+        final List<String> events = newArrayList();
+        createObjectUnderTest(new AnalyzerAdapter() {
+            @Override
+            public void doAnalysis(@Nonnull AnalysisContext analysisContext, @Nonnull File fileName) {
+            }
+
+            @Override
+            public void finishAnalysis(@Nonnull AnalysisContext analysisContext) {
+                String moduleId = analysisContext.getModule().getModuleId();
+                events.add("analyzed " + moduleId);
+                analysisContext.addAnalyzedClass(moduleId + "1");
+                analysisContext.addAnalyzedClass(moduleId + "2");
+                if ("B".equals(moduleId)) {
+                    analysisContext.addDependencies("B1", "A1");
+                }
+            }
+        });
+        Module a = givenModule("A");
+        Module b = givenModule("B", a);
+
+        DeadCode deadCode = objectUnderTest.findDeadCode(newArrayList(b, a), new DeadCodeListener() {
+            @Override
+            public void moduleSettled(@Nonnull Module module, @Nonnull DeadCode deadCode) {
+                events.add("settled " + module.getModuleId() + ": " + Ordering.natural().sortedCopy(deadCode.getDeadClasses()));
+            }
+        });
+
+        assertThat(events, contains("analyzed A", "analyzed B", "settled A: [A2]", "settled B: [B1, B2]"));
+        assertThat(deadCode.getDeadClasses(), containsInAnyOrder("A2", "B1", "B2"));
+    }
+
+    @Test
+    public void doesNotPublishClassesRevivedByTheProjectWideAnalysisAsDead() {
+        class RevivingAnalyzer extends AnalyzerAdapter implements RevivesClasses {
+            @Override
+            public void doAnalysis(@Nonnull AnalysisContext analysisContext, @Nonnull File fileName) {
+            }
+
+            @Override
+            public void finishAnalysis(@Nonnull AnalysisContext analysisContext) {
+                analysisContext.addAnalyzedClass("A1");
+                analysisContext.addAnalyzedClass("A2");
+            }
+
+            @Override
+            public void finishAnalysis(@Nonnull AnalysisSink analysisSink, @Nonnull AnalyzedCode analyzedCode) {
+                analysisSink.addDependencies("_Reviver_", "A1");
+            }
+
+            @Override
+            public boolean revives(@Nonnull String clazz) {
+                return "A1".equals(clazz);
+            }
+        }
+        createObjectUnderTest(new RevivingAnalyzer());
+        final List<String> publishedDeadClasses = newArrayList();
+
+        DeadCode deadCode = objectUnderTest.findDeadCode(newArrayList(givenModule("A")), new DeadCodeListener() {
+            @Override
+            public void moduleSettled(@Nonnull Module module, @Nonnull DeadCode deadCode) {
+                publishedDeadClasses.addAll(deadCode.getDeadClasses());
+            }
+        });
+
+        assertThat(publishedDeadClasses, contains("A2"));
+        assertThat(deadCode.getDeadClasses(), contains("A2"));
+    }
+
+    @Test
+    public void condensesCodeDependenciesIfPublishingDeadCode() {
+        final List<AnalyzedCode> projectAnalyses = newArrayList();
+        createObjectUnderTest(new ModuleReportingAnalyzer(projectAnalyses));
+
+        DeadCode deadCode = objectUnderTest.findDeadCode(newArrayList(givenModule("A"), givenModule("B")),
+                new DeadCodeListener() {
+                    @Override
+                    public void moduleSettled(@Nonnull Module module, @Nonnull DeadCode deadCode) {
+                    }
+                });
+
+        assertThat(deadCode.getDeadClasses(), contains("B1"));
+        assertThat(projectAnalyses.get(0).getCodeDependencies().keySet(), contains(ClassUsage.USED_CLASSES));
+    }
+
     private void createObjectUnderTest(Analyzer... analyzers) {
         this.objectUnderTest = new DeadCodeFinder(new DeadCodeComputer(), newHashSet(analyzers));
     }
 
+    private static class ModuleReportingAnalyzer extends AnalyzerAdapter {
+        private final List<AnalyzedCode> projectAnalyses;
+
+        public ModuleReportingAnalyzer(List<AnalyzedCode> projectAnalyses) {
+            this.projectAnalyses = projectAnalyses;
+        }
+
+        @Override
+        public void doAnalysis(@Nonnull AnalysisContext analysisContext, @Nonnull File fileName) {
+        }
+
+        @Override
+        public void finishAnalysis(@Nonnull AnalysisContext analysisContext) {
+            if ("A".equals(analysisContext.getModule().getModuleId())) {
+                analysisContext.addAnalyzedClass("A1");
+                analysisContext.addAnalyzedClass("A2");
+                analysisContext.addDependencies("A1", "A2", "java.lang.Object");
+                analysisContext.addDependencies("A2", "A1");
+            } else {
+                analysisContext.addAnalyzedClass("B1");
+                analysisContext.addDependencies("B1", "A1");
+            }
+        }
+
+        @Override
+        public void finishAnalysis(@Nonnull AnalysisSink analysisSink, @Nonnull AnalyzedCode analyzedCode) {
+            projectAnalyses.add(analyzedCode);
+        }
+    }
+
 }
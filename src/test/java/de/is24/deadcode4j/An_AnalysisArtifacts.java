@@ -0,0 +1,77 @@
+package de.is24.deadcode4j;
+
+import de.is24.deadcode4j.IntermediateResults.IntermediateResultSet;
+import de.is24.deadcode4j.junit.LoggingRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.collect.Sets.newHashSet;
+import static de.is24.deadcode4j.IntermediateResults.resultSetFor;
+import static de.is24.deadcode4j.ModuleBuilder.givenModule;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public final class An_AnalysisArtifacts {
+
+    @Rule
+    public final LoggingRule enableLogging = new LoggingRule();
+    @Rule
+    public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private File givenJarWithArtifactProviding(String key, String... results) throws IOException {
+        File jar = tempFolder.newFile("lib-1.0.jar");
+        Module library = givenModule("de.is24:lib");
+        Map<Object, IntermediateResult> intermediateResults = newHashMap();
+        intermediateResults.put(key, resultSetFor(asList(results)));
+        AnalyzedCode analyzedCode = new AnalyzedCode(EnumSet.noneOf(AnalysisStage.class), newHashSet("lib.A"),
+                Collections.<String, Set<String>>emptyMap());
+        new AnalysisSnapshot(Collections.singletonMap(library.getModuleId(),
+                AnalysisSnapshot.ModuleResults.of(library, analyzedCode, intermediateResults)),
+                Collections.<String>emptyList()).write(AnalysisArtifacts.getArtifactFileFor(jar));
+        return jar;
+    }
+
+    @Test
+    public void locatesArtifactNextToJar() {
+        File artifactFile = AnalysisArtifacts.getArtifactFileFor(new File("/repo/de/is24/lib/1.0/lib-1.0.jar"));
+
+        assertThat(artifactFile, is(new File("/repo/de/is24/lib/1.0/lib-1.0-deadcode4j.dc4j")));
+    }
+
+    @Test
+    public void providesIntermediateResultsOfArtifacts() throws IOException {
+        File jar = givenJarWithArtifactProviding("key", "fromLibrary");
+        Module module = new Module("de.is24:app", null, Collections.singleton(Resource.of(jar)), null,
+                Collections.<Repository>emptyList());
+        Map<Object, IntermediateResult> intermediateResults = newHashMap();
+        intermediateResults.put("key", resultSetFor(asList("fromReactor")));
+
+        new AnalysisArtifacts().addIntermediateResultsOfClassPath(module, intermediateResults);
+
+        assertThat(((IntermediateResultSet<?>) intermediateResults.get("key")).getResults(),
+                containsInAnyOrder((Object) "fromReactor", "fromLibrary"));
+    }
+
+    @Test
+    public void ignoresJarsWithoutArtifact() throws IOException {
+        File jar = tempFolder.newFile("other-1.0.jar");
+        Module module = new Module("de.is24:app", null, Collections.singleton(Resource.of(jar)), null,
+                Collections.<Repository>emptyList());
+        Map<Object, IntermediateResult> intermediateResults = newHashMap();
+
+        new AnalysisArtifacts().addIntermediateResultsOfClassPath(module, intermediateResults);
+
+        assertThat(intermediateResults.isEmpty(), is(true));
+    }
+
+}
@@ -0,0 +1,87 @@
+package de.is24.deadcode4j;
+
+import de.is24.guava.NonNullFunction;
+import org.junit.Test;
+
+import javax.annotation.Nonnull;
+
+import static de.is24.deadcode4j.AnalysisContextBuilder.givenAnalysisContext;
+import static de.is24.deadcode4j.IntermediateResults.resultSetFor;
+import static de.is24.deadcode4j.ModuleBuilder.givenModule;
+import static java.util.Collections.singleton;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public final class An_AnalysisContext {
+
+    private static final CacheKey<String> FILE_KEY = CacheKey.forFile("file");
+    private static final CacheKey<String> REPOSITORY_KEY = CacheKey.forRepository("repository");
+    private static final CacheKey<String> MODULE_KEY = CacheKey.forModule("module");
+    private static final CacheKey<String> PROJECT_KEY = CacheKey.forProject("project");
+
+    private final AnalysisContext objectUnderTest = givenAnalysisContext(givenModule("A"));
+
+    @Test
+    public void createsCacheEntriesOnlyOnce() {
+        String firstEntry = objectUnderTest.getOrCreateCacheEntry(MODULE_KEY, new NonNullFunction<AnalysisContext, String>() {
+            @Nonnull
+            @Override
+            public String apply(@Nonnull AnalysisContext input) {
+                return new String("entry");
+            }
+        });
+        String secondEntry = objectUnderTest.getOrCreateCacheEntry(MODULE_KEY, new NonNullFunction<AnalysisContext, String>() {
+            @Nonnull
+            @Override
+            public String apply(@Nonnull AnalysisContext input) {
+                throw new AssertionError("Should reuse the existing entry!");
+            }
+        });
+
+        assertThat(secondEntry, is(sameInstance(firstEntry)));
+    }
+
+    @Test
+    public void evictsOnlyTheEntriesOfTheEndedScope() {
+        givenEntriesForAllScopes();
+
+        objectUnderTest.endScope(CacheKey.Scope.FILE);
+
+        assertThat(objectUnderTest.getCacheEntry(FILE_KEY), is(nullValue()));
+        assertThat(objectUnderTest.getCacheEntry(REPOSITORY_KEY), is("repository"));
+        assertThat(objectUnderTest.getCacheEntry(MODULE_KEY), is("module"));
+        assertThat(objectUnderTest.getCacheEntry(PROJECT_KEY), is("project"));
+
+        objectUnderTest.endScope(CacheKey.Scope.MODULE);
+
+        assertThat(objectUnderTest.getCacheEntry(REPOSITORY_KEY), is("repository"));
+        assertThat(objectUnderTest.getCacheEntry(MODULE_KEY), is(nullValue()));
+    }
+
+    @Test
+    public void keepsProjectEntriesInTheSharedCache() {
+        givenEntriesForAllScopes();
+
+        assertThat(objectUnderTest.getSharedCache(), hasEntry((Object) PROJECT_KEY, (Object) "project"));
+        assertThat(objectUnderTest.getSharedCache().size(), is(1));
+    }
+
+    @Test
+    public void keepsPublishedIntermediateResultsApartFromTheCache() {
+        givenEntriesForAllScopes();
+
+        objectUnderTest.publishIntermediateResult("key", resultSetFor(singleton("A")));
+        objectUnderTest.endScope(CacheKey.Scope.MODULE);
+
+        assertThat(objectUnderTest.getPublishedIntermediateResults().keySet(), contains((Object) "key"));
+        assertThat(objectUnderTest.getCache().values(), not(hasItem(instanceOf(IntermediateResult.class))));
+    }
+
+    private void givenEntriesForAllScopes() {
+        objectUnderTest.putCacheEntry(FILE_KEY, "file");
+        objectUnderTest.putCacheEntry(REPOSITORY_KEY, "repository");
+        objectUnderTest.putCacheEntry(MODULE_KEY, "module");
+        objectUnderTest.putCacheEntry(PROJECT_KEY, "project");
+    }
+
+}
@@ -0,0 +1,102 @@
+package de.is24.deadcode4j;
+
+import de.is24.deadcode4j.analyzer.AnalyzerAdapter;
+import de.is24.deadcode4j.junit.LoggingRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.annotation.Nonnull;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Sets.newHashSet;
+import static de.is24.deadcode4j.ModuleBuilder.givenModule;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public final class An_AnalysisEngine {
+
+    @Rule
+    public final LoggingRule enableLogging = new LoggingRule();
+    @Rule
+    public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private final List<Module> analyzedModules = newArrayList();
+    private final AnalysisEngine objectUnderTest = new AnalysisEngine(new DeadCodeFinder(new DeadCodeComputer(),
+            newHashSet(new AnalyzerAdapter() {
+                @Override
+                public void doAnalysis(@Nonnull AnalysisContext analysisContext, @Nonnull File file) {
+                    analysisContext.addAnalyzedClass(file.getName());
+                }
+
+                @Override
+                public void finishAnalysis(@Nonnull AnalysisContext analysisContext) {
+                    analyzedModules.add(analysisContext.getModule());
+                }
+            })));
+
+    @Test
+    public void reusesResultsOfUnchangedModules() throws IOException {
+        Module a = givenModule("A", givenDirectoryWith("a", "A.class"));
+        Module b = givenModule("B", givenDirectoryWith("b", "B.class"), a);
+        objectUnderTest.findDeadCode(newArrayList(a, b));
+        analyzedModules.clear();
+
+        DeadCode deadCode = objectUnderTest.findDeadCode(newArrayList(a, b));
+
+        assertThat(analyzedModules, is(empty()));
+        assertThat(deadCode.getAnalyzedClasses(), containsInAnyOrder("A.class", "B.class"));
+    }
+
+    @Test
+    public void reanalyzesChangedModuleAndModulesDependingOnIt() throws IOException {
+        File directoryOfA = givenDirectoryWith("a", "A.class");
+        Module a = givenModule("A", directoryOfA);
+        Module b = givenModule("B", givenDirectoryWith("b", "B.class"), a);
+        Module c = givenModule("C", givenDirectoryWith("c", "C.class"));
+        objectUnderTest.findDeadCode(newArrayList(a, b, c));
+        analyzedModules.clear();
+
+        assertThat(new File(directoryOfA, "AnotherA.class").createNewFile(), is(true));
+        DeadCode deadCode = objectUnderTest.findDeadCode(newArrayList(a, b, c));
+
+        assertThat(analyzedModules, contains(a, b));
+        assertThat(deadCode.getAnalyzedClasses(), containsInAnyOrder("A.class", "AnotherA.class", "B.class", "C.class"));
+    }
+
+    @Test
+    public void reusesResultsForDifferentSetsOfModules() throws IOException {
+        Module a = givenModule("A", givenDirectoryWith("a", "A.class"));
+        Module b = givenModule("B", givenDirectoryWith("b", "B.class"));
+        objectUnderTest.findDeadCode(newArrayList(a, b));
+        analyzedModules.clear();
+
+        DeadCode deadCode = objectUnderTest.findDeadCode(newArrayList(a));
+
+        assertThat(analyzedModules, is(empty()));
+        assertThat(deadCode.getAnalyzedClasses(), contains("A.class"));
+    }
+
+    @Test
+    public void analyzesEverythingAgainAfterClearingTheCaches() throws IOException {
+        Module a = givenModule("A", givenDirectoryWith("a", "A.class"));
+        objectUnderTest.findDeadCode(newArrayList(a));
+        analyzedModules.clear();
+
+        objectUnderTest.clearCaches();
+        objectUnderTest.findDeadCode(newArrayList(a));
+
+        assertThat(analyzedModules, contains(a));
+    }
+
+    @Nonnull
+    private File givenDirectoryWith(@Nonnull String directoryName, @Nonnull String fileName) throws IOException {
+        File directory = tempFolder.newFolder(directoryName);
+        assertThat(new File(directory, fileName).createNewFile(), is(true));
+        return directory;
+    }
+
+}
@@ -0,0 +1,118 @@
+package de.is24.deadcode4j;
+
+import de.is24.deadcode4j.analyzer.AnalyzerAdapter;
+import de.is24.deadcode4j.junit.FileLoader;
+import de.is24.deadcode4j.junit.LoggingRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.annotation.Nonnull;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Sets.newHashSet;
+import static de.is24.deadcode4j.ModuleBuilder.givenModule;
+import static java.util.Collections.singleton;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public final class An_IncrementalDeadCodeFinder {
+
+    @Rule
+    public final LoggingRule enableLogging = new LoggingRule();
+    @Rule
+    public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private final List<Module> analyzedModules = newArrayList();
+    private final DeadCodeFinder deadCodeFinder = new DeadCodeFinder(new DeadCodeComputer(), newHashSet(new AnalyzerAdapter() {
+        @Override
+        public void doAnalysis(@Nonnull AnalysisContext analysisContext, @Nonnull File file) {
+            analysisContext.addAnalyzedClass(file.getName());
+        }
+
+        @Override
+        public void finishAnalysis(@Nonnull AnalysisContext analysisContext) {
+            analyzedModules.add(analysisContext.getModule());
+        }
+    }));
+
+    @Test
+    public void analyzesAllModulesInitially() {
+        Module a = givenModule("A");
+        Module b = givenModule("B", a);
+
+        new IncrementalDeadCodeFinder(deadCodeFinder, newArrayList(b, a)).findDeadCode();
+
+        assertThat(analyzedModules, contains(a, b));
+    }
+
+    @Test
+    public void reanalyzesChangedModuleAndModulesDependingOnIt() {
+        Module a = givenModule("A");
+        Module b = givenModule("B", a);
+        Module c = givenModule("C");
+        IncrementalDeadCodeFinder objectUnderTest = new IncrementalDeadCodeFinder(deadCodeFinder, newArrayList(a, b, c));
+        objectUnderTest.findDeadCode();
+        analyzedModules.clear();
+
+        objectUnderTest.findDeadCode(singleton(a));
+
+        assertThat(analyzedModules, contains(a, b));
+    }
+
+    @Test
+    public void reanalyzesOnlyChangedModuleIfNoOtherModuleDependsOnIt() {
+        Module a = givenModule("A");
+        Module b = givenModule("B", a);
+        IncrementalDeadCodeFinder objectUnderTest = new IncrementalDeadCodeFinder(deadCodeFinder, newArrayList(a, b));
+        objectUnderTest.findDeadCode();
+        analyzedModules.clear();
+
+        objectUnderTest.findDeadCode(singleton(b));
+
+        assertThat(analyzedModules, contains(b));
+    }
+
+    @Test
+    public void replacesFormerResultsOfReanalyzedModule() throws IOException {
+        File obsoleteFile = tempFolder.newFile("Obsolete.class");
+        Module a = givenModule("A", tempFolder.getRoot());
+        Module b = givenModule("B", FileLoader.getFile("de/is24/deadcode4j/junit"));
+        IncrementalDeadCodeFinder objectUnderTest = new IncrementalDeadCodeFinder(deadCodeFinder, newArrayList(a, b));
+        assertThat(objectUnderTest.findDeadCode().getDeadClasses(), hasItem("Obsolete.class"));
+
+        assertThat(obsoleteFile.delete(), is(true));
+        tempFolder.newFile("New.class");
+        DeadCode deadCode = objectUnderTest.findDeadCode(singleton(a));
+
+        assertThat(deadCode.getDeadClasses(), hasItem("New.class"));
+        assertThat(deadCode.getDeadClasses(), not(hasItem("Obsolete.class")));
+        assertThat(deadCode.getDeadClasses(), hasItem("FileLoader.class"));
+    }
+
+    @Test
+    public void reusesResultsOfRestoredSnapshot() throws IOException {
+        File repositoryOfB = tempFolder.newFolder("b");
+        assertThat(new File(repositoryOfB, "A.class").createNewFile(), is(true));
+        Module a = givenModule("A", tempFolder.newFolder("a"));
+        Module b = givenModule("B", repositoryOfB, a);
+        IncrementalDeadCodeFinder original = new IncrementalDeadCodeFinder(deadCodeFinder, newArrayList(a, b));
+        DeadCode originalDeadCode = original.findDeadCode();
+        File snapshotFile = tempFolder.newFile("snapshot");
+        original.createSnapshot().write(snapshotFile);
+        analyzedModules.clear();
+
+        AnalysisSnapshot snapshot = AnalysisSnapshot.read(snapshotFile);
+        IncrementalDeadCodeFinder objectUnderTest = new IncrementalDeadCodeFinder(deadCodeFinder, newArrayList(a, b));
+        objectUnderTest.restore(snapshot);
+        DeadCode deadCode = objectUnderTest.findDeadCode(singleton(b));
+
+        assertThat(analyzedModules, contains(b));
+        assertThat(snapshot.getDeadClasses(), containsInAnyOrder(originalDeadCode.getDeadClasses().toArray()));
+        assertThat(deadCode.getDeadClasses(), containsInAnyOrder(originalDeadCode.getDeadClasses().toArray()));
+    }
+
+}
@@ -25,6 +25,19 @@ public final class An_IntermediateResults {
 
     @Test
     public void transfersIntermediateResultsForDependingModule() {
+        Object key = getClass();
+        AnalysisContext parentContext = AnalysisContextBuilder.givenAnalysisContext(givenModule("A"));
+        parentContext.publishIntermediateResult(key, new AnIntermediateResult("ForA"));
+
+        objectUnderTest.add(parentContext);
+        Map<Object, IntermediateResult> intermediateResults =
+                objectUnderTest.calculateIntermediateResultsFor(givenModule("B", parentContext.getModule()));
+
+        assertThat(intermediateResults, hasEntry(is(key), hasToString("ForA")));
+    }
+
+    @Test
+    public void transfersIntermediateResultsPutIntoTheCacheForDependingModule() {
         Object key = getClass();
         AnalysisContext parentContext = AnalysisContextBuilder.givenAnalysisContext(givenModule("A"));
         parentContext.getCache().put(key, new AnIntermediateResult("ForA"));
@@ -36,11 +49,24 @@ public final class An_IntermediateResults {
         assertThat(intermediateResults, hasEntry(is(key), hasToString("ForA")));
     }
 
+    @Test
+    public void prefersPublishedIntermediateResultsOverThosePutIntoTheCache() {
+        Object key = getClass();
+        AnalysisContext parentContext = AnalysisContextBuilder.givenAnalysisContext(givenModule("A"));
+        parentContext.getCache().put(key, new AnIntermediateResult("Cached"));
+        parentContext.publishIntermediateResult(key, new AnIntermediateResult("Published"));
+
+        objectUnderTest.add(parentContext);
+
+        assertThat(objectUnderTest.getIntermediateResultsOf(parentContext.getModule()),
+                hasEntry(is(key), hasToString("Published")));
+    }
+
     @Test
     public void transfersIntermediateResultsForDependingModuleOfDependingModule() {
         Object key = getClass();
         AnalysisContext parentContext = AnalysisContextBuilder.givenAnalysisContext(givenModule("A"));
-        parentContext.getCache().put(key, new AnIntermediateResult("ForA"));
+        parentContext.publishIntermediateResult(key, new AnIntermediateResult("ForA"));
 
         objectUnderTest.add(parentContext);
         Map<Object, IntermediateResult> intermediateResults = objectUnderTest.calculateIntermediateResultsFor(
@@ -53,9 +79,9 @@ public final class An_IntermediateResults {
     public void mergesIntermediateResultsOnSiblingLevel() {
         Object key = getClass();
         AnalysisContext parentContext = AnalysisContextBuilder.givenAnalysisContext(givenModule("A"));
-        parentContext.getCache().put(key, new AnIntermediateResult("ForA"));
+        parentContext.publishIntermediateResult(key, new AnIntermediateResult("ForA"));
         AnalysisContext secondParentContext = AnalysisContextBuilder.givenAnalysisContext(givenModule("B"));
-        secondParentContext.getCache().put(key, new AnIntermediateResult("ForB"));
+        secondParentContext.publishIntermediateResult(key, new AnIntermediateResult("ForB"));
 
         objectUnderTest.add(parentContext);
         objectUnderTest.add(secondParentContext);
@@ -69,9 +95,9 @@ public final class An_IntermediateResults {
     public void mergesIntermediateResultsOnParentLevel() {
         Object key = getClass();
         AnalysisContext rootContext = AnalysisContextBuilder.givenAnalysisContext(givenModule("A"));
-        rootContext.getCache().put(key, new AnIntermediateResult("ForA"));
+        rootContext.publishIntermediateResult(key, new AnIntermediateResult("ForA"));
         AnalysisContext parentContext = AnalysisContextBuilder.givenAnalysisContext(givenModule("B", rootContext.getModule()));
-        parentContext.getCache().put(key, new AnIntermediateResult("ForB"));
+        parentContext.publishIntermediateResult(key, new AnIntermediateResult("ForB"));
 
         objectUnderTest.add(rootContext);
         objectUnderTest.add(parentContext);
@@ -85,19 +111,19 @@ public final class An_IntermediateResults {
     public void nowAllTogether() {
         Object key = getClass();
         AnalysisContext rootContext = AnalysisContextBuilder.givenAnalysisContext(givenModule("A"));
-        rootContext.getCache().put(key, new AnIntermediateResult("ForA"));
+        rootContext.publishIntermediateResult(key, new AnIntermediateResult("ForA"));
         AnalysisContext secondRootContext = AnalysisContextBuilder.givenAnalysisContext(givenModule("Z"));
-        secondRootContext.getCache().put(key, new AnIntermediateResult("ForZ"));
+        secondRootContext.publishIntermediateResult(key, new AnIntermediateResult("ForZ"));
         AnalysisContext parentContext = AnalysisContextBuilder.givenAnalysisContext(givenModule("B", rootContext.getModule()));
-        parentContext.getCache().put(key, new AnIntermediateResult("ForB"));
+        parentContext.publishIntermediateResult(key, new AnIntermediateResult("ForB"));
         AnalysisContext secondParentContext = AnalysisContextBuilder.givenAnalysisContext(givenModule("C", rootContext.getModule(), secondRootContext.getModule()));
-        secondParentContext.getCache().put(key, new AnIntermediateResult("ForC"));
+        secondParentContext.publishIntermediateResult(key, new AnIntermediateResult("ForC"));
         AnalysisContext thirdParentContext = AnalysisContextBuilder.givenAnalysisContext(givenModule("D"));
-        thirdParentContext.getCache().put(key, new AnIntermediateResult("ForD"));
+        thirdParentContext.publishIntermediateResult(key, new AnIntermediateResult("ForD"));
         AnalysisContext fourthParentContext = AnalysisContextBuilder.givenAnalysisContext(givenModule("Y", secondRootContext.getModule()));
-        fourthParentContext.getCache().put(key, new AnIntermediateResult("ForY"));
+        fourthParentContext.publishIntermediateResult(key, new AnIntermediateResult("ForY"));
         AnalysisContext childContext = AnalysisContextBuilder.givenAnalysisContext(givenModule("X", fourthParentContext.getModule()));
-        childContext.getCache().put(key, new AnIntermediateResult("ForX"));
+        childContext.publishIntermediateResult(key, new AnIntermediateResult("ForX"));
 
         objectUnderTest.add(rootContext);
         objectUnderTest.add(secondRootContext);
@@ -1,7 +1,9 @@
 package de.is24.deadcode4j.analyzer;
 
+import de.is24.deadcode4j.AnalysisContext;
 import de.is24.deadcode4j.AnalysisContextBuilder;
 import de.is24.deadcode4j.IntermediateResult;
+import de.is24.deadcode4j.junit.FileLoader;
 import org.codehaus.plexus.util.ReflectionUtils;
 import org.hamcrest.Matcher;
 import org.hamcrest.collection.IsArrayContaining;
@@ -15,7 +17,11 @@ import static com.google.common.collect.Maps.newHashMap;
 import static com.google.common.collect.Sets.newHashSet;
 import static de.is24.deadcode4j.AnalysisContextBuilder.givenAnalysisContext;
 import static de.is24.deadcode4j.IntermediateResultMapBuilder.givenIntermediateResultMap;
+import static de.is24.deadcode4j.ModuleBuilder.givenModule;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
 import static org.mockito.Matchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -272,6 +278,19 @@ public final class A_HibernateAnnotationsAnalyzer extends AByteCodeAnalyzer<Hibe
                 (Object[]) argThat(hasVarArgItem(equalTo("aRandomType"))));
     }
 
+    @Test
+    public void keepsTheDefinitionsOfModulesAnalyzedSimultaneouslyApart() {
+        AnalysisContext otherContext = givenAnalysisContext(givenModule("de.is24:another-module"));
+        objectUnderTest.doAnalysis(otherContext,
+                FileLoader.getFile("de/is24/deadcode4j/analyzer/hibernateannotations/ClassWithTypeDef.class"));
+
+        analyzeFile("de/is24/deadcode4j/analyzer/hibernateannotations/ClassUsingTypeAtField.class");
+        objectUnderTest.finishAnalysis(otherContext);
+
+        assertThatNoDependenciesAreReported();
+        assertThat(otherContext.getAnalyzedCode().getCodeDependencies().keySet(), is(empty()));
+    }
+
     private static class MyVarArgsMatcher<T> extends IsArrayContaining<T> implements VarargMatcher {
         public MyVarArgsMatcher(Matcher<? super T> elementMatcher) {
             super(elementMatcher);
@@ -38,6 +38,17 @@ public final class A_SimpleXmlAnalyzer extends AnAnalyzer<SimpleXmlAnalyzer> {
         assertThatNoDependenciesAreReported();
     }
 
+    @Test
+    public void stopsParsingFilesWithNonMatchingRootElementBeforeReachingMalformedContent() {
+        objectUnderTest = new SimpleXmlAnalyzer("junit", ".xml", "acme") {
+        };
+        objectUnderTest.registerClassElement("elementWithClass");
+
+        analyzeFile("de/is24/deadcode4j/analyzer/malformed.xml");
+
+        assertThatNoDependenciesAreReported();
+    }
+
     @Test
     public void reportsTheClassFoundForTheRegisteredElement() {
         objectUnderTest.registerClassElement("elementWithClass");
@@ -91,7 +91,10 @@ public abstract class AnAnalyzer<T extends Analyzer> {
 
     protected void assertThatIntermediateResultIsStored() {
         doFinishAnalysis();
-        assertThat(this.analysisContext.getCache(), hasEntry(anything(), instanceOf(IntermediateResult.class)));
+        IntermediateResults intermediateResults = new IntermediateResults();
+        intermediateResults.add(this.analysisContext);
+        assertThat(intermediateResults.getIntermediateResultsOf(this.analysisContext.getModule()),
+                hasEntry(anything(), instanceOf(IntermediateResult.class)));
     }
 
 }
@@ -0,0 +1,54 @@
+package de.is24.deadcode4j.analyzer;
+
+import de.is24.deadcode4j.AnalysisContext;
+import de.is24.deadcode4j.CacheKey;
+import org.junit.Test;
+
+import java.io.File;
+
+import static de.is24.deadcode4j.AnalysisContextBuilder.givenAnalysisContext;
+import static de.is24.deadcode4j.ModuleBuilder.givenModule;
+import static de.is24.deadcode4j.analyzer.AnalyzedFile.analyzedFileFor;
+import static de.is24.deadcode4j.junit.FileLoader.getFile;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public final class An_AnalyzedFile {
+
+    private final AnalysisContext analysisContext = givenAnalysisContext(givenModule("de.is24:deadcode4j-junit"));
+
+    @Test
+    public void isSharedForTheSameFile() {
+        File file = getFile("SingleClass.class");
+
+        AnalyzedFile analyzedFile = analyzedFileFor(analysisContext, file);
+
+        assertThat(analyzedFileFor(analysisContext, file), is(sameInstance(analyzedFile)));
+        assertThat(analyzedFileFor(analysisContext, getFile("spring.xml")), is(not(sameInstance(analyzedFile))));
+    }
+
+    @Test
+    public void isReleasedAtTheEndOfTheFileScope() {
+        File file = getFile("SingleClass.class");
+        AnalyzedFile analyzedFile = analyzedFileFor(analysisContext, file);
+
+        analysisContext.getCache(CacheKey.Scope.FILE).clear();
+
+        assertThat(analyzedFileFor(analysisContext, file), is(not(sameInstance(analyzedFile))));
+    }
+
+    @Test
+    public void providesEachRepresentationOnlyOnce() {
+        AnalyzedFile analyzedFile = analyzedFileFor(analysisContext, getFile("SingleClass.class"));
+
+        assertThat(analyzedFile.getContent(), is(sameInstance(analyzedFile.getContent())));
+        assertThat(analyzedFile.getCtClass().getName(), is("SingleClass"));
+        assertThat(analyzedFile.getCtClass(), is(sameInstance(analyzedFile.getCtClass())));
+
+        analyzedFile = analyzedFileFor(analysisContext, getFile("../../src/test/java/SingleClass.java"));
+
+        assertThat(analyzedFile.getCompilationUnit().isPresent(), is(true));
+        assertThat(analyzedFile.getCompilationUnit(), is(sameInstance(analyzedFile.getCompilationUnit())));
+    }
+
+}
@@ -0,0 +1,37 @@
+package de.is24.deadcode4j.analyzer;
+
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+public final class An_AnalyzerConfiguration {
+
+    @Test
+    public void hasTheSameFingerprintIfConfiguredTheSameWay() {
+        AnalyzerConfiguration configuration = new AnalyzerConfiguration();
+        configuration.addClassesToIgnore(asList("A", "B"));
+        configuration.addCustomXml(".xml", "root", singleton("element/@class"));
+        AnalyzerConfiguration otherConfiguration = new AnalyzerConfiguration();
+        otherConfiguration.addClassesToIgnore(asList("B", "A"));
+        otherConfiguration.addCustomXml(".xml", "root", singleton("element/@class"));
+
+        assertThat(configuration.getFingerprint(), is(equalTo(otherConfiguration.getFingerprint())));
+    }
+
+    @Test
+    public void hasAnotherFingerprintIfConfiguredDifferently() {
+        AnalyzerConfiguration configuration = new AnalyzerConfiguration();
+        configuration.addClassesToIgnore(singleton("A"));
+        AnalyzerConfiguration otherConfiguration = new AnalyzerConfiguration();
+        otherConfiguration.addAnnotationsMarkingLiveCode(singleton("A"));
+
+        assertThat(configuration.getFingerprint(), is(not(equalTo(otherConfiguration.getFingerprint()))));
+        assertThat(configuration.getFingerprint(), is(not(equalTo(new AnalyzerConfiguration().getFingerprint()))));
+    }
+
+}
@@ -49,6 +49,17 @@ public final class An_ExtendedXmlAnalyzer extends AnAnalyzer<ExtendedXmlAnalyzer
         assertThatNoDependenciesAreReported();
     }
 
+    @Test
+    public void stopsParsingFilesWithNonMatchingRootElementBeforeReachingMalformedContent() {
+        objectUnderTest = new ExtendedXmlAnalyzer("junit", ".xml", "acme") {
+        };
+        objectUnderTest.anyElementNamed("elementWithClass").registerTextAsClass();
+
+        analyzeFile("de/is24/deadcode4j/analyzer/malformed.xml");
+
+        assertThatNoDependenciesAreReported();
+    }
+
     @Test
     public void reportsTheClassFoundForElementsInVariousPaths() {
         objectUnderTest.anyElementNamed("nestedElementWithClass").registerTextAsClass();
@@ -220,6 +231,29 @@ public final class An_ExtendedXmlAnalyzer extends AnAnalyzer<ExtendedXmlAnalyzer
         assertThatDependenciesAreReported("de.is24.deadcode4j.UnlockedClassInUnlockedNestedElement");
     }
 
+    @Test
+    public void reportsTheClassesFoundForPathsSharingAPrefix() {
+        objectUnderTest.anyElementNamed("restrictedElement").withAttributeValue("locked", "false").registerAttributeAsClass("attributeWithClass");
+        objectUnderTest.anyElementNamed("restrictedElement").withAttributeValue("locked", "false").anyElementNamed("nestedElementInRestriction").registerTextAsClass();
+        objectUnderTest.anyElementNamed("restrictedElement").anyElementNamed("nestedElementInRestriction").withAttributeValue("locked", "true").registerTextAsClass();
+
+        analyzeFile("de/is24/deadcode4j/analyzer/some.xml");
+
+        assertThatDependenciesAreReported(
+                "de.is24.deadcode4j.UnlockedClassInAttribute",
+                "de.is24.deadcode4j.UnlockedClassInUnlockedNestedElement",
+                "de.is24.deadcode4j.UnlockedClassInLockedNestedElement");
+    }
+
+    @Test
+    public void reportsTheClassFoundForANestedElementOfAnyElement() {
+        objectUnderTest.anyElement().anyElementNamed("nestedElementWithClass").registerTextAsClass();
+
+        analyzeFile("de/is24/deadcode4j/analyzer/some.xml");
+
+        assertThatDependenciesAreReported("de.is24.deadcode4j.ClassInElement", "de.is24.deadcode4j.ClassInNestedElement");
+    }
+
     @Test
     public void reportsNothingIfPathDoesNotMatchAttributeValue() {
         objectUnderTest.anyElementNamed("parentElement").withAttributeValue("foo", "bar").anyElementNamed("nestedElementWithClass").registerTextAsClass();
@@ -6,6 +6,8 @@ import de.is24.deadcode4j.junit.LoggingRule;
 import org.apache.maven.plugin.logging.Log;
 import org.junit.Test;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.verify;
 
 public class An_IgnoreClassesAnalyzer extends AByteCodeAnalyzer<IgnoreClassesAnalyzer> {
@@ -65,4 +67,10 @@ public class An_IgnoreClassesAnalyzer extends AByteCodeAnalyzer<IgnoreClassesAna
         verify(logMock).warn("Class [A] should be ignored, but is not dead. You should remove the configuration entry.");
     }
 
-}
\ No newline at end of file
+    @Test
+    public void revivesIgnoredClasses() {
+        assertThat(objectUnderTest.revives("A"), is(true));
+        assertThat(objectUnderTest.revives("B"), is(false));
+    }
+
+}
@@ -0,0 +1,89 @@
+package de.is24.deadcode4j.analyzer;
+
+import de.is24.deadcode4j.*;
+import de.is24.deadcode4j.junit.LoggingRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.annotation.Nonnull;
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.collect.Sets.newHashSet;
+import static de.is24.deadcode4j.ModuleBuilder.givenModule;
+import static java.util.Collections.singleton;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public final class An_ImportedAnalysisAnalyzer {
+
+    @Rule
+    public final LoggingRule enableLogging = new LoggingRule();
+    @Rule
+    public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private File givenSnapshotOfConsumerUsing(final String... classes) throws IOException {
+        DeadCodeFinder deadCodeFinder = new DeadCodeFinder(new DeadCodeComputer(), newHashSet(new AnalyzerAdapter() {
+            @Override
+            public void doAnalysis(@Nonnull AnalysisContext analysisContext, @Nonnull File file) {
+            }
+
+            @Override
+            public void finishAnalysis(@Nonnull AnalysisContext analysisContext) {
+                analysisContext.addAnalyzedClass("Consumer");
+                analysisContext.addDependencies("Consumer", classes);
+            }
+        }));
+        IncrementalDeadCodeFinder consumerAnalysis =
+                new IncrementalDeadCodeFinder(deadCodeFinder, Collections.singletonList(givenModule("consumer")));
+        consumerAnalysis.findDeadCode();
+        File snapshot = tempFolder.newFile("consumer.snapshot");
+        consumerAnalysis.createSnapshot().write(snapshot);
+        return snapshot;
+    }
+
+    private Map<String, Set<String>> finishAnalysis(ImportedAnalysisAnalyzer objectUnderTest, String... analyzedClasses) {
+        AnalysisSink analysisSink = new AnalysisSink();
+        objectUnderTest.finishAnalysis(analysisSink,
+                new AnalyzedCode(EnumSet.noneOf(AnalysisStage.class), newHashSet(analyzedClasses),
+                        Collections.<String, Set<String>>emptyMap()));
+        return analysisSink.getAnalyzedCode().getCodeDependencies();
+    }
+
+    @Test
+    public void marksClassesUsedByImportedAnalysisAsLiveCode() throws IOException {
+        ImportedAnalysisAnalyzer objectUnderTest =
+                new ImportedAnalysisAnalyzer(singleton(givenSnapshotOfConsumerUsing("A", "Unknown")));
+
+        Map<String, Set<String>> codeDependencies = finishAnalysis(objectUnderTest, "A", "B");
+
+        assertThat(codeDependencies.size(), is(1));
+        assertThat(codeDependencies.values().iterator().next(), contains("A"));
+    }
+
+    @Test
+    public void revivesClassesUsedByImportedAnalysis() throws IOException {
+        ImportedAnalysisAnalyzer objectUnderTest =
+                new ImportedAnalysisAnalyzer(singleton(givenSnapshotOfConsumerUsing("A")));
+
+        assertThat(objectUnderTest.revives("A"), is(true));
+        assertThat(objectUnderTest.revives("B"), is(false));
+    }
+
+    @Test
+    public void reportsExceptionIfAnalysisCannotBeImported() {
+        ImportedAnalysisAnalyzer objectUnderTest =
+                new ImportedAnalysisAnalyzer(singleton(new File(tempFolder.getRoot(), "missing.snapshot")));
+        AnalysisSink analysisSink = new AnalysisSink();
+
+        objectUnderTest.finishAnalysis(analysisSink, analysisSink.getAnalyzedCode());
+
+        assertThat(analysisSink.getAnalyzedCode().getStagesWithExceptions(), contains(AnalysisStage.DEADCODE_ANALYSIS));
+    }
+
+}
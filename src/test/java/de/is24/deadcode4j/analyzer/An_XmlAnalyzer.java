@@ -5,6 +5,8 @@ import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
@@ -25,6 +27,8 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @PrepareForTest(SAXParserFactory.class)
@@ -74,6 +78,29 @@ public class An_XmlAnalyzer extends AnAnalyzer<XmlAnalyzer> {
         analyzeFile(XML_FILE);
     }
 
+    @Test
+    public void reusesParserForAllFilesOfModule() throws Exception {
+        final SAXParserFactory saxFactory = SAXParserFactory.newInstance();
+        SAXParserFactory saxFactoryMock = mock(SAXParserFactory.class);
+        when(saxFactoryMock.newSAXParser()).thenAnswer(new Answer<SAXParser>() {
+            @Override
+            public SAXParser answer(InvocationOnMock invocation) throws Throwable {
+                return saxFactory.newSAXParser();
+            }
+        });
+        PowerMockito.mockStatic(SAXParserFactory.class);
+        when(SAXParserFactory.newInstance()).thenReturn(saxFactoryMock);
+        initAnalyzer();
+        verify(saxFactoryMock).newSAXParser();
+
+        analyzeFile(XML_FILE);
+        analyzeFile("de/is24/deadcode4j/analyzer/some.xml");
+        analyzeFile("de/is24/deadcode4j/analyzer/logback.xml");
+
+        assertTrue("Should have analyzed the XML files!", fileIsParsed.get());
+        verify(saxFactoryMock, times(2)).newSAXParser();
+    }
+
     @Test
     public void handlesIOExceptionWhenAnalyzingFile() throws Exception {
         SAXParser saxMock = mock(SAXParser.class);
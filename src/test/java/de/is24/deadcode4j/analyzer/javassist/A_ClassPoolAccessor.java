@@ -0,0 +1,78 @@
+package de.is24.deadcode4j.analyzer.javassist;
+
+import de.is24.deadcode4j.AnalysisContext;
+import de.is24.deadcode4j.IntermediateResult;
+import de.is24.deadcode4j.junit.LoggingRule;
+import javassist.ClassPool;
+import javassist.CtClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.collect.Sets.newHashSet;
+import static de.is24.deadcode4j.AnalysisContextBuilder.givenAnalysisContext;
+import static de.is24.deadcode4j.IntermediateResults.resultMapFor;
+import static de.is24.deadcode4j.ModuleBuilder.givenModule;
+import static de.is24.deadcode4j.analyzer.javassist.ClassPoolAccessor.INTERFACES_KEY;
+import static de.is24.deadcode4j.analyzer.javassist.ClassPoolAccessor.SUPERCLASSES_KEY;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public final class A_ClassPoolAccessor {
+
+    @Rule
+    public final LoggingRule enableLogging = new LoggingRule();
+
+    private static ClassPoolAccessor givenClassPoolAccessorKnowingLibraryTypes() {
+        Map<String, String> superclasses = newHashMap();
+        superclasses.put("lib.Base", "lib.Root");
+        superclasses.put("lib.Root", "java.lang.Object");
+        superclasses.put("lib.Marker", "java.lang.Object");
+        Map<String, Set<String>> interfaces = newHashMap();
+        interfaces.put("lib.Base", newHashSet("lib.Marker"));
+        interfaces.put("lib.Root", Collections.<String>emptySet());
+        interfaces.put("lib.Marker", newHashSet("java.io.Serializable"));
+        Map<Object, IntermediateResult> intermediateResults = newHashMap();
+        intermediateResults.put(SUPERCLASSES_KEY, resultMapFor(superclasses));
+        intermediateResults.put(INTERFACES_KEY, resultMapFor(interfaces));
+        AnalysisContext analysisContext = givenAnalysisContext(givenModule("A"), intermediateResults);
+        return new ClassPoolAccessor(analysisContext);
+    }
+
+    private static CtClass givenClassExtendingLibraryClass() throws Exception {
+        CtClass clazz = new ClassPool(true).makeClass("app.Foo");
+        clazz.getClassFile2().setSuperclass("lib.Base");
+        clazz.getClassFile2().setInterfaces(new String[]{"java.lang.Runnable"});
+        return clazz;
+    }
+
+    @Test
+    public void examinesSuperclassesWithoutLoadingKnownTypes() throws Exception {
+        ClassPoolAccessor objectUnderTest = givenClassPoolAccessorKnowingLibraryTypes();
+
+        assertThat(objectUnderTest.getSuperclassesOf(givenClassExtendingLibraryClass()),
+                contains("lib.Base", "lib.Root", "java.lang.Object"));
+    }
+
+    @Test
+    public void examinesInterfacesWithoutLoadingKnownTypes() throws Exception {
+        ClassPoolAccessor objectUnderTest = givenClassPoolAccessorKnowingLibraryTypes();
+
+        assertThat(objectUnderTest.getAllImplementedInterfaces(givenClassExtendingLibraryClass()),
+                containsInAnyOrder("java.lang.Runnable", "lib.Marker", "java.io.Serializable"));
+    }
+
+    @Test
+    public void considersKnownTypesToBeOnTheClassPath() {
+        ClassPoolAccessor objectUnderTest = givenClassPoolAccessorKnowingLibraryTypes();
+
+        assertThat(objectUnderTest.isOnClassPath("lib.Marker"), is(true));
+        assertThat(objectUnderTest.isOnClassPath("java.lang.String"), is(true));
+        assertThat(objectUnderTest.isOnClassPath("lib.Unknown"), is(false));
+    }
+
+}
@@ -2,12 +2,20 @@ package de.is24.deadcode4j.analyzer.webxml;
 
 import de.is24.deadcode4j.AnalysisContext;
 import de.is24.deadcode4j.analyzer.AnAnalyzer;
+import de.is24.deadcode4j.junit.FileLoader;
 import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.Matchers;
 
 import javax.annotation.Nonnull;
+import java.util.List;
 
+import static com.google.common.collect.Lists.newArrayList;
 import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -53,4 +61,59 @@ public class A_BaseWebXmlAnalyzer extends AnAnalyzer<BaseWebXmlAnalyzer>{
                 eq("dummy.servlet.class"),
                 eq(asList(new Param("dummy name", "dummy value"))));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void sendsWebAppEventForTheWebAppNode() throws Exception {
+        analyzeFile("de/is24/deadcode4j/analyzer/webxml/web.xml");
+        verify(handler).webApp(false);
+    }
+
+    @Test
+    public void sendsEventsInDocumentOrder() throws Exception {
+        analyzeFile("de/is24/deadcode4j/analyzer/webxml/web.xml");
+
+        InOrder inOrder = inOrder(handler);
+        inOrder.verify(handler).webApp(false);
+        inOrder.verify(handler).contextParam(Matchers.<Param>any());
+        inOrder.verify(handler).listener(Matchers.<String>any());
+        inOrder.verify(handler).filter(Matchers.<String>any(), Matchers.<List<Param>>any());
+        inOrder.verify(handler).servlet(Matchers.<String>any(), Matchers.<List<Param>>any());
+    }
+
+    @Test
+    public void parsesEachWebXmlOnlyOncePerAnalysisContext() throws Exception {
+        final List<WebXmlDescriptor> descriptors = newArrayList();
+        BaseWebXmlAnalyzer otherAnalyzer = new BaseWebXmlAnalyzer() {
+            @Override
+            protected void analyzeWebXml(@Nonnull AnalysisContext analysisContext, @Nonnull WebXmlDescriptor webXml) {
+                descriptors.add(webXml);
+            }
+        };
+
+        otherAnalyzer.doAnalysis(analysisContext, FileLoader.getFile("de/is24/deadcode4j/analyzer/webxml/web.xml"));
+        otherAnalyzer.doAnalysis(analysisContext, FileLoader.getFile("de/is24/deadcode4j/analyzer/webxml/web.xml"));
+
+        assertThat(descriptors, hasSize(2));
+        assertThat(descriptors.get(1), is(sameInstance(descriptors.get(0))));
+    }
+
+    @Test
+    public void providesIndexedLookupsOfParams() throws Exception {
+        final List<WebXmlDescriptor> descriptors = newArrayList();
+        BaseWebXmlAnalyzer otherAnalyzer = new BaseWebXmlAnalyzer() {
+            @Override
+            protected void analyzeWebXml(@Nonnull AnalysisContext analysisContext, @Nonnull WebXmlDescriptor webXml) {
+                descriptors.add(webXml);
+            }
+        };
+
+        otherAnalyzer.doAnalysis(analysisContext, FileLoader.getFile("de/is24/deadcode4j/analyzer/webxml/web.xml"));
+
+        WebXmlDescriptor webXml = descriptors.get(0);
+        assertThat(webXml.isMetadataComplete(), is(false));
+        assertThat(webXml.getContextParamsNamed("dummy name"), contains(new Param("dummy name", "dummy value")));
+        assertThat(webXml.getFilterInitParamsNamed("dummy name"), contains(new Param("dummy name", "dummy value")));
+        assertThat(webXml.getServletInitParamsNamed("dummy name"), contains(new Param("dummy name", "dummy value")));
+        assertThat(webXml.getServletInitParamsNamed("unknown name"), is(empty()));
+    }
+}
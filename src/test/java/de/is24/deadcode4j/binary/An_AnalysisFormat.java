@@ -0,0 +1,147 @@
+package de.is24.deadcode4j.binary;
+
+import de.is24.deadcode4j.AnalysisStage;
+import de.is24.deadcode4j.AnalyzedCode;
+import de.is24.deadcode4j.DeadCode;
+import de.is24.deadcode4j.IntermediateResult;
+import de.is24.deadcode4j.IntermediateResults.IntermediateResultMap;
+import de.is24.deadcode4j.IntermediateResults.IntermediateResultSet;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.base.Charsets.ISO_8859_1;
+import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.collect.Sets.newHashSet;
+import static de.is24.deadcode4j.IntermediateResults.resultMapFor;
+import static de.is24.deadcode4j.IntermediateResults.resultSetFor;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public final class An_AnalysisFormat {
+
+    @Rule
+    public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private static DeadCode deadCode() {
+        return new DeadCode(EnumSet.of(AnalysisStage.FILE_ANALYSIS, AnalysisStage.DEADCODE_ANALYSIS),
+                asList("de.is24.Foo", "de.is24.Bar", "de.is24.Baz", "de.is24.Ümlaut"),
+                asList("de.is24.Baz", "de.is24.Ümlaut"),
+                Collections.<Collection<String>>singletonList(asList("de.is24.Bar", "de.is24.Foo")));
+    }
+
+    @Test
+    public void roundTripsDeadCode() throws IOException {
+        DeadCode deadCode = AnalysisFormat.fromBytes(AnalysisFormat.toBytes(deadCode()));
+
+        assertThat(deadCode.getStagesWithExceptions(),
+                is(EnumSet.of(AnalysisStage.FILE_ANALYSIS, AnalysisStage.DEADCODE_ANALYSIS)));
+        assertThat(deadCode.getAnalyzedClasses(),
+                containsInAnyOrder("de.is24.Foo", "de.is24.Bar", "de.is24.Baz", "de.is24.Ümlaut"));
+        assertThat(deadCode.getDeadClasses(), containsInAnyOrder("de.is24.Baz", "de.is24.Ümlaut"));
+        assertThat(deadCode.getDeadClusters(), hasSize(1));
+        assertThat(deadCode.getDeadClusters().get(0), containsInAnyOrder("de.is24.Bar", "de.is24.Foo"));
+    }
+
+    @Test
+    public void storesClassNamesOnlyOnce() {
+        byte[] bytes = AnalysisFormat.toBytes(deadCode());
+
+        String content = new String(bytes, ISO_8859_1);
+        assertThat(content.indexOf("de.is24.Baz"), is(content.lastIndexOf("de.is24.Baz")));
+    }
+
+    @Test
+    public void roundTripsAnalyzedCodeAndIntermediateResults() throws IOException {
+        Map<String, Set<String>> codeDependencies = newHashMap();
+        codeDependencies.put("A", newHashSet("B", "C"));
+        codeDependencies.put("B", Collections.<String>emptySet());
+        AnalyzedCode analyzedCode = new AnalyzedCode(EnumSet.noneOf(AnalysisStage.class),
+                newHashSet("A", "B", "C"), codeDependencies);
+        Map<String, Set<String>> usages = newHashMap();
+        usages.put("type", newHashSet("A", "B"));
+        Map<Object, IntermediateResult> intermediateResults = newHashMap();
+        intermediateResults.put(String.class, resultSetFor(asList("X", "Y")));
+        intermediateResults.put("definitions", resultMapFor(Collections.singletonMap("type", "A")));
+        intermediateResults.put("usages", resultMapFor(usages));
+
+        StringTable.Builder strings = new StringTable.Builder();
+        AnalysisFormat.addStrings(strings, analyzedCode);
+        AnalysisFormat.addStrings(strings, intermediateResults);
+        BinaryOutput output = new BinaryOutput(strings.build(), AnalysisFormat.ANALYSIS_SNAPSHOT);
+        AnalysisFormat.writeAnalyzedCode(output, analyzedCode);
+        AnalysisFormat.writeIntermediateResults(output, intermediateResults);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        output.writeTo(bytes);
+
+        BinaryInput input = new BinaryInput(ByteBuffer.wrap(bytes.toByteArray()));
+        AnalyzedCode readCode = AnalysisFormat.readAnalyzedCode(input);
+        assertThat(readCode.getAnalyzedClasses(), containsInAnyOrder("A", "B", "C"));
+        assertThat(readCode.getCodeDependencies(), is(codeDependencies));
+        Map<Object, IntermediateResult> readResults = AnalysisFormat.readIntermediateResults(input);
+        assertThat(readResults.keySet(), containsInAnyOrder((Object) String.class, "definitions", "usages"));
+        assertThat(((IntermediateResultSet<?>) readResults.get(String.class)).getResults(),
+                containsInAnyOrder((Object) "X", "Y"));
+        assertThat(((IntermediateResultMap<?, ?>) readResults.get("definitions")).getResults(),
+                is((Map) Collections.singletonMap("type", "A")));
+        assertThat(((IntermediateResultMap<?, ?>) readResults.get("usages")).getResults(), is((Map) usages));
+    }
+
+    @Test
+    public void rejectsUnsupportedIntermediateResults() {
+        Map<Object, IntermediateResult> intermediateResults = newHashMap();
+        intermediateResults.put("numbers", resultSetFor(asList(1, 2)));
+
+        assertThat(AnalysisFormat.isSupported(intermediateResults), is(false));
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsForeignData() throws IOException {
+        AnalysisFormat.fromBytes("no deadcode4j data".getBytes());
+    }
+
+    @Test
+    public void queriesMemoryMappedFileWithoutDecodingIt() throws IOException {
+        File file = tempFolder.newFile("deadcode4j.bin");
+        MappedDeadCode.write(deadCode(), file);
+
+        MappedDeadCode mappedDeadCode = MappedDeadCode.map(file);
+
+        assertThat(mappedDeadCode.getNumberOfAnalyzedClasses(), is(4));
+        assertThat(mappedDeadCode.getNumberOfDeadClasses(), is(2));
+        assertThat(mappedDeadCode.isDead("de.is24.Baz"), is(true));
+        assertThat(mappedDeadCode.isDead("de.is24.Ümlaut"), is(true));
+        assertThat(mappedDeadCode.isDead("de.is24.Foo"), is(false));
+        assertThat(mappedDeadCode.isDead("de.is24.Unknown"), is(false));
+        assertThat(mappedDeadCode.getNumberOfDeadClasses(), is(2));
+        assertThat(mappedDeadCode.toDeadCode().getDeadClasses(), containsInAnyOrder("de.is24.Baz", "de.is24.Ümlaut"));
+    }
+
+    @Test
+    public void readsBaselineInNaturalOrder() throws IOException {
+        File file = tempFolder.newFile("baseline.dc4j");
+        DeadClassesBaseline.write(asList("de.is24.Ümlaut", "de.is24.Baz", "de.is24.Bar"), file);
+
+        assertThat(DeadClassesBaseline.read(file), contains("de.is24.Bar", "de.is24.Baz", "de.is24.Ümlaut"));
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsDeadCodeAsBaseline() throws IOException {
+        File file = tempFolder.newFile("deadcode4j.bin");
+        MappedDeadCode.write(deadCode(), file);
+
+        DeadClassesBaseline.read(file);
+    }
+
+}
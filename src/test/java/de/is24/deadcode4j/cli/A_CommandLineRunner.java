@@ -0,0 +1,126 @@
+package de.is24.deadcode4j.cli;
+
+import de.is24.deadcode4j.Module;
+import de.is24.deadcode4j.junit.FileLoader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Properties;
+
+import static com.google.common.base.Charsets.UTF_8;
+import static com.google.common.collect.Iterables.getOnlyElement;
+import static com.google.common.io.Files.copy;
+import static com.google.common.io.Files.write;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public final class A_CommandLineRunner {
+
+    @Rule
+    public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    private int run(String... args) {
+        return CommandLineRunner.run(args, new PrintStream(out), new PrintStream(err));
+    }
+
+    private File givenDescriptor(String content) throws IOException {
+        File descriptor = tempFolder.newFile("deadcode4j.properties");
+        write(content, descriptor, UTF_8);
+        return descriptor;
+    }
+
+    private File givenClassesDirectory(String... classFiles) throws IOException {
+        File classes = tempFolder.newFolder("classes");
+        for (String classFile : classFiles) {
+            copy(FileLoader.getFile(classFile), new File(classes, classFile));
+        }
+        return classes;
+    }
+
+    @Test
+    public void writesUnusedClassesToStandardOutput() throws IOException {
+        givenClassesDirectory("A.class", "B.class", "SingleClass.class");
+        File descriptor = givenDescriptor("modules=app\napp.output=classes\n");
+
+        int exitCode = run("--format=csv", descriptor.getPath());
+
+        assertThat(exitCode, is(CommandLineRunner.EXIT_OK));
+        assertThat(out.toString("UTF-8"), is("package,class\n,SingleClass\n"));
+    }
+
+    @Test
+    public void failsIfRequestedAndUnusedClassesWereFound() throws IOException {
+        givenClassesDirectory("SingleClass.class");
+        File descriptor = givenDescriptor("modules=app\napp.output=classes\n");
+
+        int exitCode = run("--fail", descriptor.getPath());
+
+        assertThat(exitCode, is(CommandLineRunner.EXIT_DEAD_CODE_FOUND));
+        assertThat(out.toString("UTF-8"), containsString("SingleClass"));
+    }
+
+    @Test
+    public void rejectsMissingDescriptor() {
+        int exitCode = run("--fail");
+
+        assertThat(exitCode, is(CommandLineRunner.EXIT_INVALID_USAGE));
+        assertThat(err.toString(), containsString("Usage"));
+    }
+
+    @Test
+    public void rejectsUnknownFormat() throws IOException {
+        File descriptor = givenDescriptor("modules=app\n");
+
+        int exitCode = run("--format=xml", descriptor.getPath());
+
+        assertThat(exitCode, is(CommandLineRunner.EXIT_INVALID_USAGE));
+        assertThat(err.toString(), containsString("xml"));
+    }
+
+    @Test
+    public void readsModulesFromDescriptor() throws IOException {
+        File classes = givenClassesDirectory();
+        File sources = tempFolder.newFolder("src");
+        File jar = tempFolder.newFile("lib.jar");
+        Properties properties = new Properties();
+        properties.setProperty("modules", "core, web");
+        properties.setProperty("core.output", "classes");
+        properties.setProperty("core.classpath", "lib.jar");
+        properties.setProperty("web.encoding", "ISO-8859-1");
+        properties.setProperty("web.sources", sources.getAbsolutePath());
+        properties.setProperty("web.dependsOn", "core");
+
+        List<Module> modules = ModulesDescriptor.toModules(properties, tempFolder.getRoot());
+
+        assertThat(modules, hasSize(2));
+        Module core = modules.get(0);
+        Module web = modules.get(1);
+        assertThat(core.getModuleId(), is("core"));
+        assertThat(core.getOutputRepository().getDirectory(), is(classes));
+        assertThat(core.getClassPath(), contains(jar));
+        assertThat(web.getEncoding(), is("ISO-8859-1"));
+        assertThat(web.getOutputRepository(), is(nullValue()));
+        assertThat(getOnlyElement(web.getAllRepositories()).getDirectory(), is(sources));
+        assertThat(web.getRequiredModules(), contains(core));
+        assertThat(web.getClassPath(), contains(classes));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsModulesDependingOnUndefinedModules() {
+        Properties properties = new Properties();
+        properties.setProperty("modules", "web");
+        properties.setProperty("web.dependsOn", "core");
+
+        ModulesDescriptor.toModules(properties, tempFolder.getRoot());
+    }
+
+}
@@ -0,0 +1,43 @@
+package de.is24.deadcode4j.daemon;
+
+import de.is24.deadcode4j.Module;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static de.is24.deadcode4j.ModuleBuilder.givenModule;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public final class A_ModuleWatcher {
+
+    @Rule
+    public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void reportsNoChangesForUntouchedModules() throws IOException {
+        tempFolder.newFile("A.class");
+        ModuleWatcher objectUnderTest = new ModuleWatcher(newArrayList(givenModule("A", tempFolder.getRoot())));
+
+        assertThat(objectUnderTest.pollChangedModules(), is(empty()));
+    }
+
+    @Test
+    public void reportsModulesWithChangedFiles() throws IOException {
+        File a = tempFolder.newFolder("a");
+        File b = tempFolder.newFolder("b");
+        Module moduleA = givenModule("A", a);
+        Module moduleB = givenModule("B", b);
+        ModuleWatcher objectUnderTest = new ModuleWatcher(newArrayList(moduleA, moduleB));
+
+        assertThat(new File(b, "B.class").createNewFile(), is(true));
+
+        assertThat(objectUnderTest.pollChangedModules(), contains(moduleB));
+        assertThat(objectUnderTest.pollChangedModules(), is(empty()));
+    }
+
+}
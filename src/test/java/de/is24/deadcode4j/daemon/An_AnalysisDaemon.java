@@ -0,0 +1,157 @@
+package de.is24.deadcode4j.daemon;
+
+import de.is24.deadcode4j.*;
+import de.is24.deadcode4j.analyzer.AnalyzerAdapter;
+import de.is24.deadcode4j.junit.LoggingRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.annotation.Nonnull;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Sets.newHashSet;
+import static de.is24.deadcode4j.ModuleBuilder.givenModule;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.fail;
+
+public final class An_AnalysisDaemon {
+
+    @Rule
+    public final LoggingRule enableLogging = new LoggingRule();
+    @Rule
+    public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private static final String CONFIGURATION = "configuration";
+    private final AtomicInteger analyzedFiles = new AtomicInteger();
+    private AnalysisDaemon objectUnderTest;
+    private Thread daemonThread;
+
+    @Before
+    public void startDaemon() throws IOException {
+        objectUnderTest = new AnalysisDaemon(new DeadCodeFinder(new DeadCodeComputer(), newHashSet(new AnalyzerAdapter() {
+            @Override
+            public void doAnalysis(@Nonnull AnalysisContext analysisContext, @Nonnull File file) {
+                analyzedFiles.incrementAndGet();
+                analysisContext.addAnalyzedClass(file.getName());
+            }
+        })), CONFIGURATION, 0, 500);
+        daemonThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                objectUnderTest.serve();
+            }
+        });
+        daemonThread.start();
+    }
+
+    @After
+    public void stopDaemon() throws IOException, InterruptedException {
+        objectUnderTest.close();
+        daemonThread.join(5000);
+    }
+
+    @Test
+    public void analyzesModulesSentByClient() throws IOException {
+        tempFolder.newFile("A.class");
+        Module a = givenModule("A", tempFolder.getRoot());
+        Module b = givenModule("B", a);
+
+        DeadCode deadCode = AnalysisDaemonClient.analyze(objectUnderTest.getPort(), CONFIGURATION, newArrayList(b, a));
+
+        assertThat(deadCode.getAnalyzedClasses(), contains("A.class"));
+        assertThat(deadCode.getDeadClasses(), contains("A.class"));
+    }
+
+    @Test
+    public void reusesResultsIfModulesAreUnchanged() throws IOException {
+        tempFolder.newFile("A.class");
+        List<Module> modules = newArrayList(givenModule("A", tempFolder.getRoot()));
+
+        AnalysisDaemonClient.analyze(objectUnderTest.getPort(), CONFIGURATION, modules);
+        DeadCode deadCode = AnalysisDaemonClient.analyze(objectUnderTest.getPort(), CONFIGURATION, modules);
+
+        assertThat(analyzedFiles.get(), is(1));
+        assertThat(deadCode.getAnalyzedClasses(), contains("A.class"));
+    }
+
+    @Test
+    public void reanalyzesModulesIfFilesChanged() throws IOException {
+        File file = tempFolder.newFile("A.class");
+        List<Module> modules = newArrayList(givenModule("A", tempFolder.getRoot()));
+        AnalysisDaemonClient.analyze(objectUnderTest.getPort(), CONFIGURATION, modules);
+
+        tempFolder.newFile("B.class");
+        DeadCode deadCode = AnalysisDaemonClient.analyze(objectUnderTest.getPort(), CONFIGURATION, modules);
+
+        assertThat(analyzedFiles.get(), is(3));
+        assertThat(deadCode.getAnalyzedClasses(), containsInAnyOrder("A.class", "B.class"));
+
+        assertThat(file.setLastModified(file.lastModified() - 10000), is(true));
+        AnalysisDaemonClient.analyze(objectUnderTest.getPort(), CONFIGURATION, modules);
+
+        assertThat(analyzedFiles.get(), is(5));
+    }
+
+    @Test(expected = ConnectException.class)
+    public void clientFailsIfNoDaemonIsRunning() throws IOException {
+        int port = objectUnderTest.getPort();
+        objectUnderTest.close();
+
+        AnalysisDaemonClient.analyze(port, CONFIGURATION, newArrayList(givenModule("A")));
+    }
+
+    @Test
+    public void rejectsRequestsOfClientsConfiguredDifferently() throws IOException {
+        tempFolder.newFile("A.class");
+
+        try {
+            AnalysisDaemonClient.analyze(objectUnderTest.getPort(), "another configuration",
+                    newArrayList(givenModule("A", tempFolder.getRoot())));
+            fail("Should reject the request!");
+        } catch (IOException e) {
+            assertThat(e.getMessage(), containsString("rejected"));
+        }
+        assertThat(analyzedFiles.get(), is(0));
+    }
+
+    @Test
+    public void doesNotDeserializeObjectsSentByClients() throws Exception {
+        Socket socket = new Socket(InetAddress.getByName(null), objectUnderTest.getPort());
+        try {
+            ObjectOutputStream out = new ObjectOutputStream(socket.getOutputStream());
+            out.writeObject(newArrayList("payload"));
+            out.flush();
+
+            assertThat("Should close the connection without answering!", socket.getInputStream().read(), is(-1));
+        } finally {
+            socket.close();
+        }
+    }
+
+    @Test
+    public void keepsServingIfAClientStalls() throws IOException {
+        tempFolder.newFile("A.class");
+        Socket stalledClient = new Socket(InetAddress.getByName(null), objectUnderTest.getPort());
+        try {
+            DeadCode deadCode = AnalysisDaemonClient.analyze(objectUnderTest.getPort(), CONFIGURATION,
+                    newArrayList(givenModule("A", tempFolder.getRoot())));
+
+            assertThat(deadCode.getAnalyzedClasses(), contains("A.class"));
+        } finally {
+            stalledClient.close();
+        }
+    }
+
+}
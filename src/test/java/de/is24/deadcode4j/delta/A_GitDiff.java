@@ -0,0 +1,138 @@
+package de.is24.deadcode4j.delta;
+
+import de.is24.deadcode4j.Module;
+import de.is24.deadcode4j.Repository;
+import de.is24.deadcode4j.Resource;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+import static com.google.common.base.Charsets.UTF_8;
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.io.Files.write;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.fail;
+
+public final class A_GitDiff {
+
+    @Rule
+    public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private Module givenModule(String moduleId, String... repositories) throws IOException {
+        Repository outputRepository = new Repository(tempFolder.newFolder((moduleId + "/target/classes").split("/")));
+        Collection<Repository> additionalRepositories = newArrayList();
+        for (String repository : repositories) {
+            additionalRepositories.add(new Repository(tempFolder.newFolder((moduleId + "/" + repository).split("/"))));
+        }
+        return new Module(moduleId, null, Collections.<Resource>emptyList(), outputRepository, additionalRepositories);
+    }
+
+    private Map<String, File> baseDirectoriesOf(Module... modules) {
+        Map<String, File> baseDirectories = newHashMap();
+        for (Module module : modules) {
+            baseDirectories.put(module.getModuleId(), file(module.getModuleId()));
+        }
+        return baseDirectories;
+    }
+
+    private File file(String path) {
+        return new File(tempFolder.getRoot(), path);
+    }
+
+    @Test
+    public void mapsChangedFilesToModules() throws IOException {
+        Module a = givenModule("a", "src/main/java");
+        Module b = givenModule("b", "src/main/java");
+        Module c = givenModule("c", "src/main/java");
+
+        Collection<Module> affectedModules = GitDiff.getAffectedModules(asList(a, b, c), baseDirectoriesOf(a, b, c), asList(
+                file("a/src/main/java/A.java"),
+                file("c/src/main/resources/c.xml"),
+                file("pom.xml")));
+
+        assertThat(affectedModules, containsInAnyOrder(a, c));
+    }
+
+    @Test
+    public void mapsChangedFilesToClosestModule() throws IOException {
+        Module parent = givenModule("parent", "src/main/java");
+        Module child = givenModule("parent/child", "src/main/java");
+
+        Map<String, File> baseDirectories = baseDirectoriesOf(parent, child);
+
+        assertThat(GitDiff.getAffectedModules(asList(parent, child), baseDirectories,
+                asList(file("parent/child/pom.xml"))), contains(child));
+        assertThat(GitDiff.getAffectedModules(asList(parent, child), baseDirectories,
+                asList(file("parent/src/main/java/P.java"))), contains(parent));
+    }
+
+    @Test
+    public void mapsChangedFilesOfModulesWithoutSourcesByTheirBaseDirectory() throws IOException {
+        Module a = givenModule("a");
+        Module b = givenModule("b");
+
+        Collection<Module> affectedModules = GitDiff.getAffectedModules(asList(a, b), baseDirectoriesOf(a, b),
+                asList(file("a/src/main/resources/a.xml"), file("b/pom.xml")));
+
+        assertThat(affectedModules, containsInAnyOrder(a, b));
+    }
+
+    @Test
+    public void considersModulesWithUnknownBaseDirectoryToBeAffected() throws IOException {
+        Module a = givenModule("a", "src/main/java");
+        Module b = givenModule("b", "src/main/java");
+
+        Collection<Module> affectedModules = GitDiff.getAffectedModules(asList(a, b), baseDirectoriesOf(a),
+                Collections.<File>emptyList());
+
+        assertThat(affectedModules, contains(b));
+    }
+
+    @Test
+    public void listsFilesChangedSinceBaseRevision() throws IOException, InterruptedException {
+        File workTree = tempFolder.getRoot();
+        write("unchanged", file("unchanged.txt"), UTF_8);
+        write("changed", file("changed.txt"), UTF_8);
+        git("init", "-q");
+        git("add", ".");
+        git("-c", "user.name=test", "-c", "user.email=test@example.com", "commit", "-q", "-m", "base");
+        write("modified", file("changed.txt"), UTF_8);
+        write("new", file("new.txt"), UTF_8);
+
+        Collection<File> changedFiles = GitDiff.getChangedFiles(workTree, "HEAD");
+
+        assertThat(changedFiles, hasSize(2));
+        assertThat(changedFiles, hasItem(new File(workTree.getCanonicalFile(), "changed.txt")));
+        assertThat(changedFiles, hasItem(new File(workTree.getCanonicalFile(), "new.txt")));
+    }
+
+    @Test
+    public void failsForUnknownRevision() throws IOException, InterruptedException {
+        git("init", "-q");
+
+        try {
+            GitDiff.getChangedFiles(tempFolder.getRoot(), "doesNotExist");
+            fail("Should fail for an unknown revision!");
+        } catch (IOException e) {
+            assertThat("Should report git's error output!", e.getMessage(), containsString("doesNotExist"));
+        }
+    }
+
+    private void git(String... arguments) throws IOException, InterruptedException {
+        Collection<String> command = newArrayList("git");
+        command.addAll(asList(arguments));
+        Process process = new ProcessBuilder(newArrayList(command)).directory(tempFolder.getRoot())
+                .redirectErrorStream(true).start();
+        assertThat(process.waitFor(), is(0));
+    }
+
+}
@@ -0,0 +1,99 @@
+package de.is24.deadcode4j.graph;
+
+import de.is24.deadcode4j.AnalysisStage;
+import de.is24.deadcode4j.AnalyzedCode;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.collect.Sets.newHashSet;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+public final class A_ClassGraph {
+
+    private Map<String, Set<String>> codeDependencies;
+    private Set<String> analyzedClasses;
+
+    @Before
+    public void setUp() {
+        codeDependencies = newHashMap();
+        analyzedClasses = newHashSet();
+    }
+
+    @Test
+    public void indexesDependers() {
+        setUpDependency("_Spring_", "A", "B");
+        setUpAnalyzedDependency("A", "B");
+        setUpAnalyzedDependency("B");
+        ClassGraph graph = buildGraph();
+
+        int b = graph.getNode("B");
+        Set<String> dependers = newHashSet();
+        for (int i = graph.getFirstDependerIndex(b); i < graph.getEndDependerIndex(b); i++) {
+            dependers.add(graph.getName(graph.getDepender(i)));
+        }
+
+        assertThat(dependers, containsInAnyOrder("_Spring_", "A"));
+        assertThat(graph.isRoot(graph.getNode("_Spring_")), is(true));
+        assertThat(graph.isRoot(graph.getNode("A")), is(false));
+    }
+
+    @Test
+    public void findsShortestPathFromRoot() {
+        setUpDependency("_Spring_", "Controller");
+        setUpDependency("_Jersey_", "Resource");
+        setUpAnalyzedDependency("Controller", "Service", "Helper");
+        setUpAnalyzedDependency("Service", "Repository");
+        setUpAnalyzedDependency("Helper", "Service");
+        setUpAnalyzedDependency("Repository", "Entity");
+        setUpAnalyzedDependency("Resource", "Entity", "java.lang.Object");
+        setUpAnalyzedDependency("Entity");
+
+        ClassGraph graph = buildGraph();
+
+        assertThat(graph.getShortestPathFromRoot("Repository"),
+                contains("_Spring_", "Controller", "Service", "Repository"));
+        assertThat(graph.getShortestPathFromRoot("Entity"), contains("_Jersey_", "Resource", "Entity"));
+    }
+
+    @Test
+    public void findsPathFromDeadClassIfNoRootLeadsToClass() {
+        setUpAnalyzedDependency("Dead", "A");
+        setUpAnalyzedDependency("A");
+
+        assertThat(buildGraph().getShortestPathFromRoot("A"), contains("Dead", "A"));
+    }
+
+    @Test
+    public void findsNoPathForClassesUsedOnlyWithinCycleOrUnknown() {
+        setUpAnalyzedDependency("A", "B");
+        setUpAnalyzedDependency("B", "A");
+        ClassGraph graph = buildGraph();
+
+        assertThat(graph.getShortestPathFromRoot("A"), is(empty()));
+        assertThat(graph.getShortestPathFromRoot("Unknown"), is(empty()));
+    }
+
+    private void setUpDependency(String depender, String... dependees) {
+        codeDependencies.put(depender, newHashSet(dependees));
+    }
+
+    private void setUpAnalyzedDependency(String depender, String... dependees) {
+        setUpDependency(depender, dependees);
+        analyzedClasses.add(depender);
+    }
+
+    private ClassGraph buildGraph() {
+        return ClassGraph.of(new AnalyzedCode(
+                EnumSet.noneOf(AnalysisStage.class), analyzedClasses, codeDependencies));
+    }
+
+}
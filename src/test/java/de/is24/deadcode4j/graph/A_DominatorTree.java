@@ -0,0 +1,162 @@
+package de.is24.deadcode4j.graph;
+
+import de.is24.deadcode4j.AnalysisStage;
+import de.is24.deadcode4j.AnalyzedCode;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.collect.Sets.newHashSet;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+public final class A_DominatorTree {
+
+    private Map<String, Set<String>> codeDependencies;
+    private Set<String> analyzedClasses;
+
+    @Before
+    public void setUp() {
+        codeDependencies = newHashMap();
+        analyzedClasses = newHashSet();
+    }
+
+    @Test
+    public void ranksClassesByTheNumberOfClassesTheyKeepAliveExclusively() {
+        setUpDependency("_Spring_", "Controller", "Service");
+        setUpAnalyzedDependency("Controller", "Helper");
+        setUpAnalyzedDependency("Helper", "Util", "Formatter");
+        setUpAnalyzedDependency("Formatter", "Util");
+        setUpAnalyzedDependency("Service", "Shared");
+        setUpAnalyzedDependency("Util");
+        setUpAnalyzedDependency("Shared");
+        setUpAnalyzedDependency("Dead", "Shared");
+        ClassGraph graph = buildGraph();
+
+        DominatorTree dominatorTree = DominatorTree.of(graph);
+
+        assertThat(names(graph, dominatorTree), contains("Controller", "Helper", "Service"));
+        assertThat(dominatorTree.getNumberOfDominatedClasses(graph.getNode("Controller")), is(3));
+        assertThat(dominatorTree.getNumberOfDominatedClasses(graph.getNode("Helper")), is(2));
+        assertThat(dominatorTree.getNumberOfDominatedClasses(graph.getNode("Formatter")), is(0));
+        assertThat(dominatorTree.getImmediateDominator(graph.getNode("Util")), is(graph.getNode("Helper")));
+        assertThat(dominatorTree.isReachable(graph.getNode("Dead")), is(false));
+    }
+
+    @Test
+    public void doesNotAttributeClassesUsedByDifferentRootsToAnySingleClass() {
+        setUpDependency("_Spring_", "A");
+        setUpDependency("_Jersey_", "B");
+        setUpAnalyzedDependency("A", "Shared");
+        setUpAnalyzedDependency("B", "Shared");
+        setUpAnalyzedDependency("Shared");
+        ClassGraph graph = buildGraph();
+
+        DominatorTree dominatorTree = DominatorTree.of(graph);
+
+        assertThat(dominatorTree.getImmediateDominator(graph.getNode("Shared")), is(-1));
+        assertThat(dominatorTree.rankByRemovalImpact().isEmpty(), is(true));
+    }
+
+    @Test
+    public void handlesDeepGraphsWithoutRecursion() {
+        int length = 100000;
+        setUpDependency("_Spring_", "C0");
+        for (int i = 0; i < length - 1; i++) {
+            setUpAnalyzedDependency("C" + i, "C" + (i + 1), "C0");
+        }
+        setUpAnalyzedDependency("C" + (length - 1), "C0");
+        ClassGraph graph = buildGraph();
+
+        DominatorTree dominatorTree = DominatorTree.of(graph);
+
+        assertThat(dominatorTree.getNumberOfDominatedClasses(graph.getNode("C0")), is(length - 1));
+        assertThat(dominatorTree.getNumberOfDominatedClasses(graph.getNode("C1")), is(length - 2));
+    }
+
+    @Test
+    public void matchesTheNumberOfClassesBecomingUnreachableUponRemoval() {
+        Random random = new Random(42);
+        for (int run = 0; run < 20; run++) {
+            setUp();
+            int size = 30;
+            setUpDependency("_Root_", "C" + random.nextInt(size), "C" + random.nextInt(size));
+            for (int i = 0; i < size; i++) {
+                setUpAnalyzedDependency("C" + i);
+                for (int j = random.nextInt(3); j > 0; j--) {
+                    codeDependencies.get("C" + i).add("C" + random.nextInt(size));
+                }
+            }
+            ClassGraph graph = buildGraph();
+
+            DominatorTree dominatorTree = DominatorTree.of(graph);
+
+            int reachable = countReachable(graph, -1);
+            for (int node = 0; node < graph.size(); node++) {
+                if (!dominatorTree.isReachable(node) || !graph.isAnalyzed(node)) {
+                    continue;
+                }
+                int expected = reachable - 1 - countReachable(graph, node);
+                assertThat("Class " + graph.getName(node) + " in run " + run,
+                        dominatorTree.getNumberOfDominatedClasses(node), is(expected));
+            }
+        }
+    }
+
+    private void setUpDependency(String depender, String... dependees) {
+        codeDependencies.put(depender, newHashSet(dependees));
+    }
+
+    private void setUpAnalyzedDependency(String depender, String... dependees) {
+        setUpDependency(depender, dependees);
+        analyzedClasses.add(depender);
+    }
+
+    private ClassGraph buildGraph() {
+        return ClassGraph.of(new AnalyzedCode(
+                EnumSet.noneOf(AnalysisStage.class), analyzedClasses, codeDependencies));
+    }
+
+    private Iterable<String> names(ClassGraph graph, DominatorTree dominatorTree) {
+        List<String> names = newArrayList();
+        for (Integer node : dominatorTree.rankByRemovalImpact()) {
+            names.add(graph.getName(node));
+        }
+        return names;
+    }
+
+    private int countReachable(ClassGraph graph, int removedNode) {
+        boolean[] visited = new boolean[graph.size()];
+        Deque<Integer> queue = new ArrayDeque<Integer>();
+        for (int node = 0; node < graph.size(); node++) {
+            if (graph.isRoot(node)) {
+                visited[node] = true;
+                queue.add(node);
+            }
+        }
+        int reachableClasses = 0;
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = graph.getFirstDependeeIndex(node); i < graph.getEndDependeeIndex(node); i++) {
+                int dependee = graph.getDependee(i);
+                if (dependee != removedNode && !visited[dependee]) {
+                    visited[dependee] = true;
+                    queue.add(dependee);
+                    reachableClasses += graph.isAnalyzed(dependee) ? 1 : 0;
+                }
+            }
+        }
+        return reachableClasses;
+    }
+
+}
@@ -0,0 +1,93 @@
+package de.is24.deadcode4j.graph;
+
+import com.google.common.collect.ImmutableMap;
+import de.is24.deadcode4j.AnalysisStage;
+import de.is24.deadcode4j.AnalyzedCode;
+import de.is24.deadcode4j.DeadCode;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.collect.Maps.newLinkedHashMap;
+import static com.google.common.collect.Sets.newLinkedHashSet;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public final class A_GraphWriter {
+
+    private static final Map<String, String> MODULES = ImmutableMap.of("de.is24.Foo", "a", "de.is24.Bar", "b&c");
+
+    private static String write(GraphWriter graphWriter) throws IOException {
+        Set<String> analyzedClasses = newLinkedHashSet(asList("de.is24.Foo", "de.is24.Bar"));
+        Map<String, Set<String>> codeDependencies = newLinkedHashMap();
+        codeDependencies.put("de.is24.Foo", Collections.singleton("java.lang.Object"));
+        codeDependencies.put("_Spring_", Collections.singleton("de.is24.Foo"));
+        ClassGraph graph = ClassGraph.of(
+                new AnalyzedCode(EnumSet.noneOf(AnalysisStage.class), analyzedClasses, codeDependencies));
+        DeadCode deadCode = new DeadCode(EnumSet.noneOf(AnalysisStage.class), analyzedClasses, asList("de.is24.Bar"));
+
+        StringWriter writer = new StringWriter();
+        graphWriter.write(graph, deadCode, MODULES, writer);
+        return writer.toString();
+    }
+
+    @Test
+    public void writesGraphMl() throws IOException {
+        String graph = write(GraphWriter.forFormat("graphml"));
+
+        assertThat(graph, is("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                "<graphml xmlns=\"http://graphml.graphdrawing.org/xmlns\">\n" +
+                "  <key id=\"class\" for=\"node\" attr.name=\"class\" attr.type=\"string\"/>\n" +
+                "  <key id=\"analyzed\" for=\"node\" attr.name=\"analyzed\" attr.type=\"boolean\"><default>false</default></key>\n" +
+                "  <key id=\"dead\" for=\"node\" attr.name=\"dead\" attr.type=\"boolean\"><default>false</default></key>\n" +
+                "  <key id=\"module\" for=\"node\" attr.name=\"module\" attr.type=\"string\"/>\n" +
+                "  <graph id=\"deadcode4j\" edgedefault=\"directed\">\n" +
+                "    <node id=\"n0\"><data key=\"class\">de.is24.Foo</data><data key=\"analyzed\">true</data><data key=\"module\">a</data></node>\n" +
+                "    <node id=\"n1\"><data key=\"class\">de.is24.Bar</data><data key=\"analyzed\">true</data><data key=\"dead\">true</data><data key=\"module\">b&amp;c</data></node>\n" +
+                "    <node id=\"n2\"><data key=\"class\">java.lang.Object</data></node>\n" +
+                "    <node id=\"n3\"><data key=\"class\">_Spring_</data></node>\n" +
+                "    <edge source=\"n0\" target=\"n2\"/>\n" +
+                "    <edge source=\"n3\" target=\"n0\"/>\n" +
+                "  </graph>\n" +
+                "</graphml>\n"));
+    }
+
+    @Test
+    public void writesDot() throws IOException {
+        String graph = write(GraphWriter.forFormat("DOT"));
+
+        assertThat(graph, is("digraph deadcode4j {\n" +
+                "  n0 [label=\"de.is24.Foo\", analyzed=true, dead=false, module=\"a\"];\n" +
+                "  n1 [label=\"de.is24.Bar\", analyzed=true, dead=true, color=red, module=\"b&c\"];\n" +
+                "  n2 [label=\"java.lang.Object\", analyzed=false, style=dashed, dead=false];\n" +
+                "  n3 [label=\"_Spring_\", analyzed=false, style=dashed, dead=false];\n" +
+                "  n0 -> n2;\n" +
+                "  n3 -> n0;\n" +
+                "}\n"));
+    }
+
+    @Test
+    public void writesTrivialGraphFormat() throws IOException {
+        String graph = write(GraphWriter.forFormat("tgf"));
+
+        assertThat(graph, is("0 de.is24.Foo analyzed module=a\n" +
+                "1 de.is24.Bar analyzed dead module=b&c\n" +
+                "2 java.lang.Object\n" +
+                "3 _Spring_\n" +
+                "#\n" +
+                "0 2\n" +
+                "3 0\n"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsUnknownFormat() {
+        GraphWriter.forFormat("gif");
+    }
+
+}
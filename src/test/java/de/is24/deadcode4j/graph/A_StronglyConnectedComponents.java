@@ -0,0 +1,88 @@
+package de.is24.deadcode4j.graph;
+
+import de.is24.deadcode4j.AnalysisStage;
+import de.is24.deadcode4j.AnalyzedCode;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.collect.Sets.newHashSet;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+public final class A_StronglyConnectedComponents {
+
+    private Map<String, Set<String>> codeDependencies;
+
+    @Before
+    public void setUp() {
+        codeDependencies = newHashMap();
+    }
+
+    @Test
+    public void groupsCyclesIntoComponents() {
+        setUpDependency("A", "B");
+        setUpDependency("B", "C");
+        setUpDependency("C", "A", "D");
+        setUpDependency("D");
+        ClassGraph graph = buildGraph();
+
+        StronglyConnectedComponents components = StronglyConnectedComponents.of(graph);
+
+        assertThat(components.getNumberOfComponents(), is(2));
+        assertThat(componentOf(components, graph, "A"), is(componentOf(components, graph, "B")));
+        assertThat(componentOf(components, graph, "A"), is(componentOf(components, graph, "C")));
+        assertThat(componentOf(components, graph, "D"), is(not(componentOf(components, graph, "A"))));
+    }
+
+    @Test
+    public void numbersComponentsInReverseTopologicalOrder() {
+        setUpDependency("A", "B");
+        setUpDependency("B", "C");
+        setUpDependency("C");
+        ClassGraph graph = buildGraph();
+
+        StronglyConnectedComponents components = StronglyConnectedComponents.of(graph);
+
+        assertThat(componentOf(components, graph, "A"), is(greaterThan(componentOf(components, graph, "B"))));
+        assertThat(componentOf(components, graph, "B"), is(greaterThan(componentOf(components, graph, "C"))));
+    }
+
+    @Test
+    public void handlesDeepGraphsWithoutRecursion() {
+        int length = 100000;
+        for (int i = 0; i < length; i++) {
+            setUpDependency("C" + i, "C" + ((i + 1) % length));
+        }
+        setUpDependency("Other", "C0");
+        ClassGraph graph = buildGraph();
+
+        StronglyConnectedComponents components = StronglyConnectedComponents.of(graph);
+
+        assertThat(components.getNumberOfComponents(), is(2));
+        int[] offsets = new int[3];
+        components.getMembers(offsets);
+        int cycle = componentOf(components, graph, "C0");
+        assertThat(offsets[cycle + 1] - offsets[cycle], is(length));
+    }
+
+    private void setUpDependency(String depender, String... dependees) {
+        codeDependencies.put(depender, newHashSet(dependees));
+    }
+
+    private ClassGraph buildGraph() {
+        return ClassGraph.of(new AnalyzedCode(
+                EnumSet.noneOf(AnalysisStage.class), codeDependencies.keySet(), codeDependencies));
+    }
+
+    private int componentOf(StronglyConnectedComponents components, ClassGraph graph, String clazz) {
+        return components.getComponentOf(graph.getNode(clazz));
+    }
+
+}
@@ -6,6 +6,7 @@ import org.apache.maven.plugin.logging.Log;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.File;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
@@ -13,6 +14,7 @@ import java.util.EnumSet;
 import static java.util.Arrays.asList;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -89,6 +91,28 @@ public class A_DeadCodeLogger {
         verify(logMock, times(1)).warn(anyString());
     }
 
+    @Test
+    public void logsOnlyASummaryIfAReportIsWritten() {
+        DeadCode deadCode = new DeadCode(noExceptions(), classes("A", "B", "SingleClass"), classes("SingleClass"));
+
+        objectUnderTest.logSummary(deadCode, new File("deadcode4j.txt"));
+
+        verifyNumberOfAnalyzedClassesIs(3);
+        verify(logMock, times(1)).warn(anyString());
+        verify(logMock, never()).warn("  SingleClass");
+    }
+
+    @Test
+    public void logsChangesOfUnusedClasses() {
+        DeadCode previousDeadCode = new DeadCode(noExceptions(), classes("A", "B", "C"), classes("A", "B"));
+        DeadCode deadCode = new DeadCode(noExceptions(), classes("A", "B", "C"), classes("B", "C"));
+
+        objectUnderTest.logDelta(previousDeadCode.getDeadClasses(), deadCode);
+
+        verify(logMock).warn("+ C");
+        verify(logMock).info("- A");
+    }
+
     private EnumSet<AnalysisStage> noExceptions() {
         return EnumSet.noneOf(AnalysisStage.class);
     }
@@ -1,5 +1,6 @@
 package de.is24.deadcode4j.plugin;
 
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.Iterables;
 import de.is24.deadcode4j.Module;
 import de.is24.deadcode4j.Repository;
@@ -141,6 +142,16 @@ public final class A_ModuleGenerator {
         assertThat(module.getClassPath(), is(emptyIterable()));
     }
 
+    @Test
+    public void recordsStatisticsOfResolvingClassPathElements() throws MojoExecutionException {
+        addResolvedArtifact(mavenProject);
+
+        objectUnderTest.getModulesFor(singleton(mavenProject));
+
+        CacheStats stats = objectUnderTest.getClassPathResolutionStats();
+        assertThat(stats.loadCount(), is(1L));
+    }
+
     private MavenProject givenMavenProject(String projectId) {
         MavenProject mavenProject = new MavenProject();
         mavenProject.setGroupId("de.is24.junit");
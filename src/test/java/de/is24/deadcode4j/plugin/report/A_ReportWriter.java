@@ -0,0 +1,98 @@
+package de.is24.deadcode4j.plugin.report;
+
+import de.is24.deadcode4j.AnalysisStage;
+import de.is24.deadcode4j.DeadCode;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.EnumSet;
+
+import static com.google.common.base.Charsets.UTF_8;
+import static com.google.common.io.Files.readFirstLine;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public final class A_ReportWriter {
+
+    @Rule
+    public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private static DeadCode deadCode() {
+        return new DeadCode(EnumSet.of(AnalysisStage.FILE_ANALYSIS),
+                asList("de.is24.Foo", "de.is24.Bar", "de.is24.sub.Baz", "de.is24.zed", "Default", "de.is24.Live"),
+                asList("de.is24.zed", "de.is24.Foo", "Default", "de.is24.sub.Baz", "de.is24.Bar"));
+    }
+
+    private static String write(ReportWriter reportWriter, DeadCode deadCode) throws IOException {
+        StringWriter writer = new StringWriter();
+        reportWriter.write(deadCode, writer);
+        return writer.toString();
+    }
+
+    @Test
+    public void writesJsonGroupedByPackage() throws IOException {
+        String report = write(ReportWriter.forFormat("json"), deadCode());
+
+        assertThat(report, is("{\"analyzedClasses\":6,\"deadClasses\":5,\"stagesWithExceptions\":[\"FILE_ANALYSIS\"],\"packages\":[\n" +
+                "{\"name\":\"\",\"classes\":[\"Default\"]},\n" +
+                "{\"name\":\"de.is24\",\"classes\":[\"Bar\",\"Foo\",\"zed\"]},\n" +
+                "{\"name\":\"de.is24.sub\",\"classes\":[\"Baz\"]}\n" +
+                "]}\n"));
+    }
+
+    @Test
+    public void writesValidJsonIfNoDeadCodeIsFound() throws IOException {
+        String report = write(new JsonReportWriter(), new DeadCode(EnumSet.noneOf(AnalysisStage.class),
+                asList("A"), java.util.Collections.<String>emptyList()));
+
+        assertThat(report, is("{\"analyzedClasses\":1,\"deadClasses\":0,\"stagesWithExceptions\":[],\"packages\":[\n]}\n"));
+    }
+
+    @Test
+    public void writesCsvGroupedByPackage() throws IOException {
+        String report = write(ReportWriter.forFormat("CSV"), deadCode());
+
+        assertThat(report, is("package,class\n" +
+                ",Default\n" +
+                "de.is24,de.is24.Bar\n" +
+                "de.is24,de.is24.Foo\n" +
+                "de.is24,de.is24.zed\n" +
+                "de.is24.sub,de.is24.sub.Baz\n"));
+    }
+
+    @Test
+    public void writesTextGroupedByPackage() throws IOException {
+        String report = write(ReportWriter.forFormat("text"), deadCode());
+
+        assertThat(report, is("# analyzed 6 class(es), found 5 unused class(es)\n" +
+                "<default package>\n" +
+                "  Default\n" +
+                "de.is24\n" +
+                "  Bar\n" +
+                "  Foo\n" +
+                "  zed\n" +
+                "de.is24.sub\n" +
+                "  Baz\n"));
+    }
+
+    @Test
+    public void writesReportIntoGivenDirectory() throws IOException {
+        File directory = new File(tempFolder.getRoot(), "target");
+
+        File report = ReportWriter.forFormat("csv").write(deadCode(), directory);
+
+        assertThat(report, is(new File(directory, "deadcode4j.csv")));
+        assertThat(readFirstLine(report, UTF_8), is("package,class"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsUnknownFormat() {
+        ReportWriter.forFormat("xml");
+    }
+
+}
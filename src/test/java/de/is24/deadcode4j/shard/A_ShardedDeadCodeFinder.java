@@ -0,0 +1,123 @@
+package de.is24.deadcode4j.shard;
+
+import de.is24.deadcode4j.DeadCode;
+import de.is24.deadcode4j.Module;
+import de.is24.deadcode4j.analyzer.AnalyzerConfiguration;
+import de.is24.deadcode4j.junit.FileLoader;
+import de.is24.deadcode4j.junit.LoggingRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.annotation.Nonnull;
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.io.Files.copy;
+import static de.is24.deadcode4j.ModuleBuilder.givenModule;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public final class A_ShardedDeadCodeFinder {
+
+    @Rule
+    public final LoggingRule enableLogging = new LoggingRule();
+    @Rule
+    public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void groupsModulesIntoWaves() {
+        Module a = givenModule("A");
+        Module b = givenModule("B");
+        Module c = givenModule("C", a);
+        Module d = givenModule("D", b, c);
+
+        List<List<Module>> waves = ShardedDeadCodeFinder.planWaves(asList(d, c, b, a));
+
+        assertThat(waves, contains(asList(a, b), asList(c), asList(d)));
+    }
+
+    @Test
+    public void spreadsModulesAmongShards() {
+        List<Module> modules = asList(givenModule("A"), givenModule("B"), givenModule("C"));
+
+        assertThat(ShardedDeadCodeFinder.distribute(modules, 2), contains(asList("A", "C"), asList("B")));
+        assertThat(ShardedDeadCodeFinder.distribute(modules, 5), contains(asList("A"), asList("B"), asList("C")));
+    }
+
+    @Test
+    public void determinesTheModulesRequiredByAShard() {
+        Module a = givenModule("A");
+        Module b = givenModule("B");
+        Module c = givenModule("C", a);
+        Module d = givenModule("D", c);
+        Map<String, Module> modulesById = newHashMap();
+        for (Module module : asList(a, b, c, d)) {
+            modulesById.put(module.getModuleId(), module);
+        }
+
+        assertThat(ShardedDeadCodeFinder.getRequiredModules(asList("D"), modulesById), containsInAnyOrder(a, c));
+        assertThat(ShardedDeadCodeFinder.getRequiredModules(asList("A", "B"), modulesById), is(empty()));
+    }
+
+    @Test
+    public void findsSameDeadCodeAsUnshardedAnalysis() throws IOException {
+        List<Module> modules = givenModules();
+        AnalyzerConfiguration analyzerConfiguration = new AnalyzerConfiguration();
+
+        DeadCode deadCode = new ShardedDeadCodeFinder(analyzerConfiguration, 2, new InProcessShardExecutor(),
+                tempFolder.newFolder("work")).findDeadCode(modules);
+
+        DeadCode expectedDeadCode = analyzerConfiguration.createDeadCodeFinder().findDeadCode(modules);
+        assertThat(deadCode.getAnalyzedClasses(), containsInAnyOrder(expectedDeadCode.getAnalyzedClasses().toArray()));
+        assertThat(deadCode.getDeadClasses(), containsInAnyOrder(expectedDeadCode.getDeadClasses().toArray()));
+        assertThat(deadCode.getDeadClasses(), contains("SingleClass"));
+    }
+
+    @Test
+    public void runsShardsInForkedJvms() throws IOException {
+        List<File> classPath = newArrayList();
+        for (String classPathEntry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            classPath.add(new File(classPathEntry));
+        }
+        ShardExecutor shardExecutor = new ForkingShardExecutor(
+                ForkingShardExecutor.currentJavaExecutable(), classPath, Collections.<String>emptyList());
+
+        DeadCode deadCode = new ShardedDeadCodeFinder(new AnalyzerConfiguration(), 2, shardExecutor,
+                tempFolder.newFolder("work")).findDeadCode(givenModules());
+
+        assertThat(deadCode.getAnalyzedClasses(), containsInAnyOrder("A", "B", "SingleClass"));
+        assertThat(deadCode.getDeadClasses(), contains("SingleClass"));
+    }
+
+    private List<Module> givenModules() throws IOException {
+        Module a = givenModule("A", givenClasses("a", "A.class"));
+        Module b = givenModule("B", givenClasses("b", "SingleClass.class"));
+        Module c = givenModule("C", givenClasses("c", "B.class"), a, b);
+        return asList(a, b, c);
+    }
+
+    private File givenClasses(String directory, String... classFiles) throws IOException {
+        File classes = tempFolder.newFolder(directory);
+        for (String classFile : classFiles) {
+            copy(FileLoader.getFile(classFile), new File(classes, classFile));
+        }
+        return classes;
+    }
+
+    private static class InProcessShardExecutor implements ShardExecutor {
+        @Override
+        public void execute(@Nonnull List<File> taskFiles) throws IOException {
+            for (File taskFile : taskFiles) {
+                ShardWorker.run(ShardTask.read(taskFile));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,236 @@
+package de.is24.guava;
+
+import com.google.common.base.Function;
+import com.google.common.base.Optional;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.Weigher;
+import org.junit.Test;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.google.common.base.Optional.of;
+import static com.google.common.collect.Lists.newArrayList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.fail;
+
+public final class A_ConcurrentLoadingCache {
+
+    private final SequenceFunction sequenceFunction = new SequenceFunction();
+
+    @Test
+    public void cachesValues() {
+        ConcurrentLoadingCache<Object, Integer> objectUnderTest = new ConcurrentLoadingCache<Object, Integer>(sequenceFunction);
+
+        objectUnderTest.getUnchecked("foo");
+        objectUnderTest.getUnchecked("bar");
+        Optional<Integer> result = objectUnderTest.getUnchecked("foo");
+
+        assertThat(result.get(), is(0));
+        assertThat(objectUnderTest.getUnchecked("bar").get(), is(1));
+    }
+
+    @Test
+    public void cachesNullValues() {
+        ConcurrentLoadingCache<Object, Integer> objectUnderTest = new ConcurrentLoadingCache<Object, Integer>(
+                new Function<Object, Optional<Integer>>() {
+                    @Nullable
+                    @Override
+                    public Optional<Integer> apply(@Nullable Object input) {
+                        sequenceFunction.apply(input);
+                        return null;
+                    }
+                });
+
+        objectUnderTest.getUnchecked("foo");
+        Optional<Integer> result = objectUnderTest.getUnchecked("foo");
+
+        assertThat(result.isPresent(), is(false));
+        assertThat(sequenceFunction.sequence.get(), is(1));
+    }
+
+    @Test
+    public void usesCacheOnlyIfRequested() {
+        ConcurrentLoadingCache<Object, Integer> objectUnderTest = new ConcurrentLoadingCache<Object, Integer>(sequenceFunction);
+
+        Optional<Integer> result = objectUnderTest.getIfPresent("foo");
+
+        assertThat(result.isPresent(), is(false));
+        assertThat(sequenceFunction.sequence.get(), is(0));
+    }
+
+    @Test
+    public void cachesOnlyOneValue() {
+        ConcurrentLoadingCache<Object, Integer> objectUnderTest = ConcurrentLoadingCache.createSingleValueCache(sequenceFunction);
+
+        objectUnderTest.getUnchecked("foo");
+        objectUnderTest.getUnchecked("foo");
+        objectUnderTest.getUnchecked("bar");
+        objectUnderTest.getUnchecked("bar");
+        Optional<Integer> result = objectUnderTest.getUnchecked("foo");
+
+        assertThat(result.get(), is(2));
+        assertThat(objectUnderTest.size(), is(1L));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedValue() {
+        ConcurrentLoadingCache<Object, Integer> objectUnderTest = ConcurrentLoadingCache.createBoundedCache(2, sequenceFunction);
+
+        objectUnderTest.getUnchecked("foo");
+        objectUnderTest.getUnchecked("bar");
+        objectUnderTest.getUnchecked("foo");
+        objectUnderTest.getUnchecked("baz");
+
+        assertThat(objectUnderTest.getIfPresent("foo").get(), is(0));
+        assertThat(objectUnderTest.getIfPresent("bar").isPresent(), is(false));
+        assertThat(objectUnderTest.getIfPresent("baz").get(), is(2));
+    }
+
+    @Test
+    public void evictsValuesExceedingTheMaximumWeight() {
+        ConcurrentLoadingCache<Object, Integer> objectUnderTest = ConcurrentLoadingCache.createWeightBoundedCache(5,
+                new Weigher<Object, Optional<Integer>>() {
+                    @Override
+                    public int weigh(@Nullable Object key, @Nullable Optional<Integer> value) {
+                        return String.valueOf(key).length();
+                    }
+                }, sequenceFunction);
+
+        objectUnderTest.getUnchecked("foo");
+        objectUnderTest.getUnchecked("ba");
+        objectUnderTest.getUnchecked("z");
+
+        assertThat(objectUnderTest.getIfPresent("foo").isPresent(), is(false));
+        assertThat(objectUnderTest.getIfPresent("ba").isPresent(), is(true));
+        assertThat(objectUnderTest.getIfPresent("z").isPresent(), is(true));
+        assertThat(objectUnderTest.stats().evictionCount(), is(1L));
+    }
+
+    @Test
+    public void recordsStatistics() {
+        ConcurrentLoadingCache<Object, Integer> objectUnderTest = new ConcurrentLoadingCache<Object, Integer>(sequenceFunction);
+
+        objectUnderTest.getUnchecked("foo");
+        objectUnderTest.getUnchecked("foo");
+        objectUnderTest.getUnchecked("bar");
+        CacheStats stats = objectUnderTest.stats();
+
+        assertThat(stats.hitCount(), is(1L));
+        assertThat(stats.missCount(), is(2L));
+        assertThat(stats.loadSuccessCount(), is(2L));
+    }
+
+    @Test
+    public void doesNotCacheFailures() {
+        ConcurrentLoadingCache<Object, Integer> objectUnderTest = new ConcurrentLoadingCache<Object, Integer>(
+                new Function<Object, Optional<Integer>>() {
+                    @Nullable
+                    @Override
+                    public Optional<Integer> apply(@Nullable Object input) {
+                        if (sequenceFunction.sequence.getAndIncrement() == 0) {
+                            throw new IllegalStateException("first attempt fails");
+                        }
+                        return of(42);
+                    }
+                });
+
+        try {
+            objectUnderTest.getUnchecked("foo");
+            fail("Should propagate the exception!");
+        } catch (IllegalStateException expected) {
+            // expected
+        }
+        Optional<Integer> result = objectUnderTest.getUnchecked("foo");
+
+        assertThat(result.get(), is(42));
+        assertThat(objectUnderTest.stats().loadExceptionCount(), is(1L));
+    }
+
+    @Test(timeout = 5000)
+    public void failsIfValueIsRequestedWhileLoadingIt() {
+        final AtomicInteger numberOfLoads = new AtomicInteger();
+        final AtomicReference<ConcurrentLoadingCache<Object, Integer>> cache =
+                new AtomicReference<ConcurrentLoadingCache<Object, Integer>>();
+        ConcurrentLoadingCache<Object, Integer> objectUnderTest = new ConcurrentLoadingCache<Object, Integer>(
+                new Function<Object, Optional<Integer>>() {
+                    @Nullable
+                    @Override
+                    public Optional<Integer> apply(@Nullable Object input) {
+                        if (numberOfLoads.getAndIncrement() == 0) {
+                            return cache.get().getUnchecked(input);
+                        }
+                        return of(42);
+                    }
+                });
+        cache.set(objectUnderTest);
+
+        try {
+            objectUnderTest.getUnchecked("foo");
+            fail("Should detect the recursive load!");
+        } catch (IllegalStateException expected) {
+            // expected
+        }
+        assertThat(objectUnderTest.getUnchecked("foo").get(), is(42));
+    }
+
+    @Test
+    public void loadsValuesOnlyOnceIfAccessedConcurrently() throws Exception {
+        final CountDownLatch loadingStarted = new CountDownLatch(1);
+        final CountDownLatch continueLoading = new CountDownLatch(1);
+        final ConcurrentLoadingCache<Object, Integer> objectUnderTest = new ConcurrentLoadingCache<Object, Integer>(
+                new Function<Object, Optional<Integer>>() {
+                    @Nullable
+                    @Override
+                    public Optional<Integer> apply(@Nullable Object input) {
+                        loadingStarted.countDown();
+                        try {
+                            continueLoading.await();
+                        } catch (InterruptedException e) {
+                            throw new RuntimeException(e);
+                        }
+                        return sequenceFunction.apply(input);
+                    }
+                });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Optional<Integer>>> results = newArrayList();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(new Callable<Optional<Integer>>() {
+                    @Override
+                    public Optional<Integer> call() {
+                        return objectUnderTest.getUnchecked("foo");
+                    }
+                }));
+            }
+            loadingStarted.await();
+            continueLoading.countDown();
+
+            for (Future<Optional<Integer>> result : results) {
+                assertThat(result.get().get(), is(0));
+            }
+            assertThat(sequenceFunction.sequence.get(), is(1));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static class SequenceFunction implements Function<Object, Optional<Integer>> {
+        public final AtomicInteger sequence = new AtomicInteger();
+
+        @Nullable
+        @Override
+        public Optional<Integer> apply(@Nullable Object input) {
+            return of(sequence.getAndIncrement());
+        }
+    }
+
+}
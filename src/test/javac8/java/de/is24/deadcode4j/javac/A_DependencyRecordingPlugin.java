@@ -0,0 +1,124 @@
+package de.is24.deadcode4j.javac;
+
+import de.is24.deadcode4j.AnalysisContext;
+import de.is24.deadcode4j.CacheKey;
+import de.is24.deadcode4j.analyzer.TypeErasureAnalyzer;
+import de.is24.deadcode4j.junit.FileLoader;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static de.is24.deadcode4j.AnalysisContextBuilder.givenAnalysisContext;
+import static de.is24.deadcode4j.ModuleBuilder.givenModule;
+import static de.is24.deadcode4j.javac.JavacDependencies.Kind.CONSTANT;
+import static de.is24.deadcode4j.javac.JavacDependencies.Kind.TYPE_ARGUMENT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assume.assumeNotNull;
+
+public final class A_DependencyRecordingPlugin {
+
+    private static final String TYPED_ARRAY_LIST =
+            "../../src/test/java/de/is24/deadcode4j/analyzer/typeerasure/TypedArrayList.java";
+    private static final String CLASS_USING_CONSTANT =
+            "../../src/test/java/de/is24/deadcode4j/analyzer/constants/ClassUsingConstantInField.java";
+
+    @Rule
+    public final TemporaryFolder tempFolder = new TemporaryFolder();
+    private File classesDirectory;
+    private File dependenciesFile;
+
+    @Before
+    public void compileWithPlugin() throws IOException {
+        JavaCompiler javaCompiler = ToolProvider.getSystemJavaCompiler();
+        assumeNotNull(javaCompiler);
+        classesDirectory = tempFolder.newFolder("classes");
+        dependenciesFile = new File(tempFolder.getRoot(), JavacDependencies.FILE_NAME);
+
+        compile(javaCompiler, classesDirectory, TYPED_ARRAY_LIST, CLASS_USING_CONSTANT);
+    }
+
+    @Test
+    public void recordsTypeArguments() throws IOException {
+        JavacDependencies javacDependencies = JavacDependencies.read(dependenciesFile);
+
+        File sourceFile = FileLoader.getFile(TYPED_ARRAY_LIST);
+        assertThat(javacDependencies.covers(sourceFile), is(true));
+        Map<String, Set<String>> dependencies = javacDependencies.getDependencies(sourceFile, TYPE_ARGUMENT);
+        assertThat(dependencies.get("de.is24.deadcode4j.analyzer.typeerasure.TypedArrayList"), hasItems(
+                "java.lang.Comparable",
+                "java.math.BigDecimal",
+                "java.util.ResourceBundle$Control",
+                "java.util.Map$Entry",
+                "java.util.regex.Pattern",
+                "de.is24.deadcode4j.analyzer.typeerasure.TypedArrayList$InnerClass"));
+        assertThat(dependencies.get("de.is24.deadcode4j.analyzer.typeerasure.TypedArrayList$InnerClass"),
+                hasItem("de.is24.deadcode4j.analyzer.typeerasure.PackageClass"));
+    }
+
+    @Test
+    public void recordsReferencesToConstants() throws IOException {
+        JavacDependencies javacDependencies = JavacDependencies.read(dependenciesFile);
+
+        File sourceFile = FileLoader.getFile(CLASS_USING_CONSTANT);
+        Map<String, Set<String>> dependencies = javacDependencies.getDependencies(sourceFile, CONSTANT);
+        assertThat(dependencies, hasEntry(
+                equalTo("de.is24.deadcode4j.analyzer.constants.ClassUsingConstantInField"),
+                contains("de.is24.deadcode4j.analyzer.constants.Constants")));
+        assertThat(javacDependencies.getDependencies(sourceFile, TYPE_ARGUMENT).isEmpty(), is(true));
+    }
+
+    @Test
+    public void keepsDependenciesRecordedByEarlierCompilation() throws IOException {
+        compile(ToolProvider.getSystemJavaCompiler(), tempFolder.newFolder("test-classes"), TYPED_ARRAY_LIST);
+
+        JavacDependencies javacDependencies = JavacDependencies.read(dependenciesFile);
+
+        File sourceFile = FileLoader.getFile(CLASS_USING_CONSTANT);
+        assertThat(javacDependencies.covers(sourceFile), is(true));
+        assertThat(javacDependencies.getDependencies(sourceFile, CONSTANT).isEmpty(), is(false));
+        assertThat(javacDependencies.getDependencies(FileLoader.getFile(TYPED_ARRAY_LIST), TYPE_ARGUMENT).get(
+                "de.is24.deadcode4j.analyzer.typeerasure.TypedArrayList$InnerClass"),
+                contains("de.is24.deadcode4j.analyzer.typeerasure.PackageClass"));
+    }
+
+    @Test
+    public void letsTheAnalyzerReportRecordedDependenciesInsteadOfParsing() throws IOException {
+        File sourceFile = FileLoader.getFile(TYPED_ARRAY_LIST);
+        AnalysisContext analysisContext = givenAnalysisContext(givenModule("de.is24:javac", classesDirectory));
+        JavacDependencies recordedDependencies = JavacDependencies.read(dependenciesFile);
+        assertThat(dependenciesFile.setLastModified(sourceFile.lastModified() + 1000), is(true));
+
+        new TypeErasureAnalyzer().doAnalysis(analysisContext, sourceFile);
+
+        Map<String, Set<String>> codeDependencies = analysisContext.getAnalyzedCode().getCodeDependencies();
+        assertThat(codeDependencies, equalTo(recordedDependencies.getDependencies(sourceFile, TYPE_ARGUMENT)));
+        assertThat("Should not have parsed the java file!",
+                analysisContext.getCache(CacheKey.Scope.FILE).isEmpty(), is(true));
+    }
+
+    private void compile(JavaCompiler javaCompiler, File outputDirectory, String... sourceFiles) {
+        List<String> arguments = newArrayList(
+                "-classpath", System.getProperty("java.class.path"),
+                "-d", outputDirectory.getAbsolutePath(),
+                "-Xplugin:" + DependencyRecordingPlugin.NAME + " " + dependenciesFile.getAbsolutePath());
+        for (String sourceFile : sourceFiles) {
+            arguments.add(FileLoader.getFile(sourceFile).getAbsolutePath());
+        }
+
+        int result = javaCompiler.run(null, null, null, arguments.toArray(new String[arguments.size()]));
+
+        assertThat("Compilation failed!", result, is(0));
+    }
+
+}